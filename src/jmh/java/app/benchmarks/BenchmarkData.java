@@ -0,0 +1,225 @@
+package app.benchmarks;
+
+import app.dtos.menu.RecentMenuDishDTO;
+import app.dtos.weather.DailyWeatherDTO;
+import app.dtos.weather.WeatherForecastDTO;
+import app.dtos.weather.WeatherUnitsDTO;
+import app.enums.DayOfWeek;
+import app.enums.RequestType;
+import app.enums.Unit;
+import app.enums.UserRole;
+import app.persistence.entities.*;
+import app.utils.EUAllergens;
+
+import java.lang.reflect.Field;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+final class BenchmarkData
+{
+    private static final AtomicLong ids = new AtomicLong();
+
+    private static final String[][] DISHES = {
+        {"Røget Laks", "Laks med dildcreme og rugbrødschips"},
+        {"Bøf Bearnaise", "Oksemørbrad med hjemmelavet bearnaise"},
+        {"Tarteletter", "Høns i asparges"},
+        {"Roastbeef", "Roastbeef med remoulade og sprøde løg"},
+        {"Stegt Flæsk", "Med persillesovs og kartofler"},
+        {"Grillet Kylling", "Serveret med citron og timian"},
+        {"Caesar Salad", "Romainesalat med parmesan og croutoner"},
+        {"Chokolademousse", "Mørk chokolade med flødeskum"}
+    };
+
+    private static final String[] INGREDIENTS = {
+        "onions", "løg", "rødløg", "hvidløg", "garlic", "potatoes", "nye kartofler", "heavy cream",
+        "fløde 38%", "mælk", "butter", "smør", "frisk dild", "hakkede tomater", "kokosmælk", "laks"
+    };
+    private static final Unit[] UNITS = {Unit.KG, Unit.G, Unit.L, Unit.ML, Unit.PCS, Unit.CAN};
+    private static final String[] SUPPLIERS = {"Inco", "Arla", "Grønttorvet", null};
+
+    private BenchmarkData() {}
+
+    static List<Station> stations()
+    {
+        return List.of(
+            withId(new Station("Cold Kitchen", "Salads & Starters")),
+            withId(new Station("Hot Kitchen", "Main Courses")),
+            withId(new Station("Pastry", "Desserts & Bread")),
+            withId(new Station("Grill", "Steaks & BBQ")),
+            withId(new Station("Salad", "Salads and crudites"))
+        );
+    }
+
+    static List<User> users(List<Station> stations)
+    {
+        User gordon = withId(new User("Gordon", "Ramsay", "gordon@kitchen.com", "hashed", UserRole.HEAD_CHEF));
+        User claire = withId(new User("Claire", "Smyth", "claire@pastry.com", "hashed", UserRole.LINE_COOK));
+        User marco = withId(new User("Marco", "Pierre", "marco@grill.com", "hashed", UserRole.SOUS_CHEF));
+        User customer = withId(new User("Hans", "Hansen", "hans@gmail.com", "hashed", UserRole.CUSTOMER));
+
+        gordon.assignToStation(stations.get(0));
+        claire.assignToStation(stations.get(1));
+        marco.assignToStation(stations.get(2));
+
+        return List.of(gordon, claire, marco, customer);
+    }
+
+    static List<Allergen> allergens()
+    {
+        List<Allergen> allergens = EUAllergens.getAll();
+        allergens.forEach(BenchmarkData::withId);
+        return allergens;
+    }
+
+    static List<Dish> dishes(int count, List<Station> stations, User creator, Random random)
+    {
+        List<Allergen> allergens = allergens();
+        List<Dish> dishes = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++)
+        {
+            String[] template = DISHES[i % DISHES.length];
+            Set<Allergen> dishAllergens = new HashSet<>();
+
+            for (int a = 0; a < 4; a++)
+            {
+                dishAllergens.add(allergens.get(random.nextInt(allergens.size())));
+            }
+
+            Dish dish = new Dish(
+                template[0] + " " + (i / DISHES.length + 1),
+                template[1],
+                stations.get(i % stations.size()),
+                dishAllergens,
+                creator,
+                1 + i % 52,
+                2026
+            );
+            dish.update(dish.getNameDA(), dish.getDescriptionDA(), template[0] + " EN", template[1] + " EN", dishAllergens);
+            dishes.add(withId(dish));
+        }
+        return dishes;
+    }
+
+    static WeeklyMenu publishedMenu(List<Dish> dishes, List<Station> stations, User publisher)
+    {
+        WeeklyMenu menu = withId(new WeeklyMenu(7, 2026));
+        int dishIndex = 0;
+
+        for (DayOfWeek day : EnumSet.range(DayOfWeek.MONDAY, DayOfWeek.FRIDAY))
+        {
+            for (Station station : stations)
+            {
+                menu.addMenuSlot(withId(new WeeklyMenuSlot(day, dishes.get(dishIndex++ % dishes.size()), station)));
+            }
+        }
+
+        menu.publish(publisher);
+        return menu;
+    }
+
+    static List<TakeAwayOrder> takeAwayOrders(int count, List<Dish> dishes, User chef, User customer, Random random)
+    {
+        List<TakeAwayOffer> offers = new ArrayList<>();
+
+        for (int i = 0; i < Math.min(dishes.size(), 6); i++)
+        {
+            offers.add(withId(new TakeAwayOffer(50, 45.0 + i * 5, chef, dishes.get(i))));
+        }
+
+        List<TakeAwayOrder> orders = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++)
+        {
+            TakeAwayOrder order = withId(new TakeAwayOrder(customer));
+            int lineCount = 1 + random.nextInt(3);
+
+            for (int l = 0; l < lineCount; l++)
+            {
+                order.addOrderLine(withId(new TakeAwayOrderLine(order, offers.get(random.nextInt(offers.size())), 1 + random.nextInt(4))));
+            }
+            orders.add(order);
+        }
+        return orders;
+    }
+
+    static List<IngredientRequest> ingredientRequests(int count, List<User> cooks, Random random)
+    {
+        LocalDate deliveryDate = LocalDate.now().plusDays(7);
+        List<IngredientRequest> requests = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++)
+        {
+            requests.add(new IngredientRequest(
+                INGREDIENTS[random.nextInt(INGREDIENTS.length)],
+                1 + random.nextInt(40) / 4.0,
+                UNITS[random.nextInt(UNITS.length)],
+                SUPPLIERS[random.nextInt(SUPPLIERS.length)],
+                null,
+                RequestType.GENERAL_STOCK,
+                deliveryDate,
+                null,
+                cooks.get(random.nextInt(cooks.size()))
+            ));
+        }
+        return requests;
+    }
+
+    static Map<String, String> normalizedIngredientNames()
+    {
+        Map<String, String> normalized = new HashMap<>();
+
+        for (String name : INGREDIENTS)
+        {
+            normalized.put(name, name.substring(0, 1).toUpperCase(Locale.ROOT) + name.substring(1));
+        }
+        return normalized;
+    }
+
+    static List<RecentMenuDishDTO> recentMenuDishes(List<Dish> dishes)
+    {
+        return dishes.stream()
+            .limit(20)
+            .map(dish -> new RecentMenuDishDTO(dish.getNameDA(), dish.getDescriptionDA()))
+            .toList();
+    }
+
+    static WeatherForecastDTO weatherForecast()
+    {
+        LocalDate today = LocalDate.now();
+        List<String> days = new ArrayList<>();
+
+        for (int i = 0; i < 7; i++)
+        {
+            days.add(today.plusDays(i).toString());
+        }
+
+        return new WeatherForecastDTO(
+            "Europe/Copenhagen",
+            new WeatherUnitsDTO("°C", "mm"),
+            new DailyWeatherDTO(
+                days,
+                List.of(14.2, 15.8, 12.1, 11.0, 16.4, 18.9, 17.3),
+                List.of(6.1, 7.4, 5.0, 4.2, 8.8, 10.1, 9.6),
+                List.of(0.0, 2.4, 8.1, 0.3, 0.0, 0.0, 1.2),
+                List.of(1, 61, 63, 3, 0, 1, 2)
+            )
+        );
+    }
+
+    static <T> T withId(T entity)
+    {
+        try
+        {
+            Field id = entity.getClass().getDeclaredField("id");
+            id.setAccessible(true);
+            id.set(entity, ids.incrementAndGet());
+            return entity;
+        }
+        catch (ReflectiveOperationException e)
+        {
+            throw new IllegalStateException("Could not assign id to " + entity.getClass().getSimpleName(), e);
+        }
+    }
+}
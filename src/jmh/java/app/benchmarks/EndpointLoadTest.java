@@ -0,0 +1,130 @@
+package app.benchmarks;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+
+public class EndpointLoadTest
+{
+    private static final List<String> ENDPOINTS = List.of(
+        "/takeaway/offers",
+        "/weekly-menus/current"
+    );
+
+    public static void main(String[] args) throws Exception
+    {
+        String baseUrl = args.length > 0 ? args[0] : "http://localhost:7070/api/v1";
+        int concurrency = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+        int durationSeconds = args.length > 2 ? Integer.parseInt(args[2]) : 30;
+
+        HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .executor(Executors.newFixedThreadPool(Math.min(concurrency, 64)))
+            .build();
+
+        for (String endpoint : ENDPOINTS)
+        {
+            run(client, baseUrl + endpoint, concurrency, 5);
+            Result result = run(client, baseUrl + endpoint, concurrency, durationSeconds);
+            System.out.println(endpoint + " -> " + result);
+        }
+        System.exit(0);
+    }
+
+    private static Result run(HttpClient client, String url, int concurrency, int durationSeconds) throws InterruptedException
+    {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url)).timeout(Duration.ofSeconds(30)).GET().build();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(durationSeconds);
+        LongAdder errors = new LongAdder();
+        LongAdder rejected = new LongAdder();
+        List<long[]> latencies = new ArrayList<>();
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+        List<Future<long[]>> futures = new ArrayList<>();
+
+        for (int i = 0; i < concurrency; i++)
+        {
+            futures.add(workers.submit(() ->
+            {
+                long[] samples = new long[1024];
+                int count = 0;
+                while (System.nanoTime() < deadline)
+                {
+                    long start = System.nanoTime();
+                    try
+                    {
+                        int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                        if (status == 503)
+                        {
+                            rejected.increment();
+                        }
+                        else if (status >= 400)
+                        {
+                            errors.increment();
+                        }
+                    }
+                    catch (Exception e)
+                    {
+                        errors.increment();
+                    }
+                    if (count == samples.length)
+                    {
+                        samples = Arrays.copyOf(samples, count * 2);
+                    }
+                    samples[count++] = System.nanoTime() - start;
+                }
+                return Arrays.copyOf(samples, count);
+            }));
+        }
+
+        for (Future<long[]> future : futures)
+        {
+            try
+            {
+                latencies.add(future.get());
+            }
+            catch (ExecutionException e)
+            {
+                errors.increment();
+            }
+        }
+        workers.shutdownNow();
+
+        long[] all = latencies.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+        return new Result(all.length, durationSeconds, errors.sum(), rejected.sum(), all);
+    }
+
+    private record Result(int requests, int durationSeconds, long errors, long rejected, long[] sortedNanos)
+    {
+        private double percentileMs(double percentile)
+        {
+            if (sortedNanos.length == 0)
+            {
+                return 0;
+            }
+            int index = (int) Math.min(sortedNanos.length - 1, Math.ceil(percentile * sortedNanos.length) - 1);
+            return sortedNanos[Math.max(index, 0)] / 1_000_000.0;
+        }
+
+        @Override
+        public String toString()
+        {
+            return String.format(
+                "%.0f req/s | p50 %.1f ms | p95 %.1f ms | p99 %.1f ms | errors %d | 503 %d",
+                requests / (double) durationSeconds,
+                percentileMs(0.50),
+                percentileMs(0.95),
+                percentileMs(0.99),
+                errors,
+                rejected
+            );
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package app.benchmarks;
+
+import app.dtos.dish.DishDTO;
+import app.dtos.menu.MenuDishDTO;
+import app.dtos.takeaway.TakeAwayOrderDTO;
+import app.mappers.DishMapper;
+import app.mappers.TakeAwayOrderMapper;
+import app.persistence.entities.Dish;
+import app.persistence.entities.Station;
+import app.persistence.entities.TakeAwayOrder;
+import app.persistence.entities.User;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperBenchmark
+{
+    @Param({"100", "1000"})
+    private int size;
+
+    private List<Dish> dishes;
+    private List<TakeAwayOrder> orders;
+
+    @Setup(Level.Trial)
+    public void setUp()
+    {
+        Random random = new Random(42);
+        List<Station> stations = BenchmarkData.stations();
+        List<User> users = BenchmarkData.users(stations);
+
+        dishes = BenchmarkData.dishes(size, stations, users.get(0), random);
+        orders = BenchmarkData.takeAwayOrders(size, dishes, users.get(0), users.get(3), random);
+    }
+
+    @Benchmark
+    public void dishToDTO(Blackhole blackhole)
+    {
+        for (Dish dish : dishes)
+        {
+            DishDTO dto = DishMapper.toDTO(dish);
+            blackhole.consume(dto);
+        }
+    }
+
+    @Benchmark
+    public void dishToMenuDTO(Blackhole blackhole)
+    {
+        for (Dish dish : dishes)
+        {
+            MenuDishDTO dto = DishMapper.toDishMenuDTO(dish);
+            blackhole.consume(dto);
+        }
+    }
+
+    @Benchmark
+    public void takeAwayOrderToDTO(Blackhole blackhole)
+    {
+        for (TakeAwayOrder order : orders)
+        {
+            TakeAwayOrderDTO dto = TakeAwayOrderMapper.toDTO(order);
+            blackhole.consume(dto);
+        }
+    }
+}
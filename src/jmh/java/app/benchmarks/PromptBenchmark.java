@@ -0,0 +1,57 @@
+package app.benchmarks;
+
+import app.config.ObjectMapperConfig;
+import app.dtos.weather.WeatherForecastDTO;
+import app.mappers.StationMapper;
+import app.persistence.entities.Dish;
+import app.persistence.entities.Station;
+import app.persistence.entities.User;
+import app.utils.DishPromptBuilder;
+import app.utils.WeatherForecastBuilder;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PromptBenchmark
+{
+    private WeatherForecastDTO weatherForecast;
+    private String forecastText;
+    private String stationJson;
+    private String recentDishesJson;
+
+    @Setup(Level.Trial)
+    public void setUp() throws JsonProcessingException
+    {
+        ObjectMapper objectMapper = ObjectMapperConfig.create();
+        List<Station> stations = BenchmarkData.stations();
+        List<User> users = BenchmarkData.users(stations);
+        List<Dish> dishes = BenchmarkData.dishes(40, stations, users.get(0), new Random(42));
+
+        weatherForecast = BenchmarkData.weatherForecast();
+        forecastText = WeatherForecastBuilder.getWeatherForecast(weatherForecast);
+        stationJson = objectMapper.writeValueAsString(StationMapper.toDTO(stations.get(1)));
+        recentDishesJson = objectMapper.writeValueAsString(BenchmarkData.recentMenuDishes(dishes));
+    }
+
+    @Benchmark
+    public String weatherForecast()
+    {
+        return WeatherForecastBuilder.getWeatherForecast(weatherForecast);
+    }
+
+    @Benchmark
+    public String menuInspirationPrompt()
+    {
+        return DishPromptBuilder.buildMenuInspirationPrompt(forecastText, stationJson, recentDishesJson);
+    }
+}
@@ -0,0 +1,45 @@
+package app.benchmarks;
+
+import app.cache.VerifiedTokenCache;
+import app.dtos.security.AuthenticatedUser;
+import app.services.impl.SecurityService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SecurityBenchmark
+{
+    private static final String SECRET_KEY = "benchmark-secret-key-that-is-long-enough-for-hs256";
+
+    private static final long EXPIRATION_MS = 3_600_000L;
+
+    private SecurityService cachedSecurityService;
+    private SecurityService uncachedSecurityService;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp()
+    {
+        cachedSecurityService = new SecurityService(null, null, "miseOS", SECRET_KEY, EXPIRATION_MS, new VerifiedTokenCache(4096, EXPIRATION_MS));
+        uncachedSecurityService = new SecurityService(null, null, "miseOS", SECRET_KEY, EXPIRATION_MS, new VerifiedTokenCache(0, EXPIRATION_MS));
+        token = cachedSecurityService.createToken(1L, "gordon@kitchen.com", "HEAD_CHEF");
+    }
+
+    @Benchmark
+    public AuthenticatedUser verifyAndExtract()
+    {
+        return cachedSecurityService.verifyAndExtract(token);
+    }
+
+    @Benchmark
+    public AuthenticatedUser verifyAndExtractUncached()
+    {
+        return uncachedSecurityService.verifyAndExtract(token);
+    }
+}
@@ -0,0 +1,87 @@
+package app.benchmarks;
+
+import app.dtos.shopping.AggregationKey;
+import app.enums.Unit;
+import app.persistence.entities.IngredientPackSize;
+import app.persistence.entities.IngredientRequest;
+import app.persistence.entities.ShoppingListItem;
+import app.persistence.entities.User;
+import app.services.impl.ShoppingListAggregator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ShoppingListAggregationBenchmark
+{
+    @Param({"10000", "100000"})
+    private int requestCount;
+
+    private final ShoppingListAggregator aggregator = new ShoppingListAggregator();
+    private List<IngredientRequest> requests;
+    private Map<String, String> normalizedNames;
+    private List<IngredientPackSize> packSizes;
+
+    @Setup(Level.Trial)
+    public void setUp()
+    {
+        List<User> cooks = BenchmarkData.users(BenchmarkData.stations());
+
+        requests = BenchmarkData.ingredientRequests(requestCount, cooks, new Random(42));
+        normalizedNames = BenchmarkData.normalizedIngredientNames();
+        packSizes = List.of(new IngredientPackSize("Hakkede tomater", Unit.CAN, 400, Unit.G));
+    }
+
+    @Benchmark
+    public List<ShoppingListItem> groupThenStream()
+    {
+        Map<AggregationKey, List<IngredientRequest>> grouped = requests.stream()
+            .collect(Collectors.groupingBy(req -> new AggregationKey(normalizedNames.getOrDefault(req.getName(), req.getName()), req.getUnit())));
+
+        return grouped.entrySet().stream()
+            .map(entry -> new ShoppingListItem(
+                entry.getKey().normalizedName(),
+                entry.getValue().stream().map(IngredientRequest::getQuantity).reduce(0.0, Double::sum),
+                entry.getKey().unit(),
+                legacyMostCommonSupplier(entry.getValue()),
+                legacyNotes(entry.getValue())
+            ))
+            .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<ShoppingListItem> singlePassAccumulator()
+    {
+        return aggregator.aggregate(requests.stream(), normalizedNames, packSizes);
+    }
+
+    private static String legacyMostCommonSupplier(List<IngredientRequest> group)
+    {
+        return group.stream()
+            .map(IngredientRequest::getPreferredSupplier)
+            .filter(Objects::nonNull)
+            .collect(Collectors.groupingBy(s -> s, Collectors.counting()))
+            .entrySet().stream()
+            .max(Map.Entry.comparingByValue())
+            .map(Map.Entry::getKey)
+            .orElse("AB Catering");
+    }
+
+    private static String legacyNotes(List<IngredientRequest> group)
+    {
+        return group.stream()
+            .map(req -> String.format("%s (%s: %s %s)",
+                req.getCreatedBy().getFirstName(),
+                req.getName(),
+                req.getQuantity(),
+                req.getUnit()))
+            .collect(Collectors.joining(" | "));
+    }
+}
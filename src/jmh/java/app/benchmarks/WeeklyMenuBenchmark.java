@@ -0,0 +1,58 @@
+package app.benchmarks;
+
+import app.dtos.menu.WeeklyMenuDTO;
+import app.mappers.WeeklyMenuMapper;
+import app.persistence.entities.Dish;
+import app.persistence.entities.Station;
+import app.persistence.entities.User;
+import app.persistence.entities.WeeklyMenu;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.javalin.json.JavalinJackson;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WeeklyMenuBenchmark
+{
+    private final ObjectMapper responseMapper = JavalinJackson.defaultMapper();
+    private WeeklyMenu menu;
+    private WeeklyMenuDTO menuDTO;
+
+    @Setup(Level.Trial)
+    public void setUp()
+    {
+        List<Station> stations = BenchmarkData.stations();
+        List<User> users = BenchmarkData.users(stations);
+        List<Dish> dishes = BenchmarkData.dishes(40, stations, users.get(0), new Random(42));
+
+        menu = BenchmarkData.publishedMenu(dishes, stations, users.get(0));
+        menuDTO = WeeklyMenuMapper.toDTO(menu);
+    }
+
+    @Benchmark
+    public WeeklyMenuDTO mapToDTO()
+    {
+        return WeeklyMenuMapper.toDTO(menu);
+    }
+
+    @Benchmark
+    public byte[] serializeDTO() throws JsonProcessingException
+    {
+        return responseMapper.writeValueAsBytes(menuDTO);
+    }
+
+    @Benchmark
+    public byte[] mapAndSerialize() throws JsonProcessingException
+    {
+        return responseMapper.writeValueAsBytes(WeeklyMenuMapper.toDTO(menu));
+    }
+}
@@ -0,0 +1,58 @@
+package app.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+public record CachedJson<T>(T value, byte[] json, String etag)
+{
+    private static final int ETAG_BYTES = 16;
+
+    public static <T> CachedJson<T> of(T value, ObjectMapper objectMapper)
+    {
+        try
+        {
+            byte[] json = objectMapper.writeValueAsBytes(value);
+            return new CachedJson<>(value, json, createETag(json));
+        }
+        catch (JsonProcessingException e)
+        {
+            throw new IllegalStateException("Failed to serialize cached response", e);
+        }
+    }
+
+    public boolean matches(String ifNoneMatch)
+    {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank())
+        {
+            return false;
+        }
+
+        for (String candidate : ifNoneMatch.split(","))
+        {
+            String tag = candidate.trim();
+
+            if (tag.equals("*") || tag.equals(etag))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String createETag(byte[] json)
+    {
+        try
+        {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(json);
+            return "\"" + HexFormat.of().formatHex(digest, 0, ETAG_BYTES) + "\"";
+        }
+        catch (NoSuchAlgorithmException e)
+        {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package app.cache;
+
+import app.dtos.gemini.AiDishSuggestionDTO;
+import app.dtos.menu.RecentMenuDishDTO;
+import app.dtos.station.StationDTO;
+import app.dtos.weather.DailyWeatherDTO;
+import app.dtos.weather.WeatherForecastDTO;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+public class InspirationCache
+{
+    private static final double TEMPERATURE_BUCKET = 3.0;
+
+    private final Clock clock;
+    private final ConcurrentHashMap<String, Entry> entries;
+    private final LongAdder hits;
+    private final LongAdder misses;
+
+    public InspirationCache(Clock clock)
+    {
+        this.clock = clock;
+        this.entries = new ConcurrentHashMap<>();
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+    }
+
+    public Reservation reserve(String key)
+    {
+        LocalDate today = LocalDate.now(clock);
+        Entry fresh = new Entry(today, new CompletableFuture<>());
+        Entry entry = entries.compute(key, (k, existing) -> existing != null && existing.day().equals(today) ? existing : fresh);
+
+        if (entry != fresh)
+        {
+            hits.increment();
+            return new Reservation(key, entry.result(), false);
+        }
+
+        misses.increment();
+        entries.values().removeIf(e -> !e.day().equals(today) && e.result().isDone());
+        return new Reservation(key, fresh.result(), true);
+    }
+
+    public void complete(Reservation reservation, List<AiDishSuggestionDTO> dishes)
+    {
+        if (dishes.isEmpty())
+        {
+            release(reservation);
+        }
+        reservation.result().complete(List.copyOf(dishes));
+    }
+
+    public void fail(Reservation reservation, Throwable error)
+    {
+        release(reservation);
+        reservation.result().completeExceptionally(error);
+    }
+
+    public CacheStats getStats()
+    {
+        return new CacheStats(hits.sum(), misses.sum(), entries.size());
+    }
+
+    public static String keyOf(StationDTO station, WeatherForecastDTO forecast, List<RecentMenuDishDTO> recentDishes)
+    {
+        String recent = recentDishes.stream()
+            .map(RecentMenuDishDTO::nameDA)
+            .filter(Objects::nonNull)
+            .map(name -> name.trim().toLowerCase())
+            .sorted()
+            .distinct()
+            .collect(Collectors.joining(","));
+
+        String canonical = station.id() + "|" + station.name() + "|" + station.description() + "|" + forecastBucket(forecast) + "|" + recent;
+
+        try
+        {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(canonical.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        }
+        catch (NoSuchAlgorithmException e)
+        {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    static String forecastBucket(WeatherForecastDTO forecast)
+    {
+        DailyWeatherDTO daily = forecast != null ? forecast.dailyWeatherDTO() : null;
+
+        if (daily == null || daily.maxTemperatures() == null || daily.maxTemperatures().isEmpty())
+        {
+            return "none";
+        }
+
+        double averageMax = daily.maxTemperatures().stream().mapToDouble(Double::doubleValue).average().orElse(0);
+        int todayGroup = daily.weatherCodes() == null || daily.weatherCodes().isEmpty() ? -1 : daily.weatherCodes().get(0) / 10;
+
+        return "w" + todayGroup
+            + "t" + Math.round(daily.maxTemperatures().get(0) / TEMPERATURE_BUCKET)
+            + "a" + Math.round(averageMax / TEMPERATURE_BUCKET);
+    }
+
+    private void release(Reservation reservation)
+    {
+        entries.computeIfPresent(reservation.key(), (k, entry) -> entry.result() == reservation.result() ? null : entry);
+    }
+
+    public record Reservation(String key, CompletableFuture<List<AiDishSuggestionDTO>> result, boolean owner) {}
+
+    private record Entry(LocalDate day, CompletableFuture<List<AiDishSuggestionDTO>> result) {}
+}
@@ -0,0 +1,127 @@
+package app.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+public class JsonResponseCache<K, T>
+{
+    private final ObjectMapper objectMapper;
+    private final int maxEntries;
+    private final Map<K, Entry<T>> entries;
+    private final LongAdder hits;
+    private final LongAdder misses;
+    private final AtomicLong generation;
+
+    public JsonResponseCache(ObjectMapper objectMapper, int maxEntries)
+    {
+        this.objectMapper = objectMapper;
+        this.maxEntries = maxEntries;
+        this.entries = new ConcurrentHashMap<>();
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+        this.generation = new AtomicLong();
+    }
+
+    public CachedJson<T> getOrLoad(K key, Supplier<T> loader)
+    {
+        return getOrLoadOptional(key, () -> Optional.of(loader.get())).orElseThrow();
+    }
+
+    public Optional<CachedJson<T>> getOrLoadOptional(K key, Supplier<Optional<T>> loader)
+    {
+        Entry<T> cached = entries.get(key);
+
+        if (cached != null)
+        {
+            hits.increment();
+            return Optional.of(cached.touch());
+        }
+
+        misses.increment();
+        long loadGeneration = generation.get();
+
+        Optional<CachedJson<T>> loaded = loader.get().map(value -> CachedJson.of(value, objectMapper));
+        loaded.ifPresent(entry -> store(key, entry, loadGeneration));
+
+        return loaded;
+    }
+
+    public CachedJson<T> replace(K key, CachedJson<T> expected, T value)
+    {
+        CachedJson<T> replacement = CachedJson.of(value, objectMapper);
+        entries.computeIfPresent(key, (ignored, current) -> current.json == expected ? new Entry<>(replacement) : current);
+        return replacement;
+    }
+
+    public void invalidate(K key)
+    {
+        generation.incrementAndGet();
+        entries.remove(key);
+    }
+
+    public void invalidateIf(Predicate<K> predicate)
+    {
+        generation.incrementAndGet();
+        entries.keySet().removeIf(predicate);
+    }
+
+    public void invalidateAll()
+    {
+        generation.incrementAndGet();
+        entries.clear();
+    }
+
+    public CacheStats getStats()
+    {
+        return new CacheStats(hits.sum(), misses.sum(), entries.size());
+    }
+
+    private void store(K key, CachedJson<T> entry, long loadGeneration)
+    {
+        if (entries.size() >= maxEntries && !entries.containsKey(key))
+        {
+            evictLeastRecentlyUsed();
+        }
+
+        Entry<T> stored = new Entry<>(entry);
+        entries.put(key, stored);
+
+        if (generation.get() != loadGeneration)
+        {
+            entries.remove(key, stored);
+        }
+    }
+
+    private void evictLeastRecentlyUsed()
+    {
+        entries.entrySet().stream()
+            .min(Comparator.comparingLong(candidate -> candidate.getValue().lastUsed))
+            .ifPresent(eldest -> entries.remove(eldest.getKey(), eldest.getValue()));
+    }
+
+    private static final class Entry<T>
+    {
+        private final CachedJson<T> json;
+        private volatile long lastUsed;
+
+        private Entry(CachedJson<T> json)
+        {
+            this.json = json;
+            this.lastUsed = System.nanoTime();
+        }
+
+        private CachedJson<T> touch()
+        {
+            lastUsed = System.nanoTime();
+            return json;
+        }
+    }
+}
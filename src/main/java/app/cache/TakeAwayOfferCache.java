@@ -0,0 +1,63 @@
+package app.cache;
+
+import app.dtos.takeaway.TakeAwayOfferDTO;
+import app.utils.AllergenMask;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+public class TakeAwayOfferCache
+{
+    private static final int MAX_CACHED_FILTERS = 128;
+
+    private final ObjectMapper objectMapper;
+    private final JsonResponseCache<Key, List<TakeAwayOfferDTO>> offers;
+
+    public TakeAwayOfferCache(ObjectMapper objectMapper)
+    {
+        this.objectMapper = objectMapper;
+        this.offers = new JsonResponseCache<>(objectMapper, MAX_CACHED_FILTERS);
+    }
+
+    public CachedJson<List<TakeAwayOfferDTO>> getOrLoad(LocalDate date, Boolean isSoldOut, Boolean isEnabled, Long dishId, Supplier<List<TakeAwayOfferDTO>> loader, UnaryOperator<TakeAwayOfferDTO> livePortions)
+    {
+        return getOrLoad(date, isSoldOut, isEnabled, dishId, AllergenMask.NONE, loader, livePortions);
+    }
+
+    public CachedJson<List<TakeAwayOfferDTO>> getOrLoad(LocalDate date, Boolean isSoldOut, Boolean isEnabled, Long dishId, int excludedAllergens, Supplier<List<TakeAwayOfferDTO>> loader, UnaryOperator<TakeAwayOfferDTO> livePortions)
+    {
+        Key key = new Key(date, isEnabled, dishId, excludedAllergens);
+        CachedJson<List<TakeAwayOfferDTO>> cached = offers.getOrLoad(key, loader);
+        List<TakeAwayOfferDTO> live = cached.value().stream().map(livePortions).toList();
+
+        if (!live.equals(cached.value()))
+        {
+            cached = offers.replace(key, cached, live);
+        }
+
+        if (isSoldOut == null)
+        {
+            return cached;
+        }
+
+        List<TakeAwayOfferDTO> filtered = cached.value().stream()
+            .filter(offer -> offer.soldOut() == isSoldOut)
+            .toList();
+        return CachedJson.of(filtered, objectMapper);
+    }
+
+    public void evictAll()
+    {
+        offers.invalidateAll();
+    }
+
+    public CacheStats getStats()
+    {
+        return offers.getStats();
+    }
+
+    private record Key(LocalDate date, Boolean isEnabled, Long dishId, int excludedAllergens) {}
+}
@@ -0,0 +1,156 @@
+package app.cache;
+
+import app.dtos.takeaway.TakeAwayOfferSummaryDTO;
+import app.dtos.takeaway.TakeAwayOrderDTO;
+import app.dtos.takeaway.TakeAwayOrderLineDTO;
+import app.dtos.takeaway.TakeAwaySummaryDTO;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+public class TakeAwaySummaryCache
+{
+    private final Clock clock;
+    private final LongAdder hits;
+    private final LongAdder misses;
+    private volatile TakeAwaySummaryDTO today;
+    private long generation;
+    private int pendingPlacements;
+
+    public TakeAwaySummaryCache(Clock clock)
+    {
+        this.clock = clock;
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+    }
+
+    public TakeAwaySummaryDTO getOrLoad(LocalDate date, Supplier<TakeAwaySummaryDTO> loader)
+    {
+        TakeAwaySummaryDTO cached = today;
+
+        if (cached != null && cached.date().equals(date) && date.equals(LocalDate.now(clock)))
+        {
+            hits.increment();
+            return cached;
+        }
+
+        misses.increment();
+
+        if (!date.equals(LocalDate.now(clock)))
+        {
+            return loader.get();
+        }
+
+        long loadGeneration;
+        boolean storable;
+
+        synchronized (this)
+        {
+            loadGeneration = generation;
+            storable = pendingPlacements == 0;
+        }
+
+        TakeAwaySummaryDTO loaded = loader.get();
+
+        synchronized (this)
+        {
+            if (storable && generation == loadGeneration)
+            {
+                today = loaded;
+            }
+        }
+        return loaded;
+    }
+
+    public synchronized void beginPlacement()
+    {
+        pendingPlacements++;
+        generation++;
+    }
+
+    public synchronized void completePlacement(TakeAwayOrderDTO order)
+    {
+        pendingPlacements--;
+        generation++;
+
+        TakeAwaySummaryDTO cached = today;
+
+        if (cached != null && cached.date().equals(order.createdAt()))
+        {
+            today = withOrder(cached, order);
+        }
+        else
+        {
+            today = null;
+        }
+    }
+
+    public synchronized void abortPlacement()
+    {
+        pendingPlacements--;
+        invalidate();
+    }
+
+    public synchronized void invalidate()
+    {
+        generation++;
+        today = null;
+    }
+
+    public CacheStats getStats()
+    {
+        return new CacheStats(hits.sum(), misses.sum(), today == null ? 0 : 1);
+    }
+
+    private static TakeAwaySummaryDTO withOrder(TakeAwaySummaryDTO summary, TakeAwayOrderDTO order)
+    {
+        Map<Long, List<TakeAwayOrderLineDTO>> linesByOffer = order.orderLines()
+            .stream()
+            .collect(Collectors.groupingBy(line -> line.offer().id()));
+
+        List<TakeAwayOfferSummaryDTO> perOffer = summary.summaryPerOffer()
+            .stream()
+            .map(offer -> withLines(offer, linesByOffer.getOrDefault(offer.offerId(), List.of())))
+            .toList();
+
+        int remainingPortions = perOffer.stream().mapToInt(TakeAwayOfferSummaryDTO::remainingPortions).sum();
+
+        return new TakeAwaySummaryDTO(
+            summary.date(),
+            summary.totalOfferedPortions(),
+            summary.totalSoldPortions() + order.totalQuantity(),
+            remainingPortions,
+            summary.totalOrders() + 1,
+            summary.totalPaidOrders(),
+            summary.totalCancelledOrders(),
+            summary.totalRevenue() + order.totalOrderPrice(),
+            perOffer
+        );
+    }
+
+    private static TakeAwayOfferSummaryDTO withLines(TakeAwayOfferSummaryDTO offer, List<TakeAwayOrderLineDTO> lines)
+    {
+        if (lines.isEmpty())
+        {
+            return offer;
+        }
+
+        int quantity = lines.stream().mapToInt(TakeAwayOrderLineDTO::quantity).sum();
+        double lineTotal = lines.stream().mapToDouble(TakeAwayOrderLineDTO::lineTotal).sum();
+
+        return new TakeAwayOfferSummaryDTO(
+            offer.offerId(),
+            offer.dish(),
+            offer.offeredPortions(),
+            offer.soldPortions() + quantity,
+            offer.cancelledPortions(),
+            Math.max(0, offer.remainingPortions() - quantity),
+            offer.revenue() + lineTotal
+        );
+    }
+}
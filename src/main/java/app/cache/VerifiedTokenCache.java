@@ -0,0 +1,165 @@
+package app.cache;
+
+import app.dtos.security.AuthenticatedUser;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+public class VerifiedTokenCache
+{
+    private final int maxEntries;
+    private final int evictToSize;
+    private final long tokenLifetimeMs;
+    private final ConcurrentHashMap<String, CachedToken> entries;
+    private final Map<Long, Long> revokedAtByUser;
+    private final LongAdder hits;
+    private final LongAdder misses;
+    private final AtomicLong generation;
+    private final Object writeLock;
+
+    public VerifiedTokenCache(int maxEntries, long tokenLifetimeMs)
+    {
+        this.maxEntries = maxEntries;
+        this.evictToSize = maxEntries - maxEntries / 10;
+        this.tokenLifetimeMs = tokenLifetimeMs;
+        this.entries = new ConcurrentHashMap<>();
+        this.revokedAtByUser = new ConcurrentHashMap<>();
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+        this.generation = new AtomicLong();
+        this.writeLock = new Object();
+    }
+
+    public AuthenticatedUser get(String token)
+    {
+        CachedToken cached = entries.get(token);
+
+        if (cached != null && cached.expiresAtMillis() > System.currentTimeMillis())
+        {
+            cached.touch();
+            hits.increment();
+            return cached.user();
+        }
+
+        if (cached != null)
+        {
+            entries.remove(token, cached);
+        }
+
+        misses.increment();
+        return null;
+    }
+
+    public long currentGeneration()
+    {
+        return generation.get();
+    }
+
+    public void put(String token, AuthenticatedUser user, long expiresAtMillis, long loadGeneration)
+    {
+        synchronized (writeLock)
+        {
+            if (generation.get() == loadGeneration && expiresAtMillis > System.currentTimeMillis())
+            {
+                entries.put(token, new CachedToken(user, expiresAtMillis));
+
+                if (entries.size() > maxEntries)
+                {
+                    evictLeastRecentlyUsed();
+                }
+            }
+        }
+    }
+
+    public boolean isRevoked(Long userId, Long issuedAtMillis)
+    {
+        Long revokedAt = revokedAtByUser.get(userId);
+
+        if (revokedAt == null)
+        {
+            return false;
+        }
+
+        if (revokedAt + tokenLifetimeMs < System.currentTimeMillis())
+        {
+            revokedAtByUser.remove(userId, revokedAt);
+            return false;
+        }
+
+        return issuedAtMillis == null || issuedAtMillis < revokedAt;
+    }
+
+    public void revokeUser(Long userId)
+    {
+        long nowSeconds = System.currentTimeMillis() / 1000;
+        revokedAtByUser.put(userId, nowSeconds * 1000);
+
+        synchronized (writeLock)
+        {
+            generation.incrementAndGet();
+            entries.values().removeIf(cached -> cached.user().userId().equals(userId));
+        }
+    }
+
+    public CacheStats getStats()
+    {
+        return new CacheStats(hits.sum(), misses.sum(), entries.size());
+    }
+
+    private void evictLeastRecentlyUsed()
+    {
+        long now = System.currentTimeMillis();
+        entries.values().removeIf(cached -> cached.expiresAtMillis() <= now);
+
+        int excess = entries.size() - evictToSize;
+
+        if (excess <= 0)
+        {
+            return;
+        }
+
+        entries.entrySet()
+            .stream()
+            .sorted(Comparator.comparingLong(entry -> entry.getValue().lastAccessNanos()))
+            .limit(excess)
+            .toList()
+            .forEach(entry -> entries.remove(entry.getKey(), entry.getValue()));
+    }
+
+    private static final class CachedToken
+    {
+        private final AuthenticatedUser user;
+        private final long expiresAtMillis;
+        private volatile long lastAccessNanos;
+
+        private CachedToken(AuthenticatedUser user, long expiresAtMillis)
+        {
+            this.user = user;
+            this.expiresAtMillis = expiresAtMillis;
+            this.lastAccessNanos = System.nanoTime();
+        }
+
+        private AuthenticatedUser user()
+        {
+            return user;
+        }
+
+        private long expiresAtMillis()
+        {
+            return expiresAtMillis;
+        }
+
+        private long lastAccessNanos()
+        {
+            return lastAccessNanos;
+        }
+
+        private void touch()
+        {
+            lastAccessNanos = System.nanoTime();
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package app.cache;
+
+import app.dtos.menu.WeeklyMenuDTO;
+import app.enums.MenuStatus;
+import app.utils.AllergenMask;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+public class WeeklyMenuCache
+{
+    private static final int MAX_CACHED_MENUS = 64;
+
+    private final JsonResponseCache<Key, WeeklyMenuDTO> menus;
+
+    public WeeklyMenuCache(ObjectMapper objectMapper)
+    {
+        this.menus = new JsonResponseCache<>(objectMapper, MAX_CACHED_MENUS);
+    }
+
+    public Optional<CachedJson<WeeklyMenuDTO>> getOrLoad(int week, int year, MenuStatus status, Supplier<Optional<WeeklyMenuDTO>> loader)
+    {
+        return getOrLoad(week, year, status, AllergenMask.NONE, loader);
+    }
+
+    public Optional<CachedJson<WeeklyMenuDTO>> getOrLoad(int week, int year, MenuStatus status, int excludedAllergens, Supplier<Optional<WeeklyMenuDTO>> loader)
+    {
+        return menus.getOrLoadOptional(new Key(week, year, status, excludedAllergens), loader);
+    }
+
+    public void evict(int week, int year)
+    {
+        menus.invalidateIf(key -> key.week() == week && key.year() == year);
+    }
+
+    public void evictAll()
+    {
+        menus.invalidateAll();
+    }
+
+    public CacheStats getStats()
+    {
+        return menus.getStats();
+    }
+
+    private record Key(int week, int year, MenuStatus status, int excludedAllergens) {}
+}
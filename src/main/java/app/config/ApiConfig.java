@@ -16,6 +16,7 @@ public class ApiConfig
     private final String issuer;
     private final String secretKey;
     private final long expirationMs;
+    private final String metricsScrapeToken;
 
     public ApiConfig()
     {
@@ -27,5 +28,6 @@ public class ApiConfig
         this.issuer = System.getenv("ISSUER");
         this.secretKey = System.getenv("SECRET_KEY");
         this.expirationMs = Long.parseLong(System.getenv("TOKEN_EXPIRE_TIME"));
+        this.metricsScrapeToken = System.getenv("METRICS_SCRAPE_TOKEN");
     }
 }
@@ -27,7 +27,7 @@ public class ApplicationConfig
     public static Javalin buildAndStart(int port, DIContainer di)
     {
         ApiRoutes apiRoutes = buildRoutes(di);
-        ServerConfig serverConfig = new ServerConfig(apiRoutes, di.getExceptionController(), di.getSecurityController());
+        ServerConfig serverConfig = new ServerConfig(apiRoutes, di.getExceptionController(), di.getSecurityController(), di.getTuningConfig(), di.getMetricsRegistry(), di.getAccessLog());
         Javalin app = serverConfig.create();
         logger.info("Starting javalin app");
         app.start(port);
@@ -37,6 +37,7 @@ public class ApplicationConfig
     public static void stopServer(Javalin app)
     {
         app.stop();
+        DIContainer.closeInstance();
         logger.info("Stopping javalin app");
     }
 
@@ -54,7 +55,8 @@ public class ApplicationConfig
             new IngredientRequestRoute(di.getIngredientRequestController()),
             new ShoppingListRoute(di.getShoppingListController()),
             new NotificationRoute(di.getNotificationController()),
-            new TakeAwayRoute(di.getTakeAwayOfferController(), di.getTakeAwayOrderController())
+            new TakeAwayRoute(di.getTakeAwayOfferController(), di.getTakeAwayOrderController()),
+            new MetricsRoute(di.getMetricsController())
         );
     }
 }
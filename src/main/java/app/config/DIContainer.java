@@ -1,22 +1,48 @@
 package app.config;
 
+import app.cache.CacheStats;
+import app.cache.InspirationCache;
+import app.cache.JsonResponseCache;
+import app.cache.TakeAwayOfferCache;
+import app.cache.TakeAwaySummaryCache;
+import app.cache.VerifiedTokenCache;
+import app.cache.WeeklyMenuCache;
 import app.controllers.*;
 import app.controllers.impl.*;
+import app.dtos.allergen.AllergenDTO;
 import app.integrations.ai.GeminiClient;
 import app.integrations.ai.IAiClient;
 import app.integrations.translation.DeepLTranslationClient;
-import app.integrations.translation.ITranslationClient;
+import app.integrations.translation.TranslationMemoryClient;
+import app.integrations.weather.CachedWeatherClient;
 import app.integrations.weather.WeatherClient;
+import app.logging.AccessLog;
+import app.metrics.MeteredProxy;
+import app.metrics.MetricsRegistry;
 import app.persistence.daos.impl.*;
 import app.persistence.daos.interfaces.*;
+import app.search.DishSearchIndex;
 import app.services.*;
 import app.services.impl.*;
+import app.utils.Bulkhead;
+import app.utils.CircuitBreaker;
+import app.utils.LatencyWindow;
+import app.utils.OutboundGuard;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.javalin.json.JavalinJackson;
 import jakarta.persistence.EntityManagerFactory;
 import lombok.Getter;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 
 import java.net.http.HttpClient;
+import java.time.Clock;
 import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
 
 public final class DIContainer
 {
@@ -24,11 +50,18 @@ public final class DIContainer
     private final EntityManagerFactory emf;
     private final HttpClient httpClient;
     private final ObjectMapper objectMapper;
+    private final ObjectMapper responseMapper;
     private final ApiConfig apiConfig;
+    @Getter
+    private final TuningConfig tuningConfig;
+    @Getter
+    private final MetricsRegistry metricsRegistry;
+    @Getter
+    private final AccessLog accessLog;
 
-    private final ITranslationClient translationClient;
+    private final TranslationMemoryClient translationClient;
     private final IAiClient aiClient;
-    private final WeatherClient weatherClient;
+    private final CachedWeatherClient weatherClient;
 
     private final IAllergenDAO allergenDAO;
     private final IUserDAO userDAO;
@@ -40,6 +73,18 @@ public final class DIContainer
     private final IStationDAO stationDAO;
     private final ITakeAwayOfferDAO takeAwayOfferDAO;
     private final ITakeAwayOrderDAO takeAwayOrderDAO;
+    private final ITakeAwayDailyStatsDAO takeAwayDailyStatsDAO;
+    private final ITranslationMemoryDAO translationMemoryDAO;
+    private final IIngredientNormalizationDAO ingredientNormalizationDAO;
+    private final IIngredientPackSizeDAO ingredientPackSizeDAO;
+    private final ITakeAwayOrderWriter takeAwayOrderWriter;
+
+    private final WeeklyMenuCache weeklyMenuCache;
+    private final TakeAwayOfferCache takeAwayOfferCache;
+    private final TakeAwaySummaryCache takeAwaySummaryCache;
+    private final JsonResponseCache<String, List<AllergenDTO>> allergenCache;
+    private final VerifiedTokenCache tokenCache;
+    private final InspirationCache inspirationCache;
 
     private final IAllergenService allergenService;
     private final IDishService dishService;
@@ -50,14 +95,19 @@ public final class DIContainer
     private final IShoppingListService shoppingListService;
     private final IStationService stationService;
     private final IAiService aiService;
+    private final IIngredientNormalizationService ingredientNormalizationService;
     private final IDishTranslationService dishTranslationService;
-    private final IMenuInspirationService menuInspirationService;
+    private final MenuInspirationService menuInspirationService;
     private final NotificationService notificationService;
+    private final DishSearchIndex dishSearchIndex;
+    private final PendingCounterRegistry pendingCounterRegistry;
+    private final PasswordHasher passwordHasher;
     private final INotificationSnapshotService notificationSnapshotService;
     private final ISecurityService securityService;
     private final IShoppingListAggregator shoppingListAggregator;
     private final ITakeAwayOfferService takeAwayOfferService;
     private final ITakeAwayOrderService takeAwayOrderService;
+    private final IPortionInventoryService portionInventoryService;
 
     @Getter
     private final IAllergenController allergenController;
@@ -101,47 +151,136 @@ public final class DIContainer
     @Getter
     private final ISecurityController securityController;
 
+    @Getter
+    private final IMetricsController metricsController;
 
-    private DIContainer(EntityManagerFactory emf)
+
+    private DIContainer(EntityManagerFactory emf, TuningConfig tuningConfig)
     {
         this.emf = emf;
         this.httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build();
 
         this.objectMapper = ObjectMapperConfig.create();
+        this.responseMapper = JavalinJackson.defaultMapper();
         this.apiConfig = new ApiConfig();
+        this.tuningConfig = tuningConfig;
+        this.metricsRegistry = new MetricsRegistry();
+        this.accessLog = new AccessLog(
+            tuningConfig.getAccessLogBufferSize(),
+            tuningConfig.getAccessLogPayloadRoutes(),
+            tuningConfig.getAccessLogPayloadSampleRate(),
+            tuningConfig.getAccessLogPayloadMaxChars(),
+            metricsRegistry
+        );
+
+        Clock clock = Clock.systemUTC();
+        Bulkhead geminiBulkhead = new Bulkhead("Gemini", tuningConfig.getGeminiMaxConcurrency(), tuningConfig.getOutboundAcquireTimeoutMs());
+        this.aiClient = new GeminiClient(
+            httpClient,
+            objectMapper,
+            apiConfig.getGeminiApiKey(),
+            apiConfig.getGeminiUrl(),
+            outboundGuard(geminiBulkhead, "Gemini " + GeminiClient.MODEL_PRIMARY, tuningConfig.getGeminiDeadlineMs(), clock),
+            outboundGuard(geminiBulkhead, "Gemini " + GeminiClient.MODEL_FALLBACK, tuningConfig.getGeminiDeadlineMs(), clock),
+            new LatencyWindow(256, 20),
+            tuningConfig.getGeminiHedgePercentile(),
+            tuningConfig.getGeminiHedgeDefaultDelayMs()
+        );
+        this.weatherClient = new CachedWeatherClient(new WeatherClient(
+            objectMapper,
+            apiConfig.getOpenMeteoUrl(),
+            outboundGuard(
+                new Bulkhead("Open-Meteo", tuningConfig.getWeatherMaxConcurrency(), tuningConfig.getOutboundAcquireTimeoutMs()),
+                "Open-Meteo",
+                tuningConfig.getWeatherDeadlineMs(),
+                clock
+            )
+        ), tuningConfig.getWeatherRefreshMinutes(), tuningConfig.getWeatherMaxStaleMinutes(), clock);
 
-        this.translationClient = new DeepLTranslationClient(httpClient, objectMapper, apiConfig.getDeepLUrl(), apiConfig.getDeepLApiKey());
-        this.aiClient = new GeminiClient(httpClient, objectMapper, apiConfig.getGeminiApiKey(), apiConfig.getGeminiUrl());
-        this.weatherClient = new WeatherClient(httpClient, objectMapper, apiConfig.getOpenMeteoUrl());
-
-        this.allergenDAO = new AllergenDAO(emf);
-        this.userDAO = new UserDAO(emf);
-        this.dishDAO = new DishDAO(emf);
-        this.dishSuggestionDAO = new DishSuggestionDAO(emf);
-        this.weeklyMenuDAO = new WeeklyMenuDAO(emf);
-        this.ingredientRequestDAO = new IngredientRequestDAO(emf);
-        this.shoppingListDAO = new ShoppingListDAO(emf);
-        this.stationDAO = new StationDAO(emf);
-        this.takeAwayOfferDAO = new TakeAwayOfferDAO(emf);
-        this.takeAwayOrderDAO = new TakeAwayOrderDAO(emf);
+        this.allergenDAO = MeteredProxy.wrap(IAllergenDAO.class, new AllergenDAO(emf), metricsRegistry);
+        this.userDAO = MeteredProxy.wrap(IUserDAO.class, new UserDAO(emf), metricsRegistry);
+        this.dishDAO = MeteredProxy.wrap(IDishDAO.class, new DishDAO(emf), metricsRegistry);
+        this.dishSuggestionDAO = MeteredProxy.wrap(IDishSuggestionDAO.class, new DishSuggestionDAO(emf), metricsRegistry);
+        this.weeklyMenuDAO = MeteredProxy.wrap(IWeeklyMenuDAO.class, new WeeklyMenuDAO(emf), metricsRegistry);
+        this.ingredientRequestDAO = MeteredProxy.wrap(IIngredientRequestDAO.class, new IngredientRequestDAO(emf), metricsRegistry);
+        this.shoppingListDAO = MeteredProxy.wrap(IShoppingListDAO.class, new ShoppingListDAO(emf), metricsRegistry);
+        this.stationDAO = MeteredProxy.wrap(IStationDAO.class, new StationDAO(emf), metricsRegistry);
+        this.takeAwayOfferDAO = MeteredProxy.wrap(ITakeAwayOfferDAO.class, new TakeAwayOfferDAO(emf), metricsRegistry);
+        this.takeAwayOrderDAO = MeteredProxy.wrap(ITakeAwayOrderDAO.class, new TakeAwayOrderDAO(emf), metricsRegistry);
+        this.takeAwayDailyStatsDAO = MeteredProxy.wrap(ITakeAwayDailyStatsDAO.class, new TakeAwayDailyStatsDAO(emf), metricsRegistry);
+        takeAwayDailyStatsDAO.backfillHistoryIfEmpty();
+        this.translationMemoryDAO = MeteredProxy.wrap(ITranslationMemoryDAO.class, new TranslationMemoryDAO(emf), metricsRegistry);
+        this.ingredientNormalizationDAO = MeteredProxy.wrap(IIngredientNormalizationDAO.class, new IngredientNormalizationDAO(emf), metricsRegistry);
+        this.ingredientPackSizeDAO = MeteredProxy.wrap(IIngredientPackSizeDAO.class, new IngredientPackSizeDAO(emf), metricsRegistry);
+        this.translationClient = new TranslationMemoryClient(
+            new DeepLTranslationClient(
+                objectMapper,
+                apiConfig.getDeepLUrl(),
+                apiConfig.getDeepLApiKey(),
+                outboundGuard(
+                    new Bulkhead("DeepL", tuningConfig.getDeepLMaxConcurrency(), tuningConfig.getOutboundAcquireTimeoutMs()),
+                    "DeepL",
+                    tuningConfig.getDeepLDeadlineMs(),
+                    clock
+                )
+            ),
+            translationMemoryDAO,
+            tuningConfig.getTranslationMemorySize(),
+            tuningConfig.getTranslationChunkSize()
+        );
+        this.takeAwayOrderWriter = new TakeAwayOrderBatchWriter(
+            emf,
+            tuningConfig.getOrderQueueCapacity(),
+            tuningConfig.getOrderBatchSize(),
+            tuningConfig.getOrderBatchDelayMs()
+        );
 
+        this.weeklyMenuCache = new WeeklyMenuCache(responseMapper);
+        this.takeAwayOfferCache = new TakeAwayOfferCache(responseMapper);
+        this.takeAwaySummaryCache = new TakeAwaySummaryCache(Clock.systemDefaultZone());
+        this.allergenCache = new JsonResponseCache<>(responseMapper, 1);
+        this.inspirationCache = new InspirationCache(Clock.systemDefaultZone());
+        this.tokenCache = new VerifiedTokenCache(tuningConfig.getTokenCacheSize(), apiConfig.getExpirationMs());
+        registerCacheMetrics();
+        this.dishSearchIndex = new DishSearchIndex(dishDAO, tuningConfig.getDishIndexRefreshMs());
         this.shoppingListAggregator = new ShoppingListAggregator();
-        this.notificationService = new NotificationService();
-        this.notificationSnapshotService = new NotificationSnapshotService(dishSuggestionDAO, ingredientRequestDAO);
+        this.passwordHasher = new PasswordHasher(
+            tuningConfig.getPasswordHashCost(),
+            tuningConfig.getPasswordHashThreads(),
+            tuningConfig.getPasswordHashQueueCapacity()
+        );
+        this.notificationService = new NotificationService(
+            responseMapper,
+            tuningConfig.getNotificationSenderThreads(),
+            tuningConfig.getNotificationOutboxCapacity()
+        );
+        this.pendingCounterRegistry = new PendingCounterRegistry(dishSuggestionDAO, ingredientRequestDAO, tuningConfig.getPendingCounterResyncSeconds());
+        this.notificationSnapshotService = new NotificationSnapshotService(pendingCounterRegistry);
         this.dishTranslationService = new DishTranslationService(translationClient);
-        this.aiService = new AiService(objectMapper, aiClient);
-        this.allergenService = new AllergenService(allergenDAO);
+        this.aiService = new AiService(objectMapper, aiClient, weatherClient);
+        this.ingredientNormalizationService = new IngredientNormalizationService(ingredientNormalizationDAO, aiService);
+        this.allergenService = new AllergenService(allergenDAO, allergenCache, weeklyMenuCache, takeAwayOfferCache, dishSearchIndex);
         this.stationService = new StationService(stationDAO);
-        this.dishService = new DishService(dishDAO, allergenDAO, stationDAO, userDAO);
-        this.dishSuggestionService = new DishSuggestionService(dishSuggestionDAO, dishDAO, userDAO, stationDAO, allergenDAO, notificationService);
-        this.userService = new UserService(userDAO, stationDAO);
-        this.weeklyMenuService = new WeeklyMenuService(weeklyMenuDAO, dishDAO, userDAO, stationDAO, dishTranslationService);
-        this.ingredientRequestService = new IngredientRequestService(ingredientRequestDAO, dishDAO, userDAO, notificationService);
-        this.shoppingListService = new ShoppingListService(shoppingListDAO, ingredientRequestDAO, userDAO, aiService, shoppingListAggregator);
-        this.menuInspirationService = new MenuInspirationService(aiService, userDAO, weatherClient, weeklyMenuDAO);
-        this.securityService = new SecurityService(userDAO, apiConfig.getIssuer(), apiConfig.getSecretKey(), apiConfig.getExpirationMs());
-        this.takeAwayOfferService = new TakeAwayOfferService(takeAwayOfferDAO, userDAO, dishDAO);
-        this.takeAwayOrderService = new TakeAwayOrderService(takeAwayOrderDAO, takeAwayOfferDAO, userDAO);
+        this.dishService = new DishService(dishDAO, allergenDAO, stationDAO, userDAO, weeklyMenuCache, takeAwayOfferCache, takeAwaySummaryCache, dishSearchIndex);
+        this.dishSuggestionService = new DishSuggestionService(dishSuggestionDAO, dishDAO, userDAO, stationDAO, allergenDAO, notificationService, pendingCounterRegistry);
+        this.userService = new UserService(userDAO, stationDAO, tokenCache, passwordHasher);
+        this.weeklyMenuService = new WeeklyMenuService(weeklyMenuDAO, dishDAO, userDAO, stationDAO, dishTranslationService, weeklyMenuCache);
+        this.ingredientRequestService = new IngredientRequestService(ingredientRequestDAO, dishDAO, userDAO, notificationService, pendingCounterRegistry);
+        this.shoppingListService = new ShoppingListService(shoppingListDAO, ingredientRequestDAO, userDAO, ingredientNormalizationService, shoppingListAggregator, ingredientPackSizeDAO);
+        this.menuInspirationService = new MenuInspirationService(
+            aiService,
+            userDAO,
+            weatherClient,
+            weeklyMenuDAO,
+            inspirationCache,
+            tuningConfig.getInspirationContextThreads(),
+            tuningConfig.getWeatherContextDeadlineMs(),
+            tuningConfig.getRecentDishesContextDeadlineMs()
+        );
+        this.securityService = new SecurityService(userDAO, passwordHasher, apiConfig.getIssuer(), apiConfig.getSecretKey(), apiConfig.getExpirationMs(), tokenCache);
+        this.portionInventoryService = new PortionInventoryService(takeAwayOfferDAO);
+        this.takeAwayOfferService = new TakeAwayOfferService(takeAwayOfferDAO, userDAO, dishDAO, portionInventoryService, takeAwayOfferCache, takeAwaySummaryCache);
+        this.takeAwayOrderService = new TakeAwayOrderService(takeAwayOrderDAO, takeAwayOrderWriter, takeAwayOfferDAO, takeAwayDailyStatsDAO, userDAO, portionInventoryService, takeAwaySummaryCache);
 
         this.allergenController = new AllergenController(allergenService);
         this.stationController = new StationController(stationService, userService);
@@ -151,26 +290,110 @@ public final class DIContainer
         this.dishController = new DishController(dishService);
         this.weeklyMenuController = new WeeklyMenuController(weeklyMenuService);
         this.ingredientRequestController = new IngredientRequestController(ingredientRequestService);
-        this.shoppingListController = new ShoppingListController(shoppingListService);
+        this.shoppingListController = new ShoppingListController(shoppingListService, ingredientNormalizationService);
         this.notificationController = new NotificationController(notificationService, notificationSnapshotService);
         this.takeAwayOfferController = new TakeAwayOfferController(takeAwayOfferService);
         this.takeAwayOrderController = new TakeAwayOrderController(takeAwayOrderService);
         this.exceptionController = new ExceptionController();
         this.securityController = new SecurityController(securityService);
+        this.metricsController = new MetricsController(metricsRegistry, apiConfig.getMetricsScrapeToken());
+
+        registerPoolMetrics();
+        this.allergenDAO.backfillMissingAllergenMasks();
+        this.portionInventoryService.reconcile();
+        this.pendingCounterRegistry.resync();
     }
 
     public static DIContainer getInstance()
     {
         if (instance == null)
         {
-            instance = new DIContainer(HibernateConfig.getEntityManagerFactory());
+            TuningConfig tuningConfig = new TuningConfig();
+            instance = new DIContainer(HibernateConfig.getEntityManagerFactory(tuningConfig), tuningConfig);
         }
         return instance;
     }
 
     public static DIContainer getTestInstance(EntityManagerFactory emf)
     {
-        instance = new DIContainer(emf);
+        closeInstance();
+        instance = new DIContainer(emf, new TuningConfig());
         return instance;
     }
+
+    public static void closeInstance()
+    {
+        if (instance != null)
+        {
+            instance.close();
+            instance = null;
+        }
+    }
+
+    private OutboundGuard outboundGuard(Bulkhead bulkhead, String name, long deadlineMs, Clock clock)
+    {
+        return new OutboundGuard(
+            httpClient,
+            bulkhead,
+            new CircuitBreaker(name, tuningConfig.getCircuitFailureThreshold(), tuningConfig.getCircuitOpenMs(), clock),
+            deadlineMs,
+            tuningConfig.getOutboundMaxAttempts(),
+            tuningConfig.getOutboundRetryBaseMs(),
+            metricsRegistry
+        );
+    }
+
+    private void registerCacheMetrics()
+    {
+        cacheGauges("translation_memory", translationClient::getStats);
+        cacheGauges("verified_token", tokenCache::getStats);
+        cacheGauges("inspiration", inspirationCache::getStats);
+        cacheGauges("weekly_menu", weeklyMenuCache::getStats);
+        cacheGauges("takeaway_offer", takeAwayOfferCache::getStats);
+        cacheGauges("takeaway_summary", takeAwaySummaryCache::getStats);
+        cacheGauges("allergen", allergenCache::getStats);
+    }
+
+    private void cacheGauges(String cache, Supplier<CacheStats> stats)
+    {
+        metricsRegistry.gauge("miseos_cache_hits", "Cache hits since startup", () -> stats.get().hits(), "cache", cache);
+        metricsRegistry.gauge("miseos_cache_misses", "Cache misses since startup", () -> stats.get().misses(), "cache", cache);
+        metricsRegistry.gauge("miseos_cache_size", "Entries currently held in the cache", () -> stats.get().size(), "cache", cache);
+    }
+
+    private void registerPoolMetrics()
+    {
+        HikariDataSource dataSource;
+        try
+        {
+            ConnectionProvider provider = emf.unwrap(SessionFactoryImplementor.class).getServiceRegistry().requireService(ConnectionProvider.class);
+            dataSource = provider.unwrap(HikariDataSource.class);
+        }
+        catch (RuntimeException e)
+        {
+            return;
+        }
+
+        metricsRegistry.gauge("miseos_db_pool_connections", "Hikari pool connections by state", () -> poolStat(dataSource, HikariPoolMXBean::getActiveConnections), "state", "active");
+        metricsRegistry.gauge("miseos_db_pool_connections", "Hikari pool connections by state", () -> poolStat(dataSource, HikariPoolMXBean::getIdleConnections), "state", "idle");
+        metricsRegistry.gauge("miseos_db_pool_connections", "Hikari pool connections by state", () -> poolStat(dataSource, HikariPoolMXBean::getTotalConnections), "state", "total");
+        metricsRegistry.gauge("miseos_db_pool_pending_threads", "Threads waiting for a Hikari connection", () -> poolStat(dataSource, HikariPoolMXBean::getThreadsAwaitingConnection));
+    }
+
+    private static int poolStat(HikariDataSource dataSource, ToIntFunction<HikariPoolMXBean> stat)
+    {
+        HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+        return pool == null ? 0 : stat.applyAsInt(pool);
+    }
+
+    private void close()
+    {
+        takeAwayOrderWriter.close();
+        notificationService.close();
+        pendingCounterRegistry.close();
+        passwordHasher.close();
+        menuInspirationService.close();
+        weatherClient.close();
+        accessLog.close();
+    }
 }
@@ -23,5 +23,10 @@ final class EntityRegistry
         configuration.addAnnotatedClass(TakeAwayOffer.class);
         configuration.addAnnotatedClass(TakeAwayOrder.class);
         configuration.addAnnotatedClass(TakeAwayOrderLine.class);
+        configuration.addAnnotatedClass(TakeAwayDailyStats.class);
+        configuration.addAnnotatedClass(TakeAwayOfferDailyStats.class);
+        configuration.addAnnotatedClass(TranslationMemoryEntry.class);
+        configuration.addAnnotatedClass(IngredientNormalization.class);
+        configuration.addAnnotatedClass(IngredientPackSize.class);
     }
 }
@@ -7,7 +7,7 @@ final class HibernateBaseProperties
 
     private HibernateBaseProperties() {}
 
-    static Properties createBase()
+    static Properties createBase(TuningConfig tuning)
     {
         Properties props = new Properties();
         props.put("hibernate.connection.driver_class", "org.postgresql.Driver");
@@ -15,9 +15,9 @@ final class HibernateBaseProperties
         props.put("hibernate.show_sql", "false");
         props.put("hibernate.format_sql", "false");
         props.put("hibernate.use_sql_comments", "false");
-        props.put("hibernate.hikari.maximumPoolSize", "10");
+        props.put("hibernate.hikari.maximumPoolSize", String.valueOf(tuning.getDbPoolSize()));
         props.put("hibernate.hikari.minimumIdle", "2");
-        props.put("hibernate.hikari.connectionTimeout", "20000");
+        props.put("hibernate.hikari.connectionTimeout", String.valueOf(tuning.getDbAcquireTimeoutMs()));
         return props;
     }
 }
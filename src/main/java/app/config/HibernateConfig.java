@@ -12,7 +12,7 @@ public final class HibernateConfig
 
     private HibernateConfig() {}
 
-    public static EntityManagerFactory getEntityManagerFactory()
+    public static EntityManagerFactory getEntityManagerFactory(TuningConfig tuning)
     {
         if (emf == null)
         {
@@ -20,16 +20,16 @@ public final class HibernateConfig
             {
                 if (emf == null)
                 {
-                    emf = HibernateEmfBuilder.build(buildProps());
+                    emf = HibernateEmfBuilder.build(buildProps(tuning));
                 }
             }
         }
         return emf;
     }
 
-    private static Properties buildProps()
+    private static Properties buildProps(TuningConfig tuning)
     {
-        Properties props = HibernateBaseProperties.createBase();
+        Properties props = HibernateBaseProperties.createBase(tuning);
         props.put("hibernate.hbm2ddl.auto", "update");
 
         if (System.getenv("DEPLOYED") != null)
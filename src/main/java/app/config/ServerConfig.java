@@ -2,33 +2,46 @@ package app.config;
 
 import app.controllers.IExceptionController;
 import app.controllers.ISecurityController;
+import app.enums.ServerThreadMode;
 import app.exceptions.*;
+import app.logging.AccessLog;
+import app.metrics.MetricsRegistry;
 import app.routes.ApiRoutes;
+import app.utils.ResponseUtil;
 import io.javalin.Javalin;
 import io.javalin.config.JavalinConfig;
 import io.javalin.http.Context;
+import io.javalin.router.Endpoint;
+import io.javalin.util.ConcurrencyUtil;
 import jakarta.persistence.EntityNotFoundException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.List;
-import java.util.UUID;
 
 public class ServerConfig
 {
     private static final Logger logger = LoggerFactory.getLogger(ServerConfig.class);
     private static final String START_TIME = "start-time";
     private static final String REQ_ID = "request-id";
+    private static final String HTTP_TIMER = "miseos_http_server_request_seconds";
+    private static final String HTTP_TIMER_HELP = "Latency of HTTP requests by route template, method and status";
 
     private final ApiRoutes apiRoutes;
     private final IExceptionController exceptionController;
     private final ISecurityController securityController;
+    private final TuningConfig tuningConfig;
+    private final MetricsRegistry metricsRegistry;
+    private final AccessLog accessLog;
 
-    public ServerConfig(ApiRoutes apiRoutes, IExceptionController exceptionController, ISecurityController securityController)
+    public ServerConfig(ApiRoutes apiRoutes, IExceptionController exceptionController, ISecurityController securityController, TuningConfig tuningConfig, MetricsRegistry metricsRegistry, AccessLog accessLog)
     {
         this.apiRoutes = apiRoutes;
         this.exceptionController = exceptionController;
         this.securityController = securityController;
+        this.tuningConfig = tuningConfig;
+        this.metricsRegistry = metricsRegistry;
+        this.accessLog = accessLog;
     }
 
     public Javalin create()
@@ -46,10 +59,11 @@ public class ServerConfig
                     );
 
                     rule.allowCredentials = true;
-
+                    rule.exposeHeader(ResponseUtil.NEXT_CURSOR_HEADER);
                 });
             });
             config.bundledPlugins.enableHttpAllowedMethodsOnRoutes();
+            configureThreading(config);
             config.routes.apiBuilder(apiRoutes.getRoutes());
             configureMiddleWareLogging(config);
             configureMiddleWareSecurity(config);
@@ -57,6 +71,26 @@ public class ServerConfig
         });
     }
 
+    private void configureThreading(JavalinConfig config)
+    {
+        boolean virtual = tuningConfig.getServerThreadMode() == ServerThreadMode.VIRTUAL;
+
+        if (virtual && !ConcurrencyUtil.isLoomAvailable())
+        {
+            logger.warn("Virtual threads requested but not available on Java {}, using platform threads", System.getProperty("java.version"));
+            virtual = false;
+        }
+
+        config.concurrency.useVirtualThreads = virtual;
+        config.jetty.threadPool = ConcurrencyUtil.jettyThreadPool(
+            "javalin-http",
+            tuningConfig.getServerMinThreads(),
+            tuningConfig.getServerMaxThreads(),
+            virtual
+        );
+        logger.info("Serving requests on {} threads", virtual ? "virtual" : "platform");
+    }
+
     private void configureMiddleWareSecurity(JavalinConfig config)
     {
         config.routes.beforeMatched(securityController::authenticate);
@@ -66,8 +100,8 @@ public class ServerConfig
 
     private void configureMiddleWareLogging(JavalinConfig config)
     {
-        config.routes.before(this::logRequest);
-        config.routes.after(this::logResponse);
+        config.routes.before(this::startRequest);
+        config.routes.after(this::finishRequest);
     }
 
     private void configureExceptions(JavalinConfig config)
@@ -83,64 +117,49 @@ public class ServerConfig
         config.routes.exception(WeatherIntegrationException.class, exceptionController::handleWeatherIntegration);
         config.routes.exception(TranslationException.class, exceptionController::handleTranslation);
         config.routes.exception(DatabaseException.class, exceptionController::handleDatabase);
+        config.routes.exception(ServiceUnavailableException.class, exceptionController::handleServiceUnavailable);
         config.routes.exception(Exception.class, exceptionController::handleGenericException);
     }
 
-    private void logRequest(Context ctx)
+    private void startRequest(Context ctx)
     {
-        if (ctx.path().contains("/health")) {return;}
-
-        String requestId = UUID.randomUUID().toString().substring(0, 8);
-        ctx.attribute(REQ_ID, requestId);
-        ctx.attribute(START_TIME, System.currentTimeMillis());
+        ctx.attribute(START_TIME, System.nanoTime());
+        ctx.attribute(REQ_ID, accessLog.nextRequestId());
+    }
 
-        String body = isSensitivePath(ctx.path()) ? "[CENSORED]" : ctx.body();
+    private void finishRequest(Context ctx)
+    {
+        Long start = ctx.attribute(START_TIME);
+        String requestId = ctx.attribute(REQ_ID);
 
-        if (!body.isBlank())
-        {
-            logger.info(
-                "[{}] Incoming {} {} from {} | UA: {} | Payload: {}",
-                requestId,
-                ctx.method(),
-                ctx.path(),
-                ctx.ip(),
-                ctx.userAgent(),
-                body
-            );
-        }
-        else
+        if (start == null || requestId == null)
         {
-            logger.info(
-                "[{}] Incoming {} {} from {} | UA: {}",
-                requestId,
-                ctx.method(),
-                ctx.path(),
-                ctx.ip(),
-                ctx.userAgent()
-            );
+            return;
         }
-    }
 
-    private void logResponse(Context ctx)
-    {
+        String method = ctx.method().name();
+        String route = routeTemplate(ctx);
+        int status = ctx.statusCode();
+        long duration = System.nanoTime() - start;
+
+        metricsRegistry.timer(HTTP_TIMER, HTTP_TIMER_HELP, "method", method, "route", route, "status", Integer.toString(status))
+            .recordNanos(duration);
+
         if (ctx.path().contains("/health")) {return;}
 
-        Long start = ctx.attribute(START_TIME);
-        String requestId = ctx.attribute(REQ_ID);
+        String payload = !isSensitivePath(ctx.path()) && accessLog.wantsPayload(route) ? ctx.body() : null;
+        accessLog.publish(requestId, method, ctx.path(), status, duration, ctx.ip(), ctx.userAgent(), payload);
+    }
+
+    private String routeTemplate(Context ctx)
+    {
+        Endpoint endpoint = ctx.endpoints().matchedHttpEndpoint();
 
-        if(start != null && requestId != null)
+        if (endpoint == null)
         {
-            long duration = System.currentTimeMillis() - start;
-
-            logger.info(
-                "[{}] Response: {} {} -> {} ({} ms)",
-                requestId,
-                ctx.method(),
-                ctx.path(),
-                ctx.status(),
-                duration
-            );
+            return "unmatched";
         }
+        return endpoint.path;
     }
 
     private boolean isSensitivePath(String path)
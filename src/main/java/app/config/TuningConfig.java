@@ -0,0 +1,134 @@
+package app.config;
+
+import app.enums.ServerThreadMode;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Getter
+public class TuningConfig
+{
+    private final int orderQueueCapacity;
+    private final int orderBatchSize;
+    private final long orderBatchDelayMs;
+    private final int notificationSenderThreads;
+    private final int notificationOutboxCapacity;
+    private final long pendingCounterResyncSeconds;
+    private final long dishIndexRefreshMs;
+    private final int translationMemorySize;
+    private final int translationChunkSize;
+    private final int tokenCacheSize;
+    private final int passwordHashCost;
+    private final int passwordHashThreads;
+    private final int passwordHashQueueCapacity;
+    private final ServerThreadMode serverThreadMode;
+    private final int serverMinThreads;
+    private final int serverMaxThreads;
+    private final int dbPoolSize;
+    private final long dbAcquireTimeoutMs;
+    private final int geminiMaxConcurrency;
+    private final int deepLMaxConcurrency;
+    private final int weatherMaxConcurrency;
+    private final long outboundAcquireTimeoutMs;
+    private final int inspirationContextThreads;
+    private final long weatherContextDeadlineMs;
+    private final long recentDishesContextDeadlineMs;
+    private final long weatherRefreshMinutes;
+    private final long weatherMaxStaleMinutes;
+    private final long geminiDeadlineMs;
+    private final long deepLDeadlineMs;
+    private final long weatherDeadlineMs;
+    private final int outboundMaxAttempts;
+    private final long outboundRetryBaseMs;
+    private final int circuitFailureThreshold;
+    private final long circuitOpenMs;
+    private final double geminiHedgePercentile;
+    private final long geminiHedgeDefaultDelayMs;
+    private final int accessLogBufferSize;
+    private final Set<String> accessLogPayloadRoutes;
+    private final int accessLogPayloadSampleRate;
+    private final int accessLogPayloadMaxChars;
+
+    public TuningConfig()
+    {
+        this.orderQueueCapacity = getEnvInt("ORDER_QUEUE_CAPACITY", 1000);
+        this.orderBatchSize = getEnvInt("ORDER_BATCH_SIZE", 50);
+        this.orderBatchDelayMs = getEnvLong("ORDER_BATCH_DELAY_MS", 5);
+        this.notificationSenderThreads = getEnvInt("NOTIFICATION_SENDER_THREADS", 4);
+        this.notificationOutboxCapacity = getEnvInt("NOTIFICATION_OUTBOX_CAPACITY", 64);
+        this.pendingCounterResyncSeconds = getEnvLong("PENDING_COUNTER_RESYNC_SECONDS", 60);
+        this.dishIndexRefreshMs = getEnvLong("DISH_INDEX_REFRESH_MS", 1000);
+        this.translationMemorySize = getEnvInt("TRANSLATION_MEMORY_SIZE", 2048);
+        this.translationChunkSize = getEnvInt("TRANSLATION_CHUNK_SIZE", 50);
+        this.tokenCacheSize = getEnvInt("TOKEN_CACHE_SIZE", 4096);
+        this.passwordHashCost = getEnvInt("PASSWORD_HASH_COST", 12);
+        this.passwordHashThreads = getEnvInt("PASSWORD_HASH_THREADS", Runtime.getRuntime().availableProcessors());
+        this.passwordHashQueueCapacity = getEnvInt("PASSWORD_HASH_QUEUE_CAPACITY", 64);
+        this.serverThreadMode = ServerThreadMode.valueOf(getEnvString("SERVER_THREAD_MODE", "PLATFORM").toUpperCase());
+        this.serverMinThreads = getEnvInt("SERVER_MIN_THREADS", 8);
+        this.serverMaxThreads = getEnvInt("SERVER_MAX_THREADS", 200);
+        this.dbPoolSize = getEnvInt("DB_POOL_SIZE", 10);
+        this.dbAcquireTimeoutMs = getEnvLong("DB_ACQUIRE_TIMEOUT_MS", 5000);
+        this.geminiMaxConcurrency = getEnvInt("GEMINI_MAX_CONCURRENCY", 8);
+        this.deepLMaxConcurrency = getEnvInt("DEEPL_MAX_CONCURRENCY", 4);
+        this.weatherMaxConcurrency = getEnvInt("WEATHER_MAX_CONCURRENCY", 4);
+        this.outboundAcquireTimeoutMs = getEnvLong("OUTBOUND_ACQUIRE_TIMEOUT_MS", 2000);
+        this.inspirationContextThreads = getEnvInt("INSPIRATION_CONTEXT_THREADS", 4);
+        this.weatherContextDeadlineMs = getEnvLong("WEATHER_CONTEXT_DEADLINE_MS", 2000);
+        this.recentDishesContextDeadlineMs = getEnvLong("RECENT_DISHES_CONTEXT_DEADLINE_MS", 3000);
+        this.weatherRefreshMinutes = getEnvLong("WEATHER_REFRESH_MINUTES", 30);
+        this.weatherMaxStaleMinutes = getEnvLong("WEATHER_MAX_STALE_MINUTES", 360);
+        this.geminiDeadlineMs = getEnvLong("GEMINI_DEADLINE_MS", 30000);
+        this.deepLDeadlineMs = getEnvLong("DEEPL_DEADLINE_MS", 10000);
+        this.weatherDeadlineMs = getEnvLong("WEATHER_DEADLINE_MS", 5000);
+        this.outboundMaxAttempts = getEnvInt("OUTBOUND_MAX_ATTEMPTS", 3);
+        this.outboundRetryBaseMs = getEnvLong("OUTBOUND_RETRY_BASE_MS", 200);
+        this.circuitFailureThreshold = getEnvInt("CIRCUIT_FAILURE_THRESHOLD", 5);
+        this.circuitOpenMs = getEnvLong("CIRCUIT_OPEN_MS", 30000);
+        this.geminiHedgePercentile = getEnvDouble("GEMINI_HEDGE_PERCENTILE", 95.0);
+        this.geminiHedgeDefaultDelayMs = getEnvLong("GEMINI_HEDGE_DEFAULT_DELAY_MS", 4000);
+        this.accessLogBufferSize = getEnvInt("ACCESS_LOG_BUFFER_SIZE", 4096);
+        this.accessLogPayloadRoutes = getEnvSet("ACCESS_LOG_PAYLOAD_ROUTES");
+        this.accessLogPayloadSampleRate = getEnvInt("ACCESS_LOG_PAYLOAD_SAMPLE_RATE", 10);
+        this.accessLogPayloadMaxChars = getEnvInt("ACCESS_LOG_PAYLOAD_MAX_CHARS", 256);
+    }
+
+    private static int getEnvInt(String name, int defaultValue)
+    {
+        String value = System.getenv(name);
+        return value == null || value.isBlank() ? defaultValue : Integer.parseInt(value.trim());
+    }
+
+    private static double getEnvDouble(String name, double defaultValue)
+    {
+        String value = System.getenv(name);
+        return value == null || value.isBlank() ? defaultValue : Double.parseDouble(value.trim());
+    }
+
+    private static String getEnvString(String name, String defaultValue)
+    {
+        String value = System.getenv(name);
+        return value == null || value.isBlank() ? defaultValue : value.trim();
+    }
+
+    private static Set<String> getEnvSet(String name)
+    {
+        String value = System.getenv(name);
+        if (value == null || value.isBlank())
+        {
+            return Set.of();
+        }
+        return Arrays.stream(value.split(","))
+            .map(String::trim)
+            .filter(entry -> !entry.isEmpty())
+            .collect(Collectors.toUnmodifiableSet());
+    }
+
+    private static long getEnvLong(String name, long defaultValue)
+    {
+        String value = System.getenv(name);
+        return value == null || value.isBlank() ? defaultValue : Long.parseLong(value.trim());
+    }
+}
@@ -29,4 +29,6 @@ public interface IExceptionController
     void handleGenericException(Exception e, Context ctx);
 
     void handleAuthentication(AuthenticationException e, Context ctx);
+
+    void handleServiceUnavailable(ServiceUnavailableException e, Context ctx);
 }
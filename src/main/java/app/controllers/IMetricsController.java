@@ -0,0 +1,8 @@
+package app.controllers;
+
+import io.javalin.http.Context;
+
+public interface IMetricsController
+{
+    void getMetrics(Context ctx);
+}
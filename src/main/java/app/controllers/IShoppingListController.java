@@ -26,5 +26,13 @@ public interface IShoppingListController
 
     void finalizeShoppingList(Context ctx);
 
+    void getNormalizations(Context ctx);
+
+    void correctNormalization(Context ctx);
+
+    void getPackSizes(Context ctx);
+
+    void savePackSize(Context ctx);
+
 
 }
@@ -6,6 +6,7 @@ import app.dtos.allergen.AllergenDTO;
 import app.dtos.allergen.AllergenUpdateRequestDTO;
 import app.services.IAllergenService;
 import app.utils.RequestUtil;
+import app.utils.ResponseUtil;
 import io.javalin.http.Context;
 
 import java.util.List;
@@ -30,7 +31,7 @@ public class AllergenController implements IAllergenController
     @Override
     public void getAll(Context ctx)
     {
-        ctx.status(200).json(allergenService.getAllAllergens());
+        ResponseUtil.sendCachedJson(ctx, allergenService.getAllAllergensJson());
     }
 
     @Override
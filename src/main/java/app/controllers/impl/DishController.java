@@ -25,7 +25,10 @@ public class DishController implements IDishController
     public void search(Context ctx)
     {
         String query = RequestUtil.requireQueryString(ctx, "query");
-        List<DishDTO> dishDTOS = dishService.searchByName(query);
+        Long stationId = RequestUtil.getQueryLong(ctx, "stationId");
+        int excludedAllergens = RequestUtil.getQueryAllergenMask(ctx, "excludeAllergens");
+
+        List<DishDTO> dishDTOS = dishService.searchByName(query, stationId, excludedAllergens);
         ctx.status(200).json(dishDTOS);
     }
 
@@ -75,8 +78,9 @@ public class DishController implements IDishController
     {
         Long stationId = RequestUtil.getQueryLong(ctx,"stationId");
         Boolean active = RequestUtil.getQueryBoolean(ctx, "active");
+        int excludedAllergens = RequestUtil.getQueryAllergenMask(ctx, "excludeAllergens");
 
-        List<DishDTO> dishDTOS = dishService.getAll(stationId, active);
+        List<DishDTO> dishDTOS = dishService.getAll(stationId, active, excludedAllergens);
         ctx.status(200).json(dishDTOS);
     }
 
@@ -6,10 +6,10 @@ import app.dtos.security.AuthenticatedUser;
 import app.enums.Status;
 import app.services.IDishSuggestionService;
 import app.utils.RequestUtil;
+import app.utils.ResponseUtil;
 import app.utils.SecurityUtil;
 import io.javalin.http.Context;
 
-import java.util.List;
 import java.util.Objects;
 
 public class DishSuggestionController implements IDishSuggestionController
@@ -41,7 +41,7 @@ public class DishSuggestionController implements IDishSuggestionController
         Long stationId = RequestUtil.getQueryLong(ctx, "stationId");
         String orderBy = RequestUtil.getQueryString(ctx, "orderBy");
         Integer limit = RequestUtil.getQueryInt(ctx, "limit");
-
+        String cursor = RequestUtil.getQueryString(ctx, "cursor");
 
         DishSuggestionFilterDTO filter = new DishSuggestionFilterDTO(
             status,
@@ -52,8 +52,7 @@ public class DishSuggestionController implements IDishSuggestionController
             limit
         );
 
-        List<DishSuggestionDTO> suggestionDTOS = dishSuggestionService.getByFilter(authUser, filter);
-        ctx.status(200).json(suggestionDTOS);
+        dishSuggestionService.streamByFilter(authUser, filter, cursor, ResponseUtil.jsonPage(ctx));
     }
 
     @Override
@@ -8,6 +8,7 @@ import jakarta.persistence.EntityNotFoundException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.sql.SQLTransientConnectionException;
 import java.time.LocalDateTime;
 
 public class ExceptionController implements IExceptionController
@@ -66,6 +67,14 @@ public class ExceptionController implements IExceptionController
     public void handleDatabase(DatabaseException e, Context ctx)
     {
         String reqId = ctx.attribute("request-id");
+
+        if (isPoolExhausted(e))
+        {
+            logger.warn("[{}] Database busy [{}] {}: {}", reqId, ctx.method(), ctx.path(), e.getMessage());
+            buildErrorResponse(503, "Database is busy right now, please try again shortly", ctx, reqId);
+            return;
+        }
+
         logger.error("[{}] Database [{}] {}: {}", reqId,  ctx.method(), ctx.path(), e.getMessage(), e);
         buildErrorResponse(500, "Database error occurred. Reference: " + reqId , ctx, reqId);
     }
@@ -110,6 +119,26 @@ public class ExceptionController implements IExceptionController
         buildErrorResponse(401, e.getMessage(), ctx, reqId);
     }
 
+    @Override
+    public void handleServiceUnavailable(ServiceUnavailableException e, Context ctx)
+    {
+        String reqId = ctx.attribute("request-id");
+        logger.warn("[{}] Service unavailable [{}] {}: {}", reqId, ctx.method(), ctx.path(), e.getMessage());
+        buildErrorResponse(503, e.getMessage(), ctx, reqId);
+    }
+
+    private static boolean isPoolExhausted(Throwable e)
+    {
+        for (Throwable cause = e; cause != null; cause = cause.getCause())
+        {
+            if (cause instanceof SQLTransientConnectionException)
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private void buildErrorResponse(int status, String message, Context ctx, String referenceId)
     {
         ErrorResponseDTO responseDTO = new ErrorResponseDTO(
@@ -10,11 +10,11 @@ import app.enums.RequestType;
 import app.enums.Status;
 import app.services.IIngredientRequestService;
 import app.utils.RequestUtil;
+import app.utils.ResponseUtil;
 import app.utils.SecurityUtil;
 import io.javalin.http.Context;
 
 import java.time.LocalDate;
-import java.util.List;
 import java.util.Objects;
 
 public class IngredientRequestController implements IIngredientRequestController
@@ -72,9 +72,9 @@ public class IngredientRequestController implements IIngredientRequestController
         RequestType requestType = RequestUtil.getQueryRequestType(ctx, "requestType");
         Long stationId = RequestUtil.getQueryLong(ctx, "stationId");
         Integer limit = RequestUtil.getQueryInt(ctx, "limit");
+        String cursor = RequestUtil.getQueryString(ctx, "cursor");
 
-        List<IngredientRequestDTO> ingredientRequests = ingredientRequestService.getRequests(authUser, status, deliveryDate, requestType, stationId, limit);
-        ctx.status(200).json(ingredientRequests);
+        ingredientRequestService.streamRequests(authUser, status, deliveryDate, requestType, stationId, cursor, limit, ResponseUtil.jsonPage(ctx));
     }
 
     @Override
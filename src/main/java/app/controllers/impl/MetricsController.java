@@ -0,0 +1,49 @@
+package app.controllers.impl;
+
+import app.controllers.IMetricsController;
+import app.exceptions.AuthenticationException;
+import app.metrics.MetricsRegistry;
+import io.javalin.http.Context;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+public class MetricsController implements IMetricsController
+{
+    private static final String PROMETHEUS_TEXT = "text/plain; version=0.0.4; charset=utf-8";
+    private static final String BEARER_PREFIX = "Bearer ";
+    private final MetricsRegistry metricsRegistry;
+    private final byte[] scrapeToken;
+
+    public MetricsController(MetricsRegistry metricsRegistry, String scrapeToken)
+    {
+        this.metricsRegistry = metricsRegistry;
+        this.scrapeToken = scrapeToken == null || scrapeToken.isBlank() ? null : scrapeToken.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void getMetrics(Context ctx)
+    {
+        requireScrapeToken(ctx.header("Authorization"));
+        ctx.status(200).contentType(PROMETHEUS_TEXT).result(metricsRegistry.scrape());
+    }
+
+    private void requireScrapeToken(String header)
+    {
+        if (scrapeToken == null)
+        {
+            throw new AuthenticationException("Metrics scraping is disabled");
+        }
+        if (header == null || !header.startsWith(BEARER_PREFIX))
+        {
+            throw new AuthenticationException("Missing or malformed Authorization header");
+        }
+
+        byte[] presented = header.substring(BEARER_PREFIX.length()).trim().getBytes(StandardCharsets.UTF_8);
+
+        if (!MessageDigest.isEqual(presented, scrapeToken))
+        {
+            throw new AuthenticationException("Invalid metrics scrape token");
+        }
+    }
+}
@@ -3,7 +3,6 @@ package app.controllers.impl;
 import app.controllers.ISecurityController;
 import app.dtos.security.AuthenticatedUser;
 import app.dtos.security.LoginRequestDTO;
-import app.dtos.security.LoginResponseDTO;
 import app.exceptions.AuthenticationException;
 import app.exceptions.UnauthorizedActionException;
 import app.services.ISecurityService;
@@ -35,10 +34,12 @@ public class SecurityController implements ISecurityController
             .check(Objects::nonNull, "Login payload cannot be null")
             .get();
 
-        LoginResponseDTO response = securityService.login(dto);
-
-        logger.info("[{}] Login successful: {}", ctx.attribute("request-id"), response.email());
-        ctx.status(200).json(response);
+        ctx.future(() -> securityService.login(dto)
+            .thenAccept(response ->
+            {
+                logger.info("[{}] Login successful: {}", ctx.attribute("request-id"), response.email());
+                ctx.status(200).json(response);
+            }));
     }
 
     @Override
@@ -4,6 +4,8 @@ import app.controllers.IShoppingListController;
 import app.dtos.security.AuthenticatedUser;
 import app.dtos.shopping.*;
 import app.enums.ShoppingListStatus;
+import app.enums.SupportedLanguage;
+import app.services.IIngredientNormalizationService;
 import app.services.IShoppingListService;
 import app.utils.RequestUtil;
 import app.utils.SecurityUtil;
@@ -16,10 +18,12 @@ import java.util.Objects;
 public class ShoppingListController implements IShoppingListController
 {
     private final IShoppingListService shoppingListService;
+    private final IIngredientNormalizationService normalizationService;
 
-    public ShoppingListController(IShoppingListService shoppingListService)
+    public ShoppingListController(IShoppingListService shoppingListService, IIngredientNormalizationService normalizationService)
     {
         this.shoppingListService = shoppingListService;
+        this.normalizationService = normalizationService;
     }
 
     @Override
@@ -143,4 +147,42 @@ public class ShoppingListController implements IShoppingListController
         ShoppingListDTO shoppingListDTO = shoppingListService.finalizeShoppingList(id);
         ctx.status(200).json(shoppingListDTO);
     }
+
+    @Override
+    public void getNormalizations(Context ctx)
+    {
+        SupportedLanguage language = RequestUtil.getQueryLanguage(ctx, "language");
+
+        List<IngredientNormalizationDTO> normalizations = normalizationService.getNormalizations(language);
+        ctx.status(200).json(normalizations);
+    }
+
+    @Override
+    public void correctNormalization(Context ctx)
+    {
+        UpdateIngredientNormalizationDTO dto = ctx.bodyValidator(UpdateIngredientNormalizationDTO.class)
+            .check(Objects::nonNull, "Body cannot be null")
+            .get();
+
+        IngredientNormalizationDTO normalizationDTO = normalizationService.correctNormalization(dto);
+        ctx.status(200).json(normalizationDTO);
+    }
+
+    @Override
+    public void getPackSizes(Context ctx)
+    {
+        List<PackSizeDTO> packSizes = shoppingListService.getPackSizes();
+        ctx.status(200).json(packSizes);
+    }
+
+    @Override
+    public void savePackSize(Context ctx)
+    {
+        PackSizeDTO dto = ctx.bodyValidator(PackSizeDTO.class)
+            .check(Objects::nonNull, "Body cannot be null")
+            .get();
+
+        PackSizeDTO packSizeDTO = shoppingListService.savePackSize(dto);
+        ctx.status(200).json(packSizeDTO);
+    }
 }
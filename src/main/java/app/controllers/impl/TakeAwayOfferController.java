@@ -7,6 +7,7 @@ import app.dtos.takeaway.TakeAwayOfferDTO;
 import app.dtos.takeaway.TakeAwayOfferUpdateDTO;
 import app.services.ITakeAwayOfferService;
 import app.utils.RequestUtil;
+import app.utils.ResponseUtil;
 import app.utils.SecurityUtil;
 import io.javalin.http.Context;
 
@@ -58,9 +59,9 @@ public class TakeAwayOfferController implements ITakeAwayOfferController
         Boolean isSoldOut = RequestUtil.getQueryBoolean(ctx, "soldOut");
         Boolean isEnabled = RequestUtil.getQueryBoolean(ctx, "enabled");
         Long dishId = RequestUtil.getQueryLong(ctx, "dishId");
+        int excludedAllergens = RequestUtil.getQueryAllergenMask(ctx, "excludeAllergens");
 
-        List<TakeAwayOfferDTO> offers = takeAwayOfferService.getOffers(date, isSoldOut, isEnabled, dishId);
-        ctx.status(200).json(offers);
+        ResponseUtil.sendCachedJson(ctx, takeAwayOfferService.getOffersJson(date, isSoldOut, isEnabled, dishId, excludedAllergens));
     }
 
     @Override
@@ -8,11 +8,11 @@ import app.dtos.takeaway.TakeAwaySummaryDTO;
 import app.enums.OrderStatus;
 import app.services.ITakeAwayOrderService;
 import app.utils.RequestUtil;
+import app.utils.ResponseUtil;
 import app.utils.SecurityUtil;
 import io.javalin.http.Context;
 
 import java.time.LocalDate;
-import java.util.List;
 import java.util.Objects;
 
 public class TakeAwayOrderController implements ITakeAwayOrderController
@@ -32,9 +32,10 @@ public class TakeAwayOrderController implements ITakeAwayOrderController
         Long offerId = RequestUtil.getQueryLong(ctx, "offerId");
         LocalDate date = RequestUtil.getQueryDate(ctx, "date");
         OrderStatus status = RequestUtil.getQueryOrderStatus(ctx, "status");
+        String cursor = RequestUtil.getQueryString(ctx, "cursor");
+        Integer limit = RequestUtil.getQueryInt(ctx, "limit");
 
-        List<TakeAwayOrderDTO> takeAwayOrderDTOS = takeAwayOrderService.getOrders(authUser, customerId, offerId, date, status);
-        ctx.status(200).json(takeAwayOrderDTOS);
+        takeAwayOrderService.streamOrders(authUser, customerId, offerId, date, status, cursor, limit, ResponseUtil.jsonPage(ctx));
     }
 
     @Override
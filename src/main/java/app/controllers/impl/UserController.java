@@ -59,9 +59,8 @@ public class UserController implements IUserController
             .check(p -> p.newPassword() != null && !p.newPassword().isBlank(), "New password cannot be empty")
             .get();
 
-        UserDTO userDTO = userService.changePassword(authUser, targetUserId, dto);
-
-        ctx.status(200).json(userDTO);
+        ctx.future(() -> userService.changePassword(authUser, targetUserId, dto)
+            .thenAccept(userDTO -> ctx.status(200).json(userDTO)));
     }
 
     @Override
@@ -97,8 +96,8 @@ public class UserController implements IUserController
             .check(Objects::nonNull, "Payload cant be null")
             .get();
 
-        UserDTO userDTO = userService.registerUser(dto);
-        ctx.status(201).json(userDTO);
+        ctx.future(() -> userService.registerUser(dto)
+            .thenAccept(userDTO -> ctx.status(201).json(userDTO)));
     }
 
     @Override
@@ -6,7 +6,9 @@ import app.dtos.security.AuthenticatedUser;
 import app.enums.MenuStatus;
 import app.enums.SupportedLanguage;
 import app.services.IWeeklyMenuService;
+import app.utils.AllergenMask;
 import app.utils.RequestUtil;
+import app.utils.ResponseUtil;
 import app.utils.SecurityUtil;
 import io.javalin.http.Context;
 
@@ -66,8 +68,7 @@ public class WeeklyMenuController implements IWeeklyMenuController
         Integer year = RequestUtil.requireQueryInt(ctx, "year");
         AuthenticatedUser authUser = ctx.attribute("authUser");
 
-        WeeklyMenuDTO weeklyMenuDTO = weeklyMenuService.getByWeekAndYear(authUser, week, year);
-        ctx.status(200).json(weeklyMenuDTO);
+        ResponseUtil.sendCachedJson(ctx, weeklyMenuService.getByWeekAndYearJson(authUser, week, year, AllergenMask.NONE));
     }
 
     @Override
@@ -93,8 +94,8 @@ public class WeeklyMenuController implements IWeeklyMenuController
     @Override
     public void getCurrentWeekMenu(Context ctx)
     {
-        WeeklyMenuDTO weeklyMenuDTO = weeklyMenuService.getCurrentWeekMenu();
-        ctx.status(200).json(weeklyMenuDTO);
+        int excludedAllergens = RequestUtil.getQueryAllergenMask(ctx, "excludeAllergens");
+        ResponseUtil.sendCachedJson(ctx, weeklyMenuService.getCurrentWeekMenuJson(excludedAllergens));
     }
 
     @Override
@@ -103,9 +104,9 @@ public class WeeklyMenuController implements IWeeklyMenuController
         AuthenticatedUser authUser = SecurityUtil.getOptionalAuthenticatedUser(ctx);
         Integer week = RequestUtil.requireQueryInt(ctx, "week");
         Integer year = RequestUtil.requireQueryInt(ctx, "year");
+        int excludedAllergens = RequestUtil.getQueryAllergenMask(ctx, "excludeAllergens");
 
-        WeeklyMenuDTO weeklyMenuDTO = weeklyMenuService.getByWeekAndYear(authUser, week, year);
-        ctx.status(200).json(weeklyMenuDTO);
+        ResponseUtil.sendCachedJson(ctx, weeklyMenuService.getByWeekAndYearJson(authUser, week, year, excludedAllergens));
     }
 
     @Override
@@ -0,0 +1,13 @@
+package app.dtos.dish;
+
+import java.time.LocalDateTime;
+
+public record DishCatalogueStamp(
+    Long dishCount,
+    Long maxId,
+    LocalDateTime lastCreatedAt,
+    LocalDateTime lastUpdatedAt,
+    LocalDateTime lastAllergenChangeAt
+)
+{
+}
@@ -1,6 +1,7 @@
 package app.dtos.menu;
 
 import app.dtos.allergen.AllergenDTO;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 
 import java.util.List;
 
@@ -11,5 +12,7 @@ public record MenuDishDTO(
     String descriptionDA,
     String descriptionEN,
     Boolean hasTranslation,
-    List<AllergenDTO> allergens
+    List<AllergenDTO> allergens,
+    @JsonIgnore
+    int allergenMask
 ) {}
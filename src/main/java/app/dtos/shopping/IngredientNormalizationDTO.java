@@ -0,0 +1,13 @@
+package app.dtos.shopping;
+
+import app.enums.NormalizationSource;
+import app.enums.SupportedLanguage;
+
+public record IngredientNormalizationDTO(
+    String rawName,
+    SupportedLanguage language,
+    String canonicalName,
+    NormalizationSource source
+)
+{
+}
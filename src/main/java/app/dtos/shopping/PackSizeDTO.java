@@ -0,0 +1,12 @@
+package app.dtos.shopping;
+
+import app.enums.Unit;
+
+public record PackSizeDTO(
+    String ingredientName,
+    Unit packUnit,
+    Double quantity,
+    Unit unit
+)
+{
+}
@@ -0,0 +1,11 @@
+package app.dtos.shopping;
+
+import app.enums.SupportedLanguage;
+
+public record UpdateIngredientNormalizationDTO(
+    String rawName,
+    SupportedLanguage language,
+    String canonicalName
+)
+{
+}
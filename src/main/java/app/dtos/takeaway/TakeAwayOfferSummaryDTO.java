@@ -7,6 +7,7 @@ public record TakeAwayOfferSummaryDTO(
     DishReferenceDTO dish,
     int offeredPortions,
     int soldPortions,
+    int cancelledPortions,
     int remainingPortions,
     double revenue
 ) {
@@ -12,6 +12,9 @@ public record TakeAwaySummaryDTO(
     Long totalSoldPortions,
     int totalRemainingPortions,
     Long totalOrders,
+    Long totalPaidOrders,
+    Long totalCancelledOrders,
+    double totalRevenue,
     List<TakeAwayOfferSummaryDTO> summaryPerOffer
 ) {
 
@@ -0,0 +1,7 @@
+package app.enums;
+
+public enum NormalizationSource
+{
+    AI,
+    MANUAL
+}
@@ -2,25 +2,27 @@ package app.enums;
 
 public enum Unit {
 
-    KG("kg"),
-    G("g"),
-    L("l"),
-    ML("ml"),
-    PCS("stk"),
-    BUNCH("bundt"),
-    CAN("dåse"),
-    BOX("kasse"),
-    BAG("pose"),
-    PACK("pakke"),
-    BOTTLE("flaske"),
-    SLICE("skive"),
-    SIDES("sider");
+    KG("kg", 1_000_000L),
+    G("g", 1_000L),
+    L("l", 1_000_000L),
+    ML("ml", 1_000L),
+    PCS("stk", 1_000L),
+    BUNCH("bundt", 1_000L),
+    CAN("dåse", 1_000L),
+    BOX("kasse", 1_000L),
+    BAG("pose", 1_000L),
+    PACK("pakke", 1_000L),
+    BOTTLE("flaske", 1_000L),
+    SLICE("skive", 1_000L),
+    SIDES("sider", 1_000L);
 
     private final String danish;
+    private final long milliBasePerUnit;
 
-    Unit(String danish)
+    Unit(String danish, long milliBasePerUnit)
     {
         this.danish = danish;
+        this.milliBasePerUnit = milliBasePerUnit;
     }
 
     public String getDisplayName()
@@ -28,6 +30,48 @@ public enum Unit {
         return danish;
     }
 
+    public Unit getBaseUnit()
+    {
+        return switch (this)
+        {
+            case KG, G -> G;
+            case L, ML -> ML;
+            default -> this;
+        };
+    }
+
+    public boolean isPackaging()
+    {
+        return switch (this)
+        {
+            case CAN, BOX, BAG, PACK, BOTTLE -> true;
+            default -> false;
+        };
+    }
+
+    public long toMilliBase(double quantity)
+    {
+        return Math.round(quantity * milliBasePerUnit);
+    }
+
+    public double fromMilliBase(long milliBase)
+    {
+        return (double) milliBase / milliBasePerUnit;
+    }
+
+    public static Unit displayUnitFor(Unit baseUnit, long milliBase)
+    {
+        if (baseUnit == G && milliBase >= KG.milliBasePerUnit)
+        {
+            return KG;
+        }
+        if (baseUnit == ML && milliBase >= L.milliBasePerUnit)
+        {
+            return L;
+        }
+        return baseUnit;
+    }
+
     public static Unit fromString(String text)
                                                           {
         return valueOf(text.trim().toUpperCase());
@@ -2,6 +2,9 @@ package app.integrations.ai;
 
 import app.dtos.gemini.*;
 import app.exceptions.AIIntegrationException;
+import app.exceptions.ServiceUnavailableException;
+import app.utils.LatencyWindow;
+import app.utils.OutboundGuard;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.JsonToken;
@@ -11,12 +14,20 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 
 public class GeminiClient implements IAiClient
@@ -26,17 +37,27 @@ public class GeminiClient implements IAiClient
     private final ObjectMapper objectMapper;
     private final String apiKey;
     private final String apiUrl;
-    private static final String MODEL_PRIMARY = "gemini-3.1-flash-lite";
-    private static final String MODEL_FALLBACK = "gemini-2.5-flash-lite";
+    private final OutboundGuard primaryGuard;
+    private final OutboundGuard fallbackGuard;
+    private final LatencyWindow primaryLatency;
+    private final double hedgePercentile;
+    private final long hedgeDefaultDelayMs;
+    public static final String MODEL_PRIMARY = "gemini-3.1-flash-lite";
+    public static final String MODEL_FALLBACK = "gemini-2.5-flash-lite";
     private static final String GEMINI_GENERATE_CONTENT = ":generateContent";
     private static final String GEMINI_STREAM_GENERATE_CONTENT = ":streamGenerateContent";
 
-    public GeminiClient(HttpClient client, ObjectMapper objectMapper, String apiKey, String apiUrl)
+    public GeminiClient(HttpClient client, ObjectMapper objectMapper, String apiKey, String apiUrl, OutboundGuard primaryGuard, OutboundGuard fallbackGuard, LatencyWindow primaryLatency, double hedgePercentile, long hedgeDefaultDelayMs)
     {
         this.client = client;
         this.objectMapper = objectMapper;
         this.apiKey = apiKey;
         this.apiUrl = apiUrl;
+        this.primaryGuard = primaryGuard;
+        this.fallbackGuard = fallbackGuard;
+        this.primaryLatency = primaryLatency;
+        this.hedgePercentile = hedgePercentile;
+        this.hedgeDefaultDelayMs = hedgeDefaultDelayMs;
     }
 
     public String generateResponse(String prompt)
@@ -46,11 +67,8 @@ public class GeminiClient implements IAiClient
             GeminiRequest geminiRequest = buildGeminiRequest(prompt);
             String jsonBody = objectMapper.writeValueAsString(geminiRequest);
 
-            HttpResponse<String> response = sendRequestAndGetResponse(
-                jsonBody,
-                buildEndpoint(MODEL_PRIMARY, GEMINI_GENERATE_CONTENT),
-                buildEndpoint(MODEL_FALLBACK, GEMINI_GENERATE_CONTENT)
-            );
+            HttpResponse<String> response = sendHedged(jsonBody);
+            checkResponseCodes(response.statusCode(), GEMINI_GENERATE_CONTENT);
 
             GeminiResponse geminiResponse = objectMapper.readValue(response.body(), GeminiResponse.class);
             String content = deSerializeResponse(geminiResponse);
@@ -65,74 +83,149 @@ public class GeminiClient implements IAiClient
     @Override
     public void streamResponse(String prompt, Consumer<String> chunkConsumer, Consumer<Throwable> errorConsumer, Runnable onComplete)
     {
+        String jsonBody;
         try
         {
-            String jsonBody = objectMapper.writeValueAsString(buildGeminiRequest(prompt));
-
-            HttpRequest request = buildHttpRequest(
-                jsonBody,
-                buildEndpoint(MODEL_PRIMARY, GEMINI_STREAM_GENERATE_CONTENT)
-            );
+            jsonBody = objectMapper.writeValueAsString(buildGeminiRequest(prompt));
+        }
+        catch (JsonProcessingException e)
+        {
+            errorConsumer.accept(new AIIntegrationException("Could not serialize prompt: " + e.getMessage()));
+            return;
+        }
 
-            client.sendAsync(request, HttpResponse.BodyHandlers.ofInputStream())
-                .orTimeout(20, TimeUnit.SECONDS)
-                .thenAccept(response ->
+        CompletableFuture<Integer> stream;
+        if (primaryGuard.isCallPermitted())
+        {
+            stream = streamFromModel(primaryGuard, MODEL_PRIMARY, jsonBody, chunkConsumer)
+                .thenCompose(statusCode ->
                 {
-                    try
-                    {
-                        if (response.statusCode() == 503 || (response.statusCode() == 429))
-                        {
-                            logger.warn("Primary model unavailable for stream — falling back to {}", MODEL_FALLBACK);
-                            streamFromEndpoint(jsonBody, buildEndpoint(MODEL_FALLBACK, GEMINI_STREAM_GENERATE_CONTENT), chunkConsumer);
-                        }
-                        else
-                        {
-                            checkResponseCodes(response.statusCode(), GEMINI_STREAM_GENERATE_CONTENT);
-                            readChunksFromStream(response.body(), chunkConsumer);
-                        }
-                    }
-                    catch (Exception e)
+                    if (!OutboundGuard.isRetryable(statusCode))
                     {
-                        errorConsumer.accept(new AIIntegrationException("Failed to read Gemini stream: " + e.getMessage()));
+                        return CompletableFuture.completedFuture(statusCode);
                     }
-                    finally
+                    logger.warn("Primary model unavailable for stream. Status code: ({}) — falling back to {}", statusCode, MODEL_FALLBACK);
+                    return streamFromModel(fallbackGuard, MODEL_FALLBACK, jsonBody, chunkConsumer);
+                });
+        }
+        else
+        {
+            logger.warn("Circuit for {} is open — streaming from {}", MODEL_PRIMARY, MODEL_FALLBACK);
+            stream = streamFromModel(fallbackGuard, MODEL_FALLBACK, jsonBody, chunkConsumer);
+        }
+
+        stream
+            .thenAccept(statusCode -> checkResponseCodes(statusCode, GEMINI_STREAM_GENERATE_CONTENT))
+            .whenComplete((ignored, ex) ->
+            {
+                if (ex != null)
+                {
+                    errorConsumer.accept(toStreamError(ex));
+                }
+                onComplete.run();
+            });
+    }
+
+    private CompletableFuture<Integer> streamFromModel(OutboundGuard guard, String model, String jsonBody, Consumer<String> chunkConsumer)
+    {
+        StreamHandle handle = new StreamHandle();
+
+        CompletableFuture<Integer> stream = guard.executeAsync(timeout -> client.sendAsync(
+                buildHttpRequest(jsonBody, buildEndpoint(model, GEMINI_STREAM_GENERATE_CONTENT)).timeout(timeout).build(),
+                HttpResponse.BodyHandlers.ofInputStream()
+            )
+            .thenApply(response ->
+            {
+                try (InputStream body = handle.attach(response.body()))
+                {
+                    if (response.statusCode() == 200)
                     {
-                        onComplete.run();
+                        readChunksFromStream(body, handle, chunkConsumer);
                     }
-                })
-                .exceptionally(ex ->
+                    return response.statusCode();
+                }
+                catch (IOException e)
                 {
-                    errorConsumer.accept(new AIIntegrationException("Gemini timed out or failed: " + ex.getMessage()));
-                    onComplete.run();
-                    return null;
-                });
+                    throw new UncheckedIOException(e);
+                }
+            }), OutboundGuard::isRetryable);
+
+        stream.whenComplete((statusCode, ex) ->
+        {
+            if (ex != null)
+            {
+                handle.abort();
+            }
+        });
+        return stream;
+    }
+
+    private HttpResponse<String> sendHedged(String jsonBody) throws IOException, InterruptedException
+    {
+        HedgedCall call = new HedgedCall(jsonBody);
+
+        if (primaryGuard.isCallPermitted())
+        {
+            call.start(primaryGuard, MODEL_PRIMARY);
+            long hedgeDelayMs = primaryLatency.percentile(hedgePercentile, hedgeDefaultDelayMs);
+            CompletableFuture.delayedExecutor(hedgeDelayMs, TimeUnit.MILLISECONDS).execute(call::hedge);
         }
-        catch (JsonProcessingException e)
+        else
         {
-            errorConsumer.accept(new AIIntegrationException("Could not serialize prompt: " + e.getMessage()));
+            logger.warn("Circuit for {} is open — sending straight to {}", MODEL_PRIMARY, MODEL_FALLBACK);
+            call.hedge();
+        }
+
+        try
+        {
+            return call.winner.get();
+        }
+        catch (ExecutionException e)
+        {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException ioException)
+            {
+                throw ioException;
+            }
+            if (cause instanceof RuntimeException runtimeException)
+            {
+                throw runtimeException;
+            }
+            throw new IOException(cause);
+        }
+        finally
+        {
+            call.cancel();
         }
     }
 
-    private void streamFromEndpoint(String jsonBody, String endpoint, Consumer<String> chunkConsumer) throws IOException, InterruptedException
+    private Throwable toStreamError(Throwable ex)
     {
-        HttpRequest request = buildHttpRequest(jsonBody, endpoint);
-        HttpResponse<InputStream> response = client.send(request, HttpResponse.BodyHandlers.ofInputStream());
-        checkResponseCodes(response.statusCode(), GEMINI_STREAM_GENERATE_CONTENT);
-        readChunksFromStream(response.body(), chunkConsumer);
+        Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+
+        if (cause instanceof AIIntegrationException || cause instanceof ServiceUnavailableException)
+        {
+            return cause;
+        }
+        if (cause instanceof UncheckedIOException)
+        {
+            return new AIIntegrationException("Failed to read Gemini stream: " + cause.getMessage());
+        }
+        return new AIIntegrationException("Gemini timed out or failed: " + cause.getMessage());
     }
 
-    private void readChunksFromStream(InputStream inputStream, Consumer<String> chunkConsumer) throws IOException
+    private void readChunksFromStream(InputStream inputStream, StreamHandle handle, Consumer<String> chunkConsumer) throws IOException
     {
         JsonParser parser = objectMapper.getFactory().createParser(inputStream);
 
         if (parser.nextToken() != JsonToken.START_ARRAY) return;
 
-        while (parser.nextToken() == JsonToken.START_OBJECT)
+        while (!handle.isAborted() && parser.nextToken() == JsonToken.START_OBJECT)
         {
             GeminiResponse chunk = objectMapper.readValue(parser, GeminiResponse.class);
             String text = deSerializeResponse(chunk);
 
-            if (text != null && !text.isBlank())
+            if (text != null && !text.isBlank() && !handle.isAborted())
             {
                 chunkConsumer.accept(text);
             }
@@ -140,23 +233,6 @@ public class GeminiClient implements IAiClient
         parser.close();
     }
 
-    private HttpResponse<String> sendRequestAndGetResponse(String jsonBody, String primaryEndpoint, String fallbackEndpoint) throws IOException, InterruptedException
-    {
-        HttpRequest request = buildHttpRequest(jsonBody, primaryEndpoint);
-        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
-
-        if (response.statusCode() == 503 || (response.statusCode() == 429))
-        {
-            logger.warn("Primary model unavailable. Status code: ({}) — falling back to {}", response.statusCode(), MODEL_FALLBACK);
-            request  = buildHttpRequest(jsonBody, fallbackEndpoint);
-            response = client.send(request, HttpResponse.BodyHandlers.ofString());
-        }
-
-        checkResponseCodes(response.statusCode(), GEMINI_GENERATE_CONTENT);
-
-        return response;
-    }
-
     private String deSerializeResponse(GeminiResponse geminiResponse)
     {
         if (geminiResponse.candidates() == null || geminiResponse.candidates().isEmpty()) {
@@ -177,14 +253,13 @@ public class GeminiClient implements IAiClient
         return geminiResponse.replace("```json", "").replace("```", "").trim();
     }
 
-    private HttpRequest buildHttpRequest(String jsonBody, String url)
+    private HttpRequest.Builder buildHttpRequest(String jsonBody, String url)
     {
         return HttpRequest.newBuilder()
             .uri(URI.create(url))
             .header("Content-Type", "application/json")
             .header("x-goog-api-key", apiKey)
-            .POST(HttpRequest.BodyPublishers.ofString(jsonBody))
-            .build();
+            .POST(HttpRequest.BodyPublishers.ofString(jsonBody));
     }
 
     private GeminiRequest buildGeminiRequest(String prompt)
@@ -214,4 +289,120 @@ public class GeminiClient implements IAiClient
     {
         return apiUrl + model + action;
     }
+
+    private final class HedgedCall
+    {
+        private final String jsonBody;
+        private final CompletableFuture<HttpResponse<String>> winner = new CompletableFuture<>();
+        private final List<CompletableFuture<HttpResponse<String>>> attempts = new CopyOnWriteArrayList<>();
+        private final AtomicInteger outstanding = new AtomicInteger();
+        private final AtomicBoolean hedged = new AtomicBoolean();
+
+        private HedgedCall(String jsonBody)
+        {
+            this.jsonBody = jsonBody;
+        }
+
+        private void start(OutboundGuard guard, String model)
+        {
+            outstanding.incrementAndGet();
+            long startedAt = System.nanoTime();
+
+            CompletableFuture<HttpResponse<String>> attempt = guard.sendAsync(
+                buildHttpRequest(jsonBody, buildEndpoint(model, GEMINI_GENERATE_CONTENT)),
+                HttpResponse.BodyHandlers.ofString()
+            );
+            attempts.add(attempt);
+            attempt.whenComplete((response, ex) -> onOutcome(model, startedAt, response, ex));
+        }
+
+        private void hedge()
+        {
+            if (!winner.isDone() && hedged.compareAndSet(false, true))
+            {
+                logger.debug("Hedging Gemini request on {}", MODEL_FALLBACK);
+                start(fallbackGuard, MODEL_FALLBACK);
+            }
+        }
+
+        private void onOutcome(String model, long startedAt, HttpResponse<String> response, Throwable ex)
+        {
+            if (ex == null && !OutboundGuard.isRetryable(response.statusCode()))
+            {
+                if (response.statusCode() == 200 && MODEL_PRIMARY.equals(model))
+                {
+                    primaryLatency.record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+                }
+                winner.complete(response);
+                return;
+            }
+
+            if (ex == null)
+            {
+                logger.warn("{} unavailable. Status code: ({})", model, response.statusCode());
+            }
+            hedge();
+
+            if (outstanding.decrementAndGet() == 0)
+            {
+                if (response != null)
+                {
+                    winner.complete(response);
+                }
+                else
+                {
+                    winner.completeExceptionally(ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex);
+                }
+            }
+        }
+
+        private void cancel()
+        {
+            attempts.forEach(attempt -> attempt.cancel(true));
+        }
+    }
+
+    private static final class StreamHandle
+    {
+        private final AtomicReference<InputStream> body = new AtomicReference<>();
+        private volatile boolean aborted;
+
+        private InputStream attach(InputStream inputStream)
+        {
+            body.set(inputStream);
+            if (aborted)
+            {
+                closeQuietly(inputStream);
+            }
+            return inputStream;
+        }
+
+        private boolean isAborted()
+        {
+            return aborted;
+        }
+
+        private void abort()
+        {
+            aborted = true;
+            InputStream inputStream = body.get();
+
+            if (inputStream != null)
+            {
+                closeQuietly(inputStream);
+            }
+        }
+
+        private static void closeQuietly(InputStream inputStream)
+        {
+            try
+            {
+                inputStream.close();
+            }
+            catch (IOException e)
+            {
+                logger.debug("Failed to close aborted Gemini stream", e);
+            }
+        }
+    }
 }
@@ -0,0 +1,168 @@
+package app.integrations.ai;
+
+import app.exceptions.AIIntegrationException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+public class IncrementalJsonArrayParser<T>
+{
+    private static final Logger logger = LoggerFactory.getLogger(IncrementalJsonArrayParser.class);
+
+    private final ObjectMapper objectMapper;
+    private final Class<T> elementType;
+    private final Consumer<T> elementConsumer;
+    private final JsonParser parser;
+    private final ByteArrayFeeder feeder;
+
+    private TokenBuffer element;
+    private int depth;
+    private int emitted;
+    private boolean arrayStarted;
+    private boolean completed;
+    private boolean failed;
+
+    public IncrementalJsonArrayParser(ObjectMapper objectMapper, Class<T> elementType, Consumer<T> elementConsumer)
+    {
+        this.objectMapper = objectMapper;
+        this.elementType = elementType;
+        this.elementConsumer = elementConsumer;
+
+        try
+        {
+            this.parser = objectMapper.getFactory().createNonBlockingByteArrayParser();
+        }
+        catch (IOException e)
+        {
+            throw new IllegalStateException("Could not create non-blocking JSON parser", e);
+        }
+        this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+    }
+
+    public void feed(String chunk)
+    {
+        if (completed || failed || chunk == null || chunk.isEmpty())
+        {
+            return;
+        }
+
+        String input = chunk;
+        if (!arrayStarted)
+        {
+            int start = chunk.indexOf('[');
+            if (start < 0)
+            {
+                return;
+            }
+            arrayStarted = true;
+            input = chunk.substring(start);
+        }
+
+        try
+        {
+            byte[] bytes = input.getBytes(StandardCharsets.UTF_8);
+            feeder.feedInput(bytes, 0, bytes.length);
+            drain();
+        }
+        catch (IOException e)
+        {
+            failed = true;
+            throw new AIIntegrationException("Malformed JSON in AI stream: " + e.getMessage());
+        }
+    }
+
+    public void finish()
+    {
+        if (failed)
+        {
+            return;
+        }
+
+        feeder.endOfInput();
+
+        if (!completed)
+        {
+            failed = true;
+            throw new AIIntegrationException("AI stream ended before the JSON array was complete (" + emitted + " items received)");
+        }
+    }
+
+    public int getEmittedCount()
+    {
+        return emitted;
+    }
+
+    public boolean isFailed()
+    {
+        return failed;
+    }
+
+    private void drain() throws IOException
+    {
+        JsonToken token;
+        while (!completed && (token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE)
+        {
+            if (depth == 0)
+            {
+                if (token != JsonToken.START_ARRAY)
+                {
+                    throw new IOException("expected a JSON array but found " + token);
+                }
+                depth = 1;
+                continue;
+            }
+
+            if (depth == 1 && token == JsonToken.END_ARRAY)
+            {
+                completed = true;
+                return;
+            }
+
+            if (element == null)
+            {
+                element = new TokenBuffer(objectMapper, false);
+            }
+
+            if (token.isStructStart())
+            {
+                depth++;
+            }
+            else if (token.isStructEnd())
+            {
+                depth--;
+            }
+            element.copyCurrentEvent(parser);
+
+            if (depth == 1)
+            {
+                emit(element);
+                element = null;
+            }
+        }
+    }
+
+    private void emit(TokenBuffer buffer) throws IOException
+    {
+        T value;
+        try (JsonParser elementParser = buffer.asParser())
+        {
+            value = objectMapper.readValue(elementParser, elementType);
+        }
+        catch (IOException e)
+        {
+            logger.warn("Skipping malformed {} in AI stream: {}", elementType.getSimpleName(), e.getMessage());
+            return;
+        }
+
+        emitted++;
+        elementConsumer.accept(value);
+    }
+}
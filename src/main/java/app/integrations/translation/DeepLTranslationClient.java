@@ -4,29 +4,30 @@ import app.dtos.translation.DeepLRequestDTO;
 import app.dtos.translation.DeepLResponseDTO;
 import app.dtos.translation.TranslationDTO;
 import app.exceptions.TranslationException;
+import app.exceptions.ServiceUnavailableException;
+import app.utils.OutboundGuard;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import java.io.IOException;
 import java.net.URI;
-import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.util.List;
 
 public class DeepLTranslationClient implements ITranslationClient
 {
-    private final HttpClient client;
     private final ObjectMapper objectMapper;
     private final String apiUrl;
     private final String apiKey;
+    private final OutboundGuard guard;
 
 
-    public DeepLTranslationClient(HttpClient client, ObjectMapper objectMapper, String apiUrl, String apiKey)
+    public DeepLTranslationClient(ObjectMapper objectMapper, String apiUrl, String apiKey, OutboundGuard guard)
     {
-        this.client = client;
         this.objectMapper = objectMapper;
         this.apiUrl = apiUrl;
         this.apiKey = apiKey;
+        this.guard = guard;
     }
 
     @Override
@@ -45,8 +46,7 @@ public class DeepLTranslationClient implements ITranslationClient
         try
         {
             String jsonBody = objectMapper.writeValueAsString(translationRequest);
-            HttpRequest request = buildHttpRequest(jsonBody);
-            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            HttpResponse<String> response = guard.send(buildHttpRequest(jsonBody), HttpResponse.BodyHandlers.ofString());
 
             return handleResponse(response);
         }
@@ -54,6 +54,10 @@ public class DeepLTranslationClient implements ITranslationClient
         {
             throw new TranslationException("Translation network call failed: " + e.getMessage());
         }
+        catch (ServiceUnavailableException e)
+        {
+            throw e;
+        }
         catch (Exception e)
         {
             throw new TranslationException("Translation error: " + e.getMessage());
@@ -80,13 +84,12 @@ public class DeepLTranslationClient implements ITranslationClient
             .toList();
     }
 
-    private HttpRequest buildHttpRequest(String jsonBody)
+    private HttpRequest.Builder buildHttpRequest(String jsonBody)
     {
         return HttpRequest.newBuilder()
             .uri(URI.create(apiUrl))
             .header("Authorization" ,"DeepL-Auth-Key " + apiKey)
             .headers("Content-Type", "application/json")
-            .POST(HttpRequest.BodyPublishers.ofString(jsonBody))
-            .build();
+            .POST(HttpRequest.BodyPublishers.ofString(jsonBody));
     }
 }
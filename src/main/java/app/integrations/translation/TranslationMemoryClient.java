@@ -0,0 +1,156 @@
+package app.integrations.translation;
+
+import app.cache.CacheStats;
+import app.exceptions.TranslationException;
+import app.persistence.daos.interfaces.ITranslationMemoryDAO;
+import app.persistence.entities.TranslationMemoryEntry;
+import app.utils.ValidationUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+
+public class TranslationMemoryClient implements ITranslationClient
+{
+    private static final Logger logger = LoggerFactory.getLogger(TranslationMemoryClient.class);
+
+    private final ITranslationClient delegate;
+    private final ITranslationMemoryDAO translationMemoryDAO;
+    private final int chunkSize;
+    private final Map<Key, String> recent;
+    private final LongAdder hits;
+    private final LongAdder misses;
+
+    public TranslationMemoryClient(ITranslationClient delegate, ITranslationMemoryDAO translationMemoryDAO, int maxCachedEntries, int chunkSize)
+    {
+        this.delegate = delegate;
+        this.translationMemoryDAO = translationMemoryDAO;
+        this.chunkSize = chunkSize;
+        this.recent = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true)
+        {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, String> eldest)
+            {
+                return size() > maxCachedEntries;
+            }
+        });
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+    }
+
+    @Override
+    public String translate(String text, String targetLanguage)
+    {
+        return translateBatch(List.of(text), targetLanguage).get(0);
+    }
+
+    @Override
+    public List<String> translateBatch(List<String> texts, String targetLanguage)
+    {
+        ValidationUtil.validateNotBlank(targetLanguage, "Target language");
+
+        String language = targetLanguage.trim().toUpperCase(Locale.ROOT);
+        Map<String, String> translated = new HashMap<>();
+        Map<String, String> unresolved = new LinkedHashMap<>();
+
+        for (String text : new LinkedHashSet<>(texts))
+        {
+            String hash = TranslationMemoryEntry.hashOf(text);
+            String cached = recent.get(new Key(hash, language));
+
+            if (cached != null)
+            {
+                translated.put(text, cached);
+            }
+            else
+            {
+                unresolved.put(hash, text);
+            }
+        }
+
+        loadStored(unresolved, language).forEach((hash, translation) ->
+        {
+            translated.put(unresolved.remove(hash), translation);
+            recent.put(new Key(hash, language), translation);
+        });
+
+        hits.add(translated.size());
+        misses.add(unresolved.size());
+
+        if (!unresolved.isEmpty())
+        {
+            List<TranslationMemoryEntry> fresh = translateMisses(new ArrayList<>(unresolved.values()), targetLanguage, language);
+
+            for (TranslationMemoryEntry entry : fresh)
+            {
+                translated.put(entry.getSourceText(), entry.getTranslatedText());
+                recent.put(new Key(entry.getSourceHash(), language), entry.getTranslatedText());
+            }
+            store(fresh);
+        }
+
+        return texts.stream()
+            .map(translated::get)
+            .toList();
+    }
+
+    public CacheStats getStats()
+    {
+        return new CacheStats(hits.sum(), misses.sum(), recent.size());
+    }
+
+    private Map<String, String> loadStored(Map<String, String> unresolved, String language)
+    {
+        if (unresolved.isEmpty())
+        {
+            return Map.of();
+        }
+
+        try
+        {
+            return translationMemoryDAO.findTranslations(new ArrayList<>(unresolved.keySet()), language);
+        }
+        catch (RuntimeException e)
+        {
+            logger.warn("Translation memory lookup failed, falling back to DeepL for {} texts", unresolved.size(), e);
+            return Map.of();
+        }
+    }
+
+    private List<TranslationMemoryEntry> translateMisses(List<String> texts, String targetLanguage, String language)
+    {
+        List<TranslationMemoryEntry> entries = new ArrayList<>(texts.size());
+
+        for (int start = 0; start < texts.size(); start += chunkSize)
+        {
+            List<String> chunk = texts.subList(start, Math.min(start + chunkSize, texts.size()));
+            List<String> translations = delegate.translateBatch(chunk, targetLanguage);
+
+            if (translations.size() != chunk.size())
+            {
+                throw new TranslationException("Expected " + chunk.size() + " translations but got " + translations.size());
+            }
+
+            for (int i = 0; i < chunk.size(); i++)
+            {
+                entries.add(new TranslationMemoryEntry(chunk.get(i), language, translations.get(i)));
+            }
+        }
+        return entries;
+    }
+
+    private void store(List<TranslationMemoryEntry> entries)
+    {
+        try
+        {
+            translationMemoryDAO.saveAll(entries);
+        }
+        catch (RuntimeException e)
+        {
+            logger.warn("Failed to persist {} translations to translation memory", entries.size(), e);
+        }
+    }
+
+    private record Key(String sourceHash, String targetLanguage) {}
+}
@@ -0,0 +1,150 @@
+package app.integrations.weather;
+
+import app.dtos.weather.WeatherForecastDTO;
+import app.utils.NamedThreadFactory;
+import app.utils.WeatherForecastBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Clock;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class CachedWeatherClient implements IWeatherClient, AutoCloseable
+{
+    private static final Logger logger = LoggerFactory.getLogger(CachedWeatherClient.class);
+
+    private final IWeatherClient delegate;
+    private final long refreshMinutes;
+    private final long maxStaleMillis;
+    private final Clock clock;
+    private final ScheduledExecutorService refresher;
+    private final AtomicBoolean started = new AtomicBoolean();
+    private final AtomicReference<CachedForecast> current = new AtomicReference<>();
+    private final AtomicReference<CompletableFuture<CachedForecast>> inFlight = new AtomicReference<>();
+
+    public CachedWeatherClient(IWeatherClient delegate, long refreshMinutes, long maxStaleMinutes, Clock clock)
+    {
+        this.delegate = delegate;
+        this.refreshMinutes = refreshMinutes;
+        this.maxStaleMillis = TimeUnit.MINUTES.toMillis(maxStaleMinutes);
+        this.clock = clock;
+        this.refresher = Executors.newSingleThreadScheduledExecutor(new NamedThreadFactory("weather-refresh"));
+    }
+
+    @Override
+    public WeatherForecastDTO getWeatherForecast()
+    {
+        startRefreshing();
+        CachedForecast cached = current.get();
+
+        if (cached == null)
+        {
+            return refresh().forecast();
+        }
+        if (!isExpired(cached))
+        {
+            return cached.forecast();
+        }
+
+        try
+        {
+            return refresh().forecast();
+        }
+        catch (RuntimeException e)
+        {
+            logger.warn("Weather forecast is older than {} minutes and could not be refreshed: {}", TimeUnit.MILLISECONDS.toMinutes(maxStaleMillis), e.getMessage());
+            return null;
+        }
+    }
+
+    @Override
+    public String formatForecast(WeatherForecastDTO forecast)
+    {
+        CachedForecast cached = current.get();
+        if (cached != null && cached.forecast() == forecast)
+        {
+            return cached.formatted();
+        }
+        return WeatherForecastBuilder.getWeatherForecast(forecast);
+    }
+
+    @Override
+    public void close()
+    {
+        refresher.shutdownNow();
+    }
+
+    private void startRefreshing()
+    {
+        if (started.compareAndSet(false, true))
+        {
+            refresher.scheduleWithFixedDelay(this::refreshQuietly, refreshMinutes, refreshMinutes, TimeUnit.MINUTES);
+        }
+    }
+
+    private boolean isExpired(CachedForecast cached)
+    {
+        return clock.millis() - cached.fetchedAtMillis() > maxStaleMillis;
+    }
+
+    private CachedForecast refresh()
+    {
+        CompletableFuture<CachedForecast> flight = new CompletableFuture<>();
+        CompletableFuture<CachedForecast> existing = inFlight.compareAndExchange(null, flight);
+
+        if (existing != null)
+        {
+            return await(existing);
+        }
+
+        try
+        {
+            WeatherForecastDTO forecast = delegate.getWeatherForecast();
+            CachedForecast fresh = new CachedForecast(forecast, WeatherForecastBuilder.getWeatherForecast(forecast), clock.millis());
+            current.set(fresh);
+            flight.complete(fresh);
+            return fresh;
+        }
+        catch (RuntimeException e)
+        {
+            flight.completeExceptionally(e);
+            throw e;
+        }
+        finally
+        {
+            inFlight.set(null);
+        }
+    }
+
+    private void refreshQuietly()
+    {
+        try
+        {
+            refresh();
+        }
+        catch (RuntimeException e)
+        {
+            logger.warn("Weather refresh failed, serving last known forecast: {}", e.getMessage());
+        }
+    }
+
+    private static CachedForecast await(CompletableFuture<CachedForecast> flight)
+    {
+        try
+        {
+            return flight.join();
+        }
+        catch (CompletionException e)
+        {
+            if (e.getCause() instanceof RuntimeException cause)
+            {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private record CachedForecast(WeatherForecastDTO forecast, String formatted, long fetchedAtMillis) {}
+}
@@ -1,8 +1,14 @@
 package app.integrations.weather;
 
 import app.dtos.weather.WeatherForecastDTO;
+import app.utils.WeatherForecastBuilder;
 
 public interface IWeatherClient
 {
     WeatherForecastDTO getWeatherForecast();
+
+    default String formatForecast(WeatherForecastDTO forecast)
+    {
+        return WeatherForecastBuilder.getWeatherForecast(forecast);
+    }
 }
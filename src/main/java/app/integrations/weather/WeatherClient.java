@@ -2,36 +2,34 @@ package app.integrations.weather;
 
 import app.dtos.weather.WeatherForecastDTO;
 import app.exceptions.WeatherIntegrationException;
+import app.utils.OutboundGuard;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import java.io.IOException;
 import java.net.URI;
-import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
-import java.time.Duration;
 
 public class WeatherClient implements IWeatherClient
 {
-    private final HttpClient client;
     private final ObjectMapper objectMapper;
     private final String apiUrl;
+    private final OutboundGuard guard;
 
 
-    public WeatherClient(HttpClient client, ObjectMapper objectMapper, String apiUrl)
+    public WeatherClient(ObjectMapper objectMapper, String apiUrl, OutboundGuard guard)
     {
-        this.client = client;
         this.objectMapper = objectMapper;
         this.apiUrl = apiUrl;
+        this.guard = guard;
     }
 
     @Override
     public WeatherForecastDTO getWeatherForecast()
     {
-        HttpRequest request = buildHttpRequest();
         try
         {
-            HttpResponse<String> response = sendRequest(request);
+            HttpResponse<String> response = sendRequest(buildHttpRequest());
             WeatherForecastDTO weatherForecastDTO = objectMapper.readValue(response.body(), WeatherForecastDTO.class);
 
             if(weatherForecastDTO == null)
@@ -46,9 +44,9 @@ public class WeatherClient implements IWeatherClient
         }
     }
 
-    private HttpResponse<String> sendRequest (HttpRequest request) throws IOException, InterruptedException
+    private HttpResponse<String> sendRequest (HttpRequest.Builder request) throws IOException, InterruptedException
     {
-        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        HttpResponse<String> response = guard.send(request, HttpResponse.BodyHandlers.ofString());
 
         if (response.statusCode() != 200)
         {
@@ -58,13 +56,11 @@ public class WeatherClient implements IWeatherClient
         return response;
     }
 
-    private HttpRequest buildHttpRequest()
+    private HttpRequest.Builder buildHttpRequest()
     {
         return HttpRequest.newBuilder()
             .uri(URI.create(apiUrl))
-            .timeout(Duration.ofSeconds(5))
             .GET()
-            .header("Content-Type", "application/json")
-            .build();
+            .header("Content-Type", "application/json");
     }
 }
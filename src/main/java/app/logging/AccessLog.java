@@ -0,0 +1,212 @@
+package app.logging;
+
+import app.metrics.MetricsRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+public class AccessLog implements AutoCloseable
+{
+    private static final Logger logger = LoggerFactory.getLogger("app.access");
+    private static final int IDLE_SPINS = 64;
+    private static final long IDLE_PARK_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final Event[] ring;
+    private final AtomicLongArray published;
+    private final int mask;
+    private final AtomicLong claimed = new AtomicLong(-1);
+    private final AtomicLong requestIds = new AtomicLong();
+    private final AtomicLong payloadSamples = new AtomicLong();
+    private final LongAdder dropped;
+    private final Set<String> payloadRoutes;
+    private final int payloadSampleRate;
+    private final int payloadMaxChars;
+    private final Thread writerThread;
+    private volatile long consumed = -1;
+    private volatile boolean running;
+    private volatile boolean writerParked;
+
+    public AccessLog(int capacity, Set<String> payloadRoutes, int payloadSampleRate, int payloadMaxChars, MetricsRegistry metrics)
+    {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+
+        this.ring = new Event[size];
+        this.published = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++)
+        {
+            ring[i] = new Event();
+            published.set(i, -1);
+        }
+        this.mask = size - 1;
+        this.payloadRoutes = Set.copyOf(payloadRoutes);
+        this.payloadSampleRate = payloadSampleRate;
+        this.payloadMaxChars = payloadMaxChars;
+        this.dropped = metrics.counter("miseos_access_log_dropped_total", "Access log events dropped because the ring buffer was full");
+        metrics.gauge("miseos_access_log_backlog", "Access log events waiting to be written", () -> claimed.get() - consumed);
+
+        this.running = true;
+        this.writerThread = new Thread(this::runWriter, "access-log-writer");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+
+    public String nextRequestId()
+    {
+        return Long.toHexString(requestIds.incrementAndGet());
+    }
+
+    public boolean wantsPayload(String route)
+    {
+        return payloadSampleRate > 0
+            && payloadRoutes.contains(route)
+            && payloadSamples.getAndIncrement() % payloadSampleRate == 0;
+    }
+
+    public boolean publish(String requestId, String method, String path, int status, long durationNanos, String ip, String userAgent, String payload)
+    {
+        long sequence;
+        do
+        {
+            sequence = claimed.get() + 1;
+
+            if (!running || sequence - consumed > ring.length)
+            {
+                dropped.increment();
+                return false;
+            }
+        }
+        while (!claimed.compareAndSet(sequence - 1, sequence));
+
+        int slot = (int) (sequence & mask);
+        Event event = ring[slot];
+        event.requestId = requestId;
+        event.method = method;
+        event.path = path;
+        event.status = status;
+        event.durationNanos = durationNanos;
+        event.ip = ip;
+        event.userAgent = userAgent;
+        event.payload = truncate(payload);
+        published.set(slot, sequence);
+
+        if (writerParked)
+        {
+            LockSupport.unpark(writerThread);
+        }
+        return true;
+    }
+
+    @Override
+    public void close()
+    {
+        running = false;
+        LockSupport.unpark(writerThread);
+
+        try
+        {
+            writerThread.join(TimeUnit.SECONDS.toMillis(5));
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void runWriter()
+    {
+        StringBuilder line = new StringBuilder(256);
+        long next = consumed + 1;
+        int idleSpins = 0;
+
+        while (running || next <= claimed.get())
+        {
+            int slot = (int) (next & mask);
+
+            if (published.get(slot) != next)
+            {
+                if (++idleSpins < IDLE_SPINS)
+                {
+                    Thread.onSpinWait();
+                    continue;
+                }
+
+                writerParked = true;
+                if (published.get(slot) != next && running)
+                {
+                    LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                }
+                writerParked = false;
+                continue;
+            }
+
+            idleSpins = 0;
+
+            Event event = ring[slot];
+            line.setLength(0);
+            event.appendTo(line);
+            event.clear();
+            consumed = next;
+            next++;
+
+            logger.info(line.toString());
+        }
+    }
+
+    private String truncate(String payload)
+    {
+        if (payload == null || payload.isBlank())
+        {
+            return null;
+        }
+        if (payload.length() <= payloadMaxChars)
+        {
+            return payload;
+        }
+        return payload.substring(0, payloadMaxChars) + "...(" + payload.length() + " chars)";
+    }
+
+    private static final class Event
+    {
+        private String requestId;
+        private String method;
+        private String path;
+        private int status;
+        private long durationNanos;
+        private String ip;
+        private String userAgent;
+        private String payload;
+
+        private void appendTo(StringBuilder line)
+        {
+            long micros = TimeUnit.NANOSECONDS.toMicros(durationNanos);
+
+            line.append('[').append(requestId).append("] ")
+                .append(method).append(' ').append(path)
+                .append(" -> ").append(status)
+                .append(" (").append(micros / 1000).append('.').append(micros / 100 % 10).append(" ms)")
+                .append(" from ").append(ip)
+                .append(" | UA: ").append(userAgent);
+
+            if (payload != null)
+            {
+                line.append(" | Payload: ").append(payload);
+            }
+        }
+
+        private void clear()
+        {
+            requestId = null;
+            method = null;
+            path = null;
+            ip = null;
+            userAgent = null;
+            payload = null;
+        }
+    }
+}
@@ -94,7 +94,8 @@ public class DishMapper
             dish.getDescriptionDA(),
             dish.getDescriptionEN(),
             dish.hasTranslation(),
-            allergens
+            allergens,
+            dish.getAllergenMask()
         );
     }
 
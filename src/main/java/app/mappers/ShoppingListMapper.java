@@ -1,8 +1,12 @@
 package app.mappers;
 
+import app.dtos.shopping.IngredientNormalizationDTO;
+import app.dtos.shopping.PackSizeDTO;
 import app.dtos.shopping.ShoppingListDTO;
 import app.dtos.shopping.ShoppingListItemDTO;
 import app.dtos.user.UserReferenceDTO;
+import app.persistence.entities.IngredientNormalization;
+import app.persistence.entities.IngredientPackSize;
 import app.persistence.entities.ShoppingList;
 import app.persistence.entities.ShoppingListItem;
 
@@ -51,4 +55,24 @@ public class ShoppingListMapper
             shoppingListItem.getUpdatedAt()
         );
     }
+
+    public static IngredientNormalizationDTO toNormalizationDTO(IngredientNormalization normalization)
+    {
+        return new IngredientNormalizationDTO(
+            normalization.getRawName(),
+            normalization.getLanguage(),
+            normalization.getCanonicalName(),
+            normalization.getSource()
+        );
+    }
+
+    public static PackSizeDTO toPackSizeDTO(IngredientPackSize packSize)
+    {
+        return new PackSizeDTO(
+            packSize.getIngredientName(),
+            packSize.getPackUnit(),
+            packSize.getQuantity(),
+            packSize.getUnit()
+        );
+    }
 }
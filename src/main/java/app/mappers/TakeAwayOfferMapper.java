@@ -6,6 +6,7 @@ import app.dtos.takeaway.TakeAwayOfferReferenceDTO;
 import app.dtos.takeaway.TakeAwayOfferSummaryDTO;
 import app.dtos.user.UserReferenceDTO;
 import app.persistence.entities.TakeAwayOffer;
+import app.persistence.entities.TakeAwayOfferDailyStats;
 
 public class TakeAwayOfferMapper
 {
@@ -30,6 +31,22 @@ public class TakeAwayOfferMapper
         );
     }
 
+    public static TakeAwayOfferDTO withAvailablePortions(TakeAwayOfferDTO offer, int availablePortions)
+    {
+        return new TakeAwayOfferDTO(
+            offer.id(),
+            offer.enabled(),
+            availablePortions == 0,
+            offer.offeredPortions(),
+            availablePortions,
+            offer.price(),
+            offer.dish(),
+            offer.createdBy(),
+            offer.createdAt(),
+            offer.updatedAt()
+        );
+    }
+
     public static TakeAwayOfferReferenceDTO toReferenceDTO(TakeAwayOffer takeAwayOffer)
     {
         if(takeAwayOffer == null)
@@ -44,7 +61,7 @@ public class TakeAwayOfferMapper
         );
     }
 
-    public static TakeAwayOfferSummaryDTO toSummaryDTO(TakeAwayOffer offer)
+    public static TakeAwayOfferSummaryDTO toSummaryDTO(TakeAwayOffer offer, TakeAwayOfferDailyStats stats)
     {
         DishReferenceDTO dishReferenceDTO = DishMapper.toDishReferenceDTO(offer.getDish());
 
@@ -52,9 +69,10 @@ public class TakeAwayOfferMapper
             offer.getId(),
             dishReferenceDTO,
             offer.getOfferedPortions(),
-            offer.getTotalSoldPortions(),
+            stats != null ? (int) stats.getSoldPortions() : 0,
+            stats != null ? (int) stats.getCancelledPortions() : 0,
             offer.getAvailablePortions(),
-            offer.getTotalRevenue()
+            stats != null ? stats.getRevenue() : 0.0
         );
     }
 
@@ -0,0 +1,88 @@
+package app.metrics;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+public final class MeteredProxy implements InvocationHandler
+{
+    private final Object target;
+    private final String component;
+    private final MetricsRegistry metrics;
+    private final Map<Method, MethodMetrics> methods = new ConcurrentHashMap<>();
+
+    private MeteredProxy(Object target, String component, MetricsRegistry metrics)
+    {
+        this.target = target;
+        this.component = component;
+        this.metrics = metrics;
+    }
+
+    public static <T> T wrap(Class<T> type, T target, MetricsRegistry metrics)
+    {
+        Set<Class<?>> interfaces = new LinkedHashSet<>();
+        interfaces.add(type);
+        collectInterfaces(target.getClass(), interfaces);
+
+        Object proxy = Proxy.newProxyInstance(
+            type.getClassLoader(),
+            interfaces.toArray(new Class<?>[0]),
+            new MeteredProxy(target, target.getClass().getSimpleName(), metrics)
+        );
+        return type.cast(proxy);
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable
+    {
+        if (method.getDeclaringClass() == Object.class)
+        {
+            return method.invoke(target, args);
+        }
+
+        MethodMetrics meter = methods.computeIfAbsent(method, this::register);
+        long start = System.nanoTime();
+        try
+        {
+            return method.invoke(target, args);
+        }
+        catch (InvocationTargetException e)
+        {
+            meter.errors.increment();
+            throw e.getCause();
+        }
+        finally
+        {
+            meter.latency.recordSince(start);
+        }
+    }
+
+    private MethodMetrics register(Method method)
+    {
+        return new MethodMetrics(
+            metrics.timer("miseos_dao_call_seconds", "Latency of DAO method calls", "dao", component, "method", method.getName()),
+            metrics.counter("miseos_dao_errors_total", "DAO method calls that threw", "dao", component, "method", method.getName())
+        );
+    }
+
+    private static void collectInterfaces(Class<?> type, Set<Class<?>> interfaces)
+    {
+        for (Class<?> current = type; current != null; current = current.getSuperclass())
+        {
+            for (Class<?> implemented : current.getInterfaces())
+            {
+                interfaces.add(implemented);
+            }
+        }
+    }
+
+    private record MethodMetrics(LatencyHistogram latency, LongAdder errors)
+    {
+    }
+}
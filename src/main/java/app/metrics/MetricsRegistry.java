@@ -0,0 +1,135 @@
+package app.metrics;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.DoubleSupplier;
+
+public final class MetricsRegistry
+{
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99, 0.999};
+
+    private final ConcurrentMap<String, Family<LatencyHistogram>> timers = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Family<LongAdder>> counters = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Family<DoubleSupplier>> gauges = new ConcurrentHashMap<>();
+
+    public LatencyHistogram timer(String name, String help, String... labels)
+    {
+        return family(timers, name, help).series.computeIfAbsent(renderLabels(labels), key -> new LatencyHistogram());
+    }
+
+    public LongAdder counter(String name, String help, String... labels)
+    {
+        return family(counters, name, help).series.computeIfAbsent(renderLabels(labels), key -> new LongAdder());
+    }
+
+    public void gauge(String name, String help, DoubleSupplier value, String... labels)
+    {
+        family(gauges, name, help).series.put(renderLabels(labels), value);
+    }
+
+    public String scrape()
+    {
+        StringBuilder out = new StringBuilder(4096);
+
+        new TreeMap<>(timers).forEach((name, family) ->
+        {
+            header(out, name, family.help, "summary");
+            new TreeMap<>(family.series).forEach((labels, histogram) ->
+            {
+                for (double quantile : QUANTILES)
+                {
+                    sample(out, name, withLabel(labels, "quantile", Double.toString(quantile)), histogram.percentileMicros(quantile) / 1_000_000.0);
+                }
+                sample(out, name + "_sum", labels, histogram.getSumMicros() / 1_000_000.0);
+                sample(out, name + "_count", labels, histogram.getCount());
+            });
+        });
+
+        new TreeMap<>(counters).forEach((name, family) ->
+        {
+            header(out, name, family.help, "counter");
+            new TreeMap<>(family.series).forEach((labels, counter) -> sample(out, name, labels, counter.sum()));
+        });
+
+        new TreeMap<>(gauges).forEach((name, family) ->
+        {
+            header(out, name, family.help, "gauge");
+            new TreeMap<>(family.series).forEach((labels, gauge) -> sample(out, name, labels, gauge.getAsDouble()));
+        });
+
+        return out.toString();
+    }
+
+    private static <T> Family<T> family(ConcurrentMap<String, Family<T>> families, String name, String help)
+    {
+        return families.computeIfAbsent(name, key -> new Family<>(help));
+    }
+
+    private static void header(StringBuilder out, String name, String help, String type)
+    {
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    private static void sample(StringBuilder out, String name, String labels, double value)
+    {
+        out.append(name).append(labels).append(' ');
+        if (value == Math.rint(value) && !Double.isInfinite(value))
+        {
+            out.append((long) value);
+        }
+        else
+        {
+            out.append(value);
+        }
+        out.append('\n');
+    }
+
+    private static String withLabel(String labels, String key, String value)
+    {
+        String label = key + "=\"" + value + "\"";
+        return labels.isEmpty() ? "{" + label + "}" : labels.substring(0, labels.length() - 1) + "," + label + "}";
+    }
+
+    private static String renderLabels(String... labels)
+    {
+        if (labels.length % 2 != 0)
+        {
+            throw new IllegalArgumentException("Metric labels must be given as key/value pairs");
+        }
+        if (labels.length == 0)
+        {
+            return "";
+        }
+
+        StringBuilder rendered = new StringBuilder("{");
+        for (int i = 0; i < labels.length; i += 2)
+        {
+            if (i > 0)
+            {
+                rendered.append(',');
+            }
+            rendered.append(labels[i]).append("=\"").append(escape(labels[i + 1])).append('"');
+        }
+        return rendered.append('}').toString();
+    }
+
+    private static String escape(String value)
+    {
+        return value == null ? "" : value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    private static final class Family<T>
+    {
+        private final String help;
+        private final Map<String, T> series = new ConcurrentHashMap<>();
+
+        private Family(String help)
+        {
+            this.help = help;
+        }
+    }
+}
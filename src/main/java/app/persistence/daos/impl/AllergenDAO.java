@@ -111,6 +111,56 @@ public class AllergenDAO implements IAllergenDAO
         }
     }
 
+    @Override
+    public int refreshAllergenMasks()
+    {
+        return updateAllergenMasks("", "");
+    }
+
+    @Override
+    public int backfillMissingAllergenMasks()
+    {
+        return updateAllergenMasks(
+            " WHERE d.allergen_mask = 0 AND EXISTS (SELECT 1 FROM dish_allergen da JOIN allergen a ON a.id = da.allergen_id " +
+                "WHERE da.dish_id = d.id AND a.display_number BETWEEN 1 AND 31)",
+            " WHERE ds.allergen_mask = 0 AND EXISTS (SELECT 1 FROM dish_suggestion_allergen dsa JOIN allergen a ON a.id = dsa.allergen_id " +
+                "WHERE dsa.dish_suggestion_id = ds.id AND a.display_number BETWEEN 1 AND 31)"
+        );
+    }
+
+    private int updateAllergenMasks(String dishCondition, String suggestionCondition)
+    {
+        try (EntityManager em = emf.createEntityManager())
+        {
+            try
+            {
+                em.getTransaction().begin();
+
+                int dishes = em.createNativeQuery(
+                        "UPDATE dish d SET allergen_mask = COALESCE((" +
+                            "SELECT BIT_OR(1 << (a.display_number - 1)) FROM dish_allergen da " +
+                            "JOIN allergen a ON a.id = da.allergen_id " +
+                            "WHERE da.dish_id = d.id AND a.display_number BETWEEN 1 AND 31), 0)" + dishCondition)
+                    .executeUpdate();
+
+                int suggestions = em.createNativeQuery(
+                        "UPDATE dish_suggestion ds SET allergen_mask = COALESCE((" +
+                            "SELECT BIT_OR(1 << (a.display_number - 1)) FROM dish_suggestion_allergen dsa " +
+                            "JOIN allergen a ON a.id = dsa.allergen_id " +
+                            "WHERE dsa.dish_suggestion_id = ds.id AND a.display_number BETWEEN 1 AND 31), 0)" + suggestionCondition)
+                    .executeUpdate();
+
+                em.getTransaction().commit();
+                return dishes + suggestions;
+            }
+            catch (PersistenceException e)
+            {
+                TransactionUtil.rollback(em);
+                throw new DatabaseException("Failed to refresh allergen masks", e);
+            }
+        }
+    }
+
     @Override
     public boolean isUsedByAnyDish(Long allergenId)
     {
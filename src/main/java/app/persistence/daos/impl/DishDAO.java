@@ -1,14 +1,17 @@
 package app.persistence.daos.impl;
 
+import app.dtos.dish.DishCatalogueStamp;
 import app.enums.MenuStatus;
 import app.exceptions.DatabaseException;
 import app.persistence.daos.interfaces.IDishDAO;
 import app.persistence.entities.Dish;
+import app.utils.AllergenMask;
 import app.utils.DBValidator;
 import app.utils.TransactionUtil;
 import app.utils.ValidationUtil;
 import jakarta.persistence.*;
 
+import java.time.LocalDateTime;
 import java.util.*;
 
 public class DishDAO implements IDishDAO
@@ -178,8 +181,44 @@ public class DishDAO implements IDishDAO
         }
     }
 
+    @Override
+    public DishCatalogueStamp getCatalogueStamp()
+    {
+        try (EntityManager em = emf.createEntityManager())
+        {
+            try
+            {
+                Object[] dishes = em.createQuery(
+                        "SELECT COUNT(d), MAX(d.id), MAX(d.createdAt), MAX(d.updatedAt) FROM Dish d", Object[].class)
+                    .getSingleResult();
+
+                LocalDateTime lastAllergenChangeAt = em.createQuery(
+                        "SELECT MAX(COALESCE(a.updatedAt, a.createdAt)) FROM Allergen a", LocalDateTime.class)
+                    .getSingleResult();
+
+                return new DishCatalogueStamp(
+                    (Long) dishes[0],
+                    (Long) dishes[1],
+                    (LocalDateTime) dishes[2],
+                    (LocalDateTime) dishes[3],
+                    lastAllergenChangeAt
+                );
+            }
+            catch (PersistenceException e)
+            {
+                throw new DatabaseException("Failed to fetch dish catalogue stamp", e);
+            }
+        }
+    }
+
     @Override
     public Set<Dish> findByFilter(Long stationId, Boolean active)
+    {
+        return findByFilter(stationId, active, AllergenMask.NONE);
+    }
+
+    @Override
+    public Set<Dish> findByFilter(Long stationId, Boolean active, int excludedAllergens)
     {
         if (stationId != null)
         {
@@ -195,9 +234,11 @@ public class DishDAO implements IDishDAO
                             "LEFT JOIN FETCH d.allergens " +
                             "WHERE (:stationId IS NULL OR d.station.id = :stationId) " +
                             "AND (:active IS NULL OR d.isActive = :active) " +
+                            "AND (:excluded = 0 OR bitand(d.allergenMask, :excluded) = 0) " +
                             "ORDER BY d.nameDA ASC", Dish.class)
                     .setParameter("stationId", stationId)
-                    .setParameter("active", active);
+                    .setParameter("active", active)
+                    .setParameter("excluded", excludedAllergens);
 
                 return new LinkedHashSet<>(query.getResultList());
             }
@@ -5,15 +5,23 @@ import app.exceptions.DatabaseException;
 import app.persistence.daos.interfaces.IDishSuggestionDAO;
 import app.persistence.entities.DishSuggestion;
 import app.utils.DBValidator;
+import app.utils.KeysetCursor;
 import app.utils.TransactionUtil;
 import app.utils.ValidationUtil;
 import jakarta.persistence.*;
+import org.hibernate.jpa.HibernateHints;
 
+import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
 
 public class DishSuggestionDAO implements IDishSuggestionDAO
 {
+    private static final int STREAM_FETCH_SIZE = 500;
     private final EntityManagerFactory emf;
 
     public DishSuggestionDAO(EntityManagerFactory emf)
@@ -67,6 +75,140 @@ public class DishSuggestionDAO implements IDishSuggestionDAO
         }
     }
 
+    @Override
+    public void streamPage(Status status, Long creatorId, Integer week, Integer year, Long stationId, String orderBy, String cursor, int limit, BiConsumer<String, Stream<DishSuggestion>> reader)
+    {
+        ValidationUtil.validateNotNull(reader, "Reader");
+        String target = orderBy != null ? orderBy : "";
+
+        String keyColumns = switch (target)
+        {
+            case "status" -> "ds.dishStatus";
+            case "station" -> "ds.station.id";
+            case "createdAt" -> "ds.createdAt";
+            default -> "ds.targetYear, ds.targetWeek";
+        };
+
+        String orderColumns = switch (target)
+        {
+            case "status" -> "ds.dishStatus ASC, ds.id ASC";
+            case "station" -> "ds.station.id ASC, ds.id ASC";
+            case "createdAt" -> "ds.createdAt DESC NULLS LAST, ds.id DESC";
+            default -> "ds.targetYear DESC, ds.targetWeek DESC, ds.id DESC";
+        };
+
+        int keyCount = keyColumns.split(",").length;
+        KeysetCursor after = KeysetCursor.decode(cursor, keyCount + 1);
+        Status afterStatus = after != null && target.equals("status") ? after.enumAt(0, Status.class) : null;
+        LocalDateTime afterCreatedAt = after != null && target.equals("createdAt") ? after.nullableDateTimeAt(0) : null;
+        List<Status> laterStatuses = afterStatus == null ? List.of() : Arrays.stream(Status.values())
+            .filter(candidate -> candidate.name().compareTo(afterStatus.name()) > 0)
+            .toList();
+
+        String afterPredicate = after == null ? "" : switch (target)
+        {
+            case "status" -> laterStatuses.isEmpty()
+                ? " AND ds.dishStatus = :afterStatus AND ds.id > :afterId"
+                : " AND (ds.dishStatus IN :laterStatuses OR (ds.dishStatus = :afterStatus AND ds.id > :afterId))";
+            case "station" -> " AND (ds.station.id > :afterStationId OR (ds.station.id = :afterStationId AND ds.id > :afterId))";
+            case "createdAt" -> afterCreatedAt == null
+                ? " AND ds.createdAt IS NULL AND ds.id < :afterId"
+                : " AND (ds.createdAt < :afterCreatedAt OR (ds.createdAt = :afterCreatedAt AND ds.id < :afterId) OR ds.createdAt IS NULL)";
+            default -> " AND (ds.targetYear < :afterYear OR (ds.targetYear = :afterYear AND (ds.targetWeek < :afterWeek OR (ds.targetWeek = :afterWeek AND ds.id < :afterId))))";
+        };
+
+        try (EntityManager em = emf.createEntityManager())
+        {
+            try
+            {
+                em.getTransaction().begin();
+
+                TypedQuery<Object[]> keyQuery = em.createQuery(
+                        "SELECT ds.id, " + keyColumns + " FROM DishSuggestion ds " +
+                            "WHERE (:status IS NULL OR ds.dishStatus = :status) " +
+                            "AND (:creatorId IS NULL OR ds.createdBy.id = :creatorId) " +
+                            "AND (:week IS NULL OR ds.targetWeek = :week) " +
+                            "AND (:year IS NULL OR ds.targetYear = :year) " +
+                            "AND (:stationId IS NULL OR ds.station.id = :stationId)" +
+                            afterPredicate +
+                            " ORDER BY " + orderColumns,
+                        Object[].class)
+                    .setParameter("status", status)
+                    .setParameter("creatorId", creatorId)
+                    .setParameter("week", week)
+                    .setParameter("year", year)
+                    .setParameter("stationId", stationId);
+
+                if (after != null)
+                {
+                    switch (target)
+                    {
+                        case "status" ->
+                        {
+                            keyQuery.setParameter("afterStatus", afterStatus);
+                            if (!laterStatuses.isEmpty()) keyQuery.setParameter("laterStatuses", laterStatuses);
+                        }
+                        case "station" -> keyQuery.setParameter("afterStationId", after.longAt(0));
+                        case "createdAt" ->
+                        {
+                            if (afterCreatedAt != null) keyQuery.setParameter("afterCreatedAt", afterCreatedAt);
+                        }
+                        default ->
+                        {
+                            keyQuery.setParameter("afterYear", after.intAt(0));
+                            keyQuery.setParameter("afterWeek", after.intAt(1));
+                        }
+                    }
+                    keyQuery.setParameter("afterId", after.longAt(keyCount));
+                }
+
+                List<Object[]> keys = keyQuery.setMaxResults(limit + 1).getResultList();
+                String nextCursor = null;
+
+                if (keys.size() > limit)
+                {
+                    keys = keys.subList(0, limit);
+                    Object[] last = keys.get(limit - 1);
+                    nextCursor = keyCount == 2
+                        ? KeysetCursor.encode(last[1], last[2], last[0])
+                        : KeysetCursor.encode(last[1], last[0]);
+                }
+
+                if (keys.isEmpty())
+                {
+                    reader.accept(null, Stream.empty());
+                    em.getTransaction().commit();
+                    return;
+                }
+
+                Stream<DishSuggestion> suggestions = em.createQuery(
+                        "SELECT ds FROM DishSuggestion ds " +
+                            "LEFT JOIN FETCH ds.allergens " +
+                            "LEFT JOIN FETCH ds.station " +
+                            "LEFT JOIN FETCH ds.createdBy " +
+                            "LEFT JOIN FETCH ds.reviewedBy " +
+                            "WHERE ds.id IN :ids " +
+                            "ORDER BY " + orderColumns,
+                        DishSuggestion.class)
+                    .setParameter("ids", keys.stream().map(key -> (Long) key[0]).toList())
+                    .setHint(HibernateHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+                    .setHint(HibernateHints.HINT_READ_ONLY, true)
+                    .getResultStream();
+
+                try (Stream<DishSuggestion> detached = suggestions.peek(em::detach))
+                {
+                    reader.accept(nextCursor, detached);
+                    em.getTransaction().commit();
+                }
+            }
+            catch (PersistenceException e)
+            {
+                TransactionUtil.rollback(em);
+                throw new DatabaseException("Failed to stream dish suggestions", e);
+            }
+        }
+    }
+
     @Override
     public int getPendingSuggestionsCount()
     {
@@ -0,0 +1,126 @@
+package app.persistence.daos.impl;
+
+import app.enums.SupportedLanguage;
+import app.exceptions.DatabaseException;
+import app.persistence.daos.interfaces.IIngredientNormalizationDAO;
+import app.persistence.entities.IngredientNormalization;
+import app.utils.TransactionUtil;
+import app.utils.ValidationUtil;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceException;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class IngredientNormalizationDAO implements IIngredientNormalizationDAO
+{
+    private final EntityManagerFactory emf;
+
+    public IngredientNormalizationDAO(EntityManagerFactory emf)
+    {
+        this.emf = emf;
+    }
+
+    @Override
+    public Map<String, String> findCanonicalNames(Collection<String> rawKeys, SupportedLanguage language)
+    {
+        ValidationUtil.validateNotNull(language, "Language");
+
+        if (rawKeys == null || rawKeys.isEmpty())
+        {
+            return Map.of();
+        }
+
+        try (EntityManager em = emf.createEntityManager())
+        {
+            try
+            {
+                List<Object[]> rows = em.createQuery(
+                        "SELECT n.rawKey, n.canonicalName FROM IngredientNormalization n " +
+                            "WHERE n.language = :language AND n.rawKey IN :rawKeys", Object[].class)
+                    .setParameter("language", language)
+                    .setParameter("rawKeys", rawKeys)
+                    .getResultList();
+
+                Map<String, String> canonicalNames = new HashMap<>();
+
+                for (Object[] row : rows)
+                {
+                    canonicalNames.put((String) row[0], (String) row[1]);
+                }
+                return canonicalNames;
+            }
+            catch (PersistenceException e)
+            {
+                throw new DatabaseException("Failed to fetch ingredient normalizations", e);
+            }
+        }
+    }
+
+    @Override
+    public List<IngredientNormalization> findByLanguage(SupportedLanguage language)
+    {
+        ValidationUtil.validateNotNull(language, "Language");
+
+        try (EntityManager em = emf.createEntityManager())
+        {
+            try
+            {
+                return em.createQuery(
+                        "SELECT n FROM IngredientNormalization n WHERE n.language = :language ORDER BY n.rawKey", IngredientNormalization.class)
+                    .setParameter("language", language)
+                    .getResultList();
+            }
+            catch (PersistenceException e)
+            {
+                throw new DatabaseException("Failed to fetch ingredient normalizations", e);
+            }
+        }
+    }
+
+    @Override
+    public void saveAll(Collection<IngredientNormalization> entries)
+    {
+        if (entries == null || entries.isEmpty())
+        {
+            return;
+        }
+
+        try (EntityManager em = emf.createEntityManager())
+        {
+            try
+            {
+                em.getTransaction().begin();
+                LocalDateTime now = LocalDateTime.now();
+
+                for (IngredientNormalization entry : entries)
+                {
+                    em.createNativeQuery(
+                            "INSERT INTO ingredient_normalization (raw_key, language, raw_name, canonical_name, source, created_at, updated_at) " +
+                                "VALUES (:rawKey, :language, :rawName, :canonicalName, :source, :now, :now) " +
+                                "ON CONFLICT (raw_key, language) DO UPDATE SET " +
+                                "canonical_name = EXCLUDED.canonical_name, source = EXCLUDED.source, updated_at = EXCLUDED.updated_at " +
+                                "WHERE ingredient_normalization.source <> 'MANUAL' OR EXCLUDED.source = 'MANUAL'")
+                        .setParameter("rawKey", entry.getRawKey())
+                        .setParameter("language", entry.getLanguage().name())
+                        .setParameter("rawName", entry.getRawName())
+                        .setParameter("canonicalName", entry.getCanonicalName())
+                        .setParameter("source", entry.getSource().name())
+                        .setParameter("now", now)
+                        .executeUpdate();
+                }
+
+                em.getTransaction().commit();
+            }
+            catch (PersistenceException e)
+            {
+                TransactionUtil.rollback(em);
+                throw new DatabaseException("Failed to save ingredient normalizations", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package app.persistence.daos.impl;
+
+import app.exceptions.DatabaseException;
+import app.persistence.daos.interfaces.IIngredientPackSizeDAO;
+import app.persistence.entities.IngredientPackSize;
+import app.utils.TransactionUtil;
+import app.utils.ValidationUtil;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceException;
+
+import java.util.List;
+
+public class IngredientPackSizeDAO implements IIngredientPackSizeDAO
+{
+    private final EntityManagerFactory emf;
+
+    public IngredientPackSizeDAO(EntityManagerFactory emf)
+    {
+        this.emf = emf;
+    }
+
+    @Override
+    public List<IngredientPackSize> findAll()
+    {
+        try (EntityManager em = emf.createEntityManager())
+        {
+            try
+            {
+                return em.createQuery(
+                        "SELECT p FROM IngredientPackSize p ORDER BY p.nameKey, p.packUnit", IngredientPackSize.class)
+                    .getResultList();
+            }
+            catch (PersistenceException e)
+            {
+                throw new DatabaseException("Failed to fetch pack sizes", e);
+            }
+        }
+    }
+
+    @Override
+    public IngredientPackSize upsert(IngredientPackSize packSize)
+    {
+        ValidationUtil.validateNotNull(packSize, "Pack size");
+
+        try (EntityManager em = emf.createEntityManager())
+        {
+            try
+            {
+                em.getTransaction().begin();
+
+                IngredientPackSize saved = em.createQuery(
+                        "SELECT p FROM IngredientPackSize p WHERE p.nameKey = :nameKey AND p.packUnit = :packUnit", IngredientPackSize.class)
+                    .setParameter("nameKey", packSize.getNameKey())
+                    .setParameter("packUnit", packSize.getPackUnit())
+                    .getResultStream()
+                    .findFirst()
+                    .orElse(null);
+
+                if (saved == null)
+                {
+                    em.persist(packSize);
+                    saved = packSize;
+                }
+                else
+                {
+                    saved.update(packSize.getQuantity(), packSize.getUnit());
+                }
+
+                em.getTransaction().commit();
+                return saved;
+            }
+            catch (PersistenceException e)
+            {
+                TransactionUtil.rollback(em);
+                throw new DatabaseException("Failed to save pack size", e);
+            }
+        }
+    }
+}
@@ -6,15 +6,22 @@ import app.exceptions.DatabaseException;
 import app.persistence.daos.interfaces.IIngredientRequestDAO;
 import app.persistence.entities.IngredientRequest;
 import app.utils.DBValidator;
+import app.utils.KeysetCursor;
 import app.utils.TransactionUtil;
 import app.utils.ValidationUtil;
 import jakarta.persistence.*;
+import org.hibernate.jpa.HibernateHints;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 public class IngredientRequestDAO implements IIngredientRequestDAO
 {
+    private static final int STREAM_FETCH_SIZE = 500;
     private final EntityManagerFactory emf;
 
     public IngredientRequestDAO(EntityManagerFactory emf)
@@ -23,44 +30,148 @@ public class IngredientRequestDAO implements IIngredientRequestDAO
     }
 
     @Override
-    public List<IngredientRequest> findByFilter(Status status, LocalDate deliveryDate, Long creatorId, RequestType requestType, Long stationId, Integer limit)
+    public void streamPage(Status status, LocalDate deliveryDate, Long creatorId, RequestType requestType, Long stationId, String cursor, int limit, BiConsumer<String, Stream<IngredientRequest>> reader)
     {
+        ValidationUtil.validateNotNull(reader, "Reader");
+        KeysetCursor after = KeysetCursor.decode(cursor, 2);
+        LocalDateTime afterCreatedAt = after != null ? after.nullableDateTimeAt(0) : null;
+
         try (EntityManager em = emf.createEntityManager())
         {
             try
             {
-                StringBuilder jpql = new StringBuilder(
-                    """
-                    SELECT DISTINCT ir FROM IngredientRequest ir
-                    LEFT JOIN FETCH ir.dish d
-                    LEFT JOIN FETCH d.station st
-                    LEFT JOIN FETCH ir.createdBy u
-                    WHERE 1=1
-                    """
-                );
+                em.getTransaction().begin();
+
+                StringBuilder jpql = new StringBuilder("SELECT ir.id, ir.createdAt FROM IngredientRequest ir WHERE 1=1");
 
                 if (status != null) jpql.append(" AND ir.requestStatus = :status");
-                if (deliveryDate != null)jpql.append(" AND ir.deliveryDate = :deliveryDate");
-                if (creatorId != null) jpql.append(" AND u.id = :creatorId");
+                if (deliveryDate != null) jpql.append(" AND ir.deliveryDate = :deliveryDate");
+                if (creatorId != null) jpql.append(" AND ir.createdBy.id = :creatorId");
                 if (requestType != null) jpql.append(" AND ir.requestType = :requestType");
-                if (stationId != null) jpql.append(" AND st.id = :stationId");
+                if (stationId != null) jpql.append(" AND ir.dish.station.id = :stationId");
+                if (after != null) jpql.append(afterCreatedAt == null
+                    ? " AND ir.createdAt IS NULL AND ir.id < :afterId"
+                    : " AND (ir.createdAt < :afterCreatedAt OR (ir.createdAt = :afterCreatedAt AND ir.id < :afterId) OR ir.createdAt IS NULL)");
+
+                jpql.append(" ORDER BY ir.createdAt DESC NULLS LAST, ir.id DESC");
+
+                TypedQuery<Object[]> keyQuery = em.createQuery(jpql.toString(), Object[].class);
 
-                jpql.append(" ORDER BY ir.createdAt DESC");
+                if (status != null) keyQuery.setParameter("status", status);
+                if (deliveryDate != null) keyQuery.setParameter("deliveryDate", deliveryDate);
+                if (creatorId != null) keyQuery.setParameter("creatorId", creatorId);
+                if (requestType != null) keyQuery.setParameter("requestType", requestType);
+                if (stationId != null) keyQuery.setParameter("stationId", stationId);
+                if (after != null)
+                {
+                    if (afterCreatedAt != null) keyQuery.setParameter("afterCreatedAt", afterCreatedAt);
+                    keyQuery.setParameter("afterId", after.longAt(1));
+                }
 
-                TypedQuery<IngredientRequest> query = em.createQuery(jpql.toString(), IngredientRequest.class);
+                List<Object[]> keys = keyQuery.setMaxResults(limit + 1).getResultList();
+                String nextCursor = null;
 
-                if (status != null) query.setParameter("status", status);
-                if (deliveryDate != null) query.setParameter("deliveryDate", deliveryDate);
-                if (creatorId != null) query.setParameter("creatorId", creatorId);
-                if (requestType != null) query.setParameter("requestType", requestType);
-                if (stationId != null) query.setParameter("stationId", stationId);
-                if (limit != null) query.setMaxResults(limit);
+                if (keys.size() > limit)
+                {
+                    keys = keys.subList(0, limit);
+                    Object[] last = keys.get(limit - 1);
+                    nextCursor = KeysetCursor.encode(last[1], last[0]);
+                }
 
-                return query.getResultList();
+                if (keys.isEmpty())
+                {
+                    reader.accept(null, Stream.empty());
+                    em.getTransaction().commit();
+                    return;
+                }
+
+                Stream<IngredientRequest> requests = em.createQuery(
+                        """
+                        SELECT ir FROM IngredientRequest ir
+                        LEFT JOIN FETCH ir.dish d
+                        LEFT JOIN FETCH d.station
+                        LEFT JOIN FETCH ir.createdBy u
+                        LEFT JOIN FETCH u.station
+                        LEFT JOIN FETCH ir.reviewedBy
+                        WHERE ir.id IN :ids
+                        ORDER BY ir.createdAt DESC NULLS LAST, ir.id DESC
+                        """, IngredientRequest.class)
+                    .setParameter("ids", keys.stream().map(key -> (Long) key[0]).toList())
+                    .setHint(HibernateHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+                    .setHint(HibernateHints.HINT_READ_ONLY, true)
+                    .getResultStream();
+
+                try (Stream<IngredientRequest> detached = requests.peek(em::detach))
+                {
+                    reader.accept(nextCursor, detached);
+                    em.getTransaction().commit();
+                }
             }
             catch (PersistenceException e)
             {
-                throw new DatabaseException("Failed to fetch ingredient requests", e);
+                TransactionUtil.rollback(em);
+                throw new DatabaseException("Failed to stream ingredient request page", e);
+            }
+        }
+    }
+
+    @Override
+    public List<String> findDistinctNames(Status status, LocalDate deliveryDate)
+    {
+        ValidationUtil.validateNotNull(status, "Status");
+        ValidationUtil.validateNotNull(deliveryDate, "Delivery date");
+
+        try (EntityManager em = emf.createEntityManager())
+        {
+            try
+            {
+                return em.createQuery(
+                        "SELECT DISTINCT ir.name FROM IngredientRequest ir " +
+                            "WHERE ir.requestStatus = :status AND ir.deliveryDate = :deliveryDate", String.class)
+                    .setParameter("status", status)
+                    .setParameter("deliveryDate", deliveryDate)
+                    .getResultList();
+            }
+            catch (PersistenceException e)
+            {
+                throw new DatabaseException("Failed to fetch ingredient names", e);
+            }
+        }
+    }
+
+    @Override
+    public <R> R streamByFilter(Status status, LocalDate deliveryDate, Function<Stream<IngredientRequest>, R> reader)
+    {
+        ValidationUtil.validateNotNull(status, "Status");
+        ValidationUtil.validateNotNull(deliveryDate, "Delivery date");
+        ValidationUtil.validateNotNull(reader, "Reader");
+
+        try (EntityManager em = emf.createEntityManager())
+        {
+            try
+            {
+                em.getTransaction().begin();
+
+                Stream<IngredientRequest> requests = em.createQuery(
+                        "SELECT ir FROM IngredientRequest ir JOIN FETCH ir.createdBy " +
+                            "WHERE ir.requestStatus = :status AND ir.deliveryDate = :deliveryDate ORDER BY ir.createdAt DESC", IngredientRequest.class)
+                    .setParameter("status", status)
+                    .setParameter("deliveryDate", deliveryDate)
+                    .setHint(HibernateHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+                    .setHint(HibernateHints.HINT_READ_ONLY, true)
+                    .getResultStream();
+
+                try (Stream<IngredientRequest> detached = requests.peek(em::detach))
+                {
+                    R result = reader.apply(detached);
+                    em.getTransaction().commit();
+                    return result;
+                }
+            }
+            catch (PersistenceException e)
+            {
+                TransactionUtil.rollback(em);
+                throw new DatabaseException("Failed to stream ingredient requests", e);
             }
         }
     }
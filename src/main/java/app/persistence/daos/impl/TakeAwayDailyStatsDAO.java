@@ -0,0 +1,97 @@
+package app.persistence.daos.impl;
+
+import app.exceptions.DatabaseException;
+import app.persistence.daos.interfaces.ITakeAwayDailyStatsDAO;
+import app.persistence.entities.TakeAwayDailyStats;
+import app.persistence.entities.TakeAwayOfferDailyStats;
+import app.utils.TransactionUtil;
+import app.utils.ValidationUtil;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceException;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+public class TakeAwayDailyStatsDAO implements ITakeAwayDailyStatsDAO
+{
+    private final EntityManagerFactory emf;
+
+    public TakeAwayDailyStatsDAO(EntityManagerFactory emf)
+    {
+        this.emf = emf;
+    }
+
+    @Override
+    public Optional<TakeAwayDailyStats> findByDate(LocalDate date)
+    {
+        ValidationUtil.validateNotNull(date, "Date");
+
+        try (EntityManager em = emf.createEntityManager())
+        {
+            try
+            {
+                return em.createQuery("SELECT s FROM TakeAwayDailyStats s WHERE s.statsDate = :date", TakeAwayDailyStats.class)
+                    .setParameter("date", date)
+                    .getResultStream()
+                    .findFirst();
+            }
+            catch (PersistenceException e)
+            {
+                throw new DatabaseException("Failed to fetch takeaway daily stats", e);
+            }
+        }
+    }
+
+    @Override
+    public List<TakeAwayOfferDailyStats> findOfferStatsByDate(LocalDate date)
+    {
+        ValidationUtil.validateNotNull(date, "Date");
+
+        try (EntityManager em = emf.createEntityManager())
+        {
+            try
+            {
+                return em.createQuery(
+                        "SELECT s FROM TakeAwayOfferDailyStats s WHERE s.statsDate = :date ORDER BY s.offerId", TakeAwayOfferDailyStats.class)
+                    .setParameter("date", date)
+                    .getResultList();
+            }
+            catch (PersistenceException e)
+            {
+                throw new DatabaseException("Failed to fetch takeaway offer daily stats", e);
+            }
+        }
+    }
+
+    @Override
+    public int backfillHistoryIfEmpty()
+    {
+        try (EntityManager em = emf.createEntityManager())
+        {
+            try
+            {
+                boolean hasStats = !em.createQuery("SELECT s.id FROM TakeAwayDailyStats s", Long.class)
+                    .setMaxResults(1)
+                    .getResultList()
+                    .isEmpty();
+
+                if (hasStats)
+                {
+                    return 0;
+                }
+
+                em.getTransaction().begin();
+                int backfilledDays = TakeAwayDailyStatsRecorder.backfillMissingDays(em);
+                em.getTransaction().commit();
+                return backfilledDays;
+            }
+            catch (PersistenceException e)
+            {
+                TransactionUtil.rollback(em);
+                throw new DatabaseException("Failed to backfill takeaway daily stats", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package app.persistence.daos.impl;
+
+import app.persistence.entities.TakeAwayOrder;
+import app.persistence.entities.TakeAwayOrderLine;
+import jakarta.persistence.EntityManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+final class TakeAwayDailyStatsRecorder
+{
+    private TakeAwayDailyStatsRecorder() {}
+
+    static void recordPlaced(EntityManager em, Collection<TakeAwayOrder> orders)
+    {
+        LocalDateTime now = LocalDateTime.now();
+        Map<LocalDate, List<TakeAwayOrder>> ordersByDate = orders.stream()
+            .collect(Collectors.groupingBy(TakeAwayOrder::getCreatedAt, TreeMap::new, Collectors.toList()));
+
+        ordersByDate.forEach((date, placed) ->
+        {
+            int soldPortions = placed.stream().mapToInt(TakeAwayOrder::getTotalItems).sum();
+            double revenue = placed.stream().mapToDouble(TakeAwayOrder::getTotalPrice).sum();
+            upsertDaily(em, date, placed.size(), 0, 0, soldPortions, 0, revenue, now);
+
+            Map<Long, OfferTotals> totals = new TreeMap<>();
+            placed.forEach(order -> totalsByOffer(order).forEach((offerId, offerTotals) -> totals.merge(offerId, offerTotals, OfferTotals::plus)));
+            totals.forEach((offerId, offerTotals) ->
+                upsertOffer(em, date, offerId, offerTotals.orders(), offerTotals.quantity(), 0, offerTotals.price(), now)
+            );
+        });
+    }
+
+    static void recordCancelled(EntityManager em, TakeAwayOrder order)
+    {
+        LocalDate date = order.getCreatedAt();
+        LocalDateTime now = LocalDateTime.now();
+
+        upsertDaily(em, date, 0, 0, 1, -order.getTotalItems(), order.getTotalItems(), -order.getTotalPrice(), now);
+        totalsByOffer(order).forEach((offerId, totals) ->
+            upsertOffer(em, date, offerId, 0, -totals.quantity(), totals.quantity(), -totals.price(), now)
+        );
+    }
+
+    static void recordPaid(EntityManager em, TakeAwayOrder order)
+    {
+        upsertDaily(em, order.getCreatedAt(), 0, 1, 0, 0, 0, 0, LocalDateTime.now());
+    }
+
+    static int backfillMissingDays(EntityManager em)
+    {
+        LocalDateTime now = LocalDateTime.now();
+
+        em.createNativeQuery(
+                "INSERT INTO take_away_offer_daily_stats (stats_date, take_away_offer_id, orders, sold_portions, cancelled_portions, revenue, updated_at) " +
+                    "SELECT o.created_at, l.take_away_offer_id, COUNT(DISTINCT o.id), " +
+                    "COALESCE(SUM(l.quantity) FILTER (WHERE o.order_status <> 'CANCELLED'), 0), " +
+                    "COALESCE(SUM(l.quantity) FILTER (WHERE o.order_status = 'CANCELLED'), 0), " +
+                    "COALESCE(SUM(l.price_at_purchase) FILTER (WHERE o.order_status <> 'CANCELLED'), 0), :now " +
+                    "FROM take_away_order o JOIN take_away_order_line l ON l.order_id = o.id " +
+                    "WHERE NOT EXISTS (SELECT 1 FROM take_away_daily_stats s WHERE s.stats_date = o.created_at) " +
+                    "GROUP BY o.created_at, l.take_away_offer_id " +
+                    "ON CONFLICT (stats_date, take_away_offer_id) DO NOTHING")
+            .setParameter("now", now)
+            .executeUpdate();
+
+        return em.createNativeQuery(
+                "INSERT INTO take_away_daily_stats (stats_date, orders, paid_orders, cancelled_orders, sold_portions, cancelled_portions, revenue, updated_at) " +
+                    "SELECT o.created_at, COUNT(*), " +
+                    "COUNT(*) FILTER (WHERE o.order_status = 'PAID'), " +
+                    "COUNT(*) FILTER (WHERE o.order_status = 'CANCELLED'), " +
+                    "COALESCE(SUM(t.quantity) FILTER (WHERE o.order_status <> 'CANCELLED'), 0), " +
+                    "COALESCE(SUM(t.quantity) FILTER (WHERE o.order_status = 'CANCELLED'), 0), " +
+                    "COALESCE(SUM(t.price) FILTER (WHERE o.order_status <> 'CANCELLED'), 0), :now " +
+                    "FROM take_away_order o " +
+                    "JOIN (SELECT order_id, SUM(quantity) AS quantity, SUM(price_at_purchase) AS price FROM take_away_order_line GROUP BY order_id) t ON t.order_id = o.id " +
+                    "WHERE NOT EXISTS (SELECT 1 FROM take_away_daily_stats s WHERE s.stats_date = o.created_at) " +
+                    "GROUP BY o.created_at " +
+                    "ON CONFLICT (stats_date) DO NOTHING")
+            .setParameter("now", now)
+            .executeUpdate();
+    }
+
+    private static void upsertDaily(EntityManager em, LocalDate date, int orders, int paidOrders, int cancelledOrders, int soldPortions, int cancelledPortions, double revenue, LocalDateTime now)
+    {
+        em.createNativeQuery(
+                "INSERT INTO take_away_daily_stats (stats_date, orders, paid_orders, cancelled_orders, sold_portions, cancelled_portions, revenue, updated_at) " +
+                    "VALUES (:date, :orders, :paidOrders, :cancelledOrders, :soldPortions, :cancelledPortions, :revenue, :now) " +
+                    "ON CONFLICT (stats_date) DO UPDATE SET " +
+                    "orders = take_away_daily_stats.orders + EXCLUDED.orders, " +
+                    "paid_orders = take_away_daily_stats.paid_orders + EXCLUDED.paid_orders, " +
+                    "cancelled_orders = take_away_daily_stats.cancelled_orders + EXCLUDED.cancelled_orders, " +
+                    "sold_portions = take_away_daily_stats.sold_portions + EXCLUDED.sold_portions, " +
+                    "cancelled_portions = take_away_daily_stats.cancelled_portions + EXCLUDED.cancelled_portions, " +
+                    "revenue = take_away_daily_stats.revenue + EXCLUDED.revenue, " +
+                    "updated_at = EXCLUDED.updated_at")
+            .setParameter("date", date)
+            .setParameter("orders", orders)
+            .setParameter("paidOrders", paidOrders)
+            .setParameter("cancelledOrders", cancelledOrders)
+            .setParameter("soldPortions", soldPortions)
+            .setParameter("cancelledPortions", cancelledPortions)
+            .setParameter("revenue", revenue)
+            .setParameter("now", now)
+            .executeUpdate();
+    }
+
+    private static void upsertOffer(EntityManager em, LocalDate date, Long offerId, int orders, int soldPortions, int cancelledPortions, double revenue, LocalDateTime now)
+    {
+        em.createNativeQuery(
+                "INSERT INTO take_away_offer_daily_stats (stats_date, take_away_offer_id, orders, sold_portions, cancelled_portions, revenue, updated_at) " +
+                    "VALUES (:date, :offerId, :orders, :soldPortions, :cancelledPortions, :revenue, :now) " +
+                    "ON CONFLICT (stats_date, take_away_offer_id) DO UPDATE SET " +
+                    "orders = take_away_offer_daily_stats.orders + EXCLUDED.orders, " +
+                    "sold_portions = take_away_offer_daily_stats.sold_portions + EXCLUDED.sold_portions, " +
+                    "cancelled_portions = take_away_offer_daily_stats.cancelled_portions + EXCLUDED.cancelled_portions, " +
+                    "revenue = take_away_offer_daily_stats.revenue + EXCLUDED.revenue, " +
+                    "updated_at = EXCLUDED.updated_at")
+            .setParameter("date", date)
+            .setParameter("offerId", offerId)
+            .setParameter("orders", orders)
+            .setParameter("soldPortions", soldPortions)
+            .setParameter("cancelledPortions", cancelledPortions)
+            .setParameter("revenue", revenue)
+            .setParameter("now", now)
+            .executeUpdate();
+    }
+
+    private static Map<Long, OfferTotals> totalsByOffer(TakeAwayOrder order)
+    {
+        Map<Long, OfferTotals> totals = new TreeMap<>();
+
+        for (TakeAwayOrderLine line : order.getOrderLines())
+        {
+            totals.merge(line.getTakeAwayOffer().getId(), new OfferTotals(1, line.getQuantity(), line.getPriceAtPurchase()),
+                (existing, added) -> new OfferTotals(1, existing.quantity() + added.quantity(), existing.price() + added.price()));
+        }
+
+        return totals;
+    }
+
+    private record OfferTotals(int orders, int quantity, double price)
+    {
+        private OfferTotals plus(OfferTotals other)
+        {
+            return new OfferTotals(orders + other.orders, quantity + other.quantity, price + other.price);
+        }
+    }
+}
@@ -3,13 +3,18 @@ package app.persistence.daos.impl;
 import app.exceptions.DatabaseException;
 import app.persistence.daos.interfaces.ITakeAwayOfferDAO;
 import app.persistence.entities.TakeAwayOffer;
+import app.utils.AllergenMask;
 import app.utils.DBValidator;
 import app.utils.TransactionUtil;
 import app.utils.ValidationUtil;
 import jakarta.persistence.*;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 public class TakeAwayOfferDAO implements ITakeAwayOfferDAO
@@ -23,6 +28,12 @@ public class TakeAwayOfferDAO implements ITakeAwayOfferDAO
 
     @Override
     public Set<TakeAwayOffer> findByFilter(LocalDate date, Boolean isSoldOut, Boolean isEnabled, Long dishId)
+    {
+        return findByFilter(date, isSoldOut, isEnabled, dishId, AllergenMask.NONE);
+    }
+
+    @Override
+    public Set<TakeAwayOffer> findByFilter(LocalDate date, Boolean isSoldOut, Boolean isEnabled, Long dishId, int excludedAllergens)
     {
         try (EntityManager em = emf.createEntityManager())
         {
@@ -39,6 +50,7 @@ public class TakeAwayOfferDAO implements ITakeAwayOfferDAO
                 if (dishId != null)    jpql.append(" AND d.id = :dishId");
                 if (isEnabled != null) jpql.append(" AND tao.enabled = :isEnabled");
                 if (isSoldOut != null) jpql.append(" AND tao.soldOut = :isSoldOut");
+                if (excludedAllergens != AllergenMask.NONE) jpql.append(" AND bitand(d.allergenMask, :excluded) = 0");
                 jpql.append(" ORDER BY tao.createdAt DESC");
 
                 TypedQuery<TakeAwayOffer> query = em.createQuery(jpql.toString(), TakeAwayOffer.class);
@@ -47,6 +59,7 @@ public class TakeAwayOfferDAO implements ITakeAwayOfferDAO
                 if (dishId != null)    query.setParameter("dishId", dishId);
                 if (isEnabled != null) query.setParameter("isEnabled", isEnabled);
                 if (isSoldOut != null) query.setParameter("isSoldOut", isSoldOut);
+                if (excludedAllergens != AllergenMask.NONE) query.setParameter("excluded", excludedAllergens);
 
                 return new LinkedHashSet<>(query.getResultList());
             }
@@ -225,4 +238,109 @@ public class TakeAwayOfferDAO implements ITakeAwayOfferDAO
             }
         }
     }
+
+    @Override
+    public int getReservablePortions(Long offerId)
+    {
+        ValidationUtil.validateId(offerId);
+
+        try (EntityManager em = emf.createEntityManager())
+        {
+            try
+            {
+                return em.createQuery(
+                        "SELECT CASE WHEN tao.enabled = true AND tao.soldOut = false " +
+                            "THEN tao.availablePortions ELSE 0 END " +
+                            "FROM TakeAwayOffer tao " +
+                            "WHERE tao.id = :offerId",
+                        Integer.class)
+                    .setParameter("offerId", offerId)
+                    .getSingleResult();
+            }
+            catch (NoResultException e)
+            {
+                throw new EntityNotFoundException("TakeAwayOffer with id: " + offerId + " not found");
+            }
+            catch (PersistenceException e)
+            {
+                throw new DatabaseException("Failed to fetch reservable portions for offer: " + offerId, e);
+            }
+        }
+    }
+
+    @Override
+    public Map<Long, Integer> findReservablePortionsByDate(LocalDate date)
+    {
+        ValidationUtil.validateNotNull(date, "Date");
+
+        try (EntityManager em = emf.createEntityManager())
+        {
+            try
+            {
+                List<Object[]> rows = em.createQuery(
+                        "SELECT tao.id, tao.availablePortions " +
+                            "FROM TakeAwayOffer tao " +
+                            "WHERE tao.createdAt = :date " +
+                            "AND tao.enabled = true " +
+                            "AND tao.soldOut = false",
+                        Object[].class)
+                    .setParameter("date", date)
+                    .getResultList();
+
+                Map<Long, Integer> portions = new HashMap<>();
+                rows.forEach(row -> portions.put((Long) row[0], (Integer) row[1]));
+                return portions;
+            }
+            catch (PersistenceException e)
+            {
+                throw new DatabaseException("Failed to fetch reservable portions by date", e);
+            }
+        }
+    }
+
+    @Override
+    public void releasePortions(Long offerId, int quantity)
+    {
+        ValidationUtil.validateId(offerId);
+        ValidationUtil.validatePositive(quantity, "Quantity");
+
+        try (EntityManager em = emf.createEntityManager())
+        {
+            try
+            {
+                em.getTransaction().begin();
+
+                int updated = em.createQuery(
+                        "UPDATE TakeAwayOffer tao " +
+                            "SET tao.availablePortions = CASE " +
+                            "WHEN tao.availablePortions + :quantity > tao.offeredPortions THEN tao.offeredPortions " +
+                            "ELSE tao.availablePortions + :quantity END, " +
+                            "tao.soldOut = false, " +
+                            "tao.enabled = true, " +
+                            "tao.updatedAt = :updatedAt " +
+                            "WHERE tao.id = :offerId")
+                    .setParameter("quantity", quantity)
+                    .setParameter("updatedAt", LocalDateTime.now())
+                    .setParameter("offerId", offerId)
+                    .executeUpdate();
+
+                if (updated == 0)
+                {
+                    throw new EntityNotFoundException("TakeAwayOffer with id: " + offerId + " not found");
+                }
+
+                em.getTransaction().commit();
+            }
+            catch (EntityNotFoundException e)
+            {
+                TransactionUtil.rollback(em);
+                throw e;
+            }
+            catch (PersistenceException e)
+            {
+                TransactionUtil.rollback(em);
+                throw new DatabaseException("Failed to release portions for offer: " + offerId, e);
+            }
+        }
+    }
 }
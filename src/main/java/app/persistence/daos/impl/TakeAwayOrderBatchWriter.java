@@ -0,0 +1,256 @@
+package app.persistence.daos.impl;
+
+import app.dtos.takeaway.TakeAwayOrderCreateDTO;
+import app.exceptions.DatabaseException;
+import app.exceptions.ServiceUnavailableException;
+import app.persistence.daos.interfaces.ITakeAwayOrderWriter;
+import app.persistence.entities.TakeAwayOrder;
+import app.utils.TransactionUtil;
+import app.utils.ValidationUtil;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.persistence.PersistenceException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class TakeAwayOrderBatchWriter implements ITakeAwayOrderWriter
+{
+    private static final Logger logger = LoggerFactory.getLogger(TakeAwayOrderBatchWriter.class);
+    private static final long IDLE_POLL_MILLIS = 100;
+
+    private final EntityManagerFactory emf;
+    private final BlockingQueue<PendingOrder> queue;
+    private final int maxBatchSize;
+    private final long maxBatchDelayNanos;
+    private final Thread writerThread;
+    private volatile boolean running;
+
+    public TakeAwayOrderBatchWriter(EntityManagerFactory emf, int queueCapacity, int maxBatchSize, long maxBatchDelayMillis)
+    {
+        ValidationUtil.validatePositive(queueCapacity, "Queue capacity");
+        ValidationUtil.validatePositive(maxBatchSize, "Max batch size");
+        ValidationUtil.validatePositive(maxBatchDelayMillis, "Max batch delay");
+
+        this.emf = emf;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.maxBatchSize = maxBatchSize;
+        this.maxBatchDelayNanos = TimeUnit.MILLISECONDS.toNanos(maxBatchDelayMillis);
+        this.running = true;
+        this.writerThread = new Thread(this::runWriter, "takeaway-order-writer");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+
+    @Override
+    public CompletableFuture<TakeAwayOrder> submit(Long customerId, TakeAwayOrderCreateDTO dto)
+    {
+        ValidationUtil.validateId(customerId);
+        ValidationUtil.validateNotNull(dto, "Takeaway Order Create");
+        ValidationUtil.validateNotEmpty(dto.takeAwayOrderLines(), "Order Lines");
+
+        if (!running)
+        {
+            throw new ServiceUnavailableException("Take away ordering is shutting down");
+        }
+
+        PendingOrder pendingOrder = new PendingOrder(customerId, dto, new PendingOrderResult());
+
+        if (!queue.offer(pendingOrder))
+        {
+            throw new ServiceUnavailableException("Too many take away orders right now. Please try again");
+        }
+
+        return pendingOrder.result();
+    }
+
+    @Override
+    public void close()
+    {
+        running = false;
+
+        try
+        {
+            writerThread.join(TimeUnit.SECONDS.toMillis(5));
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+        }
+
+        List<PendingOrder> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        remaining.forEach(order -> order.result().completeExceptionally(new ServiceUnavailableException("Take away ordering is shutting down")));
+    }
+
+    private void runWriter()
+    {
+        List<PendingOrder> batch = new ArrayList<>(maxBatchSize);
+
+        while (running || !queue.isEmpty())
+        {
+            try
+            {
+                collectBatch(batch);
+            }
+            catch (InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+                running = false;
+                queue.drainTo(batch, maxBatchSize - batch.size());
+            }
+
+            if (!batch.isEmpty())
+            {
+                flush(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private void collectBatch(List<PendingOrder> batch) throws InterruptedException
+    {
+        PendingOrder first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+
+        if (first == null)
+        {
+            return;
+        }
+
+        batch.add(first);
+
+        long deadline = System.nanoTime() + maxBatchDelayNanos;
+
+        while (batch.size() < maxBatchSize)
+        {
+            queue.drainTo(batch, maxBatchSize - batch.size());
+
+            long remainingNanos = deadline - System.nanoTime();
+
+            if (batch.size() >= maxBatchSize || remainingNanos <= 0)
+            {
+                return;
+            }
+
+            PendingOrder next = queue.poll(remainingNanos, TimeUnit.NANOSECONDS);
+
+            if (next == null)
+            {
+                return;
+            }
+
+            batch.add(next);
+        }
+    }
+
+    private void flush(List<PendingOrder> batch)
+    {
+        List<PendingOrder> claimed = batch.stream()
+            .filter(pendingOrder -> pendingOrder.result().claim())
+            .toList();
+
+        if (claimed.isEmpty())
+        {
+            return;
+        }
+
+        try
+        {
+            write(claimed);
+            logger.debug("Wrote batch of {} take away orders", claimed.size());
+        }
+        catch (RuntimeException e)
+        {
+            logger.warn("Failed to write batch of {} take away orders, retrying them one at a time", claimed.size(), e);
+            claimed.forEach(this::writeSingle);
+        }
+    }
+
+    private void writeSingle(PendingOrder pendingOrder)
+    {
+        try
+        {
+            write(List.of(pendingOrder));
+        }
+        catch (RuntimeException e)
+        {
+            logger.error("Failed to write take away order for customer {}", pendingOrder.customerId(), e);
+            pendingOrder.result().completeExceptionally(new DatabaseException("Failed to place takeaway order", e));
+        }
+    }
+
+    private void write(List<PendingOrder> orders)
+    {
+        Map<PendingOrder, TakeAwayOrder> placedOrders = new LinkedHashMap<>();
+        Map<PendingOrder, RuntimeException> rejectedOrders = new LinkedHashMap<>();
+
+        try (EntityManager em = emf.createEntityManager())
+        {
+            try
+            {
+                em.getTransaction().begin();
+
+                for (PendingOrder pendingOrder : orders)
+                {
+                    try
+                    {
+                        TakeAwayOrder order = TakeAwayOrderPlacement.place(em, pendingOrder.customerId(), pendingOrder.dto());
+                        placedOrders.put(pendingOrder, order);
+                    }
+                    catch (EntityNotFoundException e)
+                    {
+                        rejectedOrders.put(pendingOrder, e);
+                    }
+                    catch (PersistenceException e)
+                    {
+                        throw e;
+                    }
+                    catch (RuntimeException e)
+                    {
+                        rejectedOrders.put(pendingOrder, e);
+                    }
+                }
+
+                TakeAwayDailyStatsRecorder.recordPlaced(em, placedOrders.values());
+                em.flush();
+                em.getTransaction().commit();
+            }
+            catch (RuntimeException e)
+            {
+                TransactionUtil.rollback(em);
+                throw e;
+            }
+        }
+
+        rejectedOrders.forEach((pendingOrder, error) -> pendingOrder.result().completeExceptionally(error));
+        placedOrders.forEach((pendingOrder, order) -> pendingOrder.result().complete(order));
+    }
+
+    private record PendingOrder(Long customerId, TakeAwayOrderCreateDTO dto, PendingOrderResult result) {}
+
+    private static final class PendingOrderResult extends CompletableFuture<TakeAwayOrder>
+    {
+        private final AtomicBoolean claimed = new AtomicBoolean();
+
+        private boolean claim()
+        {
+            return claimed.compareAndSet(false, true);
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning)
+        {
+            return claim() && super.cancel(mayInterruptIfRunning);
+        }
+    }
+}
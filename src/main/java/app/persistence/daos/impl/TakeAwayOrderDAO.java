@@ -1,26 +1,30 @@
 package app.persistence.daos.impl;
 
 import app.dtos.takeaway.TakeAwayOrderCreateDTO;
-import app.dtos.takeaway.TakeAwayOrderLineCreateDTO;
 import app.enums.OrderStatus;
 import app.exceptions.DatabaseException;
 import app.persistence.daos.interfaces.ITakeAwayOrderDAO;
-import app.persistence.entities.TakeAwayOffer;
 import app.persistence.entities.TakeAwayOrder;
 import app.persistence.entities.TakeAwayOrderLine;
-import app.persistence.entities.User;
 import app.utils.DBValidator;
+import app.utils.KeysetCursor;
 import app.utils.TransactionUtil;
 import app.utils.ValidationUtil;
 import jakarta.persistence.*;
+import org.hibernate.jpa.HibernateHints;
 
 import java.time.LocalDate;
-import java.util.LinkedHashSet;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
-import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class TakeAwayOrderDAO implements ITakeAwayOrderDAO
 {
+    private static final int STREAM_FETCH_SIZE = 500;
     private final EntityManagerFactory emf;
 
     public TakeAwayOrderDAO(EntityManagerFactory emf)
@@ -29,39 +33,81 @@ public class TakeAwayOrderDAO implements ITakeAwayOrderDAO
     }
 
     @Override
-    public Set<TakeAwayOrder> findByFilter(Long customerId, Long offerId, LocalDate date, OrderStatus status)
+    public void streamPage(Long customerId, Long offerId, LocalDate date, OrderStatus status, String cursor, int limit, BiConsumer<String, Stream<TakeAwayOrder>> reader)
     {
+        ValidationUtil.validateNotNull(reader, "Reader");
+        KeysetCursor after = KeysetCursor.decode(cursor, 2);
+        LocalDateTime afterOrderedAt = after != null ? after.nullableDateTimeAt(0) : null;
+
         try (EntityManager em = emf.createEntityManager())
         {
             try
             {
-                StringBuilder jpql = new StringBuilder(
-                    "SELECT DISTINCT ord FROM TakeAwayOrder ord " +
-                        "JOIN FETCH ord.customer c " +
-                        "LEFT JOIN FETCH ord.orderLines lines " +
-                        "LEFT JOIN FETCH lines.takeAwayOffer off " +
-                        "WHERE 1=1"
-                );
-
-                if (customerId != null) jpql.append(" AND c.id = :customerId");
-                if (offerId != null)    jpql.append(" AND off.id = :offerId");
+                em.getTransaction().begin();
+
+                StringBuilder jpql = new StringBuilder("SELECT ord.id, ord.orderedAt FROM TakeAwayOrder ord WHERE 1=1");
+
+                if (customerId != null) jpql.append(" AND ord.customer.id = :customerId");
+                if (offerId != null)    jpql.append(" AND EXISTS (SELECT 1 FROM TakeAwayOrder sub JOIN sub.orderLines line WHERE sub = ord AND line.takeAwayOffer.id = :offerId)");
                 if (date != null)       jpql.append(" AND ord.createdAt = :date");
                 if (status != null)     jpql.append(" AND ord.orderStatus = :status");
+                if (after != null)      jpql.append(afterOrderedAt == null
+                    ? " AND ord.orderedAt IS NULL AND ord.id < :afterId"
+                    : " AND (ord.orderedAt < :afterOrderedAt OR (ord.orderedAt = :afterOrderedAt AND ord.id < :afterId) OR ord.orderedAt IS NULL)");
+
+                jpql.append(" ORDER BY ord.orderedAt DESC NULLS LAST, ord.id DESC");
 
-                jpql.append(" ORDER BY ord.orderedAt DESC");
+                TypedQuery<Object[]> keyQuery = em.createQuery(jpql.toString(), Object[].class);
 
-                TypedQuery<TakeAwayOrder> query = em.createQuery(jpql.toString(), TakeAwayOrder.class);
+                if (customerId != null) keyQuery.setParameter("customerId", customerId);
+                if (offerId != null)    keyQuery.setParameter("offerId", offerId);
+                if (date != null)       keyQuery.setParameter("date", date);
+                if (status != null)     keyQuery.setParameter("status", status);
+                if (after != null)
+                {
+                    if (afterOrderedAt != null) keyQuery.setParameter("afterOrderedAt", afterOrderedAt);
+                    keyQuery.setParameter("afterId", after.longAt(1));
+                }
+
+                List<Object[]> keys = keyQuery.setMaxResults(limit + 1).getResultList();
+                String nextCursor = null;
+
+                if (keys.size() > limit)
+                {
+                    keys = keys.subList(0, limit);
+                    Object[] last = keys.get(limit - 1);
+                    nextCursor = KeysetCursor.encode(last[1], last[0]);
+                }
 
-                if (customerId != null) query.setParameter("customerId", customerId);
-                if (offerId != null)    query.setParameter("offerId", offerId);
-                if (date != null)       query.setParameter("date", date);
-                if (status != null)     query.setParameter("status", status);
+                if (keys.isEmpty())
+                {
+                    reader.accept(null, Stream.empty());
+                    em.getTransaction().commit();
+                    return;
+                }
 
-                return new LinkedHashSet<>(query.getResultList());
+                Stream<TakeAwayOrder> orders = em.createQuery(
+                        "SELECT ord FROM TakeAwayOrder ord " +
+                            "JOIN FETCH ord.customer " +
+                            "LEFT JOIN FETCH ord.orderLines lines " +
+                            "LEFT JOIN FETCH lines.takeAwayOffer " +
+                            "WHERE ord.id IN :ids " +
+                            "ORDER BY ord.orderedAt DESC NULLS LAST, ord.id DESC", TakeAwayOrder.class)
+                    .setParameter("ids", keys.stream().map(key -> (Long) key[0]).toList())
+                    .setHint(HibernateHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+                    .setHint(HibernateHints.HINT_READ_ONLY, true)
+                    .getResultStream();
+
+                try (Stream<TakeAwayOrder> detached = orders.peek(em::detach))
+                {
+                    reader.accept(nextCursor, detached);
+                    em.getTransaction().commit();
+                }
             }
             catch (PersistenceException e)
             {
-                throw new DatabaseException("Failed to fetch take away orders with filter", e);
+                TransactionUtil.rollback(em);
+                throw new DatabaseException("Failed to stream take away orders", e);
             }
         }
     }
@@ -165,23 +211,8 @@ public class TakeAwayOrderDAO implements ITakeAwayOrderDAO
             {
                 em.getTransaction().begin();
 
-                User customer = em.find(User.class, customerId);
-                DBValidator.validateExists(customer, customerId, User.class);
-
-                TakeAwayOrder order = new TakeAwayOrder(customer);
-
-                for (TakeAwayOrderLineCreateDTO lineDTO : dto.takeAwayOrderLines())
-                {
-                    TakeAwayOffer offer = em.find(TakeAwayOffer.class, lineDTO.offerId());
-                    DBValidator.validateExists(offer, lineDTO.offerId(), TakeAwayOffer.class);
-
-                    offer.sellPortions(lineDTO.quantity());
-
-                    TakeAwayOrderLine line = new TakeAwayOrderLine(order, offer, lineDTO.quantity());
-                    order.addOrderLine(line);
-                }
-
-                em.persist(order);
+                TakeAwayOrder order = TakeAwayOrderPlacement.place(em, customerId, dto);
+                TakeAwayDailyStatsRecorder.recordPlaced(em, List.of(order));
                 em.getTransaction().commit();
 
                 orderId = order.getId();
@@ -213,10 +244,12 @@ public class TakeAwayOrderDAO implements ITakeAwayOrderDAO
             {
                 em.getTransaction().begin();
 
-                TakeAwayOrder existing = em.find(TakeAwayOrder.class, order.getId());
+                TakeAwayOrder existing = em.find(TakeAwayOrder.class, order.getId(), LockModeType.PESSIMISTIC_WRITE);
                 DBValidator.validateExists(existing, order.getId(), TakeAwayOrder.class);
+                OrderStatus previousStatus = existing.getOrderStatus();
 
                 TakeAwayOrder merged = em.merge(order);
+                recordStatusChange(em, merged, previousStatus);
                 em.getTransaction().commit();
                 return getByID(merged.getId());
             }
@@ -263,4 +296,42 @@ public class TakeAwayOrderDAO implements ITakeAwayOrderDAO
             }
         }
     }
+
+    private void recordStatusChange(EntityManager em, TakeAwayOrder order, OrderStatus previousStatus)
+    {
+        if (order.getOrderStatus() == previousStatus)
+        {
+            return;
+        }
+
+        if (order.getOrderStatus() == OrderStatus.CANCELLED)
+        {
+            order.getOrderLines().stream()
+                .collect(Collectors.groupingBy(line -> line.getTakeAwayOffer().getId(), TreeMap::new, Collectors.summingInt(TakeAwayOrderLine::getQuantity)))
+                .forEach((offerId, quantity) -> releasePortions(em, offerId, quantity));
+
+            TakeAwayDailyStatsRecorder.recordCancelled(em, order);
+        }
+        else if (order.getOrderStatus() == OrderStatus.PAID)
+        {
+            TakeAwayDailyStatsRecorder.recordPaid(em, order);
+        }
+    }
+
+    private void releasePortions(EntityManager em, Long offerId, int quantity)
+    {
+        em.createQuery(
+                "UPDATE TakeAwayOffer tao " +
+                    "SET tao.availablePortions = CASE " +
+                    "WHEN tao.availablePortions + :quantity > tao.offeredPortions THEN tao.offeredPortions " +
+                    "ELSE tao.availablePortions + :quantity END, " +
+                    "tao.soldOut = false, " +
+                    "tao.enabled = true, " +
+                    "tao.updatedAt = :updatedAt " +
+                    "WHERE tao.id = :offerId")
+            .setParameter("quantity", quantity)
+            .setParameter("updatedAt", LocalDateTime.now())
+            .setParameter("offerId", offerId)
+            .executeUpdate();
+    }
 }
@@ -0,0 +1,94 @@
+package app.persistence.daos.impl;
+
+import app.dtos.takeaway.TakeAwayOrderCreateDTO;
+import app.dtos.takeaway.TakeAwayOrderLineCreateDTO;
+import app.exceptions.ConflictException;
+import app.persistence.entities.TakeAwayOffer;
+import app.persistence.entities.TakeAwayOrder;
+import app.persistence.entities.TakeAwayOrderLine;
+import app.persistence.entities.User;
+import app.utils.DBValidator;
+import app.utils.ValidationUtil;
+import jakarta.persistence.EntityManager;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+final class TakeAwayOrderPlacement
+{
+    private TakeAwayOrderPlacement() {}
+
+    static TakeAwayOrder place(EntityManager em, Long customerId, TakeAwayOrderCreateDTO dto)
+    {
+        User customer = em.find(User.class, customerId);
+        DBValidator.validateExists(customer, customerId, User.class);
+
+        TakeAwayOrder order = new TakeAwayOrder(customer);
+        Map<Long, Integer> reserved = new LinkedHashMap<>();
+
+        try
+        {
+            for (TakeAwayOrderLineCreateDTO lineDTO : dto.takeAwayOrderLines())
+            {
+                int updated = reservePortions(em, lineDTO.offerId(), lineDTO.quantity());
+
+                TakeAwayOffer offer = em.find(TakeAwayOffer.class, lineDTO.offerId());
+                DBValidator.validateExists(offer, lineDTO.offerId(), TakeAwayOffer.class);
+
+                if (updated == 0)
+                {
+                    em.refresh(offer);
+                    offer.requireSellable(lineDTO.quantity());
+                    throw new ConflictException("Not enough portions left for your order");
+                }
+
+                reserved.merge(lineDTO.offerId(), lineDTO.quantity(), Integer::sum);
+
+                TakeAwayOrderLine line = new TakeAwayOrderLine(order, offer, lineDTO.quantity());
+                order.addOrderLine(line);
+            }
+        }
+        catch (RuntimeException e)
+        {
+            reserved.forEach((offerId, quantity) -> releasePortions(em, offerId, quantity));
+            throw e;
+        }
+
+        em.persist(order);
+        return order;
+    }
+
+    private static int reservePortions(EntityManager em, Long offerId, int quantity)
+    {
+        ValidationUtil.validatePositive(quantity, "Quantity");
+
+        return em.createQuery(
+                "UPDATE TakeAwayOffer tao " +
+                    "SET tao.availablePortions = tao.availablePortions - :quantity, " +
+                    "tao.soldOut = CASE WHEN tao.availablePortions = :quantity THEN true ELSE false END, " +
+                    "tao.enabled = CASE WHEN tao.availablePortions = :quantity THEN false ELSE true END, " +
+                    "tao.updatedAt = :updatedAt " +
+                    "WHERE tao.id = :offerId " +
+                    "AND tao.enabled = true " +
+                    "AND tao.soldOut = false " +
+                    "AND tao.availablePortions >= :quantity")
+            .setParameter("quantity", quantity)
+            .setParameter("updatedAt", LocalDateTime.now())
+            .setParameter("offerId", offerId)
+            .executeUpdate();
+    }
+
+    private static void releasePortions(EntityManager em, Long offerId, int quantity)
+    {
+        em.createQuery(
+                "UPDATE TakeAwayOffer tao " +
+                    "SET tao.availablePortions = tao.availablePortions + :quantity, " +
+                    "tao.soldOut = false, " +
+                    "tao.enabled = true " +
+                    "WHERE tao.id = :offerId")
+            .setParameter("quantity", quantity)
+            .setParameter("offerId", offerId)
+            .executeUpdate();
+    }
+}
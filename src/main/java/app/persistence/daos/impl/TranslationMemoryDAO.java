@@ -0,0 +1,118 @@
+package app.persistence.daos.impl;
+
+import app.exceptions.DatabaseException;
+import app.persistence.daos.interfaces.ITranslationMemoryDAO;
+import app.persistence.entities.TranslationMemoryEntry;
+import app.utils.TransactionUtil;
+import app.utils.ValidationUtil;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceException;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class TranslationMemoryDAO implements ITranslationMemoryDAO
+{
+    private final EntityManagerFactory emf;
+
+    public TranslationMemoryDAO(EntityManagerFactory emf)
+    {
+        this.emf = emf;
+    }
+
+    @Override
+    public Map<String, String> findTranslations(Collection<String> sourceHashes, String targetLanguage)
+    {
+        ValidationUtil.validateNotBlank(targetLanguage, "Target language");
+
+        if (sourceHashes == null || sourceHashes.isEmpty())
+        {
+            return Map.of();
+        }
+
+        try (EntityManager em = emf.createEntityManager())
+        {
+            try
+            {
+                List<Object[]> rows = em.createQuery(
+                        "SELECT tm.sourceHash, tm.translatedText FROM TranslationMemoryEntry tm " +
+                            "WHERE tm.targetLanguage = :targetLanguage AND tm.sourceHash IN :sourceHashes", Object[].class)
+                    .setParameter("targetLanguage", targetLanguage)
+                    .setParameter("sourceHashes", sourceHashes)
+                    .getResultList();
+
+                Map<String, String> translations = new HashMap<>();
+
+                for (Object[] row : rows)
+                {
+                    translations.put((String) row[0], (String) row[1]);
+                }
+                return translations;
+            }
+            catch (PersistenceException e)
+            {
+                throw new DatabaseException("Failed to fetch translation memory", e);
+            }
+        }
+    }
+
+    @Override
+    public void saveAll(Collection<TranslationMemoryEntry> entries)
+    {
+        if (entries == null || entries.isEmpty())
+        {
+            return;
+        }
+
+        try (EntityManager em = emf.createEntityManager())
+        {
+            try
+            {
+                em.getTransaction().begin();
+                LocalDateTime now = LocalDateTime.now();
+
+                for (TranslationMemoryEntry entry : entries)
+                {
+                    em.createNativeQuery(
+                            "INSERT INTO translation_memory (source_hash, target_language, source_text, translated_text, created_at) " +
+                                "VALUES (:sourceHash, :targetLanguage, :sourceText, :translatedText, :createdAt) " +
+                                "ON CONFLICT (source_hash, target_language) DO NOTHING")
+                        .setParameter("sourceHash", entry.getSourceHash())
+                        .setParameter("targetLanguage", entry.getTargetLanguage())
+                        .setParameter("sourceText", entry.getSourceText())
+                        .setParameter("translatedText", entry.getTranslatedText())
+                        .setParameter("createdAt", now)
+                        .executeUpdate();
+                }
+
+                em.getTransaction().commit();
+            }
+            catch (PersistenceException e)
+            {
+                TransactionUtil.rollback(em);
+                throw new DatabaseException("Failed to save translation memory", e);
+            }
+        }
+    }
+
+    @Override
+    public long count()
+    {
+        try (EntityManager em = emf.createEntityManager())
+        {
+            try
+            {
+                return em.createQuery("SELECT COUNT(tm) FROM TranslationMemoryEntry tm", Long.class)
+                    .getSingleResult();
+            }
+            catch (PersistenceException e)
+            {
+                throw new DatabaseException("Failed to count translation memory", e);
+            }
+        }
+    }
+}
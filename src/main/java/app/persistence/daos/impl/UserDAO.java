@@ -142,6 +142,35 @@ public class UserDAO implements IUserDAO
         }
     }
 
+    @Override
+    public boolean replacePasswordHash(Long userId, String currentHash, String newHash)
+    {
+        ValidationUtil.validateId(userId);
+        ValidationUtil.validateNotBlank(currentHash, "Current password hash");
+        ValidationUtil.validateNotBlank(newHash, "New password hash");
+
+        try (EntityManager em = emf.createEntityManager())
+        {
+            try
+            {
+                em.getTransaction().begin();
+                int updated = em.createQuery(
+                        "UPDATE User u SET u.hashedPassword = :newHash WHERE u.id = :id AND u.hashedPassword = :currentHash")
+                    .setParameter("newHash", newHash)
+                    .setParameter("id", userId)
+                    .setParameter("currentHash", currentHash)
+                    .executeUpdate();
+                em.getTransaction().commit();
+                return updated > 0;
+            }
+            catch (PersistenceException e)
+            {
+                TransactionUtil.rollback(em);
+                throw new DatabaseException("Failed to replace password hash for user: " + userId, e);
+            }
+        }
+    }
+
     @Override
     public boolean delete(Long id)
     {
@@ -19,4 +19,8 @@ public interface IAllergenDAO extends IEntityDAO<Allergen, Long>, IAllergenReade
     Set<Allergen> getAll();
 
     long count();
+
+    int refreshAllergenMasks();
+
+    int backfillMissingAllergenMasks();
 }
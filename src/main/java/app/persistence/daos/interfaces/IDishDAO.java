@@ -1,5 +1,6 @@
 package app.persistence.daos.interfaces;
 
+import app.dtos.dish.DishCatalogueStamp;
 import app.persistence.daos.interfaces.generic.IEntityDAO;
 import app.persistence.daos.interfaces.readers.IDishReader;
 import app.persistence.entities.Dish;
@@ -24,5 +25,9 @@ public interface IDishDAO extends IDishReader, IEntityDAO<Dish, Long>
 
     Set<Dish> findByFilter(Long stationId, Boolean active);
 
+    Set<Dish> findByFilter(Long stationId, Boolean active, int excludedAllergens);
+
     void updateAll(Set<Dish> dishes);
+
+    DishCatalogueStamp getCatalogueStamp();
 }
@@ -6,8 +6,12 @@ import app.persistence.daos.interfaces.readers.IDishSuggestionReader;
 import app.persistence.entities.DishSuggestion;
 
 import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
 
 public interface IDishSuggestionDAO extends IDishSuggestionReader, IEntityDAO<DishSuggestion, Long>
 {
     Set<DishSuggestion> findByFilter(Status status, Long creatorId, Integer week, Integer year, Long stationId, String orderBy, Integer limit);
+
+    void streamPage(Status status, Long creatorId, Integer week, Integer year, Long stationId, String orderBy, String cursor, int limit, BiConsumer<String, Stream<DishSuggestion>> reader);
 }
@@ -0,0 +1,17 @@
+package app.persistence.daos.interfaces;
+
+import app.enums.SupportedLanguage;
+import app.persistence.entities.IngredientNormalization;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public interface IIngredientNormalizationDAO
+{
+    Map<String, String> findCanonicalNames(Collection<String> rawKeys, SupportedLanguage language);
+
+    List<IngredientNormalization> findByLanguage(SupportedLanguage language);
+
+    void saveAll(Collection<IngredientNormalization> entries);
+}
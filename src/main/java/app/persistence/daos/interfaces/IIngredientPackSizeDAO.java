@@ -0,0 +1,12 @@
+package app.persistence.daos.interfaces;
+
+import app.persistence.entities.IngredientPackSize;
+
+import java.util.List;
+
+public interface IIngredientPackSizeDAO
+{
+    List<IngredientPackSize> findAll();
+
+    IngredientPackSize upsert(IngredientPackSize packSize);
+}
@@ -8,8 +8,15 @@ import app.persistence.entities.IngredientRequest;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 public interface IIngredientRequestDAO extends IIngredientRequestReader, IEntityDAO<IngredientRequest, Long>
 {
-    List<IngredientRequest> findByFilter(Status status, LocalDate deliveryDate, Long creatorId, RequestType requestType, Long stationId, Integer limit);
+    void streamPage(Status status, LocalDate deliveryDate, Long creatorId, RequestType requestType, Long stationId, String cursor, int limit, BiConsumer<String, Stream<IngredientRequest>> reader);
+
+    List<String> findDistinctNames(Status status, LocalDate deliveryDate);
+
+    <R> R streamByFilter(Status status, LocalDate deliveryDate, Function<Stream<IngredientRequest>, R> reader);
 }
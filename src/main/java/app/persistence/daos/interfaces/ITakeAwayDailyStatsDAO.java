@@ -0,0 +1,17 @@
+package app.persistence.daos.interfaces;
+
+import app.persistence.entities.TakeAwayDailyStats;
+import app.persistence.entities.TakeAwayOfferDailyStats;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+public interface ITakeAwayDailyStatsDAO
+{
+    Optional<TakeAwayDailyStats> findByDate(LocalDate date);
+
+    List<TakeAwayOfferDailyStats> findOfferStatsByDate(LocalDate date);
+
+    int backfillHistoryIfEmpty();
+}
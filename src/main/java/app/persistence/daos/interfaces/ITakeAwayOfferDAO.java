@@ -4,13 +4,22 @@ import app.persistence.daos.interfaces.generic.IEntityDAO;
 import app.persistence.entities.TakeAwayOffer;
 
 import java.time.LocalDate;
+import java.util.Map;
 import java.util.Set;
 
 public interface ITakeAwayOfferDAO extends IEntityDAO<TakeAwayOffer, Long>
 {
     Set<TakeAwayOffer> findByFilter(LocalDate date, Boolean isSoldOut, Boolean isEnabled, Long dishId);
 
+    Set<TakeAwayOffer> findByFilter(LocalDate date, Boolean isSoldOut, Boolean isEnabled, Long dishId, int excludedAllergens);
+
     boolean existsByDishAndDate(Long dishId, LocalDate date);
 
     boolean isUsedInAnyOrders(Long offerId);
+
+    int getReservablePortions(Long offerId);
+
+    Map<Long, Integer> findReservablePortionsByDate(LocalDate date);
+
+    void releasePortions(Long offerId, int quantity);
 }
@@ -6,11 +6,12 @@ import app.persistence.entities.TakeAwayOrder;
 
 import java.time.LocalDate;
 import java.util.Optional;
-import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
 
 public interface ITakeAwayOrderDAO
 {
-    Set<TakeAwayOrder> findByFilter(Long customerId, Long offerId, LocalDate date, OrderStatus status);
+    void streamPage(Long customerId, Long offerId, LocalDate date, OrderStatus status, String cursor, int limit, BiConsumer<String, Stream<TakeAwayOrder>> reader);
 
     Optional<Long> sumSoldQuantityByDate(LocalDate date);
 
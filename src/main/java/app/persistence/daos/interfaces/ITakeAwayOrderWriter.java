@@ -0,0 +1,14 @@
+package app.persistence.daos.interfaces;
+
+import app.dtos.takeaway.TakeAwayOrderCreateDTO;
+import app.persistence.entities.TakeAwayOrder;
+
+import java.util.concurrent.CompletableFuture;
+
+public interface ITakeAwayOrderWriter extends AutoCloseable
+{
+    CompletableFuture<TakeAwayOrder> submit(Long customerId, TakeAwayOrderCreateDTO dto);
+
+    @Override
+    void close();
+}
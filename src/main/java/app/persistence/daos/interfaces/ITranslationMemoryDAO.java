@@ -0,0 +1,15 @@
+package app.persistence.daos.interfaces;
+
+import app.persistence.entities.TranslationMemoryEntry;
+
+import java.util.Collection;
+import java.util.Map;
+
+public interface ITranslationMemoryDAO
+{
+    Map<String, String> findTranslations(Collection<String> sourceHashes, String targetLanguage);
+
+    void saveAll(Collection<TranslationMemoryEntry> entries);
+
+    long count();
+}
@@ -14,4 +14,6 @@ public interface IUserDAO extends IUserReader, IEntityDAO<User, Long>
     Set<User> findByStationId(Long stationId);
 
     Set<User> findByRole(UserRole role);
+
+    boolean replacePasswordHash(Long userId, String currentHash, String newHash);
 }
@@ -1,5 +1,6 @@
 package app.persistence.entities;
 
+import app.utils.AllergenMask;
 import app.utils.ValidationUtil;
 import jakarta.persistence.*;
 import lombok.Getter;
@@ -41,6 +42,9 @@ public class Dish implements IEntity
     @JoinTable(name = "dish_allergen", joinColumns = @JoinColumn(name = "dish_id"), inverseJoinColumns = @JoinColumn(name = "allergen_id"))
     private Set<Allergen> allergens = new HashSet<>();
 
+    @Column(name = "allergen_mask", nullable = false, columnDefinition = "integer default 0")
+    private int allergenMask;
+
     @Column(name = "is_active", nullable = false)
     private boolean isActive;
 
@@ -73,6 +77,7 @@ public class Dish implements IEntity
         this.descriptionDA = descriptionDA.trim();
         this.station = station;
         this.allergens = allergens != null ? allergens : new HashSet<>();
+        this.allergenMask = AllergenMask.of(this.allergens);
         this.createdBy = createdBy;
         this.originWeek = originWeek;
         this.originYear = originYear;
@@ -93,6 +98,7 @@ public class Dish implements IEntity
         {
             this.allergens.clear();
             this.allergens.addAll(allergens);
+            this.allergenMask = AllergenMask.of(this.allergens);
         }
     }
 
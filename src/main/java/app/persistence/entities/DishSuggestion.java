@@ -4,6 +4,7 @@ import app.enums.Status;
 import app.exceptions.ConflictException;
 import app.exceptions.UnauthorizedActionException;
 import app.exceptions.ValidationException;
+import app.utils.AllergenMask;
 import app.utils.ValidationUtil;
 import jakarta.persistence.*;
 import lombok.Getter;
@@ -60,6 +61,9 @@ public class DishSuggestion implements IEntity
     @JoinTable(name = "dish_suggestion_allergen", joinColumns = @JoinColumn(name = "dish_suggestion_id"), inverseJoinColumns = @JoinColumn(name = "allergen_id"))
     private Set<Allergen> allergens = new HashSet<>();
 
+    @Column(name = "allergen_mask", nullable = false, columnDefinition = "integer default 0")
+    private int allergenMask;
+
     @Column(name = "reviewed_at")
     private LocalDateTime reviewedAt;
 
@@ -85,6 +89,7 @@ public class DishSuggestion implements IEntity
         this.station = station;
         this.createdBy = createdBy;
         this.allergens = allergens;
+        this.allergenMask = AllergenMask.of(allergens);
         this.dishStatus = Status.PENDING;
     }
 
@@ -101,6 +106,7 @@ public class DishSuggestion implements IEntity
         {
             this.allergens.clear();
             this.allergens.addAll(newAllergens);
+            this.allergenMask = AllergenMask.of(this.allergens);
         }
     }
 
@@ -131,6 +137,7 @@ public class DishSuggestion implements IEntity
         if(allergen != null)
         {
             this.allergens.add(allergen);
+            this.allergenMask = AllergenMask.of(this.allergens);
         }
     }
 
@@ -140,6 +147,7 @@ public class DishSuggestion implements IEntity
         if(allergen != null)
         {
             this.allergens.remove(allergen);
+            this.allergenMask = AllergenMask.of(this.allergens);
         }
     }
 
@@ -0,0 +1,94 @@
+package app.persistence.entities;
+
+import app.enums.NormalizationSource;
+import app.enums.SupportedLanguage;
+import app.utils.ValidationUtil;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Locale;
+
+@NoArgsConstructor(access = lombok.AccessLevel.PROTECTED)
+@Getter
+@Entity
+@Table(
+    name = "ingredient_normalization",
+    uniqueConstraints = @UniqueConstraint(name = "uk_ingredient_normalization_key_language", columnNames = {"raw_key", "language"})
+)
+public class IngredientNormalization implements IEntity
+{
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "raw_key", nullable = false, length = 120)
+    private String rawKey;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "language", nullable = false, length = 10)
+    private SupportedLanguage language;
+
+    @Column(name = "raw_name", nullable = false, length = 120)
+    private String rawName;
+
+    @Column(name = "canonical_name", nullable = false, length = 80)
+    private String canonicalName;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "source", nullable = false, length = 10)
+    private NormalizationSource source;
+
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public IngredientNormalization(String rawName, SupportedLanguage language, String canonicalName, NormalizationSource source)
+    {
+        ValidationUtil.validateNotBlank(rawName, "Raw name");
+        ValidationUtil.validateNotNull(language, "Language");
+        ValidationUtil.validateNotBlank(canonicalName, "Canonical name");
+        ValidationUtil.validateNotNull(source, "Source");
+
+        this.rawKey = keyOf(rawName);
+        this.language = language;
+        this.rawName = rawName.trim();
+        this.canonicalName = canonicalName.trim();
+        this.source = source;
+    }
+
+    public static String keyOf(String rawName)
+    {
+        return rawName.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    @PrePersist
+    private void onCreate()
+    {
+        this.createdAt = LocalDateTime.now();
+        this.updatedAt = this.createdAt;
+    }
+
+    @PreUpdate
+    private void onUpdate()
+    {
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    @Override
+    public boolean equals(Object o)
+    {
+        if (this == o) return true;
+        if (!(o instanceof IngredientNormalization other)) return false;
+        return id != null && id.equals(other.id);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return getClass().hashCode();
+    }
+}
@@ -0,0 +1,101 @@
+package app.persistence.entities;
+
+import app.enums.Unit;
+import app.utils.ValidationUtil;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@NoArgsConstructor(access = lombok.AccessLevel.PROTECTED)
+@Getter
+@Entity
+@Table(
+    name = "ingredient_pack_size",
+    uniqueConstraints = @UniqueConstraint(name = "uk_ingredient_pack_size_name_unit", columnNames = {"name_key", "pack_unit"})
+)
+public class IngredientPackSize implements IEntity
+{
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "name_key", nullable = false, length = 120)
+    private String nameKey;
+
+    @Column(name = "ingredient_name", nullable = false, length = 80)
+    private String ingredientName;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "pack_unit", nullable = false, length = 10)
+    private Unit packUnit;
+
+    @Column(name = "quantity", nullable = false)
+    private double quantity;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "unit", nullable = false, length = 10)
+    private Unit unit;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public IngredientPackSize(String ingredientName, Unit packUnit, double quantity, Unit unit)
+    {
+        ValidationUtil.validateName(ingredientName, "Ingredient name");
+        ValidationUtil.validateNotNull(packUnit, "Pack unit");
+        ValidationUtil.validatePositive(quantity, "Quantity");
+        ValidationUtil.validateNotNull(unit, "Unit");
+
+        if (!packUnit.isPackaging())
+        {
+            throw new IllegalArgumentException("Pack unit must be a packaging unit, was: " + packUnit);
+        }
+        if (unit.isPackaging())
+        {
+            throw new IllegalArgumentException("Pack content unit cannot be a packaging unit, was: " + unit);
+        }
+
+        this.nameKey = IngredientNormalization.keyOf(ingredientName);
+        this.ingredientName = ingredientName.trim();
+        this.packUnit = packUnit;
+        this.quantity = quantity;
+        this.unit = unit;
+    }
+
+    public void update(double quantity, Unit unit)
+    {
+        ValidationUtil.validatePositive(quantity, "Quantity");
+        ValidationUtil.validateNotNull(unit, "Unit");
+
+        if (unit.isPackaging())
+        {
+            throw new IllegalArgumentException("Pack content unit cannot be a packaging unit, was: " + unit);
+        }
+
+        this.quantity = quantity;
+        this.unit = unit;
+    }
+
+    @PrePersist
+    @PreUpdate
+    private void onSave()
+    {
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    @Override
+    public boolean equals(Object o)
+    {
+        if (this == o) return true;
+        if (!(o instanceof IngredientPackSize other)) return false;
+        return id != null && id.equals(other.id);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return getClass().hashCode();
+    }
+}
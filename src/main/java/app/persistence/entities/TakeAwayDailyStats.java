@@ -0,0 +1,46 @@
+package app.persistence.entities;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@NoArgsConstructor(access = lombok.AccessLevel.PROTECTED)
+@Getter
+@Entity
+@Table(
+    name = "take_away_daily_stats",
+    uniqueConstraints = @UniqueConstraint(name = "uk_take_away_daily_stats_date", columnNames = "stats_date")
+)
+public class TakeAwayDailyStats implements IEntity
+{
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "stats_date", nullable = false)
+    private LocalDate statsDate;
+
+    @Column(name = "orders", nullable = false)
+    private long orders;
+
+    @Column(name = "paid_orders", nullable = false)
+    private long paidOrders;
+
+    @Column(name = "cancelled_orders", nullable = false)
+    private long cancelledOrders;
+
+    @Column(name = "sold_portions", nullable = false)
+    private long soldPortions;
+
+    @Column(name = "cancelled_portions", nullable = false)
+    private long cancelledPortions;
+
+    @Column(name = "revenue", nullable = false)
+    private double revenue;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
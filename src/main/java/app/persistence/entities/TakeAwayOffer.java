@@ -91,17 +91,9 @@ public class TakeAwayOffer implements IEntity
 
     public void sellPortions(int quantity)
     {
-        ValidationUtil.validatePositive(quantity, "Quantity");
-        requireEnabled();
-        requireNotSoldOut();
+        requireSellable(quantity);
 
         int remainingPortions = availablePortions - quantity;
-
-        if (remainingPortions < 0)
-        {
-            throw new ConflictException("Not enough portions left for your order");
-        }
-
         availablePortions = remainingPortions;
 
         if (remainingPortions == 0)
@@ -111,6 +103,18 @@ public class TakeAwayOffer implements IEntity
         }
     }
 
+    public void requireSellable(int quantity)
+    {
+        ValidationUtil.validatePositive(quantity, "Quantity");
+        requireEnabled();
+        requireNotSoldOut();
+
+        if (availablePortions - quantity < 0)
+        {
+            throw new ConflictException("Not enough portions left for your order");
+        }
+    }
+
     public void addPortionsBack(int quantity)
     {
         ValidationUtil.validatePositive(quantity, "Quantity");
@@ -0,0 +1,86 @@
+package app.persistence.entities;
+
+import app.utils.ValidationUtil;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+
+@NoArgsConstructor(access = lombok.AccessLevel.PROTECTED)
+@Getter
+@Entity
+@Table(
+    name = "translation_memory",
+    uniqueConstraints = @UniqueConstraint(name = "uk_translation_memory_source_language", columnNames = {"source_hash", "target_language"})
+)
+public class TranslationMemoryEntry implements IEntity
+{
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "source_hash", nullable = false, length = 64)
+    private String sourceHash;
+
+    @Column(name = "target_language", nullable = false, length = 10)
+    private String targetLanguage;
+
+    @Column(name = "source_text", nullable = false, columnDefinition = "text")
+    private String sourceText;
+
+    @Column(name = "translated_text", nullable = false, columnDefinition = "text")
+    private String translatedText;
+
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    public TranslationMemoryEntry(String sourceText, String targetLanguage, String translatedText)
+    {
+        ValidationUtil.validateNotNull(sourceText, "Source text");
+        ValidationUtil.validateNotBlank(targetLanguage, "Target language");
+        ValidationUtil.validateNotNull(translatedText, "Translated text");
+
+        this.sourceHash = hashOf(sourceText);
+        this.targetLanguage = targetLanguage;
+        this.sourceText = sourceText;
+        this.translatedText = translatedText;
+    }
+
+    public static String hashOf(String sourceText)
+    {
+        try
+        {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(sourceText.getBytes(StandardCharsets.UTF_8)));
+        }
+        catch (NoSuchAlgorithmException e)
+        {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    @PrePersist
+    private void onCreate()
+    {
+        this.createdAt = LocalDateTime.now();
+    }
+
+    @Override
+    public boolean equals(Object o)
+    {
+        if (this == o) return true;
+        if (!(o instanceof TranslationMemoryEntry other)) return false;
+        return id != null && id.equals(other.id);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return getClass().hashCode();
+    }
+}
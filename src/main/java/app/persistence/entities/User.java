@@ -30,6 +30,7 @@ public class User implements IEntity
     @Column(name = "email", nullable = false, unique = true, length = 100)
     private String email;
 
+    @Getter
     @Column(name = "hashed_password", nullable = false)
     private String hashedPassword;
 
@@ -18,8 +18,9 @@ public class ApiRoutes
     private final ShoppingListRoute shoppingListRoute;
     private final NotificationRoute notificationRoute;
     private final TakeAwayRoute takeAwayRoute;
+    private final MetricsRoute metricsRoute;
 
-    public ApiRoutes(SecurityRoute securityRoute, AllergenRoute allergenRoute, UserRoute userRoute, StationRoute stationRoute, MenuInspirationRoute menuInspirationRoute, DishSuggestionRoute dishSuggestionRoute, DishRoute dishRoute, WeeklyMenuRoute weeklyMenuRoute, IngredientRequestRoute ingredientRequestRoute, ShoppingListRoute shoppingListRoute, NotificationRoute notificationRoute, TakeAwayRoute takeAwayRoute)
+    public ApiRoutes(SecurityRoute securityRoute, AllergenRoute allergenRoute, UserRoute userRoute, StationRoute stationRoute, MenuInspirationRoute menuInspirationRoute, DishSuggestionRoute dishSuggestionRoute, DishRoute dishRoute, WeeklyMenuRoute weeklyMenuRoute, IngredientRequestRoute ingredientRequestRoute, ShoppingListRoute shoppingListRoute, NotificationRoute notificationRoute, TakeAwayRoute takeAwayRoute, MetricsRoute metricsRoute)
     {
         this.securityRoute = securityRoute;
         this.allergenRoute = allergenRoute;
@@ -33,6 +34,7 @@ public class ApiRoutes
         this.shoppingListRoute = shoppingListRoute;
         this.notificationRoute = notificationRoute;
         this.takeAwayRoute = takeAwayRoute;
+        this.metricsRoute = metricsRoute;
     }
 
     public EndpointGroup getRoutes()
@@ -51,6 +53,7 @@ public class ApiRoutes
             shoppingListRoute.getRoutes().addEndpoints();
             notificationRoute.getRoutes().addEndpoints();
             takeAwayRoute.getRoutes().addEndpoints();
+            metricsRoute.getRoutes().addEndpoints();
         };
     }
 }
@@ -0,0 +1,22 @@
+package app.routes.resources;
+
+import app.controllers.IMetricsController;
+import app.enums.Role;
+import io.javalin.apibuilder.EndpointGroup;
+
+import static io.javalin.apibuilder.ApiBuilder.*;
+
+public class MetricsRoute
+{
+    private final IMetricsController metricsController;
+
+    public MetricsRoute(IMetricsController metricsController)
+    {
+        this.metricsController = metricsController;
+    }
+
+    public EndpointGroup getRoutes()
+    {
+        return () -> get("metrics", metricsController::getMetrics, Role.ANYONE);
+    }
+}
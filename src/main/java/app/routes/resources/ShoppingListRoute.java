@@ -20,6 +20,10 @@ public class ShoppingListRoute
         return () -> path("shopping-lists", () ->
         {
             get("", shoppingListController::getShoppingLists, Role.HEAD_CHEF, Role.SOUS_CHEF);
+            get("normalizations", shoppingListController::getNormalizations, Role.HEAD_CHEF, Role.SOUS_CHEF);
+            put("normalizations", shoppingListController::correctNormalization, Role.HEAD_CHEF, Role.SOUS_CHEF);
+            get("pack-sizes", shoppingListController::getPackSizes, Role.HEAD_CHEF, Role.SOUS_CHEF);
+            put("pack-sizes", shoppingListController::savePackSize, Role.HEAD_CHEF, Role.SOUS_CHEF);
             get("{id}", shoppingListController::getById, Role.HEAD_CHEF, Role.SOUS_CHEF);
             post("", shoppingListController::create, Role.HEAD_CHEF, Role.SOUS_CHEF);
             post("{id}/finalize", shoppingListController::finalizeShoppingList, Role.HEAD_CHEF, Role.SOUS_CHEF);
@@ -0,0 +1,343 @@
+package app.search;
+
+import app.dtos.dish.DishCatalogueStamp;
+import app.dtos.dish.DishDTO;
+import app.mappers.DishMapper;
+import app.persistence.daos.interfaces.IDishDAO;
+import app.utils.AllergenMask;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+public class DishSearchIndex
+{
+    private static final int GRAM_SIZE = 3;
+    private static final char PAD = '_';
+    private static final double MIN_SCORE = 0.5;
+    private static final int MAX_RESULTS = 50;
+
+    private final IDishDAO dishDAO;
+    private final long refreshIntervalNanos;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Object refreshLock = new Object();
+    private final Map<Long, IndexedDish> dishes = new HashMap<>();
+    private final Map<String, Set<Long>> postings = new HashMap<>();
+
+    private volatile DishCatalogueStamp stamp;
+    private volatile long lastCheckedAt;
+    private volatile boolean loaded;
+
+    public DishSearchIndex(IDishDAO dishDAO, long refreshIntervalMs)
+    {
+        this.dishDAO = dishDAO;
+        this.refreshIntervalNanos = TimeUnit.MILLISECONDS.toNanos(refreshIntervalMs);
+    }
+
+    public List<DishDTO> search(String query, Long stationId, int excludedAllergens)
+    {
+        ensureFresh();
+
+        String normalized = normalize(query);
+        List<String> tokens = tokenize(normalized);
+
+        if (tokens.isEmpty())
+        {
+            return List.of();
+        }
+
+        Set<String> queryGrams = queryGrams(tokens);
+
+        lock.readLock().lock();
+        try
+        {
+            Map<Long, Integer> matchedGrams = new HashMap<>();
+
+            for (String gram : queryGrams)
+            {
+                Set<Long> ids = postings.get(gram);
+
+                if (ids != null)
+                {
+                    ids.forEach(id -> matchedGrams.merge(id, 1, Integer::sum));
+                }
+            }
+
+            if (normalized.length() < GRAM_SIZE)
+            {
+                dishes.keySet().forEach(id -> matchedGrams.putIfAbsent(id, 0));
+            }
+
+            List<ScoredDish> hits = new ArrayList<>();
+
+            for (Map.Entry<Long, Integer> entry : matchedGrams.entrySet())
+            {
+                IndexedDish dish = dishes.get(entry.getKey());
+
+                if (!dish.isVisible(stationId, excludedAllergens))
+                {
+                    continue;
+                }
+
+                double score = dish.score(normalized, entry.getValue(), queryGrams.size());
+
+                if (score >= MIN_SCORE)
+                {
+                    hits.add(new ScoredDish(dish, score));
+                }
+            }
+
+            return hits.stream()
+                .sorted(Comparator.comparingDouble(ScoredDish::score).reversed()
+                    .thenComparing(hit -> hit.dish().dto().nameDA()))
+                .limit(MAX_RESULTS)
+                .map(hit -> hit.dish().dto())
+                .toList();
+        }
+        finally
+        {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void upsert(DishDTO dish)
+    {
+        if (!dish.active())
+        {
+            remove(dish.id());
+            return;
+        }
+
+        IndexedDish indexed = IndexedDish.of(dish);
+
+        lock.writeLock().lock();
+        try
+        {
+            removeUnlocked(dish.id());
+            addUnlocked(indexed);
+        }
+        finally
+        {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long dishId)
+    {
+        lock.writeLock().lock();
+        try
+        {
+            removeUnlocked(dishId);
+        }
+        finally
+        {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void invalidate()
+    {
+        loaded = false;
+    }
+
+    public int size()
+    {
+        lock.readLock().lock();
+        try
+        {
+            return dishes.size();
+        }
+        finally
+        {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void ensureFresh()
+    {
+        if (loaded && System.nanoTime() - lastCheckedAt < refreshIntervalNanos)
+        {
+            return;
+        }
+
+        synchronized (refreshLock)
+        {
+            if (loaded && System.nanoTime() - lastCheckedAt < refreshIntervalNanos)
+            {
+                return;
+            }
+
+            DishCatalogueStamp current = dishDAO.getCatalogueStamp();
+
+            if (!loaded || !current.equals(stamp))
+            {
+                rebuild();
+            }
+
+            stamp = current;
+            lastCheckedAt = System.nanoTime();
+            loaded = true;
+        }
+    }
+
+    private void rebuild()
+    {
+        List<IndexedDish> activeDishes = dishDAO.findByFilter(null, true)
+            .stream()
+            .map(DishMapper::toDTO)
+            .map(IndexedDish::of)
+            .toList();
+
+        lock.writeLock().lock();
+        try
+        {
+            dishes.clear();
+            postings.clear();
+            activeDishes.forEach(this::addUnlocked);
+        }
+        finally
+        {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void addUnlocked(IndexedDish dish)
+    {
+        dishes.put(dish.dto().id(), dish);
+        dish.grams().forEach(gram -> postings.computeIfAbsent(gram, g -> new HashSet<>()).add(dish.dto().id()));
+    }
+
+    private void removeUnlocked(Long dishId)
+    {
+        IndexedDish previous = dishes.remove(dishId);
+
+        if (previous == null)
+        {
+            return;
+        }
+
+        for (String gram : previous.grams())
+        {
+            Set<Long> ids = postings.get(gram);
+
+            if (ids != null)
+            {
+                ids.remove(dishId);
+
+                if (ids.isEmpty())
+                {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    static String normalize(String text)
+    {
+        if (text == null)
+        {
+            return "";
+        }
+
+        StringBuilder normalized = new StringBuilder(text.length());
+        boolean lastWasSpace = true;
+
+        for (char c : text.toLowerCase(Locale.ROOT).toCharArray())
+        {
+            if (Character.isLetterOrDigit(c))
+            {
+                normalized.append(c);
+                lastWasSpace = false;
+            }
+            else if (!lastWasSpace)
+            {
+                normalized.append(' ');
+                lastWasSpace = true;
+            }
+        }
+
+        return normalized.toString().trim();
+    }
+
+    private static List<String> tokenize(String normalized)
+    {
+        return normalized.isEmpty() ? List.of() : List.of(normalized.split(" "));
+    }
+
+    private static Set<String> queryGrams(List<String> tokens)
+    {
+        Set<String> grams = new HashSet<>();
+
+        for (int i = 0; i < tokens.size(); i++)
+        {
+            boolean isPrefix = i == tokens.size() - 1;
+            addGrams(grams, PAD + tokens.get(i) + (isPrefix ? "" : String.valueOf(PAD)));
+        }
+        return grams;
+    }
+
+    private static Set<String> documentGrams(String... names)
+    {
+        Set<String> grams = new HashSet<>();
+
+        for (String name : names)
+        {
+            tokenize(name).forEach(token -> addGrams(grams, PAD + token + PAD));
+        }
+        return grams;
+    }
+
+    private static void addGrams(Set<String> grams, String padded)
+    {
+        for (int i = 0; i + GRAM_SIZE <= padded.length(); i++)
+        {
+            grams.add(padded.substring(i, i + GRAM_SIZE));
+        }
+    }
+
+    private record IndexedDish(DishDTO dto, String nameDA, String nameEN, int allergenMask, Set<String> grams)
+    {
+        static IndexedDish of(DishDTO dish)
+        {
+            String nameDA = normalize(dish.nameDA());
+            String nameEN = normalize(dish.nameEN());
+
+            return new IndexedDish(dish, nameDA, nameEN, AllergenMask.ofDTOs(dish.allergens()), documentGrams(nameDA, nameEN));
+        }
+
+        boolean isVisible(Long stationId, int excludedAllergens)
+        {
+            if (stationId != null && (dto.station() == null || !stationId.equals(dto.station().id())))
+            {
+                return false;
+            }
+            return AllergenMask.isFree(allergenMask, excludedAllergens);
+        }
+
+        double score(String query, int matchedGrams, int queryGrams)
+        {
+            double score = queryGrams == 0 ? 0 : (double) matchedGrams / queryGrams;
+
+            if (nameDA.contains(query) || nameEN.contains(query))
+            {
+                score += 1.0;
+            }
+
+            if (startsWord(nameDA, query) || startsWord(nameEN, query))
+            {
+                score += 0.5;
+            }
+            return score;
+        }
+
+        private static boolean startsWord(String name, String query)
+        {
+            return name.startsWith(query) || name.contains(" " + query);
+        }
+    }
+
+    private record ScoredDish(IndexedDish dish, double score)
+    {
+    }
+}
@@ -1,5 +1,6 @@
 package app.services;
 
+import app.cache.CachedJson;
 import app.dtos.allergen.AllergenCreateRequestDTO;
 import app.dtos.allergen.AllergenDTO;
 import app.dtos.allergen.AllergenUpdateRequestDTO;
@@ -18,6 +19,8 @@ public interface IAllergenService
 
     List<AllergenDTO> getAllAllergens();
 
+    CachedJson<List<AllergenDTO>> getAllAllergensJson();
+
     List<AllergenDTO> searchByName(String query);
 
     List<AllergenDTO> seedEUAllergens();
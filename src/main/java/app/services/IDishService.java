@@ -14,7 +14,7 @@ public interface IDishService
 
     DishDetailDTO getById(Long dishId);
 
-    List<DishDTO> searchByName(String query);
+    List<DishDTO> searchByName(String query, Long stationId, int excludedAllergens);
 
     boolean deleteDish(Long dishId);
 
@@ -24,7 +24,7 @@ public interface IDishService
 
     AvailableDishesDTO getAvailableDishesForMenu(int week, int year);
 
-    List<DishDTO> getAll(Long stationId, Boolean active);
+    List<DishDTO> getAll(Long stationId, Boolean active, int excludedAllergens);
 
     Map<String, List<DishOptionDTO>> getAllActiveDishesGrouped();
 }
@@ -8,6 +8,8 @@ import app.dtos.security.AuthenticatedUser;
 import app.enums.Status;
 
 import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
 
 public interface IDishSuggestionService
 {
@@ -23,7 +25,7 @@ public interface IDishSuggestionService
 
     DishSuggestionDTO getById(AuthenticatedUser authUser, Long id);
 
-    List<DishSuggestionDTO> getByFilter(AuthenticatedUser authUser, DishSuggestionFilterDTO dto);
+    void streamByFilter(AuthenticatedUser authUser, DishSuggestionFilterDTO dto, String cursor, BiConsumer<String, Stream<DishSuggestionDTO>> writer);
 
     List<DishSuggestionDTO> getCurrentWeek(Status status);
 
@@ -0,0 +1,17 @@
+package app.services;
+
+import app.dtos.shopping.IngredientNormalizationDTO;
+import app.dtos.shopping.NormalizationResult;
+import app.dtos.shopping.UpdateIngredientNormalizationDTO;
+import app.enums.SupportedLanguage;
+
+import java.util.List;
+
+public interface IIngredientNormalizationService
+{
+    NormalizationResult normalize(List<String> ingredientNames, SupportedLanguage language);
+
+    List<IngredientNormalizationDTO> getNormalizations(SupportedLanguage language);
+
+    IngredientNormalizationDTO correctNormalization(UpdateIngredientNormalizationDTO dto);
+}
@@ -9,7 +9,8 @@ import app.enums.RequestType;
 import app.enums.Status;
 
 import java.time.LocalDate;
-import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
 
 public interface IIngredientRequestService
 {
@@ -19,7 +20,7 @@ public interface IIngredientRequestService
 
     IngredientRequestDTO rejectIngredientRequest(AuthenticatedUser authUser, Long requestId);
 
-    List<IngredientRequestDTO> getRequests(AuthenticatedUser authUser, Status status, LocalDate deliveryDate, RequestType requestType, Long stationId, Integer limit);
+    void streamRequests(AuthenticatedUser authUser, Status status, LocalDate deliveryDate, RequestType requestType, Long stationId, String cursor, Integer limit, BiConsumer<String, Stream<IngredientRequestDTO>> writer);
 
     IngredientRequestDTO getById(AuthenticatedUser authUser, Long id);
 
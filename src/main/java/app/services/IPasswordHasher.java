@@ -0,0 +1,14 @@
+package app.services;
+
+import java.util.concurrent.CompletableFuture;
+
+public interface IPasswordHasher
+{
+    CompletableFuture<String> hash(String plainPassword);
+
+    CompletableFuture<String> hashWhenIdle(String plainPassword);
+
+    CompletableFuture<Boolean> verify(String plainPassword, String hashedPassword);
+
+    boolean needsRehash(String hashedPassword);
+}
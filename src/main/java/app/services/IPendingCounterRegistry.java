@@ -0,0 +1,14 @@
+package app.services;
+
+import app.enums.NotificationCategory;
+
+public interface IPendingCounterRegistry
+{
+    int increment(NotificationCategory category);
+
+    int decrement(NotificationCategory category);
+
+    int getPendingCount(NotificationCategory category);
+
+    void resync();
+}
@@ -0,0 +1,18 @@
+package app.services;
+
+import java.util.Map;
+
+public interface IPortionInventoryService
+{
+    void reserve(Map<Long, Integer> quantitiesByOffer);
+
+    void confirm(Map<Long, Integer> quantitiesByOffer);
+
+    void release(Map<Long, Integer> quantitiesByOffer);
+
+    void invalidate(Long offerId);
+
+    void reconcile();
+
+    int getAvailablePortions(Long offerId);
+}
@@ -4,9 +4,11 @@ import app.dtos.security.AuthenticatedUser;
 import app.dtos.security.LoginRequestDTO;
 import app.dtos.security.LoginResponseDTO;
 
+import java.util.concurrent.CompletableFuture;
+
 public interface ISecurityService
 {
-    LoginResponseDTO login(LoginRequestDTO dto);
+    CompletableFuture<LoginResponseDTO> login(LoginRequestDTO dto);
 
     String createToken(Long userId, String email, String role);
 
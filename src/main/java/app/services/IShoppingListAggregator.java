@@ -1,14 +1,20 @@
 package app.services;
 
+import app.persistence.entities.IngredientPackSize;
 import app.persistence.entities.IngredientRequest;
 import app.persistence.entities.ShoppingListItem;
 
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 public interface IShoppingListAggregator
 {
     List<String> getUniqueIngredientNames(List<IngredientRequest> ingredientRequests);
 
     List<ShoppingListItem> aggregateAndGetShoppingListItems(List<IngredientRequest> ingredientRequests, Map<String, String> normalizedNames);
+
+    List<ShoppingListItem> aggregateAndGetShoppingListItems(List<IngredientRequest> ingredientRequests, Map<String, String> normalizedNames, List<IngredientPackSize> packSizes);
+
+    List<ShoppingListItem> aggregate(Stream<IngredientRequest> ingredientRequests, Map<String, String> normalizedNames, List<IngredientPackSize> packSizes);
 }
@@ -30,4 +30,8 @@ public interface IShoppingListService
     ShoppingListDTO getById(Long shoppingListId);
 
     ShoppingListDTO updateDeliveryDate(Long shoppingListId, UpdateShoppingListDTO dto);
+
+    List<PackSizeDTO> getPackSizes();
+
+    PackSizeDTO savePackSize(PackSizeDTO dto);
 }
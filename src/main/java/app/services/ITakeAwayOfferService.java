@@ -1,5 +1,6 @@
 package app.services;
 
+import app.cache.CachedJson;
 import app.dtos.security.AuthenticatedUser;
 import app.dtos.takeaway.TakeAwayOfferCreateDTO;
 import app.dtos.takeaway.TakeAwayOfferDTO;
@@ -22,5 +23,7 @@ public interface ITakeAwayOfferService
 
     List<TakeAwayOfferDTO> getOffers(LocalDate date, Boolean isSoldOut, Boolean isEnabled, Long dishId);
 
+    CachedJson<List<TakeAwayOfferDTO>> getOffersJson(LocalDate date, Boolean isSoldOut, Boolean isEnabled, Long dishId, int excludedAllergens);
+
     boolean deleteOffer(AuthenticatedUser authUser, Long offerId);
 }
@@ -7,7 +7,8 @@ import app.dtos.takeaway.TakeAwaySummaryDTO;
 import app.enums.OrderStatus;
 
 import java.time.LocalDate;
-import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
 
 public interface ITakeAwayOrderService
 {
@@ -19,7 +20,7 @@ public interface ITakeAwayOrderService
 
     TakeAwayOrderDTO getById(AuthenticatedUser authUser, Long orderId);
 
-    List<TakeAwayOrderDTO> getOrders(AuthenticatedUser authUser, Long customerId, Long offerId, LocalDate date, OrderStatus status);
+    void streamOrders(AuthenticatedUser authUser, Long customerId, Long offerId, LocalDate date, OrderStatus status, String cursor, Integer limit, BiConsumer<String, Stream<TakeAwayOrderDTO>> writer);
 
     TakeAwaySummaryDTO getSummary(LocalDate date);
 }
@@ -4,10 +4,11 @@ import app.dtos.security.AuthenticatedUser;
 import app.dtos.user.*;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public interface IUserService
 {
-    UserDTO registerUser(CreateUserRequestDTO dto);
+    CompletableFuture<UserDTO> registerUser(CreateUserRequestDTO dto);
 
     UserDTO findById(Long userId);
 
@@ -23,7 +24,7 @@ public interface IUserService
 
     UserDTO changeEmail(AuthenticatedUser authUser, Long targetUserId, EmailUpdateDTO dto);
 
-    UserDTO changePassword(AuthenticatedUser authUser, Long targetUserId, ChangeUserPasswordDTO dto);
+    CompletableFuture<UserDTO> changePassword(AuthenticatedUser authUser, Long targetUserId, ChangeUserPasswordDTO dto);
 
     List<UserDTO> findByStationId(Long stationId);
 }
@@ -1,5 +1,6 @@
 package app.services;
 
+import app.cache.CachedJson;
 import app.dtos.menu.*;
 import app.dtos.security.AuthenticatedUser;
 import app.enums.MenuStatus;
@@ -25,8 +26,12 @@ public interface IWeeklyMenuService
 
     WeeklyMenuDTO getByWeekAndYear(AuthenticatedUser authUser, int week, int year);
 
+    CachedJson<WeeklyMenuDTO> getByWeekAndYearJson(AuthenticatedUser authUser, int week, int year, int excludedAllergens);
+
     WeeklyMenuDTO getCurrentWeekMenu();
 
+    CachedJson<WeeklyMenuDTO> getCurrentWeekMenuJson(int excludedAllergens);
+
     WeeklyMenuDTO getById(Long menuId);
 
     List<WeeklyMenuOverviewDTO> getOverview(MenuStatus menuStatus, Integer year, Integer week, Integer limit);
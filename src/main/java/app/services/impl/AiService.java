@@ -7,10 +7,11 @@ import app.dtos.weather.WeatherForecastDTO;
 import app.enums.SupportedLanguage;
 import app.exceptions.AIIntegrationException;
 import app.integrations.ai.IAiClient;
+import app.integrations.ai.IncrementalJsonArrayParser;
+import app.integrations.weather.IWeatherClient;
 import app.services.IAiService;
 import app.utils.DishPromptBuilder;
 import app.utils.NormalizeTextPromptBuilder;
-import app.utils.WeatherForecastBuilder;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -24,11 +25,13 @@ public class AiService implements IAiService
 {
     private final ObjectMapper objectMapper;
     private final IAiClient aiClient;
+    private final IWeatherClient weatherClient;
 
-    public AiService(ObjectMapper objectMapper, IAiClient aiClient)
+    public AiService(ObjectMapper objectMapper, IAiClient aiClient, IWeatherClient weatherClient)
     {
         this.objectMapper = objectMapper;
         this.aiClient = aiClient;
+        this.weatherClient = weatherClient;
     }
 
     @Override
@@ -75,7 +78,7 @@ public class AiService implements IAiService
     @Override
     public void getStreamingDishSuggestions(WeatherForecastDTO weatherForecastDTO, StationDTO station, List<RecentMenuDishDTO> recentMenuDishDTOS, Consumer<AiDishSuggestionDTO> dishConsumer, Runnable onComplete, Consumer<Throwable> errorConsumer)
     {
-        StringBuilder fullResponse = new StringBuilder();
+        IncrementalJsonArrayParser<AiDishSuggestionDTO> dishParser = new IncrementalJsonArrayParser<>(objectMapper, AiDishSuggestionDTO.class, dishConsumer);
 
         try
         {
@@ -86,18 +89,18 @@ public class AiService implements IAiService
 
             aiClient.streamResponse(
                 prompt,
-                fullResponse::append,
+                dishParser::feed,
                 errorConsumer,
                 () ->
                 {
+                    if (dishParser.isFailed())
+                    {
+                        return;
+                    }
+
                     try
                     {
-                        String json = cleanResponseBody(fullResponse.toString());
-                        AiDishSuggestionDTO[] dishes = objectMapper.readValue(json, AiDishSuggestionDTO[].class);
-                        for (AiDishSuggestionDTO dish : dishes)
-                        {
-                            dishConsumer.accept(dish);
-                        }
+                        dishParser.finish();
                         onComplete.run();
                     }
                     catch (Exception e)
@@ -112,14 +115,6 @@ public class AiService implements IAiService
         }
 
     }
-    private String cleanResponseBody(String response)
-    {
-        return response
-            .replace("```json", "")
-            .replace("```", "")
-            .trim();
-    }
-
     private String getWeatherForecastOrServiceUnavailable(WeatherForecastDTO dto)
     {
         if(dto == null)
@@ -127,6 +122,6 @@ public class AiService implements IAiService
             return "Weather data unavailable. Generate dishes without weather considerations.";
         }
 
-        return WeatherForecastBuilder.getWeatherForecast(dto);
+        return weatherClient.formatForecast(dto);
     }
 }
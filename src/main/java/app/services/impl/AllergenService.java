@@ -1,5 +1,9 @@
 package app.services.impl;
 
+import app.cache.CachedJson;
+import app.cache.JsonResponseCache;
+import app.cache.TakeAwayOfferCache;
+import app.cache.WeeklyMenuCache;
 import app.dtos.allergen.AllergenCreateRequestDTO;
 import app.dtos.allergen.AllergenDTO;
 import app.dtos.allergen.AllergenUpdateRequestDTO;
@@ -8,6 +12,7 @@ import app.exceptions.ValidationException;
 import app.mappers.AllergenMapper;
 import app.persistence.daos.interfaces.IAllergenDAO;
 import app.persistence.entities.Allergen;
+import app.search.DishSearchIndex;
 import app.services.IAllergenService;
 import app.utils.EUAllergens;
 import app.utils.ValidationUtil;
@@ -16,11 +21,21 @@ import java.util.*;
 
 public class AllergenService implements IAllergenService
 {
+    private static final String ALL_ALLERGENS = "all";
+
     private final IAllergenDAO allergenDAO;
+    private final JsonResponseCache<String, List<AllergenDTO>> allergenCache;
+    private final WeeklyMenuCache weeklyMenuCache;
+    private final TakeAwayOfferCache takeAwayOfferCache;
+    private final DishSearchIndex dishSearchIndex;
 
-    public AllergenService(IAllergenDAO allergenDAO)
+    public AllergenService(IAllergenDAO allergenDAO, JsonResponseCache<String, List<AllergenDTO>> allergenCache, WeeklyMenuCache weeklyMenuCache, TakeAwayOfferCache takeAwayOfferCache, DishSearchIndex dishSearchIndex)
     {
         this.allergenDAO = allergenDAO;
+        this.allergenCache = allergenCache;
+        this.weeklyMenuCache = weeklyMenuCache;
+        this.takeAwayOfferCache = takeAwayOfferCache;
+        this.dishSearchIndex = dishSearchIndex;
     }
 
     @Override
@@ -40,6 +55,7 @@ public class AllergenService implements IAllergenService
         );
 
         Allergen saved = allergenDAO.create(allergen);
+        evictCaches();
         return AllergenMapper.toDTO(saved);
     }
 
@@ -61,7 +77,9 @@ public class AllergenService implements IAllergenService
             requireUniqueNameEN(dto.nameEN());
         }
 
-        if(!allergen.getDisplayNumber().equals(dto.displayNumber()))
+        boolean displayNumberChanged = !allergen.getDisplayNumber().equals(dto.displayNumber());
+
+        if(displayNumberChanged)
         {
             requireUniqueDisplayNumber(dto.displayNumber());
         }
@@ -75,6 +93,14 @@ public class AllergenService implements IAllergenService
         );
 
         Allergen updated = allergenDAO.update(allergen);
+
+        if (displayNumberChanged)
+        {
+            allergenDAO.refreshAllergenMasks();
+            dishSearchIndex.invalidate();
+        }
+
+        evictCaches();
         return AllergenMapper.toDTO(updated);
     }
 
@@ -91,7 +117,10 @@ public class AllergenService implements IAllergenService
             throw new ValidationException("Cannot delete allergen '" + allergen.getNameDA() + ", it is used by one or more dishes");
         }
 
-        return allergenDAO.delete(allergen.getId());
+        boolean isDeleted = allergenDAO.delete(allergen.getId());
+        evictCaches();
+
+        return isDeleted;
     }
 
     @Override
@@ -104,6 +133,17 @@ public class AllergenService implements IAllergenService
 
     @Override
     public List<AllergenDTO> getAllAllergens()
+    {
+        return getAllAllergensJson().value();
+    }
+
+    @Override
+    public CachedJson<List<AllergenDTO>> getAllAllergensJson()
+    {
+        return allergenCache.getOrLoad(ALL_ALLERGENS, this::loadAllAllergens);
+    }
+
+    private List<AllergenDTO> loadAllAllergens()
     {
         return allergenDAO.getAll().stream()
             .map(AllergenMapper::toDTO)
@@ -141,9 +181,18 @@ public class AllergenService implements IAllergenService
             seeded.add(allergenDTO);
         });
 
+        evictCaches();
+
         return seeded;
     }
 
+    private void evictCaches()
+    {
+        allergenCache.invalidateAll();
+        weeklyMenuCache.evictAll();
+        takeAwayOfferCache.evictAll();
+    }
+
     private void validateCreateInput(AllergenCreateRequestDTO dto)
     {
         ValidationUtil.validateNotNull(dto, "Allergen");
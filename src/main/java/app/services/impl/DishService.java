@@ -1,5 +1,8 @@
 package app.services.impl;
 
+import app.cache.TakeAwayOfferCache;
+import app.cache.TakeAwaySummaryCache;
+import app.cache.WeeklyMenuCache;
 import app.dtos.dish.*;
 import app.dtos.security.AuthenticatedUser;
 import app.exceptions.ConflictException;
@@ -12,6 +15,7 @@ import app.persistence.entities.Allergen;
 import app.persistence.entities.Dish;
 import app.persistence.entities.Station;
 import app.persistence.entities.User;
+import app.search.DishSearchIndex;
 import app.services.IDishService;
 import app.utils.ValidationUtil;
 
@@ -29,14 +33,22 @@ public class DishService implements IDishService
     private final IAllergenDAO allergenDAO;
     private final IStationReader stationReader;
     private final IUserReader userReader;
+    private final WeeklyMenuCache weeklyMenuCache;
+    private final TakeAwayOfferCache takeAwayOfferCache;
+    private final TakeAwaySummaryCache takeAwaySummaryCache;
+    private final DishSearchIndex dishSearchIndex;
 
 
-    public DishService(IDishDAO dishDAO, IAllergenDAO allergenDAO, IStationReader stationReader, IUserReader userReader)
+    public DishService(IDishDAO dishDAO, IAllergenDAO allergenDAO, IStationReader stationReader, IUserReader userReader, WeeklyMenuCache weeklyMenuCache, TakeAwayOfferCache takeAwayOfferCache, TakeAwaySummaryCache takeAwaySummaryCache, DishSearchIndex dishSearchIndex)
     {
         this.dishDAO = dishDAO;
         this.allergenDAO = allergenDAO;
         this.stationReader = stationReader;
         this.userReader = userReader;
+        this.weeklyMenuCache = weeklyMenuCache;
+        this.takeAwayOfferCache = takeAwayOfferCache;
+        this.takeAwaySummaryCache = takeAwaySummaryCache;
+        this.dishSearchIndex = dishSearchIndex;
     }
 
     @Override
@@ -65,7 +77,9 @@ public class DishService implements IDishService
         );
 
         Dish created = dishDAO.create(dish);
-        return DishMapper.toDTO(created);
+        DishDTO createdDTO = DishMapper.toDTO(created);
+        dishSearchIndex.upsert(createdDTO);
+        return createdDTO;
     }
 
     @Override
@@ -86,7 +100,13 @@ public class DishService implements IDishService
         );
 
         Dish updated = dishDAO.update(dish);
-        return DishMapper.toDTO(updated);
+        weeklyMenuCache.evictAll();
+        takeAwayOfferCache.evictAll();
+        takeAwaySummaryCache.invalidate();
+
+        DishDTO updatedDTO = DishMapper.toDTO(updated);
+        dishSearchIndex.upsert(updatedDTO);
+        return updatedDTO;
     }
 
     @Override
@@ -101,15 +121,17 @@ public class DishService implements IDishService
     }
 
     @Override
-    public List<DishDTO> searchByName(String query)
+    public List<DishDTO> searchByName(String query, Long stationId, int excludedAllergens)
     {
         ValidationUtil.validateNotBlank(query, "Search query");
         ValidationUtil.validateRange(query.trim().length(), 2, 100, "Search query length");
 
-        return dishDAO.searchByName(query)
-            .stream()
-            .map(DishMapper::toDTO)
-            .toList();
+        if (stationId != null)
+        {
+            ValidationUtil.validateId(stationId);
+        }
+
+        return dishSearchIndex.search(query, stationId, excludedAllergens);
     }
 
     @Override
@@ -122,7 +144,13 @@ public class DishService implements IDishService
             throw new ConflictException("Dish is used in menus - use deactivate instead");
         }
 
-        return dishDAO.delete(dishId);
+        boolean isDeleted = dishDAO.delete(dishId);
+
+        if (isDeleted)
+        {
+            dishSearchIndex.remove(dishId);
+        }
+        return isDeleted;
     }
 
     @Override
@@ -134,7 +162,9 @@ public class DishService implements IDishService
         dish.deactivate();
 
         Dish updated = dishDAO.update(dish);
-        return DishMapper.toDTO(updated);
+        DishDTO updatedDTO = DishMapper.toDTO(updated);
+        dishSearchIndex.upsert(updatedDTO);
+        return updatedDTO;
     }
 
     @Override
@@ -146,7 +176,9 @@ public class DishService implements IDishService
         dish.activate();
 
         Dish updated = dishDAO.update(dish);
-        return DishMapper.toDTO(updated);
+        DishDTO updatedDTO = DishMapper.toDTO(updated);
+        dishSearchIndex.upsert(updatedDTO);
+        return updatedDTO;
     }
 
     @Override
@@ -171,14 +203,14 @@ public class DishService implements IDishService
     }
 
     @Override
-    public List<DishDTO> getAll(Long stationId, Boolean active)
+    public List<DishDTO> getAll(Long stationId, Boolean active, int excludedAllergens)
     {
         if (stationId != null)
         {
             ValidationUtil.validateId(stationId);
         }
 
-        return dishDAO.findByFilter(stationId, active)
+        return dishDAO.findByFilter(stationId, active, excludedAllergens)
             .stream()
             .map(DishMapper::toDTO)
             .toList();
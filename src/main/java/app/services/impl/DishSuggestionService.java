@@ -18,13 +18,17 @@ import app.persistence.daos.interfaces.readers.IUserReader;
 import app.persistence.entities.*;
 import app.services.IDishSuggestionService;
 import app.services.INotificationSender;
+import app.services.IPendingCounterRegistry;
+import app.utils.KeysetCursor;
 import app.utils.ValidationUtil;
 
 import java.time.LocalDate;
 import java.time.temporal.IsoFields;
 import java.util.List;
 import java.util.Set;
+import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class DishSuggestionService implements IDishSuggestionService
 {
@@ -34,8 +38,9 @@ public class DishSuggestionService implements IDishSuggestionService
     private final IStationReader stationReader;
     private final IAllergenDAO allergenDAO;
     private final INotificationSender notificationSender;
+    private final IPendingCounterRegistry pendingCounterRegistry;
 
-    public DishSuggestionService(IDishSuggestionDAO dishSuggestionDAO, IDishDAO dishDAO, IUserReader userReader, IStationReader stationReader, IAllergenDAO allergenDAO, INotificationSender notificationSender)
+    public DishSuggestionService(IDishSuggestionDAO dishSuggestionDAO, IDishDAO dishDAO, IUserReader userReader, IStationReader stationReader, IAllergenDAO allergenDAO, INotificationSender notificationSender, IPendingCounterRegistry pendingCounterRegistry)
     {
         this.dishSuggestionDAO = dishSuggestionDAO;
         this.dishDAO = dishDAO;
@@ -43,6 +48,7 @@ public class DishSuggestionService implements IDishSuggestionService
         this.stationReader = stationReader;
         this.allergenDAO = allergenDAO;
         this.notificationSender = notificationSender;
+        this.pendingCounterRegistry = pendingCounterRegistry;
     }
 
     @Override
@@ -171,7 +177,7 @@ public class DishSuggestionService implements IDishSuggestionService
 
         boolean isDeleted =  dishSuggestionDAO.delete(dishId);
 
-        if(isDeleted)
+        if(isDeleted && suggestion.isPending())
         {
             broadcastRemainingPendingDishSuggestions();
         }
@@ -197,26 +203,13 @@ public class DishSuggestionService implements IDishSuggestionService
     }
 
     @Override
-    public List<DishSuggestionDTO> getByFilter(AuthenticatedUser authUser, DishSuggestionFilterDTO dto)
+    public void streamByFilter(AuthenticatedUser authUser, DishSuggestionFilterDTO dto, String cursor, BiConsumer<String, Stream<DishSuggestionDTO>> writer)
     {
-        ValidationUtil.validateNotNull(dto, "Filter");
-        validateAuthenticatedUser(authUser);
+        Long creatorId = validateFilter(authUser, dto);
+        ValidationUtil.validateNotNull(writer, "Writer");
 
-        if (dto.week() != null || dto.year() != null)
-        {
-            if (dto.week() == null || dto.year() == null)
-            {
-                throw new IllegalArgumentException("Week and year must both be provided together");
-            }
-            validateWeekAndYear(dto.week(), dto.year());
-        }
-
-        Long creatorId = authUser.isHeadChef() || authUser.isSousChef() ? null : authUser.userId();
-
-        return dishSuggestionDAO.findByFilter(dto.status(), creatorId, dto.week(), dto.year(), dto.stationId(), dto.orderBy(), dto.limit())
-            .stream()
-            .map(DishSuggestionMapper::toDTO)
-            .collect(Collectors.toList());
+        dishSuggestionDAO.streamPage(dto.status(), creatorId, dto.week(), dto.year(), dto.stationId(), dto.orderBy(), cursor, KeysetCursor.resolvePageSize(dto.limit()),
+            (nextCursor, suggestions) -> writer.accept(nextCursor, suggestions.map(DishSuggestionMapper::toDTO)));
     }
 
     @Override
@@ -283,7 +276,7 @@ public class DishSuggestionService implements IDishSuggestionService
 
     private void broadcastRemainingPendingDishSuggestions()
     {
-        int remainingPendingDishSuggestions = dishSuggestionDAO.getPendingSuggestionsCount();
+        int remainingPendingDishSuggestions = pendingCounterRegistry.decrement(NotificationCategory.DISH_SUGGESTION);
 
         notificationSender.broadcastPendingUpdate(
             NotificationType.PENDING_COUNT_UPDATED,
@@ -294,7 +287,7 @@ public class DishSuggestionService implements IDishSuggestionService
 
     private void broadcastNewPendingDishSuggestion()
     {
-        int numberOfPendingDishes = dishSuggestionDAO.getPendingSuggestionsCount();
+        int numberOfPendingDishes = pendingCounterRegistry.increment(NotificationCategory.DISH_SUGGESTION);
 
         notificationSender.broadcastPendingUpdate(
             NotificationType.NEW_DISH_SUGGESTION,
@@ -334,6 +327,23 @@ public class DishSuggestionService implements IDishSuggestionService
         ValidationUtil.validateId(authUser.userId());
     }
 
+    private Long validateFilter(AuthenticatedUser authUser, DishSuggestionFilterDTO dto)
+    {
+        ValidationUtil.validateNotNull(dto, "Filter");
+        validateAuthenticatedUser(authUser);
+
+        if (dto.week() != null || dto.year() != null)
+        {
+            if (dto.week() == null || dto.year() == null)
+            {
+                throw new IllegalArgumentException("Week and year must both be provided together");
+            }
+            validateWeekAndYear(dto.week(), dto.year());
+        }
+
+        return authUser.isHeadChef() || authUser.isSousChef() ? null : authUser.userId();
+    }
+
     private void validateCreateInput(DishSuggestionCreateDTO dto)
     {
         ValidationUtil.validateNotNull(dto, "Dish Suggestion");
@@ -0,0 +1,154 @@
+package app.services.impl;
+
+import app.dtos.shopping.IngredientNormalizationDTO;
+import app.dtos.shopping.NormalizationResult;
+import app.dtos.shopping.UpdateIngredientNormalizationDTO;
+import app.enums.NormalizationSource;
+import app.enums.SupportedLanguage;
+import app.exceptions.AIIntegrationException;
+import app.exceptions.DatabaseException;
+import app.mappers.ShoppingListMapper;
+import app.persistence.daos.interfaces.IIngredientNormalizationDAO;
+import app.persistence.entities.IngredientNormalization;
+import app.services.IAiService;
+import app.services.IIngredientNormalizationService;
+import app.utils.ValidationUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+
+public class IngredientNormalizationService implements IIngredientNormalizationService
+{
+    private static final Logger logger = LoggerFactory.getLogger(IngredientNormalizationService.class);
+    private static final int CANONICAL_NAME_MAX = 80;
+
+    private final IIngredientNormalizationDAO normalizationDAO;
+    private final IAiService aiService;
+
+    public IngredientNormalizationService(IIngredientNormalizationDAO normalizationDAO, IAiService aiService)
+    {
+        this.normalizationDAO = normalizationDAO;
+        this.aiService = aiService;
+    }
+
+    @Override
+    public NormalizationResult normalize(List<String> ingredientNames, SupportedLanguage language)
+    {
+        ValidationUtil.validateNotNull(ingredientNames, "Ingredient names");
+        ValidationUtil.validateNotNull(language, "Language");
+
+        Map<String, String> knownNames = lookupKnownNames(ingredientNames, language);
+        Map<String, String> normalizedNames = new HashMap<>();
+        List<String> unseenNames = new ArrayList<>();
+
+        for (String name : ingredientNames)
+        {
+            String canonicalName = knownNames.get(IngredientNormalization.keyOf(name));
+
+            if (canonicalName != null)
+            {
+                normalizedNames.put(name, canonicalName);
+            }
+            else
+            {
+                unseenNames.add(name);
+            }
+        }
+
+        if (unseenNames.isEmpty())
+        {
+            return new NormalizationResult(normalizedNames, true);
+        }
+
+        try
+        {
+            Map<String, String> aiNormalizedNames = aiService.normalizeIngredientList(unseenNames, language);
+            List<IngredientNormalization> learned = new ArrayList<>();
+
+            for (String name : unseenNames)
+            {
+                String canonicalName = aiNormalizedNames.get(name);
+
+                if (isUsableCanonicalName(canonicalName))
+                {
+                    normalizedNames.put(name, canonicalName.trim());
+                    learned.add(new IngredientNormalization(name, language, canonicalName, NormalizationSource.AI));
+                }
+                else
+                {
+                    normalizedNames.put(name, name);
+                }
+            }
+
+            remember(learned);
+            return new NormalizationResult(normalizedNames, true);
+        }
+        catch (AIIntegrationException e)
+        {
+            logger.warn("AI normalization failed — {} of {} ingredient names kept unnormalized. Reason: {}",
+                unseenNames.size(), ingredientNames.size(), e.getMessage());
+
+            unseenNames.forEach(name -> normalizedNames.put(name, name));
+            return new NormalizationResult(normalizedNames, false);
+        }
+    }
+
+    @Override
+    public List<IngredientNormalizationDTO> getNormalizations(SupportedLanguage language)
+    {
+        ValidationUtil.validateNotNull(language, "Language");
+
+        return normalizationDAO.findByLanguage(language)
+            .stream()
+            .map(ShoppingListMapper::toNormalizationDTO)
+            .toList();
+    }
+
+    @Override
+    public IngredientNormalizationDTO correctNormalization(UpdateIngredientNormalizationDTO dto)
+    {
+        ValidationUtil.validateNotNull(dto, "Normalization");
+        ValidationUtil.validateNotBlank(dto.rawName(), "Raw name");
+        ValidationUtil.validateNotNull(dto.language(), "Language");
+        ValidationUtil.validateName(dto.canonicalName(), "Canonical name");
+
+        IngredientNormalization correction = new IngredientNormalization(dto.rawName(), dto.language(), dto.canonicalName(), NormalizationSource.MANUAL);
+        normalizationDAO.saveAll(List.of(correction));
+
+        return ShoppingListMapper.toNormalizationDTO(correction);
+    }
+
+    private Map<String, String> lookupKnownNames(List<String> ingredientNames, SupportedLanguage language)
+    {
+        Set<String> rawKeys = new HashSet<>();
+        ingredientNames.forEach(name -> rawKeys.add(IngredientNormalization.keyOf(name)));
+
+        try
+        {
+            return normalizationDAO.findCanonicalNames(rawKeys, language);
+        }
+        catch (DatabaseException e)
+        {
+            logger.warn("Ingredient normalization lookup failed — asking AI for all names. Reason: {}", e.getMessage());
+            return Map.of();
+        }
+    }
+
+    private void remember(List<IngredientNormalization> learned)
+    {
+        try
+        {
+            normalizationDAO.saveAll(learned);
+        }
+        catch (DatabaseException e)
+        {
+            logger.warn("Could not store {} ingredient normalizations. Reason: {}", learned.size(), e.getMessage());
+        }
+    }
+
+    private boolean isUsableCanonicalName(String canonicalName)
+    {
+        return canonicalName != null && !canonicalName.isBlank() && canonicalName.trim().length() <= CANONICAL_NAME_MAX;
+    }
+}
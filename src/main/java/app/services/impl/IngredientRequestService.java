@@ -22,10 +22,13 @@ import app.persistence.entities.IngredientRequest;
 import app.persistence.entities.User;
 import app.services.IIngredientRequestService;
 import app.services.INotificationSender;
+import app.services.IPendingCounterRegistry;
+import app.utils.KeysetCursor;
 import app.utils.ValidationUtil;
 
 import java.time.LocalDate;
-import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
 
 public class IngredientRequestService implements IIngredientRequestService
 {
@@ -33,14 +36,16 @@ public class IngredientRequestService implements IIngredientRequestService
     private final IDishReader dishReader;
     private final IUserReader userReader;
     private final INotificationSender notificationSender;
+    private final IPendingCounterRegistry pendingCounterRegistry;
 
 
-    public IngredientRequestService(IIngredientRequestDAO ingredientRequestDAO, IDishReader dishReader, IUserReader userReader, INotificationSender notificationSender)
+    public IngredientRequestService(IIngredientRequestDAO ingredientRequestDAO, IDishReader dishReader, IUserReader userReader, INotificationSender notificationSender, IPendingCounterRegistry pendingCounterRegistry)
     {
         this.ingredientRequestDAO = ingredientRequestDAO;
         this.dishReader = dishReader;
         this.userReader = userReader;
         this.notificationSender = notificationSender;
+        this.pendingCounterRegistry = pendingCounterRegistry;
     }
 
     @Override
@@ -114,9 +119,10 @@ public class IngredientRequestService implements IIngredientRequestService
     }
 
     @Override
-    public List<IngredientRequestDTO> getRequests(AuthenticatedUser authUser, Status status, LocalDate deliveryDate, RequestType requestType, Long stationId, Integer limit)
+    public void streamRequests(AuthenticatedUser authUser, Status status, LocalDate deliveryDate, RequestType requestType, Long stationId, String cursor, Integer limit, BiConsumer<String, Stream<IngredientRequestDTO>> writer)
     {
         validateAuthenticatedUser(authUser);
+        ValidationUtil.validateNotNull(writer, "Writer");
 
         if (stationId != null)
         {
@@ -125,11 +131,8 @@ public class IngredientRequestService implements IIngredientRequestService
 
         Long creatorId = authUser.isHeadChef() || authUser.isSousChef() ? null : authUser.userId();
 
-        List<IngredientRequest> ingredientRequests = ingredientRequestDAO.findByFilter(status, deliveryDate, creatorId, requestType, stationId, limit);
-
-        return ingredientRequests.stream()
-            .map(IngredientRequestMapper::toDTO)
-            .toList();
+        ingredientRequestDAO.streamPage(status, deliveryDate, creatorId, requestType, stationId, cursor, KeysetCursor.resolvePageSize(limit),
+            (nextCursor, requests) -> writer.accept(nextCursor, requests.map(IngredientRequestMapper::toDTO)));
     }
 
     @Override
@@ -214,7 +217,7 @@ public class IngredientRequestService implements IIngredientRequestService
 
     private void broadcastPendingIngredientRequests()
     {
-        int remainingPendingRequests = ingredientRequestDAO.getPendingRequestCount();
+        int remainingPendingRequests = pendingCounterRegistry.decrement(NotificationCategory.INGREDIENT_REQUEST);
 
         notificationSender.broadcastPendingUpdate(
             NotificationType.PENDING_COUNT_UPDATED,
@@ -304,7 +307,7 @@ public class IngredientRequestService implements IIngredientRequestService
 
     private void broadcastNewPendingIngredientRequest()
     {
-        int numberOfPendingRequests = ingredientRequestDAO.getPendingRequestCount();
+        int numberOfPendingRequests = pendingCounterRegistry.increment(NotificationCategory.INGREDIENT_REQUEST);
 
         notificationSender.broadcastPendingUpdate(
             NotificationType.NEW_INGREDIENT_REQUEST,
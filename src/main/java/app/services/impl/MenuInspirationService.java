@@ -1,11 +1,11 @@
 package app.services.impl;
 
+import app.cache.InspirationCache;
 import app.dtos.gemini.AiDishSuggestionDTO;
 import app.dtos.menu.RecentMenuDishDTO;
 import app.dtos.security.AuthenticatedUser;
 import app.dtos.station.StationDTO;
 import app.dtos.weather.WeatherForecastDTO;
-import app.exceptions.WeatherIntegrationException;
 import app.integrations.weather.IWeatherClient;
 import app.mappers.StationMapper;
 import app.persistence.daos.interfaces.readers.IUserReader;
@@ -14,6 +14,7 @@ import app.persistence.entities.Station;
 import app.persistence.entities.User;
 import app.services.IAiService;
 import app.services.IMenuInspirationService;
+import app.utils.NamedThreadFactory;
 import app.utils.ValidationUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -21,22 +22,38 @@ import org.slf4j.LoggerFactory;
 import java.time.LocalDate;
 import java.time.temporal.IsoFields;
 import java.util.List;
+import java.util.concurrent.*;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 
-public class MenuInspirationService implements IMenuInspirationService
+public class MenuInspirationService implements IMenuInspirationService, AutoCloseable
 {
     private final Logger logger = LoggerFactory.getLogger(MenuInspirationService.class);
     private final IAiService aiService;
     private final IUserReader userReader;
     private final IWeatherClient weatherClient;
     private final IWeeklyMenuReader weeklyMenuReader;
+    private final InspirationCache inspirationCache;
+    private final ExecutorService contextExecutor;
+    private final long weatherDeadlineMs;
+    private final long recentDishesDeadlineMs;
 
-    public MenuInspirationService(IAiService aiService, IUserReader userReader, IWeatherClient weatherClient, IWeeklyMenuReader weeklyMenuReader)
+    public MenuInspirationService(IAiService aiService, IUserReader userReader, IWeatherClient weatherClient, IWeeklyMenuReader weeklyMenuReader, InspirationCache inspirationCache, int contextThreads, long weatherDeadlineMs, long recentDishesDeadlineMs)
     {
         this.aiService = aiService;
         this.userReader = userReader;
         this.weatherClient = weatherClient;
         this.weeklyMenuReader = weeklyMenuReader;
+        this.inspirationCache = inspirationCache;
+        this.weatherDeadlineMs = weatherDeadlineMs;
+        this.recentDishesDeadlineMs = recentDishesDeadlineMs;
+        this.contextExecutor = new ThreadPoolExecutor(
+            contextThreads, contextThreads,
+            0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(contextThreads * 16),
+            new NamedThreadFactory("inspiration-context"),
+            new ThreadPoolExecutor.AbortPolicy()
+        );
     }
 
     public List<AiDishSuggestionDTO> getDailyInspiration(AuthenticatedUser authUser)
@@ -44,14 +61,31 @@ public class MenuInspirationService implements IMenuInspirationService
         ValidationUtil.validateNotNull(authUser, "Authenticated User");
         ValidationUtil.validateId(authUser.userId());
 
-        User user = userReader.getByID(authUser.userId());
-        Station station = user.getStation();
-        ValidationUtil.validateNotNull(station, "Station");
+        CompletableFuture<WeatherForecastDTO> weather = fetchWeather();
+        Station station = getStation(authUser);
+        CompletableFuture<List<RecentMenuDishDTO>> recentDishes = fetchRecentMenuDishes(station.getId());
+
+        WeatherForecastDTO forecast = weather.join();
         StationDTO stationDTO = StationMapper.toDTO(station);
-        List<RecentMenuDishDTO> recentMenuDishDTOS = getRecentMenuDishesContext(station.getId());
-        WeatherForecastDTO weatherForecastDTO = getWeatherOrNull();
+        List<RecentMenuDishDTO> recentMenuDishDTOS = recentDishes.join();
+        InspirationCache.Reservation reservation = inspirationCache.reserve(InspirationCache.keyOf(stationDTO, forecast, recentMenuDishDTOS));
 
-        return aiService.getAiDishSuggestion(weatherForecastDTO, stationDTO, recentMenuDishDTOS);
+        if (!reservation.owner())
+        {
+            return awaitCached(reservation);
+        }
+
+        try
+        {
+            List<AiDishSuggestionDTO> suggestions = aiService.getAiDishSuggestion(forecast, stationDTO, recentMenuDishDTOS);
+            inspirationCache.complete(reservation, suggestions);
+            return suggestions;
+        }
+        catch (RuntimeException e)
+        {
+            inspirationCache.fail(reservation, e);
+            throw e;
+        }
     }
 
     @Override
@@ -60,19 +94,156 @@ public class MenuInspirationService implements IMenuInspirationService
         ValidationUtil.validateNotNull(authUser, "Authenticated User");
         ValidationUtil.validateId(authUser.userId());
 
+        Object statusLock = new Object();
+        Consumer<String> status = message ->
+        {
+            synchronized (statusLock)
+            {
+                statusConsumer.accept(message);
+            }
+        };
+
+        CompletableFuture<WeatherForecastDTO> weather = fetchWeather();
+        Station station = getStation(authUser);
+
+        status.accept("Analyserer køkkenstationens udstyr...");
+        StationDTO stationDTO = StationMapper.toDTO(station);
+        status.accept("Henter vejrdata og seneste menuretter...");
+
+        CompletableFuture<WeatherForecastDTO> weatherReported = weather.thenApply(forecast ->
+        {
+            status.accept(forecast != null ? "Vejrdata hentet" : "Vejrdata utilgængelig, fortsætter uden");
+            return forecast;
+        });
+        CompletableFuture<List<RecentMenuDishDTO>> recentDishesReported = fetchRecentMenuDishes(station.getId()).thenApply(dishes ->
+        {
+            status.accept("Fandt " + dishes.size() + " seneste menuretter fra stationen");
+            return dishes;
+        });
+
+        weatherReported.thenAcceptBoth(recentDishesReported, (forecast, recentDishes) ->
+            {
+                InspirationCache.Reservation reservation = inspirationCache.reserve(InspirationCache.keyOf(stationDTO, forecast, recentDishes));
+
+                if (!reservation.owner())
+                {
+                    status.accept("Henter dagens menuforslag til stationen...");
+                    replay(reservation, dishConsumer, onComplete, errorConsumer);
+                    return;
+                }
+
+                status.accept("Starter generering af menuforslag...");
+                streamAndCache(reservation, forecast, stationDTO, recentDishes, dishConsumer, onComplete, errorConsumer);
+            })
+            .exceptionally(e ->
+            {
+                errorConsumer.accept(e instanceof CompletionException && e.getCause() != null ? e.getCause() : e);
+                return null;
+            });
+    }
+
+    @Override
+    public void close()
+    {
+        contextExecutor.shutdownNow();
+    }
+
+    private void streamAndCache(InspirationCache.Reservation reservation, WeatherForecastDTO forecast, StationDTO stationDTO, List<RecentMenuDishDTO> recentDishes, Consumer<AiDishSuggestionDTO> dishConsumer, Runnable onComplete, Consumer<Throwable> errorConsumer)
+    {
+        List<AiDishSuggestionDTO> streamed = new CopyOnWriteArrayList<>();
+
+        aiService.getStreamingDishSuggestions(
+            forecast,
+            stationDTO,
+            recentDishes,
+            dish ->
+            {
+                streamed.add(dish);
+                dishConsumer.accept(dish);
+            },
+            () ->
+            {
+                inspirationCache.complete(reservation, streamed);
+                onComplete.run();
+            },
+            e ->
+            {
+                inspirationCache.fail(reservation, e);
+                errorConsumer.accept(e);
+            }
+        );
+    }
+
+    private void replay(InspirationCache.Reservation reservation, Consumer<AiDishSuggestionDTO> dishConsumer, Runnable onComplete, Consumer<Throwable> errorConsumer)
+    {
+        reservation.result().whenComplete((dishes, e) ->
+        {
+            if (e != null)
+            {
+                errorConsumer.accept(e instanceof CompletionException && e.getCause() != null ? e.getCause() : e);
+                return;
+            }
+            dishes.forEach(dishConsumer);
+            onComplete.run();
+        });
+    }
+
+    private static List<AiDishSuggestionDTO> awaitCached(InspirationCache.Reservation reservation)
+    {
+        try
+        {
+            return reservation.result().join();
+        }
+        catch (CompletionException e)
+        {
+            if (e.getCause() instanceof RuntimeException cause)
+            {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private Station getStation(AuthenticatedUser authUser)
+    {
         User user = userReader.getByID(authUser.userId());
         Station station = user.getStation();
         ValidationUtil.validateNotNull(station, "Station");
+        return station;
+    }
 
-        statusConsumer.accept("Analyserer køkkenstationens udstyr...");
-        StationDTO stationDTO = StationMapper.toDTO(station);
-        statusConsumer.accept("Henter vejrdata for din lokation...");
-        WeatherForecastDTO weatherForecastDTO = getWeatherOrNull();
-        statusConsumer.accept("Henter seneste menuretter fra stationen...");
-        List<RecentMenuDishDTO> recentMenuDishDTOS = getRecentMenuDishesContext(station.getId());
-        statusConsumer.accept("Forbereder data og bæredygtighedsregler...");
-        statusConsumer.accept("Starter generering af menuforslag...");
-        aiService.getStreamingDishSuggestions(weatherForecastDTO, stationDTO, recentMenuDishDTOS, dishConsumer, onComplete, errorConsumer);
+    private CompletableFuture<WeatherForecastDTO> fetchWeather()
+    {
+        return supplyContext(weatherClient::getWeatherForecast)
+            .orTimeout(weatherDeadlineMs, TimeUnit.MILLISECONDS)
+            .exceptionally(e ->
+            {
+                logger.error("Weather context unavailable: {}", describe(e, weatherDeadlineMs));
+                return null;
+            });
+    }
+
+    private CompletableFuture<List<RecentMenuDishDTO>> fetchRecentMenuDishes(Long stationId)
+    {
+        return supplyContext(() -> getRecentMenuDishesContext(stationId))
+            .orTimeout(recentDishesDeadlineMs, TimeUnit.MILLISECONDS)
+            .exceptionally(e ->
+            {
+                logger.error("Recent menu dishes unavailable for station {}: {}", stationId, describe(e, recentDishesDeadlineMs));
+                return List.of();
+            });
+    }
+
+    private <T> CompletableFuture<T> supplyContext(Supplier<T> task)
+    {
+        try
+        {
+            return CompletableFuture.supplyAsync(task, contextExecutor);
+        }
+        catch (RejectedExecutionException e)
+        {
+            return CompletableFuture.failedFuture(new RejectedExecutionException("context pool is saturated", e));
+        }
     }
 
     private List<RecentMenuDishDTO> getRecentMenuDishesContext(Long stationId)
@@ -91,17 +262,9 @@ public class MenuInspirationService implements IMenuInspirationService
         );
     }
 
-    private WeatherForecastDTO getWeatherOrNull()
+    private static String describe(Throwable e, long deadlineMs)
     {
-        try
-        {
-            return weatherClient.getWeatherForecast();
-        }
-        catch (WeatherIntegrationException e)
-        {
-            logger.error("Weather API Error: {}", e.getMessage());
-            return null;
-        }
+        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+        return cause instanceof TimeoutException ? "no response within " + deadlineMs + " ms" : cause.getMessage();
     }
-
 }
@@ -7,42 +7,107 @@ import app.enums.NotificationCategory;
 import app.enums.NotificationType;
 import app.services.INotificationRegistry;
 import app.services.INotificationSender;
+import app.services.impl.SessionOutbox.Channel;
+import app.services.impl.SessionOutbox.OutboundMessage;
+import app.utils.NamedThreadFactory;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.javalin.websocket.WsContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.time.LocalDateTime;
 import java.util.Map;
-import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.*;
 
-public class NotificationService implements INotificationSender, INotificationRegistry
+public class NotificationService implements INotificationSender, INotificationRegistry, AutoCloseable
 {
-    private final Set<WsContext> adminSessions = ConcurrentHashMap.newKeySet();
-    private final Map<Long, WsContext> staffSessions = new ConcurrentHashMap<>();
+    private static final Logger logger = LoggerFactory.getLogger(NotificationService.class);
+    private static final int DISPATCH_QUEUE_CAPACITY = 1024;
 
+    private final Map<String, SessionOutbox> adminSessions = new ConcurrentHashMap<>();
+    private final Map<Long, SessionOutbox> staffSessions = new ConcurrentHashMap<>();
+
+    private final ObjectMapper objectMapper;
+    private final int outboxCapacity;
+    private final ExecutorService dispatcher;
+    private final ExecutorService senderPool;
+
+    public NotificationService(ObjectMapper objectMapper, int senderThreads, int outboxCapacity)
+    {
+        this.objectMapper = objectMapper;
+        this.outboxCapacity = outboxCapacity;
+        this.dispatcher = new ThreadPoolExecutor(
+            1, 1,
+            0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(DISPATCH_QUEUE_CAPACITY),
+            new NamedThreadFactory("notification-dispatcher"),
+            (task, executor) -> logger.warn("Notification dispatch queue full, dropping broadcast")
+        );
+        this.senderPool = Executors.newFixedThreadPool(senderThreads, new NamedThreadFactory("notification-sender"));
+    }
 
     @Override
     public void registerAdmin(WsContext ctx)
     {
-        adminSessions.add(ctx);
+        registerAdmin(Channel.of(ctx));
     }
 
     @Override
     public void registerStaff(WsContext ctx, Long userId)
     {
-        staffSessions.put(userId, ctx);
+        registerStaff(Channel.of(ctx), userId);
     }
 
     @Override
     public void unregisterAdmin(WsContext ctx)
     {
-        adminSessions.remove(ctx);
+        unregisterAdmin(ctx.sessionId());
     }
 
     @Override
     public void unregisterStaff(WsContext ctx)
     {
-        staffSessions.entrySet()
-            .removeIf(entry -> entry.getValue().session.equals(ctx.session));
+        unregisterStaff(ctx.sessionId());
+    }
+
+    void registerAdmin(Channel channel)
+    {
+        adminSessions.put(channel.sessionId(), new SessionOutbox(channel, senderPool, outboxCapacity));
+    }
+
+    void registerStaff(Channel channel, Long userId)
+    {
+        SessionOutbox previous = staffSessions.put(userId, new SessionOutbox(channel, senderPool, outboxCapacity));
+
+        if (previous != null)
+        {
+            previous.close();
+        }
+    }
+
+    void unregisterAdmin(String sessionId)
+    {
+        SessionOutbox outbox = adminSessions.remove(sessionId);
+
+        if (outbox != null)
+        {
+            outbox.close();
+        }
+    }
+
+    void unregisterStaff(String sessionId)
+    {
+        staffSessions.entrySet().removeIf(entry ->
+        {
+            boolean isSession = entry.getValue().getSessionId().equals(sessionId);
+
+            if (isSession)
+            {
+                entry.getValue().close();
+            }
+            return isSession;
+        });
     }
 
     @Override
@@ -55,13 +120,19 @@ public class NotificationService implements INotificationSender, INotificationRe
             LocalDateTime.now()
         );
 
-        adminSessions.removeIf(session -> !session.session.isOpen());
-        adminSessions.forEach(session -> session.send(message));
+        dispatcher.execute(() -> fanOut(message));
     }
 
     @Override
     public void notifyStaff(Long userId, NotificationType notificationType, NotificationCategory category, Long requestId, String itemName, UserReferenceDTO reviewedBy)
     {
+        SessionOutbox outbox = staffSessions.get(userId);
+
+        if (outbox == null || outbox.isClosed())
+        {
+            return;
+        }
+
         StaffNotificationMessageDTO message = new StaffNotificationMessageDTO(
             notificationType,
             category,
@@ -71,10 +142,38 @@ public class NotificationService implements INotificationSender, INotificationRe
             LocalDateTime.now()
         );
 
-        WsContext session = staffSessions.get(userId);
-        if (session != null && session.session.isOpen())
+        dispatcher.execute(() ->
+        {
+            if (!outbox.offer(new OutboundMessage(toJson(message), notificationType, category)))
+            {
+                staffSessions.remove(userId, outbox);
+            }
+        });
+    }
+
+    @Override
+    public void close()
+    {
+        dispatcher.shutdownNow();
+        senderPool.shutdownNow();
+    }
+
+    private void fanOut(AdminNotificationMessageDTO message)
+    {
+        OutboundMessage outbound = new OutboundMessage(toJson(message), message.notificationType(), message.category());
+
+        adminSessions.values().removeIf(outbox -> outbox.isClosed() || !outbox.offer(outbound));
+    }
+
+    private String toJson(Object message)
+    {
+        try
+        {
+            return objectMapper.writeValueAsString(message);
+        }
+        catch (JsonProcessingException e)
         {
-            session.send(message);
+            throw new IllegalStateException("Failed to serialize notification", e);
         }
     }
 }
@@ -1,26 +1,24 @@
 package app.services.impl;
 
 import app.dtos.notification.AdminNotificationSnapshotDTO;
-import app.persistence.daos.interfaces.readers.IDishSuggestionReader;
-import app.persistence.daos.interfaces.readers.IIngredientRequestReader;
+import app.enums.NotificationCategory;
 import app.services.INotificationSnapshotService;
+import app.services.IPendingCounterRegistry;
 
 public class NotificationSnapshotService implements INotificationSnapshotService
 {
-    private final IDishSuggestionReader dishSuggestionReader;
-    private final IIngredientRequestReader ingredientRequestReader;
+    private final IPendingCounterRegistry pendingCounterRegistry;
 
-    public NotificationSnapshotService(IDishSuggestionReader dishSuggestionReader, IIngredientRequestReader ingredientRequestReader)
+    public NotificationSnapshotService(IPendingCounterRegistry pendingCounterRegistry)
     {
-        this.dishSuggestionReader = dishSuggestionReader;
-        this.ingredientRequestReader = ingredientRequestReader;
+        this.pendingCounterRegistry = pendingCounterRegistry;
     }
 
     @Override
     public AdminNotificationSnapshotDTO getPendingSnapshot()
     {
-        int pendingSuggestions = dishSuggestionReader.getPendingSuggestionsCount();
-        int pendingRequests = ingredientRequestReader.getPendingRequestCount();
+        int pendingSuggestions = pendingCounterRegistry.getPendingCount(NotificationCategory.DISH_SUGGESTION);
+        int pendingRequests = pendingCounterRegistry.getPendingCount(NotificationCategory.INGREDIENT_REQUEST);
 
         return new AdminNotificationSnapshotDTO(
             pendingSuggestions,
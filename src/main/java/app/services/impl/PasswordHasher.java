@@ -0,0 +1,95 @@
+package app.services.impl;
+
+import app.exceptions.ServiceUnavailableException;
+import app.services.IPasswordHasher;
+import app.utils.NamedThreadFactory;
+import app.utils.PasswordUtil;
+
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+public class PasswordHasher implements IPasswordHasher, AutoCloseable
+{
+    private final int cost;
+    private final ThreadPoolExecutor hashingPool;
+    private final ExecutorService completionPool;
+
+    public PasswordHasher(int cost, int threads, int queueCapacity)
+    {
+        this.cost = cost;
+        this.hashingPool = new ThreadPoolExecutor(
+            threads, threads,
+            0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            new NamedThreadFactory("password-hasher"),
+            new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.completionPool = Executors.newFixedThreadPool(threads, new NamedThreadFactory("password-hasher-callback"));
+    }
+
+    @Override
+    public CompletableFuture<String> hash(String plainPassword)
+    {
+        return submit(() -> PasswordUtil.hashPassword(plainPassword, cost));
+    }
+
+    @Override
+    public CompletableFuture<String> hashWhenIdle(String plainPassword)
+    {
+        if (!hashingPool.getQueue().isEmpty())
+        {
+            return CompletableFuture.failedFuture(new ServiceUnavailableException("Password hashing pool is busy"));
+        }
+        return hash(plainPassword);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> verify(String plainPassword, String hashedPassword)
+    {
+        return submit(() -> PasswordUtil.verifyPassword(plainPassword, hashedPassword));
+    }
+
+    @Override
+    public boolean needsRehash(String hashedPassword)
+    {
+        int storedCost = parseCost(hashedPassword);
+        return storedCost >= 0 && storedCost < cost;
+    }
+
+    @Override
+    public void close()
+    {
+        hashingPool.shutdownNow();
+        completionPool.shutdownNow();
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> task)
+    {
+        try
+        {
+            return CompletableFuture.supplyAsync(task, hashingPool)
+                .whenCompleteAsync((result, error) -> {}, completionPool);
+        }
+        catch (RejectedExecutionException e)
+        {
+            return CompletableFuture.failedFuture(new ServiceUnavailableException("Too many sign-in attempts right now, please try again shortly"));
+        }
+    }
+
+    private static int parseCost(String hashedPassword)
+    {
+        if (hashedPassword == null || hashedPassword.length() < 7 || hashedPassword.charAt(0) != '$' || hashedPassword.charAt(3) != '$' || hashedPassword.charAt(6) != '$')
+        {
+            return -1;
+        }
+
+        try
+        {
+            return Integer.parseInt(hashedPassword.substring(4, 6));
+        }
+        catch (NumberFormatException e)
+        {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package app.services.impl;
+
+import app.enums.NotificationCategory;
+import app.persistence.daos.interfaces.readers.IDishSuggestionReader;
+import app.persistence.daos.interfaces.readers.IIngredientRequestReader;
+import app.services.IPendingCounterRegistry;
+import app.utils.NamedThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class PendingCounterRegistry implements IPendingCounterRegistry, AutoCloseable
+{
+    private static final Logger logger = LoggerFactory.getLogger(PendingCounterRegistry.class);
+
+    private final IDishSuggestionReader dishSuggestionReader;
+    private final IIngredientRequestReader ingredientRequestReader;
+    private final Map<NotificationCategory, AtomicInteger> counters;
+    private final ScheduledExecutorService scheduler;
+
+    public PendingCounterRegistry(IDishSuggestionReader dishSuggestionReader, IIngredientRequestReader ingredientRequestReader, long resyncIntervalSeconds)
+    {
+        this.dishSuggestionReader = dishSuggestionReader;
+        this.ingredientRequestReader = ingredientRequestReader;
+        this.counters = new EnumMap<>(NotificationCategory.class);
+
+        for (NotificationCategory category : NotificationCategory.values())
+        {
+            counters.put(category, new AtomicInteger());
+        }
+
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(new NamedThreadFactory("pending-counter-resync"));
+        this.scheduler.scheduleWithFixedDelay(this::resyncQuietly, resyncIntervalSeconds, resyncIntervalSeconds, TimeUnit.SECONDS);
+    }
+
+    @Override
+    public int increment(NotificationCategory category)
+    {
+        return counters.get(category).incrementAndGet();
+    }
+
+    @Override
+    public int decrement(NotificationCategory category)
+    {
+        return counters.get(category).updateAndGet(count -> Math.max(0, count - 1));
+    }
+
+    @Override
+    public int getPendingCount(NotificationCategory category)
+    {
+        return counters.get(category).get();
+    }
+
+    @Override
+    public void resync()
+    {
+        counters.get(NotificationCategory.DISH_SUGGESTION).set(dishSuggestionReader.getPendingSuggestionsCount());
+        counters.get(NotificationCategory.INGREDIENT_REQUEST).set(ingredientRequestReader.getPendingRequestCount());
+    }
+
+    @Override
+    public void close()
+    {
+        scheduler.shutdownNow();
+    }
+
+    void resyncQuietly()
+    {
+        try
+        {
+            resync();
+        }
+        catch (RuntimeException e)
+        {
+            logger.warn("Failed to resync pending counters, keeping in-memory values", e);
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package app.services.impl;
+
+import app.exceptions.ConflictException;
+import app.persistence.daos.interfaces.ITakeAwayOfferDAO;
+import app.services.IPortionInventoryService;
+import app.utils.ValidationUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class PortionInventoryService implements IPortionInventoryService
+{
+    private static final Logger logger = LoggerFactory.getLogger(PortionInventoryService.class);
+
+    private final ITakeAwayOfferDAO takeAwayOfferDAO;
+    private final Map<Long, Counter> countersByOffer;
+
+    public PortionInventoryService(ITakeAwayOfferDAO takeAwayOfferDAO)
+    {
+        this.takeAwayOfferDAO = takeAwayOfferDAO;
+        this.countersByOffer = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public void reserve(Map<Long, Integer> quantitiesByOffer)
+    {
+        ValidationUtil.validateNotEmpty(quantitiesByOffer.keySet(), "Order Lines");
+
+        Map<Long, Integer> reserved = new LinkedHashMap<>();
+
+        for (Map.Entry<Long, Integer> entry : quantitiesByOffer.entrySet())
+        {
+            Long offerId = entry.getKey();
+            int quantity = entry.getValue();
+            ValidationUtil.validatePositive(quantity, "Quantity");
+
+            if (!freshCounter(offerId).tryReserve(quantity))
+            {
+                release(reserved);
+                throw new ConflictException("Not enough portions left for your order");
+            }
+
+            reserved.put(offerId, quantity);
+        }
+    }
+
+    @Override
+    public void confirm(Map<Long, Integer> quantitiesByOffer)
+    {
+        quantitiesByOffer.forEach((offerId, quantity) ->
+        {
+            Counter counter = countersByOffer.get(offerId);
+
+            if (counter != null)
+            {
+                counter.inFlight.addAndGet(-quantity);
+            }
+        });
+    }
+
+    @Override
+    public void release(Map<Long, Integer> quantitiesByOffer)
+    {
+        quantitiesByOffer.forEach((offerId, quantity) ->
+        {
+            Counter counter = countersByOffer.get(offerId);
+
+            if (counter != null)
+            {
+                counter.inFlight.addAndGet(-quantity);
+                counter.portions.addAndGet(quantity);
+            }
+        });
+    }
+
+    @Override
+    public void invalidate(Long offerId)
+    {
+        ValidationUtil.validateId(offerId);
+
+        Counter counter = countersByOffer.get(offerId);
+
+        if (counter != null)
+        {
+            counter.stale = true;
+        }
+    }
+
+    @Override
+    public void reconcile()
+    {
+        Map<Long, Integer> reservablePortions = takeAwayOfferDAO.findReservablePortionsByDate(LocalDate.now());
+
+        countersByOffer.values().forEach(counter -> counter.stale = true);
+        reservablePortions.forEach((offerId, portions) -> countersByOffer.computeIfAbsent(offerId, id -> new Counter()).load(portions));
+
+        logger.info("Portion inventory reconciled for {} take away offers", reservablePortions.size());
+    }
+
+    @Override
+    public int getAvailablePortions(Long offerId)
+    {
+        ValidationUtil.validateId(offerId);
+        return freshCounter(offerId).portions.get();
+    }
+
+    private Counter freshCounter(Long offerId)
+    {
+        Counter counter = countersByOffer.computeIfAbsent(offerId, id -> new Counter());
+
+        if (counter.stale)
+        {
+            synchronized (counter)
+            {
+                if (counter.stale)
+                {
+                    counter.load(takeAwayOfferDAO.getReservablePortions(offerId));
+                }
+            }
+        }
+        return counter;
+    }
+
+    private static final class Counter
+    {
+        private final AtomicInteger portions = new AtomicInteger();
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private volatile boolean stale = true;
+
+        private void load(int reservablePortions)
+        {
+            portions.set(Math.max(0, reservablePortions - inFlight.get()));
+            stale = false;
+        }
+
+        private boolean tryReserve(int quantity)
+        {
+            while (true)
+            {
+                int current = portions.get();
+
+                if (current < quantity)
+                {
+                    return false;
+                }
+
+                if (portions.compareAndSet(current, current - quantity))
+                {
+                    inFlight.addAndGet(quantity);
+                    return true;
+                }
+            }
+        }
+    }
+}
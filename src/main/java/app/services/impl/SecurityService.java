@@ -1,12 +1,14 @@
 package app.services.impl;
 
+import app.cache.VerifiedTokenCache;
 import app.dtos.security.LoginRequestDTO;
 import app.dtos.security.LoginResponseDTO;
 import app.dtos.security.AuthenticatedUser;
 import app.enums.UserRole;
 import app.exceptions.AuthenticationException;
-import app.persistence.daos.interfaces.readers.IUserReader;
+import app.persistence.daos.interfaces.IUserDAO;
 import app.persistence.entities.User;
+import app.services.IPasswordHasher;
 import app.services.ISecurityService;
 import app.utils.ValidationUtil;
 import com.nimbusds.jose.*;
@@ -19,40 +21,65 @@ import org.slf4j.LoggerFactory;
 
 import java.text.ParseException;
 import java.util.Date;
+import java.util.concurrent.CompletableFuture;
 
 public class SecurityService implements ISecurityService
 {
     private static final Logger logger = LoggerFactory.getLogger(SecurityService.class);
-    private final IUserReader userReader;
+    private final IUserDAO userDAO;
+    private final IPasswordHasher passwordHasher;
     private final String issuer;
     private final String secretKey;
     private final long expirationMs;
+    private final VerifiedTokenCache tokenCache;
+    private final MACSigner signer;
+    private final MACVerifier verifier;
 
-    public SecurityService(IUserReader userReader, String issuer, String secretKey, long expirationMs)
+    public SecurityService(IUserDAO userDAO, IPasswordHasher passwordHasher, String issuer, String secretKey, long expirationMs, VerifiedTokenCache tokenCache)
     {
-        this.userReader = userReader;
+        this.userDAO = userDAO;
+        this.passwordHasher = passwordHasher;
         this.issuer = issuer;
         this.secretKey = secretKey;
         this.expirationMs = expirationMs;
+        this.tokenCache = tokenCache;
         validateSecurityConfig();
+
+        try
+        {
+            this.signer = new MACSigner(secretKey);
+            this.verifier = new MACVerifier(secretKey);
+        }
+        catch (JOSEException e)
+        {
+            throw new IllegalStateException("JWT secret key could not be used for HS256", e);
+        }
     }
 
     @Override
-    public LoginResponseDTO login(LoginRequestDTO dto)
+    public CompletableFuture<LoginResponseDTO> login(LoginRequestDTO dto)
     {
         validateLoginRequest(dto);
 
-        User user = userReader.findByEmail(dto.email().trim().toLowerCase())
+        User user = userDAO.findByEmail(dto.email().trim().toLowerCase())
             .orElseThrow(() -> new AuthenticationException("Invalid email or password"));
 
-        if (!user.verifyPassword(dto.password()))
-        {
-            logger.warn("Login failed — wrong password for: {}", dto.email());
-            throw new AuthenticationException("Invalid email or password");
-        }
+        String storedHash = user.getHashedPassword();
+
+        return passwordHasher.verify(dto.password(), storedHash)
+            .thenApply(valid ->
+            {
+                if (!valid)
+                {
+                    logger.warn("Login failed — wrong password for: {}", dto.email());
+                    throw new AuthenticationException("Invalid email or password");
+                }
 
-        String token = createToken(user.getId(), user.getEmail(), user.getUserRole().name());
-        return toLoginResponseDTO(token, user);
+                rehashIfOutdated(user, storedHash, dto.password());
+
+                String token = createToken(user.getId(), user.getEmail(), user.getUserRole().name());
+                return toLoginResponseDTO(token, user);
+            });
     }
 
     @Override
@@ -75,7 +102,7 @@ public class SecurityService implements ISecurityService
                 new Payload(claims.toJSONObject())
             );
 
-            jwsObject.sign(new MACSigner(secretKey));
+            jwsObject.sign(signer);
             return jwsObject.serialize();
         }
         catch (JOSEException e)
@@ -87,11 +114,20 @@ public class SecurityService implements ISecurityService
     @Override
     public AuthenticatedUser verifyAndExtract(String token)
     {
+        AuthenticatedUser cached = tokenCache.get(token);
+
+        if (cached != null)
+        {
+            return cached;
+        }
+
+        long loadGeneration = tokenCache.currentGeneration();
+
         try
         {
             SignedJWT jwt = SignedJWT.parse(token);
 
-            if (!jwt.verify(new MACVerifier(secretKey)))
+            if (!jwt.verify(verifier))
                 throw new AuthenticationException("Token signature invalid");
 
             JWTClaimsSet claims = getJwtClaimsSet(jwt);
@@ -106,9 +142,18 @@ public class SecurityService implements ISecurityService
                 throw new AuthenticationException("Token claims invalid");
             }
 
+            Date issuedAt = claims.getIssueTime();
+
+            if (tokenCache.isRevoked(userId, issuedAt != null ? issuedAt.getTime() : null))
+            {
+                throw new AuthenticationException("Token has been revoked");
+            }
+
             UserRole userRole = parseUserRoleClaim(role);
+            AuthenticatedUser authenticatedUser = new AuthenticatedUser(userId, email, userRole);
 
-            return new AuthenticatedUser(userId, email, userRole);
+            tokenCache.put(token, authenticatedUser, claims.getExpirationTime().getTime(), loadGeneration);
+            return authenticatedUser;
         }
         catch (AuthenticationException e)
         {
@@ -157,6 +202,22 @@ public class SecurityService implements ISecurityService
         return role;
     }
 
+    private void rehashIfOutdated(User user, String storedHash, String plainPassword)
+    {
+        if (!passwordHasher.needsRehash(storedHash))
+        {
+            return;
+        }
+
+        passwordHasher.hashWhenIdle(plainPassword)
+            .thenAccept(newHash -> userDAO.replacePasswordHash(user.getId(), storedHash, newHash))
+            .exceptionally(e ->
+            {
+                logger.debug("Password rehash skipped for user {}: {}", user.getId(), e.getMessage());
+                return null;
+            });
+    }
+
     private void validateLoginRequest(LoginRequestDTO dto)
     {
         ValidationUtil.validateNotNull(dto, "Login request");
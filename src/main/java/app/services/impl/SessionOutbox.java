@@ -0,0 +1,238 @@
+package app.services.impl;
+
+import app.enums.NotificationCategory;
+import app.enums.NotificationType;
+import io.javalin.websocket.WsContext;
+import org.eclipse.jetty.websocket.api.Callback;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+final class SessionOutbox
+{
+    private static final Logger logger = LoggerFactory.getLogger(SessionOutbox.class);
+    private static final int TRY_AGAIN_LATER = 1013;
+
+    private final Channel session;
+    private final Executor senderPool;
+    private final int capacity;
+    private final Deque<OutboundMessage> queue;
+    private boolean draining;
+    private boolean inFlight;
+    private volatile boolean closed;
+
+    SessionOutbox(Channel session, Executor senderPool, int capacity)
+    {
+        this.session = session;
+        this.senderPool = senderPool;
+        this.capacity = capacity;
+        this.queue = new ArrayDeque<>(capacity);
+    }
+
+    String getSessionId()
+    {
+        return session.sessionId();
+    }
+
+    boolean isClosed()
+    {
+        return closed || !session.isOpen();
+    }
+
+    boolean offer(OutboundMessage message)
+    {
+        boolean scheduleDrain;
+        boolean dropped = false;
+
+        synchronized (this)
+        {
+            if (closed)
+            {
+                return false;
+            }
+
+            OutboundMessage last = queue.peekLast();
+
+            if (last != null && message.replaces(last))
+            {
+                queue.pollLast();
+            }
+            else if (pendingFrames() >= capacity)
+            {
+                closed = true;
+                dropped = true;
+                queue.clear();
+            }
+
+            scheduleDrain = !dropped && !draining;
+
+            if (!dropped)
+            {
+                queue.addLast(message);
+                draining = true;
+            }
+        }
+
+        if (dropped)
+        {
+            logger.warn("Dropping lagging WebSocket session {} after {} pending notifications", session.sessionId(), capacity);
+            closeQuietly();
+            return false;
+        }
+
+        if (scheduleDrain)
+        {
+            scheduleDrain();
+        }
+        return true;
+    }
+
+    void close()
+    {
+        synchronized (this)
+        {
+            closed = true;
+            queue.clear();
+        }
+    }
+
+    private int pendingFrames()
+    {
+        return queue.size() + (inFlight ? 1 : 0);
+    }
+
+    private void scheduleDrain()
+    {
+        try
+        {
+            senderPool.execute(this::sendNext);
+        }
+        catch (RejectedExecutionException e)
+        {
+            synchronized (this)
+            {
+                draining = false;
+            }
+        }
+    }
+
+    private void sendNext()
+    {
+        OutboundMessage next;
+
+        synchronized (this)
+        {
+            next = queue.pollFirst();
+
+            if (next == null || closed)
+            {
+                draining = false;
+                return;
+            }
+            inFlight = true;
+        }
+
+        try
+        {
+            if (!session.isOpen())
+            {
+                close();
+                onSent(null);
+                return;
+            }
+
+            session.send(next.json()).whenComplete((ignored, error) -> onSent(error));
+        }
+        catch (RuntimeException e)
+        {
+            onSent(e);
+        }
+    }
+
+    private void onSent(Throwable error)
+    {
+        synchronized (this)
+        {
+            inFlight = false;
+        }
+
+        if (error != null)
+        {
+            logger.warn("Failed to send notification to WebSocket session {}: {}", session.sessionId(), error.getMessage());
+            close();
+        }
+        scheduleDrain();
+    }
+
+    private void closeQuietly()
+    {
+        try
+        {
+            session.close(TRY_AGAIN_LATER, "Notification backlog exceeded");
+        }
+        catch (RuntimeException e)
+        {
+            logger.debug("Failed to close lagging WebSocket session {}", session.sessionId(), e);
+        }
+    }
+
+    record OutboundMessage(String json, NotificationType notificationType, NotificationCategory category)
+    {
+        boolean replaces(OutboundMessage queued)
+        {
+            return notificationType == NotificationType.PENDING_COUNT_UPDATED
+                && queued.notificationType == NotificationType.PENDING_COUNT_UPDATED
+                && category == queued.category;
+        }
+    }
+
+    interface Channel
+    {
+        String sessionId();
+
+        boolean isOpen();
+
+        CompletableFuture<Void> send(String json);
+
+        void close(int statusCode, String reason);
+
+        static Channel of(WsContext ctx)
+        {
+            return new WebSocketChannel(ctx);
+        }
+    }
+
+    private record WebSocketChannel(WsContext ctx) implements Channel
+    {
+        @Override
+        public String sessionId()
+        {
+            return ctx.sessionId();
+        }
+
+        @Override
+        public boolean isOpen()
+        {
+            return ctx.session.isOpen();
+        }
+
+        @Override
+        public CompletableFuture<Void> send(String json)
+        {
+            CompletableFuture<Void> sent = new CompletableFuture<>();
+            ctx.session.sendText(json, Callback.from(() -> sent.complete(null), sent::completeExceptionally));
+            return sent;
+        }
+
+        @Override
+        public void close(int statusCode, String reason)
+        {
+            ctx.closeSession(statusCode, reason);
+        }
+    }
+}
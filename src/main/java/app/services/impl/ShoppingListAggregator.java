@@ -1,18 +1,20 @@
 package app.services.impl;
 
 import app.dtos.shopping.AggregationKey;
+import app.enums.Unit;
+import app.persistence.entities.IngredientNormalization;
+import app.persistence.entities.IngredientPackSize;
 import app.persistence.entities.IngredientRequest;
 import app.persistence.entities.ShoppingListItem;
 import app.services.IShoppingListAggregator;
 
-import java.util.List;
-import java.util.Map;
-import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.*;
+import java.util.stream.Stream;
 
 public class ShoppingListAggregator implements IShoppingListAggregator
 {
     private static final String DEFAULT_SUPPLIER = "AB Catering";
+    private static final String NOTE_SEPARATOR = " | ";
 
     @Override
     public List<String> getUniqueIngredientNames(List<IngredientRequest> ingredientRequests)
@@ -27,62 +29,169 @@ public class ShoppingListAggregator implements IShoppingListAggregator
     @Override
     public List<ShoppingListItem> aggregateAndGetShoppingListItems(List<IngredientRequest> ingredientRequests, Map<String, String> normalizedNames)
     {
-        Map<AggregationKey, List<IngredientRequest>> groupedRequests = getIngredientsGrouped(ingredientRequests, normalizedNames);
+        return aggregateAndGetShoppingListItems(ingredientRequests, normalizedNames, List.of());
+    }
+
+    @Override
+    public List<ShoppingListItem> aggregateAndGetShoppingListItems(List<IngredientRequest> ingredientRequests, Map<String, String> normalizedNames, List<IngredientPackSize> packSizes)
+    {
+        return aggregate(ingredientRequests.stream(), normalizedNames, packSizes);
+    }
+
+    @Override
+    public List<ShoppingListItem> aggregate(Stream<IngredientRequest> ingredientRequests, Map<String, String> normalizedNames, List<IngredientPackSize> packSizes)
+    {
+        Map<PackKey, IngredientPackSize> packSizeLookup = indexPackSizes(packSizes);
+        Map<AggregationKey, QuantityAccumulator> groups = new LinkedHashMap<>();
+
+        ingredientRequests.forEachOrdered(request ->
+        {
+            String name = normalizedNames.getOrDefault(request.getName(), request.getName());
+            Unit unit = request.getUnit();
+            double quantity = request.getQuantity();
 
-        return groupedRequests.entrySet().stream()
-            .map(entry ->
+            if (unit.isPackaging() && !packSizeLookup.isEmpty())
             {
-                AggregationKey key = entry.getKey();
-                List<IngredientRequest> ingredientGroup = entry.getValue();
-
-                Double totalQuantity = calculateTotal(ingredientGroup);
-                String supplier = getMostCommonSupplier(ingredientGroup);
-                String notes = formatNotes(ingredientGroup);
-
-                return new ShoppingListItem(
-                    key.normalizedName(),
-                    totalQuantity,
-                    key.unit(),
-                    supplier,
-                    notes
-                );
-            })
-            .collect(Collectors.toList());
+                IngredientPackSize packSize = packSizeLookup.get(new PackKey(IngredientNormalization.keyOf(name), unit));
+
+                if (packSize != null)
+                {
+                    quantity *= packSize.getQuantity();
+                    unit = packSize.getUnit();
+                }
+            }
+
+            groups.computeIfAbsent(new AggregationKey(name, unit.getBaseUnit()), key -> new QuantityAccumulator())
+                .add(unit.toMilliBase(quantity), request);
+        });
+
+        List<ShoppingListItem> items = new ArrayList<>(groups.size());
+
+        for (Map.Entry<AggregationKey, QuantityAccumulator> entry : groups.entrySet())
+        {
+            AggregationKey key = entry.getKey();
+            QuantityAccumulator accumulator = entry.getValue();
+            Unit displayUnit = Unit.displayUnitFor(key.unit(), accumulator.milliTotal);
+
+            items.add(new ShoppingListItem(
+                key.normalizedName(),
+                displayUnit.fromMilliBase(accumulator.milliTotal),
+                displayUnit,
+                accumulator.mostCommonSupplier(),
+                accumulator.notes()
+            ));
+        }
+        return items;
     }
 
-    public Map<AggregationKey, List<IngredientRequest>> getIngredientsGrouped(List<IngredientRequest> approved, Map<String, String> normalizedNames)
+    private Map<PackKey, IngredientPackSize> indexPackSizes(List<IngredientPackSize> packSizes)
     {
-        return approved.stream()
-            .collect(Collectors.groupingBy(req -> new AggregationKey(normalizedNames.getOrDefault(req.getName(), req.getName()), req.getUnit())));
+        if (packSizes == null || packSizes.isEmpty())
+        {
+            return Map.of();
+        }
+
+        Map<PackKey, IngredientPackSize> lookup = new HashMap<>();
+        packSizes.forEach(packSize -> lookup.put(new PackKey(packSize.getNameKey(), packSize.getPackUnit()), packSize));
+        return lookup;
     }
 
-    public String formatNotes(List<IngredientRequest> ingredientRequests)
+    private static void appendNote(StringBuilder notes, IngredientRequest request)
     {
-        return ingredientRequests.stream()
-            .map(req -> String.format("%s (%s: %s %s)",
-                req.getCreatedBy().getFirstName(),
-                req.getName(),
-                req.getQuantity(),
-                req.getUnit()))
-            .collect(Collectors.joining(" | "));
+        if (!notes.isEmpty())
+        {
+            notes.append(NOTE_SEPARATOR);
+        }
+
+        notes.append(request.getCreatedBy().getFirstName())
+            .append(" (")
+            .append(request.getName())
+            .append(": ")
+            .append(request.getQuantity())
+            .append(' ')
+            .append(request.getUnit())
+            .append(')');
     }
 
-    public Double calculateTotal(List<IngredientRequest> ingredientRequests)
+    private record PackKey(String nameKey, Unit packUnit)
     {
-        return ingredientRequests.stream()
-            .map(IngredientRequest::getQuantity)
-            .reduce(0.0, Double::sum);
     }
 
-    public String getMostCommonSupplier(List<IngredientRequest> requests)
+    private static final class QuantityAccumulator
     {
-        return requests.stream()
-            .map(IngredientRequest::getPreferredSupplier)
-            .filter(Objects::nonNull)
-            .collect(Collectors.groupingBy(s -> s, Collectors.counting()))
-            .entrySet().stream()
-            .max(Map.Entry.comparingByValue())
-            .map(Map.Entry::getKey)
-            .orElse(DEFAULT_SUPPLIER);
+        private static final int INITIAL_SUPPLIER_SLOTS = 4;
+        private static final int NOTE_CAPACITY_HINT = 48;
+
+        private StringBuilder notes;
+        private String[] suppliers;
+        private int[] supplierCounts;
+        private int supplierSlots;
+        private long milliTotal;
+
+        private void add(long milliQuantity, IngredientRequest request)
+        {
+            milliTotal += milliQuantity;
+
+            if (notes == null)
+            {
+                notes = new StringBuilder(NOTE_CAPACITY_HINT);
+            }
+            appendNote(notes, request);
+
+            String supplier = request.getPreferredSupplier();
+
+            if (supplier != null)
+            {
+                countSupplier(supplier);
+            }
+        }
+
+        private void countSupplier(String supplier)
+        {
+            for (int i = 0; i < supplierSlots; i++)
+            {
+                if (suppliers[i].equals(supplier))
+                {
+                    supplierCounts[i]++;
+                    return;
+                }
+            }
+
+            if (suppliers == null)
+            {
+                suppliers = new String[INITIAL_SUPPLIER_SLOTS];
+                supplierCounts = new int[INITIAL_SUPPLIER_SLOTS];
+            }
+            else if (supplierSlots == suppliers.length)
+            {
+                suppliers = Arrays.copyOf(suppliers, supplierSlots * 2);
+                supplierCounts = Arrays.copyOf(supplierCounts, supplierSlots * 2);
+            }
+
+            suppliers[supplierSlots] = supplier;
+            supplierCounts[supplierSlots] = 1;
+            supplierSlots++;
+        }
+
+        private String mostCommonSupplier()
+        {
+            String mostCommon = DEFAULT_SUPPLIER;
+            int highestCount = 0;
+
+            for (int i = 0; i < supplierSlots; i++)
+            {
+                if (supplierCounts[i] > highestCount)
+                {
+                    mostCommon = suppliers[i];
+                    highestCount = supplierCounts[i];
+                }
+            }
+            return mostCommon;
+        }
+
+        private String notes()
+        {
+            return notes == null ? "" : notes.toString();
+        }
     }
 }
@@ -4,45 +4,42 @@ import app.dtos.security.AuthenticatedUser;
 import app.dtos.shopping.*;
 import app.enums.ShoppingListStatus;
 import app.enums.Status;
-import app.enums.SupportedLanguage;
-import app.exceptions.AIIntegrationException;
 import app.exceptions.ConflictException;
 import app.mappers.ShoppingListMapper;
+import app.persistence.daos.interfaces.IIngredientPackSizeDAO;
 import app.persistence.daos.interfaces.IIngredientRequestDAO;
 import app.persistence.daos.interfaces.IShoppingListDAO;
 import app.persistence.daos.interfaces.readers.IUserReader;
-import app.persistence.entities.IngredientRequest;
+import app.persistence.entities.IngredientPackSize;
 import app.persistence.entities.ShoppingList;
 import app.persistence.entities.ShoppingListItem;
 import app.persistence.entities.User;
-import app.services.IAiService;
+import app.services.IIngredientNormalizationService;
 import app.services.IShoppingListAggregator;
 import app.services.IShoppingListService;
 import app.utils.ValidationUtil;
 import jakarta.persistence.EntityNotFoundException;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 import java.time.LocalDate;
 import java.util.*;
-import java.util.stream.Collectors;
 
 public class ShoppingListService implements IShoppingListService
 {
-    private static final Logger logger = LoggerFactory.getLogger(ShoppingListService.class);
     private final IShoppingListDAO shoppingListDAO;
     private final IIngredientRequestDAO ingredientRequestDAO;
     private final IUserReader userReader;
-    private final IAiService aiService;
+    private final IIngredientNormalizationService normalizationService;
     private final IShoppingListAggregator shoppingListAggregator;
+    private final IIngredientPackSizeDAO packSizeDAO;
 
-    public ShoppingListService(IShoppingListDAO shoppingListDAO, IIngredientRequestDAO ingredientRequestDAO, IUserReader userReader, IAiService aiService, IShoppingListAggregator shoppingListAggregator)
+    public ShoppingListService(IShoppingListDAO shoppingListDAO, IIngredientRequestDAO ingredientRequestDAO, IUserReader userReader, IIngredientNormalizationService normalizationService, IShoppingListAggregator shoppingListAggregator, IIngredientPackSizeDAO packSizeDAO)
     {
         this.shoppingListDAO = shoppingListDAO;
         this.ingredientRequestDAO = ingredientRequestDAO;
         this.userReader = userReader;
-        this.aiService = aiService;
+        this.normalizationService = normalizationService;
         this.shoppingListAggregator = shoppingListAggregator;
+        this.packSizeDAO = packSizeDAO;
     }
 
     @Override
@@ -52,12 +49,13 @@ public class ShoppingListService implements IShoppingListService
         validateCreateInput(dto);
         checkIfShoppingListExists(dto);
 
-        List<IngredientRequest> approvedRequests = ingredientRequestDAO.findByFilter(Status.APPROVED, dto.deliveryDate(),null,null, null, null);
-        checkRequestNotEmpty(approvedRequests, dto.deliveryDate());
+        List<String> uniqueIngredientNames = ingredientRequestDAO.findDistinctNames(Status.APPROVED, dto.deliveryDate());
+        checkRequestNotEmpty(uniqueIngredientNames, dto.deliveryDate());
 
-        List<String> uniqueIngredientNames = shoppingListAggregator.getUniqueIngredientNames(approvedRequests);
-        NormalizationResult normalizationResult = normalizeWithFallback(uniqueIngredientNames, dto.targetLanguage());
-        List<ShoppingListItem> shoppingListItems = shoppingListAggregator.aggregateAndGetShoppingListItems(approvedRequests, normalizationResult.normalizedNames());
+        NormalizationResult normalizationResult = normalizationService.normalize(uniqueIngredientNames, dto.targetLanguage());
+        List<IngredientPackSize> packSizes = packSizeDAO.findAll();
+        List<ShoppingListItem> shoppingListItems = ingredientRequestDAO.streamByFilter(Status.APPROVED, dto.deliveryDate(),
+            approvedRequests -> shoppingListAggregator.aggregate(approvedRequests, normalizationResult.normalizedNames(), packSizes));
 
         User creator = userReader.getByID(authUser.userId());
         ShoppingList shoppingList = new ShoppingList(dto.deliveryDate(), creator, normalizationResult.normalized());
@@ -213,33 +211,29 @@ public class ShoppingListService implements IShoppingListService
         return ShoppingListMapper.toDTO(updated);
     }
 
-    private NormalizationResult normalizeWithFallback(List<String> names, SupportedLanguage language)
+    @Override
+    public List<PackSizeDTO> getPackSizes()
     {
-        try
-        {
-            Map<String, String> aiNormalizedNames = aiService.normalizeIngredientList(names, language);
-            return new NormalizationResult(
-                aiNormalizedNames,
-                true
-            );
-        }
-        catch (AIIntegrationException e)
-        {
-            logger.warn("AI normalization failed — creating shopping list with original ingredient names. Reason: {}", e.getMessage());
+        return packSizeDAO.findAll()
+            .stream()
+            .map(ShoppingListMapper::toPackSizeDTO)
+            .toList();
+    }
 
-            Map<String, String> nonNormalizedNames = names.stream()
-                .collect(Collectors.toMap(name -> name, name -> name));
+    @Override
+    public PackSizeDTO savePackSize(PackSizeDTO dto)
+    {
+        ValidationUtil.validateNotNull(dto, "Pack size");
+        ValidationUtil.validateNotNull(dto.quantity(), "Quantity");
 
-            return new NormalizationResult(
-                nonNormalizedNames,
-                false
-            );
-        }
+        IngredientPackSize packSize = new IngredientPackSize(dto.ingredientName(), dto.packUnit(), dto.quantity(), dto.unit());
+        IngredientPackSize saved = packSizeDAO.upsert(packSize);
+        return ShoppingListMapper.toPackSizeDTO(saved);
     }
 
-    private void checkRequestNotEmpty(List<IngredientRequest> requests, LocalDate deliveryDate)
+    private void checkRequestNotEmpty(List<String> ingredientNames, LocalDate deliveryDate)
     {
-        if (requests == null || requests.isEmpty())
+        if (ingredientNames == null || ingredientNames.isEmpty())
         {
             throw new ConflictException("No approved requests for date: " + deliveryDate);
         }
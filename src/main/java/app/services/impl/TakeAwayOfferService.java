@@ -1,5 +1,8 @@
 package app.services.impl;
 
+import app.cache.CachedJson;
+import app.cache.TakeAwayOfferCache;
+import app.cache.TakeAwaySummaryCache;
 import app.dtos.security.AuthenticatedUser;
 import app.dtos.takeaway.TakeAwayOfferCreateDTO;
 import app.dtos.takeaway.TakeAwayOfferDTO;
@@ -12,7 +15,9 @@ import app.persistence.daos.interfaces.readers.IUserReader;
 import app.persistence.entities.Dish;
 import app.persistence.entities.TakeAwayOffer;
 import app.persistence.entities.User;
+import app.services.IPortionInventoryService;
 import app.services.ITakeAwayOfferService;
+import app.utils.AllergenMask;
 import app.utils.ValidationUtil;
 
 import java.time.LocalDate;
@@ -24,12 +29,18 @@ public class TakeAwayOfferService implements ITakeAwayOfferService
     private final ITakeAwayOfferDAO takeAwayOfferDAO;
     private final IUserReader userReader;
     private final IDishReader dishReader;
+    private final IPortionInventoryService portionInventoryService;
+    private final TakeAwayOfferCache takeAwayOfferCache;
+    private final TakeAwaySummaryCache takeAwaySummaryCache;
 
-    public TakeAwayOfferService(ITakeAwayOfferDAO takeAwayOfferDAO, IUserReader userReader, IDishReader dishReader)
+    public TakeAwayOfferService(ITakeAwayOfferDAO takeAwayOfferDAO, IUserReader userReader, IDishReader dishReader, IPortionInventoryService portionInventoryService, TakeAwayOfferCache takeAwayOfferCache, TakeAwaySummaryCache takeAwaySummaryCache)
     {
         this.takeAwayOfferDAO = takeAwayOfferDAO;
         this.userReader = userReader;
         this.dishReader = dishReader;
+        this.portionInventoryService = portionInventoryService;
+        this.takeAwayOfferCache = takeAwayOfferCache;
+        this.takeAwaySummaryCache = takeAwaySummaryCache;
     }
 
     @Override
@@ -61,6 +72,8 @@ public class TakeAwayOfferService implements ITakeAwayOfferService
         );
 
         TakeAwayOffer createdOffer = takeAwayOfferDAO.create(takeAwayOffer);
+        takeAwayOfferCache.evictAll();
+        takeAwaySummaryCache.invalidate();
         return TakeAwayOfferMapper.toDTO(createdOffer);
     }
 
@@ -89,6 +102,9 @@ public class TakeAwayOfferService implements ITakeAwayOfferService
         );
 
         TakeAwayOffer updatedOffer = takeAwayOfferDAO.update(takeAwayOffer);
+        portionInventoryService.invalidate(offerId);
+        takeAwayOfferCache.evictAll();
+        takeAwaySummaryCache.invalidate();
         return TakeAwayOfferMapper.toDTO(updatedOffer);
     }
 
@@ -102,6 +118,9 @@ public class TakeAwayOfferService implements ITakeAwayOfferService
         takeAwayOffer.enableOffer();
 
         TakeAwayOffer updatedOffer = takeAwayOfferDAO.update(takeAwayOffer);
+        portionInventoryService.invalidate(offerId);
+        takeAwayOfferCache.evictAll();
+        takeAwaySummaryCache.invalidate();
         return TakeAwayOfferMapper.toDTO(updatedOffer);
     }
 
@@ -115,16 +134,39 @@ public class TakeAwayOfferService implements ITakeAwayOfferService
         takeAwayOffer.disableOffer();
 
         TakeAwayOffer updatedOffer = takeAwayOfferDAO.update(takeAwayOffer);
+        portionInventoryService.invalidate(offerId);
+        takeAwayOfferCache.evictAll();
+        takeAwaySummaryCache.invalidate();
         return TakeAwayOfferMapper.toDTO(updatedOffer);
     }
 
     @Override
     public List<TakeAwayOfferDTO> getOffers(LocalDate date, Boolean isSoldOut, Boolean isEnabled, Long dishId)
     {
-        return takeAwayOfferDAO.findByFilter(date, isSoldOut, isEnabled, dishId)
-            .stream()
-            .map(TakeAwayOfferMapper::toDTO)
-            .toList();
+        return getOffersJson(date, isSoldOut, isEnabled, dishId, AllergenMask.NONE).value();
+    }
+
+    @Override
+    public CachedJson<List<TakeAwayOfferDTO>> getOffersJson(LocalDate date, Boolean isSoldOut, Boolean isEnabled, Long dishId, int excludedAllergens)
+    {
+        return takeAwayOfferCache.getOrLoad(date, isSoldOut, isEnabled, dishId, excludedAllergens, () ->
+            takeAwayOfferDAO.findByFilter(date, null, isEnabled, dishId, excludedAllergens)
+                .stream()
+                .map(TakeAwayOfferMapper::toDTO)
+                .toList(),
+            this::withLivePortions
+        );
+    }
+
+    private TakeAwayOfferDTO withLivePortions(TakeAwayOfferDTO offer)
+    {
+        if (!offer.enabled() || !LocalDate.now().equals(offer.createdAt()))
+        {
+            return offer;
+        }
+
+        int availablePortions = portionInventoryService.getAvailablePortions(offer.id());
+        return TakeAwayOfferMapper.withAvailablePortions(offer, availablePortions);
     }
 
     @Override
@@ -140,7 +182,12 @@ public class TakeAwayOfferService implements ITakeAwayOfferService
             throw new ConflictException("Cant delete Take away offer - already sold");
         }
 
-        return takeAwayOfferDAO.delete(offerId);
+        boolean isDeleted = takeAwayOfferDAO.delete(offerId);
+        portionInventoryService.invalidate(offerId);
+        takeAwayOfferCache.evictAll();
+        takeAwaySummaryCache.invalidate();
+
+        return isDeleted;
     }
 
     private void validateCreateInput(TakeAwayOfferCreateDTO dto)
@@ -1,39 +1,71 @@
 package app.services.impl;
 
+import app.cache.TakeAwaySummaryCache;
 import app.dtos.security.AuthenticatedUser;
 import app.dtos.takeaway.TakeAwayOfferSummaryDTO;
 import app.dtos.takeaway.TakeAwayOrderCreateDTO;
 import app.dtos.takeaway.TakeAwayOrderDTO;
 import app.dtos.takeaway.TakeAwaySummaryDTO;
 import app.enums.OrderStatus;
+import app.exceptions.ConflictException;
+import app.exceptions.ServiceUnavailableException;
 import app.exceptions.UnauthorizedActionException;
 import app.mappers.TakeAwayOfferMapper;
 import app.mappers.TakeAwayOrderMapper;
+import app.persistence.daos.interfaces.ITakeAwayDailyStatsDAO;
 import app.persistence.daos.interfaces.ITakeAwayOfferDAO;
 import app.persistence.daos.interfaces.ITakeAwayOrderDAO;
+import app.persistence.daos.interfaces.ITakeAwayOrderWriter;
 import app.persistence.daos.interfaces.readers.IUserReader;
+import app.persistence.entities.TakeAwayDailyStats;
 import app.persistence.entities.TakeAwayOffer;
+import app.persistence.entities.TakeAwayOfferDailyStats;
 import app.persistence.entities.TakeAwayOrder;
 import app.persistence.entities.User;
+import app.services.IPortionInventoryService;
 import app.services.ITakeAwayOrderService;
+import app.utils.KeysetCursor;
 import app.utils.ValidationUtil;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class TakeAwayOrderService implements ITakeAwayOrderService
 {
+    private static final long ORDER_WRITE_TIMEOUT_SECONDS = 10;
+    private static final long ORDER_COMMIT_GRACE_SECONDS = 5;
+
     private final ITakeAwayOrderDAO takeAwayOrderDAO;
+    private final ITakeAwayOrderWriter takeAwayOrderWriter;
     private final ITakeAwayOfferDAO takeAwayOfferDAO;
+    private final ITakeAwayDailyStatsDAO takeAwayDailyStatsDAO;
     private final IUserReader userReader;
+    private final IPortionInventoryService portionInventoryService;
+    private final TakeAwaySummaryCache takeAwaySummaryCache;
 
-    public TakeAwayOrderService(ITakeAwayOrderDAO takeAwayOrderDAO, ITakeAwayOfferDAO takeAwayOfferDAO, IUserReader userReader)
+    public TakeAwayOrderService(ITakeAwayOrderDAO takeAwayOrderDAO, ITakeAwayOrderWriter takeAwayOrderWriter, ITakeAwayOfferDAO takeAwayOfferDAO, ITakeAwayDailyStatsDAO takeAwayDailyStatsDAO, IUserReader userReader, IPortionInventoryService portionInventoryService, TakeAwaySummaryCache takeAwaySummaryCache)
     {
         this.takeAwayOrderDAO = takeAwayOrderDAO;
+        this.takeAwayOrderWriter = takeAwayOrderWriter;
         this.takeAwayOfferDAO = takeAwayOfferDAO;
+        this.takeAwayDailyStatsDAO = takeAwayDailyStatsDAO;
         this.userReader = userReader;
+        this.portionInventoryService = portionInventoryService;
+        this.takeAwaySummaryCache = takeAwaySummaryCache;
     }
 
     @Override
@@ -42,8 +74,25 @@ public class TakeAwayOrderService implements ITakeAwayOrderService
         validateAuthenticatedUser(authUser);
         validateCreateInput(dto);
 
-        TakeAwayOrder savedOrder = takeAwayOrderDAO.create(authUser.userId(), dto);
-        return TakeAwayOrderMapper.toDTO(savedOrder);
+        Map<Long, Integer> quantitiesByOffer = getQuantitiesByOffer(dto);
+        portionInventoryService.reserve(quantitiesByOffer);
+
+        try
+        {
+            TakeAwayOrder savedOrder = awaitOrder(submitOrder(authUser.userId(), dto));
+            portionInventoryService.confirm(quantitiesByOffer);
+            return TakeAwayOrderMapper.toDTO(savedOrder);
+        }
+        catch (RuntimeException e)
+        {
+            portionInventoryService.release(quantitiesByOffer);
+
+            if (e instanceof ConflictException)
+            {
+                quantitiesByOffer.keySet().forEach(portionInventoryService::invalidate);
+            }
+            throw e;
+        }
     }
 
     @Override
@@ -58,6 +107,7 @@ public class TakeAwayOrderService implements ITakeAwayOrderService
         takeAwayOrder.setOrderPaid(requester);
 
         TakeAwayOrder updatedOrder = takeAwayOrderDAO.update(takeAwayOrder);
+        takeAwaySummaryCache.invalidate();
         return TakeAwayOrderMapper.toDTO(updatedOrder);
     }
 
@@ -73,15 +123,11 @@ public class TakeAwayOrderService implements ITakeAwayOrderService
         validateCancellationTime(requester, takeAwayOrder);
         takeAwayOrder.cancelOrder(requester);
 
+        TakeAwayOrder updatedOrder = takeAwayOrderDAO.update(takeAwayOrder);
 
-        takeAwayOrder.getOrderLines().forEach(line ->
-        {
-            TakeAwayOffer offer = takeAwayOfferDAO.getByID(line.getTakeAwayOffer().getId());
-            offer.addPortionsBack(line.getQuantity());
-            takeAwayOfferDAO.update(offer);
-        });
+        updatedOrder.getOrderLines().forEach(line -> portionInventoryService.invalidate(line.getTakeAwayOffer().getId()));
+        takeAwaySummaryCache.invalidate();
 
-        TakeAwayOrder updatedOrder = takeAwayOrderDAO.update(takeAwayOrder);
         return TakeAwayOrderMapper.toDTO(updatedOrder);
     }
 
@@ -110,17 +156,16 @@ public class TakeAwayOrderService implements ITakeAwayOrderService
     }
 
     @Override
-    public List<TakeAwayOrderDTO> getOrders(AuthenticatedUser authUser, Long customerId, Long offerId, LocalDate date, OrderStatus status)
+    public void streamOrders(AuthenticatedUser authUser, Long customerId, Long offerId, LocalDate date, OrderStatus status, String cursor, Integer limit, BiConsumer<String, Stream<TakeAwayOrderDTO>> writer)
     {
         validateAuthenticatedUser(authUser);
+        ValidationUtil.validateNotNull(writer, "Writer");
         User requester = userReader.getByID(authUser.userId());
 
         Long searchCustomerId = getSearchCustomerId(requester, customerId);
 
-        return takeAwayOrderDAO.findByFilter(searchCustomerId, offerId, date, status)
-            .stream()
-            .map(TakeAwayOrderMapper::toDTO)
-            .toList();
+        takeAwayOrderDAO.streamPage(searchCustomerId, offerId, date, status, cursor, KeysetCursor.resolvePageSize(limit),
+            (nextCursor, orders) -> writer.accept(nextCursor, orders.map(TakeAwayOrderMapper::toDTO)));
     }
 
     @Override
@@ -128,40 +173,71 @@ public class TakeAwayOrderService implements ITakeAwayOrderService
     {
         LocalDate fallBackDate = date != null ? date : LocalDate.now();
 
-        Set<TakeAwayOffer> takeAwayOffers = takeAwayOfferDAO.findByFilter(fallBackDate, null, null, null);
+        return takeAwaySummaryCache.getOrLoad(fallBackDate, () -> loadSummary(fallBackDate));
+    }
 
-        Long totalOrders = takeAwayOrderDAO
-            .countOrdersByDate(fallBackDate)
-            .orElse(0L);
+    private TakeAwaySummaryDTO loadSummary(LocalDate date)
+    {
+        Set<TakeAwayOffer> takeAwayOffers = takeAwayOfferDAO.findByFilter(date, null, null, null);
 
-        List<TakeAwayOfferSummaryDTO> takeAwayOfferSummaryDTOS = takeAwayOffers
+        Map<Long, TakeAwayOfferDailyStats> statsByOffer = takeAwayDailyStatsDAO.findOfferStatsByDate(date)
             .stream()
-            .map(TakeAwayOfferMapper::toSummaryDTO)
-            .toList();
+            .collect(Collectors.toMap(TakeAwayOfferDailyStats::getOfferId, Function.identity()));
 
-        int totalOfferedPortions = takeAwayOffers
-            .stream()
-            .mapToInt(TakeAwayOffer::getOfferedPortions)
-            .sum();
+        Optional<TakeAwayDailyStats> dailyStats = takeAwayDailyStatsDAO.findByDate(date);
 
-        int totalRemainingPortions = takeAwayOffers
-            .stream()
-            .mapToInt(TakeAwayOffer::getAvailablePortions)
-            .sum();
+        int totalOfferedPortions = 0;
+        int totalRemainingPortions = 0;
+        List<TakeAwayOfferSummaryDTO> takeAwayOfferSummaryDTOS = new ArrayList<>(takeAwayOffers.size());
 
-        Long totalSoldPortions = takeAwayOrderDAO.sumSoldQuantityByDate(fallBackDate)
-            .orElse(0L);
+        for (TakeAwayOffer offer : takeAwayOffers)
+        {
+            totalOfferedPortions += offer.getOfferedPortions();
+            totalRemainingPortions += offer.getAvailablePortions();
+            takeAwayOfferSummaryDTOS.add(TakeAwayOfferMapper.toSummaryDTO(offer, statsByOffer.get(offer.getId())));
+        }
 
         return new TakeAwaySummaryDTO(
             date,
             totalOfferedPortions,
-            totalSoldPortions,
+            dailyStats.map(TakeAwayDailyStats::getSoldPortions).orElse(0L),
             totalRemainingPortions,
-            totalOrders,
-            takeAwayOfferSummaryDTOS
+            dailyStats.map(TakeAwayDailyStats::getOrders).orElse(0L),
+            dailyStats.map(TakeAwayDailyStats::getPaidOrders).orElse(0L),
+            dailyStats.map(TakeAwayDailyStats::getCancelledOrders).orElse(0L),
+            dailyStats.map(TakeAwayDailyStats::getRevenue).orElse(0.0),
+            List.copyOf(takeAwayOfferSummaryDTOS)
         );
     }
 
+    private CompletableFuture<TakeAwayOrder> submitOrder(Long customerId, TakeAwayOrderCreateDTO dto)
+    {
+        takeAwaySummaryCache.beginPlacement();
+
+        try
+        {
+            CompletableFuture<TakeAwayOrder> pendingOrder = takeAwayOrderWriter.submit(customerId, dto);
+
+            pendingOrder.whenComplete((order, error) ->
+            {
+                if (error == null)
+                {
+                    takeAwaySummaryCache.completePlacement(TakeAwayOrderMapper.toDTO(order));
+                }
+                else
+                {
+                    takeAwaySummaryCache.abortPlacement();
+                }
+            });
+            return pendingOrder;
+        }
+        catch (RuntimeException e)
+        {
+            takeAwaySummaryCache.abortPlacement();
+            throw e;
+        }
+    }
+
     private Long getSearchCustomerId(User requester, Long requestedCustomerId)
     {
         if (requester.isHeadChef() || requester.isSousChef())
@@ -172,6 +248,63 @@ public class TakeAwayOrderService implements ITakeAwayOrderService
         return requester.getId();
     }
 
+    private TakeAwayOrder awaitOrder(CompletableFuture<TakeAwayOrder> pendingOrder)
+    {
+        try
+        {
+            return awaitOrder(pendingOrder, ORDER_WRITE_TIMEOUT_SECONDS);
+        }
+        catch (TimeoutException e)
+        {
+            if (pendingOrder.cancel(false))
+            {
+                throw new ServiceUnavailableException("Your order could not be processed in time and was not placed. Please try again");
+            }
+        }
+
+        try
+        {
+            return awaitOrder(pendingOrder, ORDER_COMMIT_GRACE_SECONDS);
+        }
+        catch (TimeoutException e)
+        {
+            throw new ServiceUnavailableException("Your order is taking too long to process. Please check your orders before trying again");
+        }
+    }
+
+    private TakeAwayOrder awaitOrder(CompletableFuture<TakeAwayOrder> pendingOrder, long timeoutSeconds) throws TimeoutException
+    {
+        try
+        {
+            return pendingOrder.get(timeoutSeconds, TimeUnit.SECONDS);
+        }
+        catch (ExecutionException e)
+        {
+            if (e.getCause() instanceof RuntimeException cause)
+            {
+                throw cause;
+            }
+            throw new IllegalStateException("Failed to place takeaway order", e.getCause());
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            pendingOrder.cancel(false);
+            throw new ServiceUnavailableException("Order placement was interrupted");
+        }
+    }
+
+    private Map<Long, Integer> getQuantitiesByOffer(TakeAwayOrderCreateDTO dto)
+    {
+        Map<Long, Integer> quantitiesByOffer = new LinkedHashMap<>();
+
+        dto.takeAwayOrderLines().forEach(orderLine ->
+            quantitiesByOffer.merge(orderLine.offerId(), orderLine.quantity(), Integer::sum)
+        );
+
+        return quantitiesByOffer;
+    }
+
     private void validateCreateInput(TakeAwayOrderCreateDTO dto)
     {
         int minimumQuantityPerOrder = 1;
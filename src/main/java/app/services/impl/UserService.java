@@ -1,5 +1,6 @@
 package app.services.impl;
 
+import app.cache.VerifiedTokenCache;
 import app.dtos.security.AuthenticatedUser;
 import app.dtos.user.*;
 import app.enums.UserRole;
@@ -11,44 +12,50 @@ import app.persistence.daos.interfaces.readers.IStationReader;
 import app.persistence.daos.interfaces.IUserDAO;
 import app.persistence.entities.Station;
 import app.persistence.entities.User;
+import app.services.IPasswordHasher;
 import app.services.IUserService;
-import app.utils.PasswordUtil;
 import app.utils.ValidationUtil;
 
 import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 public class UserService implements IUserService
 {
     private final IUserDAO userDAO;
     private final IStationReader stationReader;
-    private static final int BCRYPT_COST = 12;
+    private final VerifiedTokenCache tokenCache;
+    private final IPasswordHasher passwordHasher;
 
-    public UserService(IUserDAO userDAO, IStationReader stationReader)
+    public UserService(IUserDAO userDAO, IStationReader stationReader, VerifiedTokenCache tokenCache, IPasswordHasher passwordHasher)
     {
         this.userDAO = userDAO;
         this.stationReader = stationReader;
+        this.tokenCache = tokenCache;
+        this.passwordHasher = passwordHasher;
     }
 
     @Override
-    public UserDTO registerUser(CreateUserRequestDTO dto)
+    public CompletableFuture<UserDTO> registerUser(CreateUserRequestDTO dto)
     {
         validateCreateInput(dto);
         requireUniqueEmail(dto.email());
 
-        String hashedPassword = PasswordUtil.hashPassword(dto.password(), BCRYPT_COST);
-
-        User user = new User(
-            dto.firstName(),
-            dto.lastName(),
-            dto.email(),
-            hashedPassword,
-            UserRole.CUSTOMER
-        );
-
-        User created = userDAO.create(user);
-        return UserMapper.toDTO(created);
+        return passwordHasher.hash(dto.password())
+            .thenApply(hashedPassword ->
+            {
+                User user = new User(
+                    dto.firstName(),
+                    dto.lastName(),
+                    dto.email(),
+                    hashedPassword,
+                    UserRole.CUSTOMER
+                );
+
+                User created = userDAO.create(user);
+                return UserMapper.toDTO(created);
+            });
     }
 
     @Override
@@ -113,6 +120,7 @@ public class UserService implements IUserService
         targetUser.changeRole(dto.userRole());
 
         User updated = userDAO.update(targetUser);
+        tokenCache.revokeUser(updated.getId());
         return UserMapper.toDTO(updated);
     }
 
@@ -130,23 +138,29 @@ public class UserService implements IUserService
     }
 
     @Override
-    public UserDTO changePassword(AuthenticatedUser authUser, Long targetUserId, ChangeUserPasswordDTO dto)
+    public CompletableFuture<UserDTO> changePassword(AuthenticatedUser authUser, Long targetUserId, ChangeUserPasswordDTO dto)
     {
         validatePassword(dto.newPassword());
         validateOwnershipOrAdmin(authUser, targetUserId);
 
         User user = userDAO.getByID(targetUserId);
 
-        if (!user.verifyPassword(dto.currentPassword()))
-        {
-            throw new ValidationException("Current password is incorrect");
-        }
-
-        String hashed = PasswordUtil.hashPassword(dto.newPassword(), BCRYPT_COST);
-        user.changePassword(hashed);
-
-        User updated = userDAO.update(user);
-        return UserMapper.toDTO(updated);
+        return passwordHasher.verify(dto.currentPassword(), user.getHashedPassword())
+            .thenCompose(valid ->
+            {
+                if (!valid)
+                {
+                    throw new ValidationException("Current password is incorrect");
+                }
+                return passwordHasher.hash(dto.newPassword());
+            })
+            .thenApply(hashed ->
+            {
+                user.changePassword(hashed);
+
+                User updated = userDAO.update(user);
+                return UserMapper.toDTO(updated);
+            });
     }
 
     @Override
@@ -256,5 +270,3 @@ public class UserService implements IUserService
         }
     }
 }
-
-
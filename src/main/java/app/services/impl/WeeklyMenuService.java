@@ -1,5 +1,7 @@
 package app.services.impl;
 
+import app.cache.CachedJson;
+import app.cache.WeeklyMenuCache;
 import app.dtos.dish.DishTranslationDTO;
 import app.dtos.menu.*;
 import app.dtos.security.AuthenticatedUser;
@@ -14,6 +16,7 @@ import app.persistence.daos.interfaces.readers.IUserReader;
 import app.persistence.entities.*;
 import app.services.IDishTranslationService;
 import app.services.IWeeklyMenuService;
+import app.utils.AllergenMask;
 import app.utils.ValidationUtil;
 import jakarta.persistence.EntityNotFoundException;
 
@@ -29,14 +32,16 @@ public class WeeklyMenuService implements IWeeklyMenuService
     private final IUserReader userReader;
     private final IStationReader stationReader;
     private final IDishTranslationService dishTranslationService;
+    private final WeeklyMenuCache weeklyMenuCache;
 
-    public WeeklyMenuService(IWeeklyMenuDAO menuDAO, IDishDAO dishDAO, IUserReader userReader, IStationReader stationReader, IDishTranslationService dishTranslationService)
+    public WeeklyMenuService(IWeeklyMenuDAO menuDAO, IDishDAO dishDAO, IUserReader userReader, IStationReader stationReader, IDishTranslationService dishTranslationService, WeeklyMenuCache weeklyMenuCache)
     {
         this.menuDAO = menuDAO;
         this.dishDAO = dishDAO;
         this.userReader = userReader;
         this.stationReader = stationReader;
         this.dishTranslationService = dishTranslationService;
+        this.weeklyMenuCache = weeklyMenuCache;
     }
 
     @Override
@@ -80,6 +85,7 @@ public class WeeklyMenuService implements IWeeklyMenuService
 
         menu.addMenuSlot(menuSlot);
         WeeklyMenu updated = menuDAO.update(menu);
+        evictMenu(updated);
         return WeeklyMenuMapper.toDTO(updated);
     }
 
@@ -93,6 +99,7 @@ public class WeeklyMenuService implements IWeeklyMenuService
         menu.removeMenuSlot(slot);
 
         WeeklyMenu updated = menuDAO.update(menu);
+        evictMenu(updated);
         return WeeklyMenuMapper.toDTO(updated);
     }
 
@@ -116,6 +123,7 @@ public class WeeklyMenuService implements IWeeklyMenuService
         }
 
         WeeklyMenu updated = menuDAO.update(menu);
+        evictMenu(updated);
         return WeeklyMenuMapper.toDTO(updated);
     }
 
@@ -143,6 +151,7 @@ public class WeeklyMenuService implements IWeeklyMenuService
         dishDAO.update(dish);
 
         WeeklyMenu updated = menuDAO.getByID(menuId);
+        weeklyMenuCache.evictAll();
         return WeeklyMenuMapper.toDTO(updated);
     }
 
@@ -159,6 +168,7 @@ public class WeeklyMenuService implements IWeeklyMenuService
         updateDishesWithTranslations(dishes, dishTranslations);
 
         WeeklyMenu updated = menuDAO.getByID(menuId);
+        weeklyMenuCache.evictAll();
         return WeeklyMenuMapper.toDTO(updated);
     }
 
@@ -177,30 +187,41 @@ public class WeeklyMenuService implements IWeeklyMenuService
 
         menu.publish(publisher);
         WeeklyMenu updated = menuDAO.update(menu);
+        evictMenu(updated);
         return WeeklyMenuMapper.toDTO(updated);
     }
 
     @Override
     public WeeklyMenuDTO getByWeekAndYear(AuthenticatedUser authUser, int week, int year)
+    {
+        return getByWeekAndYearJson(authUser, week, year, AllergenMask.NONE).value();
+    }
+
+    @Override
+    public CachedJson<WeeklyMenuDTO> getByWeekAndYearJson(AuthenticatedUser authUser, int week, int year, int excludedAllergens)
     {
         validateWeekAndYear(week, year);
         MenuStatus menuStatus = getMenuStatusPermission(authUser);
 
-        return menuDAO.findByWeekAndYear(week, year, menuStatus)
-            .map(WeeklyMenuMapper::toDTO)
+        return getMenuJson(week, year, menuStatus, excludedAllergens)
             .orElseThrow(() -> new EntityNotFoundException("No menu for week " + week + "/" + year)
             );
     }
 
     @Override
     public WeeklyMenuDTO getCurrentWeekMenu()
+    {
+        return getCurrentWeekMenuJson(AllergenMask.NONE).value();
+    }
+
+    @Override
+    public CachedJson<WeeklyMenuDTO> getCurrentWeekMenuJson(int excludedAllergens)
     {
         LocalDate today = LocalDate.now();
         int week = today.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR);
         int year = today.get(IsoFields.WEEK_BASED_YEAR);
 
-        return menuDAO.findByWeekAndYear(week, year, MenuStatus.PUBLISHED)
-            .map(WeeklyMenuMapper::toDTO)
+        return getMenuJson(week, year, MenuStatus.PUBLISHED, excludedAllergens)
             .orElseThrow(() -> new EntityNotFoundException("No menu published for current week " + week + "/" + year));
     }
 
@@ -228,7 +249,15 @@ public class WeeklyMenuService implements IWeeklyMenuService
         WeeklyMenu menu = menuDAO.getByID(menuId);
 
         menu.delete(user);
-        return menuDAO.delete(menuId);
+        boolean isDeleted = menuDAO.delete(menuId);
+        evictMenu(menu);
+
+        return isDeleted;
+    }
+
+    private void evictMenu(WeeklyMenu menu)
+    {
+        weeklyMenuCache.evict(menu.getWeekNumber(), menu.getYear());
     }
 
     private WeeklyMenuSlot findSlot(WeeklyMenu menu, Long menuSlotId)
@@ -263,6 +292,38 @@ public class WeeklyMenuService implements IWeeklyMenuService
         dishDAO.updateAll(dishes);
     }
 
+    private Optional<CachedJson<WeeklyMenuDTO>> getMenuJson(int week, int year, MenuStatus menuStatus, int excludedAllergens)
+    {
+        if (excludedAllergens == AllergenMask.NONE)
+        {
+            return weeklyMenuCache.getOrLoad(week, year, menuStatus, () -> menuDAO.findByWeekAndYear(week, year, menuStatus).map(WeeklyMenuMapper::toDTO));
+        }
+
+        return weeklyMenuCache.getOrLoad(week, year, menuStatus, excludedAllergens, () ->
+            getMenuJson(week, year, menuStatus, AllergenMask.NONE)
+                .map(menu -> withoutAllergens(menu.value(), excludedAllergens))
+        );
+    }
+
+    private WeeklyMenuDTO withoutAllergens(WeeklyMenuDTO menu, int excludedAllergens)
+    {
+        List<WeeklyMenuSlotDTO> slots = menu.menuSlots()
+            .stream()
+            .filter(slot -> slot.menuDish() == null || AllergenMask.isFree(slot.menuDish().allergenMask(), excludedAllergens))
+            .toList();
+
+        return new WeeklyMenuDTO(
+            menu.menuId(),
+            menu.weekNumber(),
+            menu.year(),
+            menu.menuStatus(),
+            menu.publishedAt(),
+            menu.menuCreatedBy(),
+            slots,
+            slots.size()
+        );
+    }
+
     private void validateWeekAndYear(int week, int year)
     {
         ValidationUtil.validateRange(week, 1, 53, "Week");
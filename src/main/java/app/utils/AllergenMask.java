@@ -0,0 +1,71 @@
+package app.utils;
+
+import app.dtos.allergen.AllergenDTO;
+import app.persistence.entities.Allergen;
+
+import java.util.Collection;
+
+public final class AllergenMask
+{
+    public static final int NONE = 0;
+    private static final int MAX_DISPLAY_NUMBER = Integer.SIZE - 1;
+
+    private AllergenMask() {}
+
+    public static int of(Collection<Allergen> allergens)
+    {
+        int mask = NONE;
+
+        if (allergens != null)
+        {
+            for (Allergen allergen : allergens)
+            {
+                mask |= bit(allergen.getDisplayNumber());
+            }
+        }
+        return mask;
+    }
+
+    public static int ofDTOs(Collection<AllergenDTO> allergens)
+    {
+        int mask = NONE;
+
+        if (allergens != null)
+        {
+            for (AllergenDTO allergen : allergens)
+            {
+                mask |= bit(allergen.displayNumber());
+            }
+        }
+        return mask;
+    }
+
+    public static int fromDisplayNumbers(Collection<Integer> displayNumbers)
+    {
+        int mask = NONE;
+
+        for (Integer displayNumber : displayNumbers)
+        {
+            if (displayNumber == null || displayNumber < 1 || displayNumber > MAX_DISPLAY_NUMBER)
+            {
+                throw new IllegalArgumentException("Allergen number must be between 1 and " + MAX_DISPLAY_NUMBER + ", got: " + displayNumber);
+            }
+            mask |= bit(displayNumber);
+        }
+        return mask;
+    }
+
+    public static boolean isFree(int allergenMask, int excludedMask)
+    {
+        return (allergenMask & excludedMask) == 0;
+    }
+
+    private static int bit(Integer displayNumber)
+    {
+        if (displayNumber == null || displayNumber < 1 || displayNumber > MAX_DISPLAY_NUMBER)
+        {
+            return NONE;
+        }
+        return 1 << (displayNumber - 1);
+    }
+}
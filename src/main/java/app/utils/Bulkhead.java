@@ -0,0 +1,75 @@
+package app.utils;
+
+import app.exceptions.ServiceUnavailableException;
+
+import java.io.IOException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+public final class Bulkhead
+{
+    private final String name;
+    private final Semaphore permits;
+    private final long maxWaitMs;
+
+    public Bulkhead(String name, int maxConcurrent, long maxWaitMs)
+    {
+        if (maxConcurrent < 1)
+        {
+            throw new IllegalArgumentException(name + " bulkhead needs at least one permit");
+        }
+        this.name = name;
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.maxWaitMs = maxWaitMs;
+    }
+
+    public void acquire()
+    {
+        try
+        {
+            if (!permits.tryAcquire(maxWaitMs, TimeUnit.MILLISECONDS))
+            {
+                throw new ServiceUnavailableException(name + " is at capacity, please try again shortly");
+            }
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException(name + " call was interrupted");
+        }
+    }
+
+    public void release()
+    {
+        permits.release();
+    }
+
+    public <T> T execute(Call<T> call) throws IOException, InterruptedException
+    {
+        acquire();
+        try
+        {
+            return call.run();
+        }
+        finally
+        {
+            release();
+        }
+    }
+
+    public int getAvailablePermits()
+    {
+        return permits.availablePermits();
+    }
+
+    public String getName()
+    {
+        return name;
+    }
+
+    @FunctionalInterface
+    public interface Call<T>
+    {
+        T run() throws IOException, InterruptedException;
+    }
+}
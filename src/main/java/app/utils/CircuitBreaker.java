@@ -0,0 +1,96 @@
+package app.utils;
+
+import app.exceptions.ServiceUnavailableException;
+
+import java.time.Clock;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public final class CircuitBreaker
+{
+    public enum State
+    {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final String name;
+    private final int failureThreshold;
+    private final long openMs;
+    private final Clock clock;
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicBoolean trialInFlight = new AtomicBoolean();
+    private volatile long openedAt = -1;
+
+    public CircuitBreaker(String name, int failureThreshold, long openMs, Clock clock)
+    {
+        if (failureThreshold < 1)
+        {
+            throw new IllegalArgumentException(name + " circuit breaker needs a failure threshold of at least one");
+        }
+        this.name = name;
+        this.failureThreshold = failureThreshold;
+        this.openMs = openMs;
+        this.clock = clock;
+    }
+
+    public void acquirePermission()
+    {
+        if (!tryAcquirePermission())
+        {
+            throw new ServiceUnavailableException(name + " is unavailable right now, please try again shortly");
+        }
+    }
+
+    public boolean tryAcquirePermission()
+    {
+        State state = getState();
+
+        if (state == State.CLOSED)
+        {
+            return true;
+        }
+
+        return state == State.HALF_OPEN && trialInFlight.compareAndSet(false, true);
+    }
+
+    public void releasePermission()
+    {
+        trialInFlight.set(false);
+    }
+
+    public void onSuccess()
+    {
+        consecutiveFailures.set(0);
+        openedAt = -1;
+        trialInFlight.set(false);
+    }
+
+    public void onFailure()
+    {
+        boolean trialFailed = trialInFlight.getAndSet(false);
+
+        if (trialFailed || consecutiveFailures.incrementAndGet() >= failureThreshold)
+        {
+            openedAt = clock.millis();
+        }
+    }
+
+    public State getState()
+    {
+        long opened = openedAt;
+
+        if (opened < 0)
+        {
+            return State.CLOSED;
+        }
+
+        return clock.millis() - opened >= openMs ? State.HALF_OPEN : State.OPEN;
+    }
+
+    public String getName()
+    {
+        return name;
+    }
+}
@@ -0,0 +1,124 @@
+package app.utils;
+
+import app.exceptions.ValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.StringJoiner;
+
+public final class KeysetCursor
+{
+    public static final int DEFAULT_PAGE_SIZE = 100;
+    public static final int MAX_PAGE_SIZE = 500;
+
+    private static final String SEPARATOR = "|";
+
+    private final String[] keys;
+
+    private KeysetCursor(String[] keys)
+    {
+        this.keys = keys;
+    }
+
+    public static int resolvePageSize(Integer limit)
+    {
+        if (limit == null)
+        {
+            return DEFAULT_PAGE_SIZE;
+        }
+        if (limit <= 0)
+        {
+            throw new ValidationException("Limit must be positive");
+        }
+        return Math.min(limit, MAX_PAGE_SIZE);
+    }
+
+    public static String encode(Object... keys)
+    {
+        StringJoiner joined = new StringJoiner(SEPARATOR);
+        for (Object key : keys)
+        {
+            joined.add(key == null ? "" : String.valueOf(key));
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(joined.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KeysetCursor decode(String cursor, int expectedKeys)
+    {
+        if (cursor == null)
+        {
+            return null;
+        }
+
+        try
+        {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] keys = raw.split("\\" + SEPARATOR, -1);
+
+            if (keys.length != expectedKeys)
+            {
+                throw new ValidationException("Invalid cursor");
+            }
+            return new KeysetCursor(keys);
+        }
+        catch (IllegalArgumentException e)
+        {
+            throw new ValidationException("Invalid cursor");
+        }
+    }
+
+    public LocalDateTime dateTimeAt(int index)
+    {
+        try
+        {
+            return LocalDateTime.parse(keys[index]);
+        }
+        catch (DateTimeParseException e)
+        {
+            throw new ValidationException("Invalid cursor");
+        }
+    }
+
+    public LocalDateTime nullableDateTimeAt(int index)
+    {
+        return keys[index].isEmpty() ? null : dateTimeAt(index);
+    }
+
+    public long longAt(int index)
+    {
+        try
+        {
+            return Long.parseLong(keys[index]);
+        }
+        catch (NumberFormatException e)
+        {
+            throw new ValidationException("Invalid cursor");
+        }
+    }
+
+    public int intAt(int index)
+    {
+        try
+        {
+            return Integer.parseInt(keys[index]);
+        }
+        catch (NumberFormatException e)
+        {
+            throw new ValidationException("Invalid cursor");
+        }
+    }
+
+    public <E extends Enum<E>> E enumAt(int index, Class<E> type)
+    {
+        try
+        {
+            return Enum.valueOf(type, keys[index]);
+        }
+        catch (IllegalArgumentException e)
+        {
+            throw new ValidationException("Invalid cursor");
+        }
+    }
+}
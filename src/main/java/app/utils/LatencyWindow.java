@@ -0,0 +1,48 @@
+package app.utils;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public final class LatencyWindow
+{
+    private final AtomicLongArray samples;
+    private final AtomicLong recorded = new AtomicLong();
+    private final int minSamples;
+
+    public LatencyWindow(int size, int minSamples)
+    {
+        if (size < 1 || minSamples > size)
+        {
+            throw new IllegalArgumentException("Latency window size must be positive and hold the minimum sample count");
+        }
+        this.samples = new AtomicLongArray(size);
+        this.minSamples = minSamples;
+    }
+
+    public void record(long latencyMs)
+    {
+        long slot = recorded.getAndIncrement();
+        samples.set((int) (slot % samples.length()), latencyMs);
+    }
+
+    public long percentile(double percentile, long defaultMs)
+    {
+        int count = (int) Math.min(recorded.get(), samples.length());
+
+        if (count < minSamples)
+        {
+            return defaultMs;
+        }
+
+        long[] snapshot = new long[count];
+        for (int i = 0; i < count; i++)
+        {
+            snapshot[i] = samples.get(i);
+        }
+        Arrays.sort(snapshot);
+
+        int index = (int) Math.ceil(percentile / 100.0 * count) - 1;
+        return snapshot[Math.max(0, Math.min(index, count - 1))];
+    }
+}
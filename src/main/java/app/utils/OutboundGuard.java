@@ -0,0 +1,242 @@
+package app.utils;
+
+import app.exceptions.ServiceUnavailableException;
+import app.metrics.LatencyHistogram;
+import app.metrics.MetricsRegistry;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+public final class OutboundGuard
+{
+    private final HttpClient client;
+    private final Bulkhead bulkhead;
+    private final CircuitBreaker circuitBreaker;
+    private final long deadlineMs;
+    private final int maxAttempts;
+    private final long retryBaseMs;
+    private final LatencyHistogram successLatency;
+    private final LatencyHistogram failureLatency;
+    private final LongAdder rejected;
+    private final LongAdder retries;
+
+    public OutboundGuard(HttpClient client, Bulkhead bulkhead, CircuitBreaker circuitBreaker, long deadlineMs, int maxAttempts, long retryBaseMs, MetricsRegistry metrics)
+    {
+        this.client = client;
+        this.bulkhead = bulkhead;
+        this.circuitBreaker = circuitBreaker;
+        this.deadlineMs = deadlineMs;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryBaseMs = retryBaseMs;
+
+        String dependency = circuitBreaker.getName();
+        this.successLatency = metrics.timer("miseos_outbound_request_seconds", "Latency of outbound HTTP calls", "dependency", dependency, "outcome", "success");
+        this.failureLatency = metrics.timer("miseos_outbound_request_seconds", "Latency of outbound HTTP calls", "dependency", dependency, "outcome", "failure");
+        this.rejected = metrics.counter("miseos_outbound_rejected_total", "Outbound calls rejected by an open circuit, a full bulkhead or an expired deadline", "dependency", dependency);
+        this.retries = metrics.counter("miseos_outbound_retries_total", "Outbound calls retried after a failure", "dependency", dependency);
+        metrics.gauge("miseos_outbound_circuit_state", "Circuit state per dependency (0 closed, 1 open, 2 half open)", () -> circuitBreaker.getState().ordinal(), "dependency", dependency);
+        metrics.gauge("miseos_outbound_bulkhead_available", "Free concurrency permits per outbound bulkhead", bulkhead::getAvailablePermits, "bulkhead", bulkhead.getName());
+    }
+
+    public static boolean isRetryable(int statusCode)
+    {
+        return statusCode == 429 || statusCode == 500 || statusCode == 502 || statusCode == 503 || statusCode == 504;
+    }
+
+    public <T> HttpResponse<T> send(HttpRequest.Builder request, HttpResponse.BodyHandler<T> bodyHandler) throws IOException, InterruptedException
+    {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(deadlineMs);
+
+        for (int attempt = 1; ; attempt++)
+        {
+            HttpResponse<T> response;
+            try
+            {
+                response = sendOnce(request, bodyHandler, remainingMs(deadline));
+            }
+            catch (IOException e)
+            {
+                if (attempt >= maxAttempts || !pauseBeforeRetry(attempt, deadline))
+                {
+                    throw e;
+                }
+                continue;
+            }
+
+            if (!isRetryable(response.statusCode()) || attempt >= maxAttempts || !pauseBeforeRetry(attempt, deadline))
+            {
+                return response;
+            }
+        }
+    }
+
+    public <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest.Builder request, HttpResponse.BodyHandler<T> bodyHandler)
+    {
+        return executeAsync(
+            timeout -> client.sendAsync(request.timeout(timeout).build(), bodyHandler),
+            response -> isRetryable(response.statusCode())
+        );
+    }
+
+    public <T> CompletableFuture<T> executeAsync(Function<Duration, CompletableFuture<T>> call, Predicate<T> isFailure)
+    {
+        if (!circuitBreaker.tryAcquirePermission())
+        {
+            rejected.increment();
+            return CompletableFuture.failedFuture(unavailable());
+        }
+
+        try
+        {
+            bulkhead.acquire();
+        }
+        catch (ServiceUnavailableException e)
+        {
+            rejected.increment();
+            circuitBreaker.releasePermission();
+            return CompletableFuture.failedFuture(e);
+        }
+
+        long start = System.nanoTime();
+        CompletableFuture<T> future;
+        try
+        {
+            future = call.apply(Duration.ofMillis(deadlineMs)).orTimeout(deadlineMs, TimeUnit.MILLISECONDS);
+        }
+        catch (RuntimeException e)
+        {
+            bulkhead.release();
+            circuitBreaker.onFailure();
+            return CompletableFuture.failedFuture(e);
+        }
+
+        future.whenComplete((result, ex) ->
+        {
+            bulkhead.release();
+            if (ex instanceof CancellationException)
+            {
+                circuitBreaker.releasePermission();
+            }
+            else if (ex != null || isFailure.test(result))
+            {
+                failureLatency.recordSince(start);
+                circuitBreaker.onFailure();
+            }
+            else
+            {
+                successLatency.recordSince(start);
+                circuitBreaker.onSuccess();
+            }
+        });
+        return future;
+    }
+
+    public boolean isCallPermitted()
+    {
+        return circuitBreaker.getState() != CircuitBreaker.State.OPEN;
+    }
+
+    public String getName()
+    {
+        return circuitBreaker.getName();
+    }
+
+    private <T> HttpResponse<T> sendOnce(HttpRequest.Builder request, HttpResponse.BodyHandler<T> bodyHandler, long timeoutMs) throws IOException, InterruptedException
+    {
+        try
+        {
+            circuitBreaker.acquirePermission();
+        }
+        catch (ServiceUnavailableException e)
+        {
+            rejected.increment();
+            throw e;
+        }
+
+        try
+        {
+            bulkhead.acquire();
+        }
+        catch (ServiceUnavailableException e)
+        {
+            rejected.increment();
+            circuitBreaker.releasePermission();
+            throw e;
+        }
+
+        long start = System.nanoTime();
+        try
+        {
+            HttpResponse<T> response = client.send(request.timeout(Duration.ofMillis(timeoutMs)).build(), bodyHandler);
+
+            if (isRetryable(response.statusCode()))
+            {
+                failureLatency.recordSince(start);
+                circuitBreaker.onFailure();
+            }
+            else
+            {
+                successLatency.recordSince(start);
+                circuitBreaker.onSuccess();
+            }
+            return response;
+        }
+        catch (IOException e)
+        {
+            failureLatency.recordSince(start);
+            circuitBreaker.onFailure();
+            throw e;
+        }
+        catch (InterruptedException | RuntimeException e)
+        {
+            circuitBreaker.releasePermission();
+            throw e;
+        }
+        finally
+        {
+            bulkhead.release();
+        }
+    }
+
+    private boolean pauseBeforeRetry(int attempt, long deadline) throws InterruptedException
+    {
+        long ceiling = retryBaseMs << Math.min(attempt - 1, 16);
+        long pauseMs = ThreadLocalRandom.current().nextLong(ceiling + 1);
+
+        if (pauseMs >= TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime()))
+        {
+            return false;
+        }
+
+        retries.increment();
+        Thread.sleep(pauseMs);
+        return true;
+    }
+
+    private long remainingMs(long deadline)
+    {
+        long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+
+        if (remaining <= 0)
+        {
+            rejected.increment();
+            throw new ServiceUnavailableException(getName() + " did not answer in time");
+        }
+        return remaining;
+    }
+
+    private ServiceUnavailableException unavailable()
+    {
+        return new ServiceUnavailableException(getName() + " is unavailable right now, please try again shortly");
+    }
+}
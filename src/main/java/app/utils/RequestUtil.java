@@ -5,6 +5,8 @@ import io.javalin.http.Context;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
 
 
 public final class RequestUtil
@@ -62,6 +64,26 @@ public final class RequestUtil
         return requireQueryString(ctx, param);
     }
 
+    public static int getQueryAllergenMask(Context ctx, String param)
+    {
+        if (!isPresent(ctx, param)) return AllergenMask.NONE;
+
+        List<Integer> displayNumbers = new ArrayList<>();
+
+        for (String value : ctx.queryParam(param).split(","))
+        {
+            try
+            {
+                displayNumbers.add(Integer.parseInt(value.trim()));
+            }
+            catch (NumberFormatException e)
+            {
+                throw new IllegalArgumentException("Invalid allergen number in '" + param + "': " + value.trim());
+            }
+        }
+        return AllergenMask.fromDisplayNumbers(displayNumbers);
+    }
+
     public static MenuStatus getQueryMenuStatus(Context ctx, String param)
     {
         if (!isPresent(ctx, param)) return null;
@@ -0,0 +1,42 @@
+package app.utils;
+
+import app.cache.CachedJson;
+import io.javalin.http.ContentType;
+import io.javalin.http.Context;
+import io.javalin.http.Header;
+
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+
+public final class ResponseUtil
+{
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    private ResponseUtil(){}
+
+    public static void sendCachedJson(Context ctx, CachedJson<?> cached)
+    {
+        ctx.header(Header.ETAG, cached.etag());
+        ctx.header(Header.CACHE_CONTROL, "no-cache");
+
+        if (cached.matches(ctx.header(Header.IF_NONE_MATCH)))
+        {
+            ctx.status(304);
+            return;
+        }
+
+        ctx.status(200).contentType(ContentType.APPLICATION_JSON).result(cached.json());
+    }
+
+    public static <T> BiConsumer<String, Stream<T>> jsonPage(Context ctx)
+    {
+        return (nextCursor, items) ->
+        {
+            if (nextCursor != null)
+            {
+                ctx.header(NEXT_CURSOR_HEADER, nextCursor);
+            }
+            ctx.status(200).writeJsonStream(items);
+        };
+    }
+}
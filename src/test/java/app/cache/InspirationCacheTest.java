@@ -0,0 +1,146 @@
+package app.cache;
+
+import app.dtos.gemini.AiDishSuggestionDTO;
+import app.dtos.menu.RecentMenuDishDTO;
+import app.dtos.station.StationDTO;
+import app.dtos.weather.DailyWeatherDTO;
+import app.dtos.weather.WeatherForecastDTO;
+import app.dtos.weather.WeatherUnitsDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+class InspirationCacheTest
+{
+    private static final ZoneId ZONE = ZoneId.of("Europe/Copenhagen");
+
+    private StationDTO hotKitchen;
+    private List<AiDishSuggestionDTO> dishes;
+
+    @BeforeEach
+    void setUp()
+    {
+        hotKitchen = new StationDTO(2L, "Hot Kitchen", "Main Courses", LocalDateTime.now(), LocalDateTime.now());
+        dishes = List.of(new AiDishSuggestionDTO("Rødspætte", "Med persillesovs"));
+    }
+
+    @Test
+    @DisplayName("Key - should ignore recent dish order and small forecast changes")
+    void keyIsStable()
+    {
+        List<RecentMenuDishDTO> recent = List.of(new RecentMenuDishDTO("Tarteletter", null), new RecentMenuDishDTO("Boeuf", null));
+        List<RecentMenuDishDTO> reordered = List.of(new RecentMenuDishDTO("boeuf ", null), new RecentMenuDishDTO("Tarteletter", null));
+
+        String key = InspirationCache.keyOf(hotKitchen, forecast(14.2, 61), recent);
+
+        assertThat(InspirationCache.keyOf(hotKitchen, forecast(14.6, 63), reordered), is(key));
+        assertThat(InspirationCache.keyOf(hotKitchen, forecast(22.0, 61), recent), is(not(key)));
+        assertThat(InspirationCache.keyOf(hotKitchen, null, recent), is(not(key)));
+    }
+
+    @Test
+    @DisplayName("Reserve - should coalesce requests onto the first loader until the day ends")
+    void coalescesWithinDay()
+    {
+        InspirationCache cache = new InspirationCache(clockAt("2026-06-01T09:00:00Z"));
+
+        InspirationCache.Reservation first = cache.reserve("station-2");
+        InspirationCache.Reservation second = cache.reserve("station-2");
+        cache.complete(first, dishes);
+
+        assertThat(first.owner(), is(true));
+        assertThat(second.owner(), is(false));
+        assertThat(second.result().join(), is(dishes));
+        assertThat(cache.reserve("station-2").owner(), is(false));
+        assertThat(cache.getStats().hits(), is(2L));
+    }
+
+    @Test
+    @DisplayName("Reserve - should reload once the cached result is from a previous day")
+    void expiresNextDay()
+    {
+        MutableClock clock = new MutableClock(Instant.parse("2026-06-01T09:00:00Z"));
+        InspirationCache cache = new InspirationCache(clock);
+        cache.complete(cache.reserve("station-2"), dishes);
+
+        clock.instant = Instant.parse("2026-06-02T09:00:00Z");
+
+        assertThat(cache.reserve("station-2").owner(), is(true));
+        assertThat(cache.getStats().size(), is(1));
+    }
+
+    @Test
+    @DisplayName("Fail - should release the key so the next request retries")
+    void failReleasesKey()
+    {
+        InspirationCache cache = new InspirationCache(clockAt("2026-06-01T09:00:00Z"));
+        InspirationCache.Reservation first = cache.reserve("station-2");
+
+        cache.fail(first, new IllegalStateException("429 from Gemini"));
+
+        assertThat(first.result().isCompletedExceptionally(), is(true));
+        assertThat(cache.reserve("station-2").owner(), is(true));
+    }
+
+    @Test
+    @DisplayName("Complete - should not cache an empty result")
+    void emptyResultIsNotCached()
+    {
+        InspirationCache cache = new InspirationCache(clockAt("2026-06-01T09:00:00Z"));
+
+        cache.complete(cache.reserve("station-2"), List.of());
+
+        assertThat(cache.reserve("station-2").owner(), is(true));
+    }
+
+    private static WeatherForecastDTO forecast(double todayMax, int todayCode)
+    {
+        return new WeatherForecastDTO(
+            "Europe/Copenhagen",
+            new WeatherUnitsDTO("°C", "mm"),
+            new DailyWeatherDTO(List.of("2026-06-01", "2026-06-02"), List.of(todayMax, 15.0), List.of(6.0, 7.0), List.of(0.0, 1.0), List.of(todayCode, 3))
+        );
+    }
+
+    private static Clock clockAt(String instant)
+    {
+        return Clock.fixed(Instant.parse(instant), ZONE);
+    }
+
+    private static class MutableClock extends Clock
+    {
+        private Instant instant;
+
+        private MutableClock(Instant instant)
+        {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone()
+        {
+            return ZONE;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone)
+        {
+            return this;
+        }
+
+        @Override
+        public Instant instant()
+        {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package app.cache;
+
+import app.config.ObjectMapperConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+class JsonResponseCacheTest
+{
+    private final JsonResponseCache<String, String> cache = new JsonResponseCache<>(ObjectMapperConfig.create(), 2);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    @DisplayName("Store - should evict only the least recently used entry when full")
+    void evictsLeastRecentlyUsed()
+    {
+        get("a");
+        get("b");
+        get("a");
+
+        get("c");
+
+        assertThat(cache.getStats().size(), is(2));
+        assertThat(loads.get(), is(3));
+
+        get("a");
+        get("c");
+        assertThat(loads.get(), is(3));
+
+        get("b");
+        assertThat(loads.get(), is(4));
+    }
+
+    @Test
+    @DisplayName("Replace - should swap the entry only while it is still the expected one")
+    void replaceComparesEntry()
+    {
+        CachedJson<String> original = get("a");
+
+        CachedJson<String> replaced = cache.replace("a", original, "a2");
+
+        assertThat(get("a"), sameInstance(replaced));
+        assertThat(new String(replaced.json()), is("\"a2\""));
+
+        cache.replace("a", original, "a3");
+
+        assertThat(get("a").value(), is("a2"));
+    }
+
+    private CachedJson<String> get(String key)
+    {
+        return cache.getOrLoad(key, () ->
+        {
+            loads.incrementAndGet();
+            return key;
+        });
+    }
+}
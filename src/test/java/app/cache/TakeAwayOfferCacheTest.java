@@ -0,0 +1,104 @@
+package app.cache;
+
+import app.config.ObjectMapperConfig;
+import app.dtos.takeaway.TakeAwayOfferDTO;
+import app.mappers.TakeAwayOfferMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.UnaryOperator;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+class TakeAwayOfferCacheTest
+{
+    private TakeAwayOfferCache takeAwayOfferCache;
+    private AtomicInteger loads;
+    private Map<Long, Integer> livePortions;
+
+    @BeforeEach
+    void setUp()
+    {
+        takeAwayOfferCache = new TakeAwayOfferCache(ObjectMapperConfig.create());
+        loads = new AtomicInteger();
+        livePortions = new ConcurrentHashMap<>(Map.of(1L, 20, 2L, 5));
+    }
+
+    @Test
+    @DisplayName("Get or load - should reuse the cached JSON while portion counts are unchanged")
+    void reusesJsonWhilePortionsUnchanged()
+    {
+        CachedJson<List<TakeAwayOfferDTO>> first = getOffers(null);
+        CachedJson<List<TakeAwayOfferDTO>> second = getOffers(null);
+
+        assertThat(loads.get(), is(1));
+        assertThat(second, sameInstance(first));
+    }
+
+    @Test
+    @DisplayName("Get or load - should overlay live portion counts without reloading the offers")
+    void overlaysLivePortions()
+    {
+        CachedJson<List<TakeAwayOfferDTO>> before = getOffers(null);
+        livePortions.put(1L, 16);
+
+        CachedJson<List<TakeAwayOfferDTO>> after = getOffers(null);
+
+        assertThat(loads.get(), is(1));
+        assertThat(after.etag(), is(not(before.etag())));
+        assertThat(after.value().get(0).availablePortions(), is(16));
+        assertThat(new String(after.json()), containsString("\"availablePortions\":16"));
+        assertThat(getOffers(null), sameInstance(after));
+    }
+
+    @Test
+    @DisplayName("Get or load - should filter sold out offers on the live counts")
+    void filtersSoldOutOnLiveCounts()
+    {
+        getOffers(null);
+        livePortions.put(2L, 0);
+
+        List<TakeAwayOfferDTO> soldOut = getOffers(true).value();
+        List<TakeAwayOfferDTO> available = getOffers(false).value();
+
+        assertThat(loads.get(), is(1));
+        assertThat(soldOut.stream().map(TakeAwayOfferDTO::id).toList(), contains(2L));
+        assertThat(available.stream().map(TakeAwayOfferDTO::id).toList(), contains(1L));
+    }
+
+    @Test
+    @DisplayName("Evict all - should reload the offers on the next read")
+    void evictAllReloads()
+    {
+        getOffers(null);
+
+        takeAwayOfferCache.evictAll();
+        getOffers(null);
+
+        assertThat(loads.get(), is(2));
+    }
+
+    private CachedJson<List<TakeAwayOfferDTO>> getOffers(Boolean isSoldOut)
+    {
+        UnaryOperator<TakeAwayOfferDTO> live = offer -> TakeAwayOfferMapper.withAvailablePortions(offer, livePortions.get(offer.id()));
+        return takeAwayOfferCache.getOrLoad(LocalDate.now(), isSoldOut, true, null, this::load, live);
+    }
+
+    private List<TakeAwayOfferDTO> load()
+    {
+        loads.incrementAndGet();
+        return List.of(offer(1L, 20), offer(2L, 5));
+    }
+
+    private static TakeAwayOfferDTO offer(Long id, int availablePortions)
+    {
+        return new TakeAwayOfferDTO(id, true, false, 20, availablePortions, 45.0, null, null, LocalDate.now(), null);
+    }
+}
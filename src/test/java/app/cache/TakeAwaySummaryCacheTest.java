@@ -0,0 +1,122 @@
+package app.cache;
+
+import app.dtos.dish.DishReferenceDTO;
+import app.dtos.takeaway.TakeAwayOfferReferenceDTO;
+import app.dtos.takeaway.TakeAwayOfferSummaryDTO;
+import app.dtos.takeaway.TakeAwayOrderDTO;
+import app.dtos.takeaway.TakeAwayOrderLineDTO;
+import app.dtos.takeaway.TakeAwaySummaryDTO;
+import app.enums.OrderStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+class TakeAwaySummaryCacheTest
+{
+    private static final LocalDate TODAY = LocalDate.of(2026, 6, 1);
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-06-01T09:00:00Z"), ZoneId.of("Europe/Copenhagen"));
+
+    @Test
+    @DisplayName("GetOrLoad - should serve today's summary from memory after the first load")
+    void cachesToday()
+    {
+        TakeAwaySummaryCache cache = new TakeAwaySummaryCache(CLOCK);
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.getOrLoad(TODAY, () -> { loads.incrementAndGet(); return summary(TODAY); });
+        cache.getOrLoad(TODAY, () -> { loads.incrementAndGet(); return summary(TODAY); });
+
+        assertThat(loads.get(), is(1));
+        assertThat(cache.getStats().hits(), is(1L));
+    }
+
+    @Test
+    @DisplayName("GetOrLoad - should not cache other dates")
+    void doesNotCacheOtherDates()
+    {
+        TakeAwaySummaryCache cache = new TakeAwaySummaryCache(CLOCK);
+        AtomicInteger loads = new AtomicInteger();
+        LocalDate yesterday = TODAY.minusDays(1);
+
+        cache.getOrLoad(yesterday, () -> { loads.incrementAndGet(); return summary(yesterday); });
+        cache.getOrLoad(yesterday, () -> { loads.incrementAndGet(); return summary(yesterday); });
+
+        assertThat(loads.get(), is(2));
+    }
+
+    @Test
+    @DisplayName("CompletePlacement - should apply the placed order to the cached summary")
+    void appliesPlacedOrder()
+    {
+        TakeAwaySummaryCache cache = new TakeAwaySummaryCache(CLOCK);
+        cache.getOrLoad(TODAY, () -> summary(TODAY));
+
+        cache.beginPlacement();
+        cache.completePlacement(order(TODAY, 3, 135.0));
+
+        TakeAwaySummaryDTO updated = cache.getOrLoad(TODAY, () -> { throw new AssertionError("Should not reload"); });
+
+        assertThat(updated.totalOrders(), is(3L));
+        assertThat(updated.totalSoldPortions(), is(13L));
+        assertThat(updated.totalRemainingPortions(), is(7));
+        assertThat(updated.totalRevenue(), closeTo(585.0, 0.001));
+        assertThat(updated.summaryPerOffer().get(0).soldPortions(), is(13));
+        assertThat(updated.summaryPerOffer().get(0).remainingPortions(), is(7));
+    }
+
+    @Test
+    @DisplayName("GetOrLoad - should not store a summary loaded while an order is being placed")
+    void skipsStoreDuringPlacement()
+    {
+        TakeAwaySummaryCache cache = new TakeAwaySummaryCache(CLOCK);
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.beginPlacement();
+        cache.getOrLoad(TODAY, () -> { loads.incrementAndGet(); return summary(TODAY); });
+        cache.abortPlacement();
+        cache.getOrLoad(TODAY, () -> { loads.incrementAndGet(); return summary(TODAY); });
+        cache.getOrLoad(TODAY, () -> { loads.incrementAndGet(); return summary(TODAY); });
+
+        assertThat(loads.get(), is(2));
+    }
+
+    @Test
+    @DisplayName("Invalidate - should discard a summary whose load overlapped the change")
+    void invalidateDuringLoad()
+    {
+        TakeAwaySummaryCache cache = new TakeAwaySummaryCache(CLOCK);
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.getOrLoad(TODAY, () ->
+        {
+            loads.incrementAndGet();
+            cache.invalidate();
+            return summary(TODAY);
+        });
+        cache.getOrLoad(TODAY, () -> { loads.incrementAndGet(); return summary(TODAY); });
+
+        assertThat(loads.get(), is(2));
+    }
+
+    private static TakeAwaySummaryDTO summary(LocalDate date)
+    {
+        TakeAwayOfferSummaryDTO offer = new TakeAwayOfferSummaryDTO(1L, new DishReferenceDTO(1L, "Tarteletter", "Vol-au-vent"), 20, 10, 0, 10, 450.0);
+        return new TakeAwaySummaryDTO(date, 20, 10L, 10, 2L, 1L, 0L, 450.0, List.of(offer));
+    }
+
+    private static TakeAwayOrderDTO order(LocalDate date, int quantity, double total)
+    {
+        TakeAwayOrderLineDTO line = new TakeAwayOrderLineDTO(1L, new TakeAwayOfferReferenceDTO(1L, "Tarteletter", 45.0), quantity, total);
+        return new TakeAwayOrderDTO(1L, 1, quantity, null, List.of(line), total, OrderStatus.RESERVED, LocalDateTime.now(), date);
+    }
+}
@@ -0,0 +1,115 @@
+package app.cache;
+
+import app.dtos.security.AuthenticatedUser;
+import app.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+class VerifiedTokenCacheTest
+{
+    private static final long LIFETIME_MS = 3_600_000L;
+
+    private VerifiedTokenCache tokenCache;
+    private AuthenticatedUser gordon;
+    private AuthenticatedUser claire;
+
+    @BeforeEach
+    void setUp()
+    {
+        tokenCache = new VerifiedTokenCache(2, LIFETIME_MS);
+        gordon = new AuthenticatedUser(1L, "gordon@kitchen.com", UserRole.HEAD_CHEF);
+        claire = new AuthenticatedUser(2L, "claire@pastry.com", UserRole.LINE_COOK);
+    }
+
+    @Test
+    @DisplayName("Get - should return a cached user until the token expires")
+    void getReturnsUntilExpiry()
+    {
+        long now = System.currentTimeMillis();
+        tokenCache.put("valid", gordon, now + LIFETIME_MS, tokenCache.currentGeneration());
+        tokenCache.put("expired", claire, now - 1, tokenCache.currentGeneration());
+
+        assertThat(tokenCache.get("valid"), is(gordon));
+        assertThat(tokenCache.get("expired"), is(nullValue()));
+        assertThat(tokenCache.getStats().size(), is(1));
+    }
+
+    @Test
+    @DisplayName("Put - should evict the least recently used token when full")
+    void putEvictsLeastRecentlyUsed()
+    {
+        long expiresAt = System.currentTimeMillis() + LIFETIME_MS;
+        tokenCache.put("first", gordon, expiresAt, tokenCache.currentGeneration());
+        tokenCache.put("second", claire, expiresAt, tokenCache.currentGeneration());
+        tokenCache.get("first");
+        tokenCache.put("third", claire, expiresAt, tokenCache.currentGeneration());
+
+        assertThat(tokenCache.get("first"), is(gordon));
+        assertThat(tokenCache.get("second"), is(nullValue()));
+        assertThat(tokenCache.get("third"), is(claire));
+    }
+
+    @Test
+    @DisplayName("Revoke user - should drop cached tokens and reject tokens issued before")
+    void revokeUserDropsTokens()
+    {
+        long now = System.currentTimeMillis();
+        tokenCache.put("gordon", gordon, now + LIFETIME_MS, tokenCache.currentGeneration());
+        tokenCache.put("claire", claire, now + LIFETIME_MS, tokenCache.currentGeneration());
+
+        tokenCache.revokeUser(1L);
+
+        assertThat(tokenCache.get("gordon"), is(nullValue()));
+        assertThat(tokenCache.get("claire"), is(claire));
+        assertThat(tokenCache.isRevoked(1L, now - 5_000), is(true));
+        assertThat(tokenCache.isRevoked(1L, now + 5_000), is(false));
+        assertThat(tokenCache.isRevoked(2L, now - 5_000), is(false));
+    }
+
+    @Test
+    @DisplayName("Put - should not cache a token verified before a revocation")
+    void putSkipsStaleGeneration()
+    {
+        long loadGeneration = tokenCache.currentGeneration();
+        tokenCache.revokeUser(1L);
+
+        tokenCache.put("gordon", gordon, System.currentTimeMillis() + LIFETIME_MS, loadGeneration);
+
+        assertThat(tokenCache.get("gordon"), is(nullValue()));
+    }
+
+    @Test
+    @DisplayName("Get - concurrent readers should all hit without losing entries")
+    void concurrentGetsHit() throws Exception
+    {
+        VerifiedTokenCache largeCache = new VerifiedTokenCache(1_000, LIFETIME_MS);
+        long expiresAt = System.currentTimeMillis() + LIFETIME_MS;
+        largeCache.put("gordon", gordon, expiresAt, largeCache.currentGeneration());
+
+        Thread[] readers = new Thread[8];
+
+        for (int i = 0; i < readers.length; i++)
+        {
+            readers[i] = new Thread(() ->
+            {
+                for (int j = 0; j < 1_000; j++)
+                {
+                    largeCache.get("gordon");
+                }
+            });
+            readers[i].start();
+        }
+
+        for (Thread reader : readers)
+        {
+            reader.join();
+        }
+
+        assertThat(largeCache.getStats().hits(), is(8_000L));
+        assertThat(largeCache.getStats().misses(), is(0L));
+    }
+}
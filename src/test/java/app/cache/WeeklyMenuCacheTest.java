@@ -0,0 +1,81 @@
+package app.cache;
+
+import app.dtos.menu.WeeklyMenuDTO;
+import app.enums.MenuStatus;
+import io.javalin.json.JavalinJackson;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+class WeeklyMenuCacheTest
+{
+    private WeeklyMenuCache weeklyMenuCache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp()
+    {
+        weeklyMenuCache = new WeeklyMenuCache(JavalinJackson.defaultMapper());
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("Get or load - should only hit the loader once per key")
+    void getOrLoadCachesMenu()
+    {
+        weeklyMenuCache.getOrLoad(12, 2026, MenuStatus.PUBLISHED, () -> load(12));
+        Optional<CachedJson<WeeklyMenuDTO>> cached = weeklyMenuCache.getOrLoad(12, 2026, MenuStatus.PUBLISHED, () -> load(12));
+
+        assertThat(loads.get(), is(1));
+        assertThat(cached.isPresent(), is(true));
+        assertThat(new String(cached.get().json()), containsString("\"weekNumber\":12"));
+        assertThat(weeklyMenuCache.getStats().hits(), is(1L));
+        assertThat(weeklyMenuCache.getStats().misses(), is(1L));
+    }
+
+    @Test
+    @DisplayName("Get or load - should keep draft and published views apart")
+    void getOrLoadSeparatesStatus()
+    {
+        weeklyMenuCache.getOrLoad(12, 2026, MenuStatus.PUBLISHED, () -> load(12));
+        weeklyMenuCache.getOrLoad(12, 2026, null, () -> load(12));
+
+        assertThat(loads.get(), is(2));
+        assertThat(weeklyMenuCache.getStats().size(), is(2));
+    }
+
+    @Test
+    @DisplayName("Get or load - should not cache missing menus")
+    void getOrLoadDoesNotCacheEmpty()
+    {
+        weeklyMenuCache.getOrLoad(12, 2026, MenuStatus.PUBLISHED, Optional::empty);
+
+        assertThat(weeklyMenuCache.getStats().size(), is(0));
+    }
+
+    @Test
+    @DisplayName("Evict - should drop every status for the given week")
+    void evict()
+    {
+        weeklyMenuCache.getOrLoad(12, 2026, MenuStatus.PUBLISHED, () -> load(12));
+        weeklyMenuCache.getOrLoad(12, 2026, null, () -> load(12));
+        weeklyMenuCache.getOrLoad(13, 2026, MenuStatus.PUBLISHED, () -> load(13));
+
+        weeklyMenuCache.evict(12, 2026);
+
+        assertThat(weeklyMenuCache.getStats().size(), is(1));
+    }
+
+    private Optional<WeeklyMenuDTO> load(int week)
+    {
+        loads.incrementAndGet();
+        return Optional.of(new WeeklyMenuDTO(1L, week, 2026, MenuStatus.PUBLISHED, null, null, List.of(), 0));
+    }
+}
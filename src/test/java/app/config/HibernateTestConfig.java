@@ -29,7 +29,7 @@ public class HibernateTestConfig
 
     private static Properties buildProps()
     {
-        Properties props = HibernateBaseProperties.createBase();
+        Properties props = HibernateBaseProperties.createBase(new TuningConfig());
         props.put("hibernate.connection.driver_class", "org.testcontainers.jdbc.ContainerDatabaseDriver");
         props.put("hibernate.connection.url", "jdbc:tc:postgresql:16.2:///test_db");
 
@@ -83,6 +83,29 @@ class AllergenControllerTest
                 .body("nameEN", everyItem(notNullValue()))
                 .body("displayNumber", everyItem(greaterThan(0)));
         }
+
+        @Test
+        @DisplayName("Should return 304 when If-None-Match matches the ETag")
+        void returnsNotModifiedForMatchingETag()
+        {
+            String etag = given()
+                .header("Authorization", lineChefToken)
+                .when()
+                .get(ENDPOINT_URL)
+                .then()
+                .statusCode(200)
+                .header("ETag", notNullValue())
+                .extract()
+                .header("ETag");
+
+            given()
+                .header("Authorization", lineChefToken)
+                .header("If-None-Match", etag)
+                .when()
+                .get(ENDPOINT_URL)
+                .then()
+                .statusCode(304);
+        }
     }
 
     @Nested
@@ -76,6 +76,62 @@ class TakeAwayOrderControllerTest
                 .statusCode(200)
                 .body("$", hasSize(2));
         }
+
+        @Test
+        @DisplayName("Customer should page through own orders with the next cursor")
+        void customerPagesThroughOrders()
+        {
+            String cursor = given()
+                .header("Authorization", customerToken)
+                .queryParam("limit", 1)
+                .when()
+                .get(ENDPOINT_URL)
+                .then()
+                .statusCode(200)
+                .header("X-Next-Cursor", notNullValue())
+                .body("$", hasSize(1))
+                .extract()
+                .header("X-Next-Cursor");
+
+            given()
+                .header("Authorization", customerToken)
+                .queryParam("limit", 1)
+                .queryParam("cursor", cursor)
+                .when()
+                .get(ENDPOINT_URL)
+                .then()
+                .statusCode(200)
+                .header("X-Next-Cursor", nullValue())
+                .body("$", hasSize(1));
+        }
+
+        @Test
+        @DisplayName("Next cursor header should be exposed to the allowed origins")
+        void exposesNextCursorHeader()
+        {
+            given()
+                .header("Authorization", customerToken)
+                .header("Origin", "http://localhost:5173")
+                .queryParam("limit", 1)
+                .when()
+                .get(ENDPOINT_URL)
+                .then()
+                .statusCode(200)
+                .header("Access-Control-Expose-Headers", containsString("X-Next-Cursor"));
+        }
+
+        @Test
+        @DisplayName("Malformed cursor should return 400")
+        void malformedCursor()
+        {
+            given()
+                .header("Authorization", customerToken)
+                .queryParam("cursor", "not-a-cursor")
+                .when()
+                .get(ENDPOINT_URL)
+                .then()
+                .statusCode(400);
+        }
     }
 
     @Nested
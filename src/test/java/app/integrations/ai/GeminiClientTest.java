@@ -0,0 +1,232 @@
+package app.integrations.ai;
+
+import app.config.ObjectMapperConfig;
+import app.exceptions.AIIntegrationException;
+import app.exceptions.ServiceUnavailableException;
+import app.metrics.MetricsRegistry;
+import app.testutils.StubHttpClient;
+import app.utils.Bulkhead;
+import app.utils.CircuitBreaker;
+import app.utils.LatencyWindow;
+import app.utils.OutboundGuard;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class GeminiClientTest
+{
+    private static final String API_URL = "http://gemini.test/models/";
+
+    private final MetricsRegistry metrics = new MetricsRegistry();
+    private final Bulkhead bulkhead = new Bulkhead("Gemini", 4, 100);
+    private final CircuitBreaker primaryCircuit = new CircuitBreaker("Gemini primary", 1, 30_000, Clock.systemUTC());
+    private final CircuitBreaker fallbackCircuit = new CircuitBreaker("Gemini fallback", 1, 30_000, Clock.systemUTC());
+    private final LatencyWindow primaryLatency = new LatencyWindow(16, 1);
+
+    @Test
+    @DisplayName("Generate - should answer from the primary model without hedging when it is fast")
+    void primaryWins()
+    {
+        StubHttpClient httpClient = new StubHttpClient(request -> StubHttpClient.respond(request, 200, body("from primary")));
+        GeminiClient client = client(httpClient, 1_000);
+
+        String answer = client.generateResponse("What should we cook?");
+
+        assertThat(answer, is("from primary"));
+        assertThat(httpClient.countRequestsTo(GeminiClient.MODEL_PRIMARY), is(1L));
+        assertThat(httpClient.countRequestsTo(GeminiClient.MODEL_FALLBACK), is(0L));
+        assertThat(primaryLatency.percentile(50, -1), is(greaterThanOrEqualTo(0L)));
+    }
+
+    @Test
+    @DisplayName("Generate - should answer from the hedge when the primary is slower than the hedge delay")
+    void hedgeWins()
+    {
+        CompletableFuture<HttpResponse<String>> stalledPrimary = new CompletableFuture<>();
+        StubHttpClient httpClient = new StubHttpClient(byModel(
+            request -> stalledPrimary,
+            request -> StubHttpClient.respond(request, 200, body("from fallback"))
+        ));
+        GeminiClient client = client(httpClient, 20);
+
+        String answer = client.generateResponse("What should we cook?");
+
+        assertThat(answer, is("from fallback"));
+        assertThat(httpClient.countRequestsTo(GeminiClient.MODEL_FALLBACK), is(1L));
+        assertThat(stalledPrimary.isCancelled(), is(true));
+    }
+
+    @Test
+    @DisplayName("Generate - should hedge straight away when the primary fails and report the fallback failure")
+    void bothFail()
+    {
+        StubHttpClient httpClient = new StubHttpClient(request -> StubHttpClient.respond(request, 503, "{}"));
+        GeminiClient client = client(httpClient, 10_000);
+
+        AIIntegrationException thrown = assertThrows(AIIntegrationException.class, () -> client.generateResponse("What should we cook?"));
+
+        assertThat(thrown.getMessage(), containsString("unavailable"));
+        assertThat(httpClient.countRequestsTo(GeminiClient.MODEL_PRIMARY), is(1L));
+        assertThat(httpClient.countRequestsTo(GeminiClient.MODEL_FALLBACK), is(1L));
+    }
+
+    @Test
+    @DisplayName("Generate - should skip the primary when its circuit is open")
+    void primaryCircuitOpen()
+    {
+        primaryCircuit.onFailure();
+        StubHttpClient httpClient = new StubHttpClient(request -> StubHttpClient.respond(request, 200, body("from fallback")));
+        GeminiClient client = client(httpClient, 1_000);
+
+        String answer = client.generateResponse("What should we cook?");
+
+        assertThat(answer, is("from fallback"));
+        assertThat(httpClient.countRequestsTo(GeminiClient.MODEL_PRIMARY), is(0L));
+    }
+
+    @Test
+    @DisplayName("Generate - should fail with 503 when the primary circuit is open and the fallback circuit is open too")
+    void bothCircuitsOpen()
+    {
+        primaryCircuit.onFailure();
+        fallbackCircuit.onFailure();
+        StubHttpClient httpClient = new StubHttpClient(request -> StubHttpClient.respond(request, 200, body("unused")));
+        GeminiClient client = client(httpClient, 1_000);
+
+        assertThrows(ServiceUnavailableException.class, () -> client.generateResponse("What should we cook?"));
+        assertThat(httpClient.getRequests(), is(empty()));
+    }
+
+    @Test
+    @DisplayName("Generate - should not hedge when the primary rejects the request with a client error")
+    void clientErrorDoesNotHedge()
+    {
+        StubHttpClient httpClient = new StubHttpClient(request -> StubHttpClient.respond(request, 400, "{}"));
+        GeminiClient client = client(httpClient, 10_000);
+
+        AIIntegrationException thrown = assertThrows(AIIntegrationException.class, () -> client.generateResponse("What should we cook?"));
+
+        assertThat(thrown.getMessage(), containsString("400"));
+        assertThat(httpClient.countRequestsTo(GeminiClient.MODEL_FALLBACK), is(0L));
+    }
+
+    @Test
+    @DisplayName("Stream - should close the body and stop emitting chunks once the deadline fires")
+    void streamDeadlineClosesBody() throws Exception
+    {
+        StalledStream body = new StalledStream("[" + body("Risotto").trim());
+        StubHttpClient httpClient = new StubHttpClient(request -> StubHttpClient.respondStream(request, 200, body)
+            .thenApplyAsync(response -> response, CompletableFuture.delayedExecutor(50, TimeUnit.MILLISECONDS)));
+        GeminiClient client = client(httpClient, 1_000, 200);
+        List<String> chunks = new CopyOnWriteArrayList<>();
+        CompletableFuture<Throwable> error = new CompletableFuture<>();
+
+        client.streamResponse("What should we cook?", chunks::add, error::complete, () -> {});
+
+        assertThat(error.get(5, TimeUnit.SECONDS), instanceOf(AIIntegrationException.class));
+        assertThat(body.closed.await(5, TimeUnit.SECONDS), is(true));
+        assertThat(chunks, contains("Risotto"));
+        assertThat(awaitPermits(4), is(4));
+    }
+
+    private GeminiClient client(StubHttpClient httpClient, long hedgeDelayMs)
+    {
+        return client(httpClient, hedgeDelayMs, 5_000);
+    }
+
+    private GeminiClient client(StubHttpClient httpClient, long hedgeDelayMs, long deadlineMs)
+    {
+        OutboundGuard primaryGuard = new OutboundGuard(httpClient, bulkhead, primaryCircuit, deadlineMs, 1, 1, metrics);
+        OutboundGuard fallbackGuard = new OutboundGuard(httpClient, bulkhead, fallbackCircuit, deadlineMs, 1, 1, metrics);
+        return new GeminiClient(httpClient, ObjectMapperConfig.create(), "test-key", API_URL, primaryGuard, fallbackGuard, primaryLatency, 95.0, hedgeDelayMs);
+    }
+
+    private int awaitPermits(int expected) throws InterruptedException
+    {
+        long deadline = System.currentTimeMillis() + 5_000;
+
+        while (bulkhead.getAvailablePermits() != expected && System.currentTimeMillis() < deadline)
+        {
+            Thread.sleep(5);
+        }
+        return bulkhead.getAvailablePermits();
+    }
+
+    private static Function<HttpRequest, CompletableFuture<HttpResponse<String>>> byModel(
+        Function<HttpRequest, CompletableFuture<HttpResponse<String>>> primary,
+        Function<HttpRequest, CompletableFuture<HttpResponse<String>>> fallback)
+    {
+        return request -> request.uri().toString().contains(GeminiClient.MODEL_PRIMARY) ? primary.apply(request) : fallback.apply(request);
+    }
+
+    private static String body(String text)
+    {
+        return """
+            {"candidates":[{"content":{"parts":[{"text":"%s"}]},"finishReason":"STOP","index":0}]}
+            """.formatted(text);
+    }
+
+    private static final class StalledStream extends InputStream
+    {
+        private final InputStream head;
+        private final CountDownLatch closed = new CountDownLatch(1);
+
+        private StalledStream(String head)
+        {
+            this.head = new ByteArrayInputStream(head.getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public int read() throws IOException
+        {
+            int next = head.read();
+
+            if (next >= 0)
+            {
+                return next;
+            }
+            try
+            {
+                closed.await();
+            }
+            catch (InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+            }
+            throw new IOException("closed");
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException
+        {
+            if (head.available() > 0)
+            {
+                return head.read(buffer, offset, length);
+            }
+            return read() < 0 ? -1 : 0;
+        }
+
+        @Override
+        public void close()
+        {
+            closed.countDown();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package app.integrations.ai;
+
+import app.dtos.gemini.AiDishSuggestionDTO;
+import app.exceptions.AIIntegrationException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class IncrementalJsonArrayParserTest
+{
+    private static final String FENCED_RESPONSE = """
+        ```json
+        [
+          {"nameDA": "Rødspætte med æble", "descriptionDA": "Sprød {skind} med [citron]", "notes": {"tags": [1, 2]}},
+          {"nameDA": "Tærte", "descriptionDA": "Æg og porre"}
+        ]
+        ```""";
+
+    private List<AiDishSuggestionDTO> dishes;
+    private IncrementalJsonArrayParser<AiDishSuggestionDTO> parser;
+
+    @BeforeEach
+    void setUp()
+    {
+        dishes = new ArrayList<>();
+        parser = new IncrementalJsonArrayParser<>(new ObjectMapper(), AiDishSuggestionDTO.class, dishes::add);
+    }
+
+    @Test
+    @DisplayName("Feed - should emit each dish as soon as its closing brace arrives")
+    void emitsOnClosingBrace()
+    {
+        int firstDishEnd = FENCED_RESPONSE.indexOf("}},") + 1;
+
+        for (int i = 0; i < FENCED_RESPONSE.length(); i++)
+        {
+            parser.feed(String.valueOf(FENCED_RESPONSE.charAt(i)));
+
+            if (i == firstDishEnd - 1)
+            {
+                assertThat(dishes, is(empty()));
+            }
+            if (i == firstDishEnd)
+            {
+                assertThat(dishes, hasSize(1));
+            }
+        }
+        parser.finish();
+
+        assertThat(dishes, hasSize(2));
+        assertThat(dishes.get(0).nameDA(), is("Rødspætte med æble"));
+        assertThat(dishes.get(0).descriptionDA(), is("Sprød {skind} med [citron]"));
+        assertThat(dishes.get(1).nameDA(), is("Tærte"));
+    }
+
+    @Test
+    @DisplayName("Feed - should handle chunks that split multi-byte characters and tokens")
+    void handlesArbitraryChunks()
+    {
+        for (int i = 0; i < FENCED_RESPONSE.length(); i += 7)
+        {
+            parser.feed(FENCED_RESPONSE.substring(i, Math.min(FENCED_RESPONSE.length(), i + 7)));
+        }
+        parser.finish();
+
+        assertThat(parser.getEmittedCount(), is(2));
+        assertThat(dishes.get(1).descriptionDA(), is("Æg og porre"));
+    }
+
+    @Test
+    @DisplayName("Finish - should fail when the stream ends inside the array")
+    void failsOnTruncatedStream()
+    {
+        parser.feed("[{\"nameDA\": \"Tærte\", \"descriptionDA\": \"Æg\"}, {\"nameDA\": ");
+
+        assertThrows(AIIntegrationException.class, parser::finish);
+        assertThat(dishes, hasSize(1));
+        assertThat(parser.isFailed(), is(true));
+    }
+
+    @Test
+    @DisplayName("Feed - should fail on malformed JSON")
+    void failsOnMalformedJson()
+    {
+        assertThrows(AIIntegrationException.class, () -> parser.feed("[{\"nameDA\" \"Tærte\"}]"));
+        assertThat(parser.isFailed(), is(true));
+    }
+}
@@ -0,0 +1,102 @@
+package app.integrations.translation;
+
+import app.config.HibernateTestConfig;
+import app.persistence.daos.impl.TranslationMemoryDAO;
+import app.testutils.TestCleanDB;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class TranslationMemoryClientTest
+{
+    private final EntityManagerFactory emf = HibernateTestConfig.getEntityManagerFactory();
+    private TranslationMemoryDAO translationMemoryDAO;
+    private RecordingTranslationClient deepL;
+    private TranslationMemoryClient translationClient;
+
+    @BeforeEach
+    void setUp()
+    {
+        TestCleanDB.truncateTables(emf);
+        translationMemoryDAO = new TranslationMemoryDAO(emf);
+        deepL = new RecordingTranslationClient();
+        translationClient = new TranslationMemoryClient(deepL, translationMemoryDAO, 100, 2);
+    }
+
+    @Test
+    @DisplayName("Translate batch - should only send misses to the delegate")
+    void onlyMissesGoToDelegate()
+    {
+        translationClient.translateBatch(List.of("Røget laks", "Rugbrød"), "EN-GB");
+        List<String> result = translationClient.translateBatch(List.of("Rugbrød", "Kartofler", "Røget laks"), "EN-GB");
+
+        assertThat(result, contains("en:Rugbrød", "en:Kartofler", "en:Røget laks"));
+        assertThat(deepL.batches, contains(List.of("Røget laks", "Rugbrød"), List.of("Kartofler")));
+        assertThat(translationClient.getStats().hits(), is(2L));
+        assertThat(translationClient.getStats().misses(), is(3L));
+    }
+
+    @Test
+    @DisplayName("Translate batch - should split misses into chunks")
+    void splitsMissesIntoChunks()
+    {
+        List<String> texts = IntStream.range(0, 5).mapToObj(i -> "Ret " + i).toList();
+
+        List<String> result = translationClient.translateBatch(texts, "EN-GB");
+
+        assertThat(result, hasSize(5));
+        assertThat(deepL.batches, hasSize(3));
+        assertThat(translationMemoryDAO.count(), is(5L));
+    }
+
+    @Test
+    @DisplayName("Translate batch - should reuse stored translations after restart")
+    void reusesStoredTranslations()
+    {
+        translationClient.translateBatch(List.of("Stegt flæsk"), "EN-GB");
+
+        RecordingTranslationClient freshDeepL = new RecordingTranslationClient();
+        TranslationMemoryClient restarted = new TranslationMemoryClient(freshDeepL, translationMemoryDAO, 100, 2);
+
+        assertThat(restarted.translate("Stegt flæsk", "en-gb"), is("en:Stegt flæsk"));
+        assertThat(freshDeepL.batches, empty());
+    }
+
+    @Test
+    @DisplayName("Translate batch - should keep languages apart")
+    void separatesLanguages()
+    {
+        translationClient.translate("Æblekage", "EN-GB");
+        translationClient.translate("Æblekage", "DE");
+
+        assertThat(deepL.batches, hasSize(2));
+    }
+
+    private static class RecordingTranslationClient implements ITranslationClient
+    {
+        private final List<List<String>> batches = new ArrayList<>();
+
+        @Override
+        public List<String> translateBatch(List<String> texts, String targetLanguage)
+        {
+            batches.add(List.copyOf(texts));
+            return texts.stream().map(text -> "en:" + text).toList();
+        }
+
+        @Override
+        public String translate(String text, String targetLanguage)
+        {
+            return translateBatch(List.of(text), targetLanguage).get(0);
+        }
+    }
+}
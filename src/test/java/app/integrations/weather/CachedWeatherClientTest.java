@@ -0,0 +1,218 @@
+package app.integrations.weather;
+
+import app.dtos.weather.DailyWeatherDTO;
+import app.dtos.weather.WeatherForecastDTO;
+import app.dtos.weather.WeatherUnitsDTO;
+import app.exceptions.WeatherIntegrationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CachedWeatherClientTest
+{
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-06-01T08:00:00Z"));
+    private CachedWeatherClient weatherClient;
+
+    @AfterEach
+    void tearDown()
+    {
+        if (weatherClient != null)
+        {
+            weatherClient.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Get forecast - should collapse concurrent cold misses into one fetch")
+    void singleFlightOnColdStart() throws Exception
+    {
+        GatedWeatherClient openMeteo = new GatedWeatherClient();
+        weatherClient = cachedClient(openMeteo);
+
+        ExecutorService chefs = Executors.newFixedThreadPool(8);
+        List<Future<WeatherForecastDTO>> results = new ArrayList<>();
+        for (int i = 0; i < 8; i++)
+        {
+            results.add(chefs.submit(weatherClient::getWeatherForecast));
+        }
+        assertThat(openMeteo.entered.await(5, TimeUnit.SECONDS), is(true));
+        Thread.sleep(100);
+        openMeteo.release.countDown();
+
+        for (Future<WeatherForecastDTO> result : results)
+        {
+            assertThat(result.get(5, TimeUnit.SECONDS), is(sameInstance(openMeteo.forecast)));
+        }
+        chefs.shutdownNow();
+        assertThat(openMeteo.calls.get(), is(1));
+    }
+
+    @Test
+    @DisplayName("Get forecast - should keep serving the last good forecast when Open-Meteo is down")
+    void servesLastGoodValue()
+    {
+        GatedWeatherClient openMeteo = new GatedWeatherClient();
+        WeatherForecastDTO first = startAfterWarmUp(openMeteo);
+
+        openMeteo.failing = true;
+
+        assertThat(weatherClient.getWeatherForecast(), is(sameInstance(first)));
+        assertThat(openMeteo.calls.get(), is(1));
+    }
+
+    @Test
+    @DisplayName("Format forecast - should reuse the formatted text for the cached forecast")
+    void formatsCachedForecastOnce()
+    {
+        WeatherForecastDTO forecast = startAfterWarmUp(new GatedWeatherClient());
+
+        String formatted = weatherClient.formatForecast(forecast);
+
+        assertThat(formatted, containsString("Europe/Copenhagen"));
+        assertThat(weatherClient.formatForecast(forecast), is(sameInstance(formatted)));
+    }
+
+    @Test
+    @DisplayName("Get forecast - should fail when no forecast has ever been fetched")
+    void coldFailurePropagates()
+    {
+        GatedWeatherClient openMeteo = new GatedWeatherClient();
+        openMeteo.failing = true;
+        openMeteo.release.countDown();
+        weatherClient = cachedClient(openMeteo);
+
+        assertThrows(WeatherIntegrationException.class, weatherClient::getWeatherForecast);
+    }
+
+    @Test
+    @DisplayName("Constructor - should not call Open-Meteo before the first forecast is requested")
+    void doesNotFetchOnConstruction() throws Exception
+    {
+        GatedWeatherClient openMeteo = new GatedWeatherClient();
+        openMeteo.release.countDown();
+        weatherClient = cachedClient(openMeteo);
+
+        assertThat(openMeteo.entered.await(100, TimeUnit.MILLISECONDS), is(false));
+        assertThat(openMeteo.calls.get(), is(0));
+    }
+
+    @Test
+    @DisplayName("Get forecast - should refresh a forecast older than the maximum staleness")
+    void refreshesExpiredForecast()
+    {
+        GatedWeatherClient openMeteo = new GatedWeatherClient();
+        WeatherForecastDTO first = startAfterWarmUp(openMeteo);
+
+        clock.advance(Duration.ofMinutes(121));
+
+        assertThat(weatherClient.getWeatherForecast(), is(sameInstance(first)));
+        assertThat(openMeteo.calls.get(), is(2));
+    }
+
+    @Test
+    @DisplayName("Get forecast - should return null once the last good forecast is too old")
+    void dropsExpiredForecast()
+    {
+        GatedWeatherClient openMeteo = new GatedWeatherClient();
+        startAfterWarmUp(openMeteo);
+
+        openMeteo.failing = true;
+        clock.advance(Duration.ofMinutes(119));
+        assertThat(weatherClient.getWeatherForecast(), is(notNullValue()));
+
+        clock.advance(Duration.ofMinutes(2));
+        assertThat(weatherClient.getWeatherForecast(), is(nullValue()));
+    }
+
+    private WeatherForecastDTO startAfterWarmUp(GatedWeatherClient openMeteo)
+    {
+        weatherClient = cachedClient(openMeteo);
+        openMeteo.release.countDown();
+        return weatherClient.getWeatherForecast();
+    }
+
+    private CachedWeatherClient cachedClient(IWeatherClient openMeteo)
+    {
+        return new CachedWeatherClient(openMeteo, 60, 120, clock);
+    }
+
+    private static class GatedWeatherClient implements IWeatherClient
+    {
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final AtomicInteger calls = new AtomicInteger();
+        private final WeatherForecastDTO forecast = new WeatherForecastDTO(
+            "Europe/Copenhagen",
+            new WeatherUnitsDTO("°C", "mm"),
+            new DailyWeatherDTO(List.of("2026-06-01"), List.of(21.0), List.of(12.0), List.of(0.0), List.of(1))
+        );
+        private volatile boolean failing;
+
+        @Override
+        public WeatherForecastDTO getWeatherForecast()
+        {
+            entered.countDown();
+            try
+            {
+                release.await();
+            }
+            catch (InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+            }
+
+            if (failing)
+            {
+                throw new WeatherIntegrationException("Could not connect to Open-Meteo service");
+            }
+            calls.incrementAndGet();
+            return forecast;
+        }
+    }
+
+    private static class MutableClock extends Clock
+    {
+        private volatile Instant instant;
+
+        private MutableClock(Instant instant)
+        {
+            this.instant = instant;
+        }
+
+        private void advance(Duration duration)
+        {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone()
+        {
+            return ZoneId.of("UTC");
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone)
+        {
+            return this;
+        }
+
+        @Override
+        public Instant instant()
+        {
+            return instant;
+        }
+    }
+}
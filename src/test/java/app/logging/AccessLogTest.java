@@ -0,0 +1,101 @@
+package app.logging;
+
+import app.metrics.MetricsRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+class AccessLogTest
+{
+    private MetricsRegistry metrics;
+    private AccessLog accessLog;
+
+    @BeforeEach
+    void setUp()
+    {
+        metrics = new MetricsRegistry();
+        accessLog = new AccessLog(64, Set.of("/takeaway/orders"), 4, 16, metrics);
+    }
+
+    @AfterEach
+    void tearDown()
+    {
+        accessLog.close();
+    }
+
+    @Test
+    @DisplayName("Request id - should be unique across threads")
+    void requestIdsAreUnique()
+    {
+        List<String> ids = IntStream.range(0, 10_000)
+            .parallel()
+            .mapToObj(i -> accessLog.nextRequestId())
+            .toList();
+
+        assertThat(new HashSet<>(ids).size(), is(10_000));
+    }
+
+    @Test
+    @DisplayName("Payload - should only be sampled on enabled routes, one in every N requests")
+    void payloadIsSampledPerRoute()
+    {
+        long sampled = IntStream.range(0, 100)
+            .filter(i -> accessLog.wantsPayload("/takeaway/orders"))
+            .count();
+
+        assertThat(sampled, is(25L));
+        assertThat(accessLog.wantsPayload("/users"), is(false));
+    }
+
+    @Test
+    @DisplayName("Close - should drain every published event before returning")
+    void closeDrainsBuffer()
+    {
+        for (int i = 0; i < 50; i++)
+        {
+            accessLog.publish(accessLog.nextRequestId(), "POST", "/api/v1/takeaway/orders", 201, 1_500_000, "127.0.0.1", "JUnit", "{\"quantity\":2}");
+        }
+
+        accessLog.close();
+
+        assertThat(metrics.scrape(), containsString("miseos_access_log_backlog 0"));
+    }
+
+    @Test
+    @DisplayName("Publish - should wake an idle writer instead of waiting for its park timeout")
+    void publishWakesIdleWriter() throws InterruptedException
+    {
+        Thread.sleep(50);
+
+        accessLog.publish(accessLog.nextRequestId(), "GET", "/api/v1/dishes", 200, 1_000, "127.0.0.1", "JUnit", null);
+
+        long deadline = System.currentTimeMillis() + 250;
+        while (!metrics.scrape().contains("miseos_access_log_backlog 0") && System.currentTimeMillis() < deadline)
+        {
+            Thread.sleep(5);
+        }
+
+        assertThat(metrics.scrape(), containsString("miseos_access_log_backlog 0"));
+    }
+
+    @Test
+    @DisplayName("Publish - should drop instead of blocking once the log is closed")
+    void publishAfterCloseIsDropped()
+    {
+        accessLog.close();
+
+        boolean accepted = accessLog.publish("1", "GET", "/api/v1/dishes", 200, 1_000, "127.0.0.1", "JUnit", null);
+
+        assertThat(accepted, is(false));
+        assertThat(metrics.scrape(), containsString("miseos_access_log_dropped_total 1"));
+    }
+}
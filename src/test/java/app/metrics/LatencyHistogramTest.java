@@ -0,0 +1,53 @@
+package app.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+class LatencyHistogramTest
+{
+    @Test
+    @DisplayName("Buckets - every value should fall inside its bucket with at most 12.5% error")
+    void bucketsAreTight()
+    {
+        for (long micros = 0; micros < 5_000_000; micros = micros * 3 / 2 + 1)
+        {
+            long upper = LatencyHistogram.upperBoundOf(LatencyHistogram.bucketOf(micros));
+
+            assertThat(upper, greaterThanOrEqualTo(micros));
+            assertThat((double) upper, lessThanOrEqualTo(micros * 1.125 + 1));
+        }
+    }
+
+    @Test
+    @DisplayName("Percentile - should report the tail of a skewed distribution")
+    void percentilesFollowDistribution()
+    {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        for (int i = 0; i < 990; i++)
+        {
+            histogram.recordNanos(TimeUnit.MILLISECONDS.toNanos(2));
+        }
+        for (int i = 0; i < 10; i++)
+        {
+            histogram.recordNanos(TimeUnit.MILLISECONDS.toNanos(400));
+        }
+
+        assertThat(histogram.getCount(), is(1000L));
+        assertThat(histogram.percentileMicros(0.5), allOf(greaterThanOrEqualTo(2_000L), lessThan(2_250L)));
+        assertThat(histogram.percentileMicros(0.99), allOf(greaterThanOrEqualTo(2_000L), lessThan(2_250L)));
+        assertThat(histogram.percentileMicros(0.999), is(400_000L));
+    }
+
+    @Test
+    @DisplayName("Percentile - an empty histogram should report zero")
+    void emptyHistogram()
+    {
+        assertThat(new LatencyHistogram().percentileMicros(0.99), is(0L));
+    }
+}
@@ -0,0 +1,93 @@
+package app.metrics;
+
+import app.persistence.daos.interfaces.readers.IStationReader;
+import app.persistence.entities.Station;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+class MetricsRegistryTest
+{
+    @Test
+    @DisplayName("Scrape - should render timers as a Prometheus summary per label set")
+    void rendersSummary()
+    {
+        MetricsRegistry metrics = new MetricsRegistry();
+        metrics.timer("miseos_http_server_request_seconds", "HTTP latency", "method", "POST", "route", "/takeaway/orders", "status", "201")
+            .recordNanos(TimeUnit.MILLISECONDS.toNanos(8));
+
+        String scrape = metrics.scrape();
+
+        assertThat(scrape, containsString("# TYPE miseos_http_server_request_seconds summary"));
+        assertThat(scrape, containsString("miseos_http_server_request_seconds{method=\"POST\",route=\"/takeaway/orders\",status=\"201\",quantile=\"0.99\"} 0.008"));
+        assertThat(scrape, containsString("miseos_http_server_request_seconds_count{method=\"POST\",route=\"/takeaway/orders\",status=\"201\"} 1"));
+    }
+
+    @Test
+    @DisplayName("Timer - the same name and labels should resolve to the same histogram")
+    void reusesSeries()
+    {
+        MetricsRegistry metrics = new MetricsRegistry();
+
+        LatencyHistogram first = metrics.timer("latency", "help", "dependency", "DeepL");
+        LatencyHistogram second = metrics.timer("latency", "help", "dependency", "DeepL");
+
+        assertThat(first, sameInstance(second));
+        assertThat(metrics.timer("latency", "help", "dependency", "Gemini"), not(sameInstance(first)));
+    }
+
+    @Test
+    @DisplayName("Counters and gauges - should render current values and escape label values")
+    void rendersCountersAndGauges()
+    {
+        MetricsRegistry metrics = new MetricsRegistry();
+        metrics.counter("miseos_outbound_retries_total", "Retries", "dependency", "Open-\"Meteo\"").add(3);
+        metrics.gauge("miseos_cache_size", "Entries", () -> 42, "cache", "inspiration");
+
+        String scrape = metrics.scrape();
+
+        assertThat(scrape, containsString("miseos_outbound_retries_total{dependency=\"Open-\\\"Meteo\\\"\"} 3"));
+        assertThat(scrape, containsString("# TYPE miseos_cache_size gauge"));
+        assertThat(scrape, containsString("miseos_cache_size{cache=\"inspiration\"} 42"));
+    }
+
+    @Test
+    @DisplayName("Metered proxy - should time each DAO method and count failures")
+    void meteredProxyTimesCalls()
+    {
+        MetricsRegistry metrics = new MetricsRegistry();
+        IStationReader reader = MeteredProxy.wrap(IStationReader.class, new FailingStationReader(), metrics);
+
+        try
+        {
+            reader.getByID(1L);
+        }
+        catch (IllegalStateException expected)
+        {
+        }
+
+        String scrape = metrics.scrape();
+        assertThat(scrape, containsString("miseos_dao_call_seconds_count{dao=\"FailingStationReader\",method=\"getByID\"} 1"));
+        assertThat(scrape, containsString("miseos_dao_errors_total{dao=\"FailingStationReader\",method=\"getByID\"} 1"));
+    }
+
+    private static final class FailingStationReader implements IStationReader
+    {
+        @Override
+        public Station getByID(Long id)
+        {
+            throw new IllegalStateException("Database is down");
+        }
+
+        @Override
+        public Optional<Station> findByName(String name)
+        {
+            return Optional.empty();
+        }
+    }
+}
@@ -5,6 +5,7 @@ import app.persistence.daos.impl.DishDAO;
 import app.persistence.entities.*;
 import app.testutils.TestCleanDB;
 import app.testutils.TestPopulator;
+import app.utils.AllergenMask;
 import jakarta.persistence.EntityManagerFactory;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
@@ -233,6 +234,32 @@ class DishDAOTest
         assertThrows(IllegalArgumentException.class, () -> dishDAO.create(null));
     }
 
+    @Test
+    @DisplayName("Filter: Exclude allergens - should drop dishes containing them")
+    void findByFilterExcludingAllergens()
+    {
+        Allergen fish = (Allergen) seeded.get("allergen_fish");
+        Allergen crustaceans = (Allergen) seeded.get("allergen_crustaceans");
+
+        Set<Dish> withoutFish = dishDAO.findByFilter(null, null, AllergenMask.fromDisplayNumbers(Set.of(fish.getDisplayNumber())));
+        Set<Dish> withoutCrustaceans = dishDAO.findByFilter(null, null, AllergenMask.fromDisplayNumbers(Set.of(crustaceans.getDisplayNumber())));
+
+        assertThat(withoutFish, hasSize(1));
+        assertThat(withoutFish.iterator().next().getNameDA(), is("Jeppe's kål"));
+        assertThat(withoutCrustaceans, hasSize(10));
+    }
+
+    @Test
+    @DisplayName("Allergen mask - should match the persisted allergens")
+    void allergenMaskMatchesAllergens()
+    {
+        Dish seed = (Dish) seeded.get("dish_salmon");
+        Dish fetched = dishDAO.getByID(seed.getId());
+
+        assertThat(fetched.getAllergenMask(), is(AllergenMask.of(fetched.getAllergens())));
+        assertThat(fetched.getAllergenMask(), not(AllergenMask.NONE));
+    }
+
     @Test
     @DisplayName("Get all - should return all dishes including inactive")
     void getAll()
@@ -7,12 +7,14 @@ import app.persistence.daos.impl.DishSuggestionDAO;
 import app.persistence.entities.*;
 import app.testutils.TestCleanDB;
 import app.testutils.TestPopulator;
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityManagerFactory;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.*;
 
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
@@ -307,6 +309,47 @@ class DishSuggestionDAOTest {
         assertThat(result, hasSize(3));
     }
 
+    @Test
+    @DisplayName("Stream page - should walk every page for each sort key without duplicates or gaps")
+    void streamPageWalksEveryPage()
+    {
+        List<Long> ids = new ArrayList<>(dishSuggestionDAO.findByFilter(null, null, null, null, null, null, null).stream()
+            .map(DishSuggestion::getId)
+            .sorted()
+            .toList());
+
+        try (EntityManager em = emf.createEntityManager())
+        {
+            em.getTransaction().begin();
+            em.createNativeQuery("UPDATE dish_suggestion SET dish_status = 'APPROVED' WHERE id IN (:ids)").setParameter("ids", List.of(ids.get(0), ids.get(3))).executeUpdate();
+            em.createNativeQuery("UPDATE dish_suggestion SET dish_status = 'REJECTED' WHERE id = :id").setParameter("id", ids.get(1)).executeUpdate();
+            em.createNativeQuery("UPDATE dish_suggestion SET created_at = NULL WHERE id IN (:ids)").setParameter("ids", List.of(ids.get(1), ids.get(4))).executeUpdate();
+            em.createNativeQuery("UPDATE dish_suggestion SET created_at = :createdAt WHERE id IN (:ids)")
+                .setParameter("createdAt", LocalDateTime.of(2026, 2, 9, 12, 0))
+                .setParameter("ids", List.of(ids.get(2), ids.get(3)))
+                .executeUpdate();
+            em.getTransaction().commit();
+        }
+
+        for (String orderBy : Arrays.asList(null, "status", "station", "createdAt"))
+        {
+            List<DishSuggestion> singlePage = streamAll(orderBy, 500);
+            assertThat(singlePage.stream().map(DishSuggestion::getId).toList(), containsInAnyOrder(ids.toArray()));
+
+            for (int pageSize = 1; pageSize <= 3; pageSize++)
+            {
+                List<DishSuggestion> walked = streamAll(orderBy, pageSize);
+
+                assertThat(walked.stream().map(DishSuggestion::getId).toList(), is(singlePage.stream().map(DishSuggestion::getId).toList()));
+                walked.forEach(ds -> assertThat(ds.getAllergens(), hasSize(4)));
+            }
+        }
+
+        List<DishSuggestion> byCreatedAt = streamAll("createdAt", 1);
+        assertThat(byCreatedAt.get(3).getCreatedAt(), nullValue());
+        assertThat(byCreatedAt.get(4).getCreatedAt(), nullValue());
+    }
+
     @Test
     @DisplayName("Count pending dishes - Should return correct number of pending dish suggestions")
     void countPendingDishes()
@@ -314,4 +357,22 @@ class DishSuggestionDAOTest {
         int numberOfPendingDishes = dishSuggestionDAO.getPendingSuggestionsCount();
         assertThat(numberOfPendingDishes, is(5));
     }
+
+    private List<DishSuggestion> streamAll(String orderBy, int pageSize)
+    {
+        List<DishSuggestion> suggestions = new ArrayList<>();
+        AtomicReference<String> cursor = new AtomicReference<>();
+
+        do
+        {
+            dishSuggestionDAO.streamPage(null, null, null, null, null, orderBy, cursor.get(), pageSize, (nextCursor, page) ->
+            {
+                cursor.set(nextCursor);
+                page.forEach(suggestions::add);
+            });
+        }
+        while (cursor.get() != null);
+
+        return suggestions;
+    }
 }
@@ -8,13 +8,17 @@ import app.persistence.daos.impl.IngredientRequestDAO;
 import app.persistence.entities.*;
 import app.testutils.TestCleanDB;
 import app.testutils.TestPopulator;
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityManagerFactory;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.*;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
@@ -128,7 +132,7 @@ class IngredientRequestDAOTest
     @DisplayName("Find by filter - should return all seeded requests")
     void getAll()
     {
-        List<IngredientRequest> requests = ingredientRequestDAO.findByFilter(null, null, null, null, null, null);
+        List<IngredientRequest> requests = findAll(null, null, null, null, null);
         assertThat(requests, hasSize(19));
     }
 
@@ -136,7 +140,7 @@ class IngredientRequestDAOTest
     @DisplayName("Find by filter - should filter by status PENDING")
     void findByStatus()
     {
-        List<IngredientRequest> pending = ingredientRequestDAO.findByFilter(Status.PENDING, null, null, null, null, null);
+        List<IngredientRequest> pending = findAll(Status.PENDING, null, null, null, null);
 
         assertThat(pending, hasSize(greaterThanOrEqualTo(2)));
         pending.forEach(r -> assertThat(r.getRequestStatus(), is(Status.PENDING)));
@@ -146,17 +150,44 @@ class IngredientRequestDAOTest
     @DisplayName("Find by filter - should return empty set for status with no matches")
     void findByStatusEmptyResults()
     {
-        List<IngredientRequest> rejected = ingredientRequestDAO.findByFilter(Status.REJECTED, null, null, null, null, null);
+        List<IngredientRequest> rejected = findAll(Status.REJECTED, null, null, null, null);
         assertThat(rejected, is(empty()));
     }
 
+    @Test
+    @DisplayName("Find distinct names - should return each approved name once")
+    void findDistinctNames()
+    {
+        LocalDate deliveryDate = LocalDate.now().plusDays(7);
+
+        List<String> names = ingredientRequestDAO.findDistinctNames(Status.APPROVED, deliveryDate);
+        List<IngredientRequest> approved = findAll(Status.APPROVED, deliveryDate, null, null, null);
+
+        assertThat(names, hasItems("onions", "hvidløg", "smør"));
+        assertThat(names, hasSize((int) approved.stream().map(IngredientRequest::getName).distinct().count()));
+    }
+
+    @Test
+    @DisplayName("Stream by filter - should stream the same requests as find by filter with creators loaded")
+    void streamByFilter()
+    {
+        LocalDate deliveryDate = LocalDate.now().plusDays(7);
+
+        List<IngredientRequest> approved = findAll(Status.APPROVED, deliveryDate, null, null, null);
+        List<String> streamed = ingredientRequestDAO.streamByFilter(Status.APPROVED, deliveryDate,
+            requests -> requests.map(request -> request.getName() + ":" + request.getCreatedBy().getFirstName()).toList());
+
+        assertThat(streamed, hasSize(approved.size()));
+        assertThat(streamed, hasItem("onions:Claire"));
+    }
+
     @Test
     @DisplayName("Find by filter- should filter by status and delivery date")
     void findByStatusAndDeliveryDate()
     {
         IngredientRequest seed = (IngredientRequest) seeded.get("req_dill");
 
-        List<IngredientRequest> results = ingredientRequestDAO.findByFilter(Status.PENDING, seed.getDeliveryDate(), null, null, null, null);
+        List<IngredientRequest> results = findAll(Status.PENDING, seed.getDeliveryDate(), null, null, null);
 
         assertThat(results, hasSize(1));
         assertThat(results.iterator().next().getName(), is("Frisk Dild"));
@@ -168,7 +199,7 @@ class IngredientRequestDAOTest
     {
         Station cold = (Station) seeded.get("station_cold");
 
-        List<IngredientRequest> results = ingredientRequestDAO.findByFilter(null, null, null, null, cold.getId(), null);
+        List<IngredientRequest> results = findAll(null, null, null, null, cold.getId());
 
         assertThat(results, is(not(empty())));
         results.forEach(r ->
@@ -180,7 +211,7 @@ class IngredientRequestDAOTest
     @DisplayName("Find by filter- filter by requestType DISH_SPECIFIC")
     void findByRequestType()
     {
-        List<IngredientRequest> results = ingredientRequestDAO.findByFilter(null, null, null, RequestType.DISH_SPECIFIC, null, null);
+        List<IngredientRequest> results = findAll(null, null, null, RequestType.DISH_SPECIFIC, null);
 
         assertThat(results, is(not(empty())));
         results.forEach(r ->
@@ -194,7 +225,7 @@ class IngredientRequestDAOTest
     {
         User claire = (User) seeded.get("user_claire");
 
-        List<IngredientRequest> results = ingredientRequestDAO.findByFilter(null, null, claire.getId(), null, null, null);
+        List<IngredientRequest> results = findAll(null, null, claire.getId(), null, null);
 
         assertThat(results, is(not(empty())));
         results.forEach(r ->
@@ -208,7 +239,7 @@ class IngredientRequestDAOTest
     {
         Station cold = (Station) seeded.get("station_cold");
 
-        List<IngredientRequest> results = ingredientRequestDAO.findByFilter(Status.PENDING, null, null, null, cold.getId(), null);
+        List<IngredientRequest> results = findAll(Status.PENDING, null, null, null, cold.getId());
 
         assertThat(results, is(not(empty())));
         results.forEach(r -> {
@@ -221,7 +252,7 @@ class IngredientRequestDAOTest
     @DisplayName("Find by filter - unknown stationId returns empty")
     void findByUnknownStationReturnsEmpty()
     {
-        List<IngredientRequest> results = ingredientRequestDAO.findByFilter(null, null, null, null, 9999L, null);
+        List<IngredientRequest> results = findAll(null, null, null, null, 9999L);
 
         assertThat(results, is(empty()));
     }
@@ -230,12 +261,43 @@ class IngredientRequestDAOTest
     @DisplayName("Find by filter - all filters null returns all requests")
     void findAllFiltersNullReturnsAll()
     {
-        List<IngredientRequest> all = ingredientRequestDAO.findByFilter(null, null, null, null, null, null);
-        List<IngredientRequest> filtered = ingredientRequestDAO.findByFilter(Status.PENDING, null, null, null, null, null);
+        List<IngredientRequest> all = findAll(null, null, null, null, null);
+        List<IngredientRequest> filtered = findAll(Status.PENDING, null, null, null, null);
 
         assertThat(all.size(), greaterThan(filtered.size()));
     }
 
+    @Test
+    @DisplayName("Stream page - should walk every page without duplicates or gaps over null and tied timestamps")
+    void streamPageWalksEveryPage()
+    {
+        List<Long> ids = findAll(null, null, null, null, null).stream().map(IngredientRequest::getId).sorted().toList();
+
+        try (EntityManager em = emf.createEntityManager())
+        {
+            em.getTransaction().begin();
+            em.createNativeQuery("UPDATE ingredient_request SET created_at = NULL WHERE id IN (:ids)").setParameter("ids", ids.subList(0, 3)).executeUpdate();
+            em.createNativeQuery("UPDATE ingredient_request SET created_at = :createdAt WHERE id IN (:ids)")
+                .setParameter("createdAt", LocalDateTime.of(2026, 2, 9, 12, 0))
+                .setParameter("ids", ids.subList(5, 10))
+                .executeUpdate();
+            em.getTransaction().commit();
+        }
+
+        List<Long> singlePage = findAll(null, null, null, null, null, 500).stream().map(IngredientRequest::getId).toList();
+
+        assertThat(singlePage, containsInAnyOrder(ids.toArray()));
+        assertThat(singlePage.subList(16, 19), containsInAnyOrder(ids.subList(0, 3).toArray()));
+
+        for (int pageSize : new int[] {1, 2, 4, 7})
+        {
+            List<IngredientRequest> walked = findAll(null, null, null, null, null, pageSize);
+
+            assertThat(walked.stream().map(IngredientRequest::getId).toList(), is(singlePage));
+            walked.forEach(request -> assertThat(request.getCreatedBy().getFirstName(), notNullValue()));
+        }
+    }
+
     @Test
     @DisplayName("Count pending dishes - Should return correct number of pending ingredient requests")
     void countPendingDishes()
@@ -243,4 +305,27 @@ class IngredientRequestDAOTest
         int numberOfPendingDishes = ingredientRequestDAO.getPendingRequestCount();
         assertThat(numberOfPendingDishes, is(3));
     }
+
+    private List<IngredientRequest> findAll(Status status, LocalDate deliveryDate, Long creatorId, RequestType requestType, Long stationId)
+    {
+        return findAll(status, deliveryDate, creatorId, requestType, stationId, 5);
+    }
+
+    private List<IngredientRequest> findAll(Status status, LocalDate deliveryDate, Long creatorId, RequestType requestType, Long stationId, int pageSize)
+    {
+        List<IngredientRequest> requests = new ArrayList<>();
+        AtomicReference<String> cursor = new AtomicReference<>();
+
+        do
+        {
+            ingredientRequestDAO.streamPage(status, deliveryDate, creatorId, requestType, stationId, cursor.get(), pageSize, (nextCursor, page) ->
+            {
+                cursor.set(nextCursor);
+                page.forEach(requests::add);
+            });
+        }
+        while (cursor.get() != null);
+
+        return requests;
+    }
 }
@@ -2,12 +2,14 @@ package app.persistence.daos;
 
 import app.config.HibernateTestConfig;
 import app.persistence.daos.impl.TakeAwayOfferDAO;
+import app.persistence.entities.Allergen;
 import app.persistence.entities.Dish;
 import app.persistence.entities.IEntity;
 import app.persistence.entities.TakeAwayOffer;
 import app.persistence.entities.User;
 import app.testutils.TestCleanDB;
 import app.testutils.TestPopulator;
+import app.utils.AllergenMask;
 import jakarta.persistence.EntityManagerFactory;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.*;
@@ -161,6 +163,20 @@ class TakeAwayOfferDAOTest {
         assertThat(result.iterator().next().getDish().getNameDA(), is("Røget Laks"));
     }
 
+    @Test
+    @DisplayName("Find by filter - excluded allergens drop offers whose dish contains them")
+    void findByFilterExcludingAllergens()
+    {
+        Allergen fish = (Allergen) seeded.get("allergen_fish");
+        Allergen crustaceans = (Allergen) seeded.get("allergen_crustaceans");
+
+        Set<TakeAwayOffer> withoutFish = takeAwayOfferDAO.findByFilter(null, null, null, null, AllergenMask.fromDisplayNumbers(Set.of(fish.getDisplayNumber())));
+        Set<TakeAwayOffer> withoutCrustaceans = takeAwayOfferDAO.findByFilter(null, null, null, null, AllergenMask.fromDisplayNumbers(Set.of(crustaceans.getDisplayNumber())));
+
+        assertThat(withoutFish, empty());
+        assertThat(withoutCrustaceans, hasSize(3));
+    }
+
     @Test
     @DisplayName("Exists by Dish and Date - should work for seeded dish")
     void existsByDishAndDate()
@@ -189,4 +205,42 @@ class TakeAwayOfferDAOTest {
         assertThrows(IllegalArgumentException.class, () -> new TakeAwayOffer(-1, 10.00, gordon, salmon));
         assertThrows(IllegalArgumentException.class, () -> new TakeAwayOffer(10, 10.00, null, salmon));
     }
+
+    @Test
+    @DisplayName("Reservable portions - should return available portions for enabled offer and zero for disabled")
+    void getReservablePortions()
+    {
+        TakeAwayOffer active = (TakeAwayOffer) seeded.get("offer_active_today");
+        TakeAwayOffer disabled = (TakeAwayOffer) seeded.get("offer_disabled_today");
+
+        assertThat(takeAwayOfferDAO.getReservablePortions(active.getId()), is(10));
+        assertThat(takeAwayOfferDAO.getReservablePortions(disabled.getId()), is(0));
+        assertThrows(EntityNotFoundException.class, () -> takeAwayOfferDAO.getReservablePortions(9999L));
+    }
+
+    @Test
+    @DisplayName("Reservable portions by date - should only include enabled offers")
+    void findReservablePortionsByDate()
+    {
+        TakeAwayOffer active = (TakeAwayOffer) seeded.get("offer_active_today");
+        TakeAwayOffer disabled = (TakeAwayOffer) seeded.get("offer_disabled_today");
+
+        Map<Long, Integer> result = takeAwayOfferDAO.findReservablePortionsByDate(LocalDate.now());
+
+        assertThat(result, hasEntry(active.getId(), 10));
+        assertThat(result, not(hasKey(disabled.getId())));
+    }
+
+    @Test
+    @DisplayName("Release portions - should add portions back without exceeding offered portions")
+    void releasePortions()
+    {
+        TakeAwayOffer active = (TakeAwayOffer) seeded.get("offer_active_today");
+
+        takeAwayOfferDAO.releasePortions(active.getId(), 4);
+        assertThat(takeAwayOfferDAO.getByID(active.getId()).getAvailablePortions(), is(14));
+
+        takeAwayOfferDAO.releasePortions(active.getId(), 50);
+        assertThat(takeAwayOfferDAO.getByID(active.getId()).getAvailablePortions(), is(20));
+    }
 }
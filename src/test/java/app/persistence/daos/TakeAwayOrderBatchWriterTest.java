@@ -0,0 +1,117 @@
+package app.persistence.daos;
+
+import app.config.HibernateTestConfig;
+import app.dtos.takeaway.TakeAwayOrderCreateDTO;
+import app.dtos.takeaway.TakeAwayOrderLineCreateDTO;
+import app.exceptions.ConflictException;
+import app.persistence.daos.impl.TakeAwayOrderBatchWriter;
+import app.persistence.entities.IEntity;
+import app.persistence.entities.TakeAwayOffer;
+import app.persistence.entities.TakeAwayOrder;
+import app.persistence.entities.User;
+import app.testutils.TestCleanDB;
+import app.testutils.TestPopulator;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class TakeAwayOrderBatchWriterTest
+{
+    private final EntityManagerFactory emf = HibernateTestConfig.getEntityManagerFactory();
+    private TakeAwayOrderBatchWriter writer;
+    private Map<String, IEntity> seeded;
+
+    @BeforeEach
+    void setUp()
+    {
+        TestCleanDB.truncateTables(emf);
+        TestPopulator populator = new TestPopulator(emf);
+        populator.populate();
+        seeded = populator.getSeededData();
+        writer = new TakeAwayOrderBatchWriter(emf, 100, 20, 5);
+    }
+
+    @AfterEach
+    void tearDown()
+    {
+        writer.close();
+    }
+
+    @Test
+    @DisplayName("Submit - should persist order and complete future with assigned id")
+    void submit() throws Exception
+    {
+        User customer = (User) seeded.get("user_marco");
+        TakeAwayOffer offer = (TakeAwayOffer) seeded.get("offer_active_today");
+
+        TakeAwayOrderCreateDTO dto = new TakeAwayOrderCreateDTO(List.of(new TakeAwayOrderLineCreateDTO(offer.getId(), 3)));
+        TakeAwayOrder order = writer.submit(customer.getId(), dto).get();
+
+        assertThat(order.getId(), notNullValue());
+        assertThat(order.getTotalItems(), is(3));
+        assertThat(order.getCustomer().getId(), is(customer.getId()));
+    }
+
+    @Test
+    @DisplayName("Submit - concurrent orders should never oversell an offer")
+    void submitConcurrentNeverOversells()
+    {
+        User customer = (User) seeded.get("user_marco");
+        TakeAwayOffer offer = (TakeAwayOffer) seeded.get("offer_active_today");
+
+        List<CompletableFuture<TakeAwayOrder>> futures = new ArrayList<>();
+        TakeAwayOrderCreateDTO dto = new TakeAwayOrderCreateDTO(List.of(new TakeAwayOrderLineCreateDTO(offer.getId(), 1)));
+
+        for (int i = 0; i < 15; i++)
+        {
+            futures.add(writer.submit(customer.getId(), dto));
+        }
+
+        long placed = futures.stream()
+            .filter(future -> !future.handle((order, error) -> error != null).join())
+            .count();
+
+        ExecutionException failure = assertThrows(ExecutionException.class, () -> futures.get(futures.size() - 1).get());
+        assertThat(failure.getCause(), instanceOf(ConflictException.class));
+        assertThat(placed, is(10L));
+
+        try (EntityManager em = emf.createEntityManager())
+        {
+            TakeAwayOffer current = em.find(TakeAwayOffer.class, offer.getId());
+            assertThat(current.getAvailablePortions(), is(0));
+            assertThat(current.isSoldOut(), is(true));
+        }
+    }
+
+    @Test
+    @DisplayName("Submit - order cancelled while queued should never be written")
+    void cancelledOrderIsSkipped()
+    {
+        User customer = (User) seeded.get("user_marco");
+        TakeAwayOffer offer = (TakeAwayOffer) seeded.get("offer_active_today");
+        TakeAwayOrderBatchWriter slowWriter = new TakeAwayOrderBatchWriter(emf, 100, 20, 500);
+
+        TakeAwayOrderCreateDTO dto = new TakeAwayOrderCreateDTO(List.of(new TakeAwayOrderLineCreateDTO(offer.getId(), 2)));
+        CompletableFuture<TakeAwayOrder> pending = slowWriter.submit(customer.getId(), dto);
+
+        assertTrue(pending.cancel(false));
+        slowWriter.close();
+
+        try (EntityManager em = emf.createEntityManager())
+        {
+            TakeAwayOffer current = em.find(TakeAwayOffer.class, offer.getId());
+            assertThat(current.getAvailablePortions(), is(10));
+        }
+    }
+}
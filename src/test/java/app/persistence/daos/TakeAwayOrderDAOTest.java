@@ -4,8 +4,11 @@ import app.config.HibernateTestConfig;
 import app.dtos.takeaway.TakeAwayOrderCreateDTO;
 import app.dtos.takeaway.TakeAwayOrderLineCreateDTO;
 import app.enums.OrderStatus;
+import app.exceptions.ConflictException;
+import app.persistence.daos.impl.TakeAwayDailyStatsDAO;
 import app.persistence.daos.impl.TakeAwayOrderDAO;
 import app.persistence.entities.IEntity;
+import app.persistence.entities.TakeAwayDailyStats;
 import app.persistence.entities.TakeAwayOffer;
 import app.persistence.entities.TakeAwayOrder;
 import app.persistence.entities.User;
@@ -17,10 +20,12 @@ import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.*;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
@@ -88,6 +93,25 @@ class TakeAwayOrderDAOTest {
         }
     }
 
+    @Test
+    @DisplayName("Create - should reject order for disabled offer without touching portions")
+    void createDisabledOfferTest()
+    {
+        User customer = (User) seeded.get("user_marco");
+        TakeAwayOffer offer = (TakeAwayOffer) seeded.get("offer_disabled_today");
+
+        TakeAwayOrderLineCreateDTO line = new TakeAwayOrderLineCreateDTO(offer.getId(), 1);
+        TakeAwayOrderCreateDTO dto = new TakeAwayOrderCreateDTO(List.of(line));
+
+        assertThrows(ConflictException.class, () -> takeAwayOrderDAO.create(customer.getId(), dto));
+
+        try (EntityManager em = emf.createEntityManager())
+        {
+            TakeAwayOffer currentOffer = em.find(TakeAwayOffer.class, offer.getId());
+            assertThat(currentOffer.getAvailablePortions(), is(10));
+        }
+    }
+
     @Test
     @DisplayName("Get by ID - should return correct order")
     void getByID()
@@ -104,11 +128,56 @@ class TakeAwayOrderDAOTest {
     void findByOfferId()
     {
         TakeAwayOffer offer = (TakeAwayOffer) seeded.get("offer_active_today");
-        Set<TakeAwayOrder> orders = takeAwayOrderDAO.findByFilter(null, offer.getId(), null, null);
+        List<TakeAwayOrder> orders = findAll(null, offer.getId(), null, null);
 
         assertThat(orders, hasSize(2));
     }
 
+    @Test
+    @DisplayName("Stream page - should walk every page without duplicates or gaps over multi-line orders and null timestamps")
+    void streamPageWalksEveryPage()
+    {
+        User customer = (User) seeded.get("user_customer");
+        TakeAwayOffer salmon = (TakeAwayOffer) seeded.get("offer_active_today");
+        TakeAwayOffer tartelet = (TakeAwayOffer) seeded.get("offer_soldout_today");
+        TakeAwayOrder first = (TakeAwayOrder) seeded.get("order_1");
+        TakeAwayOrder second = (TakeAwayOrder) seeded.get("order_2");
+        TakeAwayOrderCreateDTO twoLines = new TakeAwayOrderCreateDTO(List.of(
+            new TakeAwayOrderLineCreateDTO(salmon.getId(), 1),
+            new TakeAwayOrderLineCreateDTO(tartelet.getId(), 1)
+        ));
+
+        TakeAwayOrder undated = takeAwayOrderDAO.create(customer.getId(), twoLines);
+        takeAwayOrderDAO.create(customer.getId(), twoLines);
+        takeAwayOrderDAO.create(customer.getId(), twoLines);
+
+        try (EntityManager em = emf.createEntityManager())
+        {
+            em.getTransaction().begin();
+            em.createNativeQuery("UPDATE take_away_order SET ordered_at = NULL WHERE id = :id").setParameter("id", undated.getId()).executeUpdate();
+            em.createNativeQuery("UPDATE take_away_order SET ordered_at = :orderedAt WHERE id IN (:ids)")
+                .setParameter("orderedAt", LocalDateTime.now().minusHours(1))
+                .setParameter("ids", List.of(first.getId(), second.getId()))
+                .executeUpdate();
+            em.getTransaction().commit();
+        }
+
+        List<Long> singlePage = findAll(null, null, null, null, 500).stream().map(TakeAwayOrder::getId).toList();
+
+        assertThat(singlePage, hasSize(5));
+        assertThat(singlePage.get(4), is(undated.getId()));
+
+        for (int pageSize = 1; pageSize <= 4; pageSize++)
+        {
+            List<TakeAwayOrder> walked = findAll(null, null, null, null, pageSize);
+
+            assertThat(walked.stream().map(TakeAwayOrder::getId).toList(), is(singlePage));
+            walked.forEach(order -> assertThat(order.getOrderLines(), hasSize(order.getId().equals(first.getId()) || order.getId().equals(second.getId()) ? 1 : 2)));
+        }
+
+        assertThat(findAll(null, tartelet.getId(), null, null, 1), hasSize(3));
+    }
+
     @Test
     @DisplayName("Sum Sold Quantity - should return sum of quantities for a date")
     void sumSoldQuantityByDate()
@@ -134,7 +203,7 @@ class TakeAwayOrderDAOTest {
     void findByDate()
     {
         LocalDate today = LocalDate.now();
-        Set<TakeAwayOrder> orders = takeAwayOrderDAO.findByFilter(null, null, today, null);
+        List<TakeAwayOrder> orders = findAll(null, null, today, null);
 
         assertThat(orders, hasSize(2));
     }
@@ -143,8 +212,8 @@ class TakeAwayOrderDAOTest {
     @DisplayName("Find orders by status (RESERVED AND PAID)")
     void findByFilterStatus()
     {
-        Set<TakeAwayOrder> reservedResults = takeAwayOrderDAO.findByFilter(null, null, null, OrderStatus.RESERVED);
-        Set<TakeAwayOrder> paidResults = takeAwayOrderDAO.findByFilter(null, null, null, OrderStatus.PAID);
+        List<TakeAwayOrder> reservedResults = findAll(null, null, null, OrderStatus.RESERVED);
+        List<TakeAwayOrder> paidResults = findAll(null, null, null, OrderStatus.PAID);
 
         assertNotNull(reservedResults);
         assertThat(reservedResults, hasSize(2));
@@ -159,7 +228,7 @@ class TakeAwayOrderDAOTest {
     {
         User customer = (User) seeded.get("user_customer");
 
-        Set<TakeAwayOrder> results = takeAwayOrderDAO.findByFilter(customer.getId(), null, null, null);
+        List<TakeAwayOrder> results = findAll(customer.getId(), null, null, null);
 
         assertNotNull(results);
         assertTrue(results.stream().allMatch(o -> o.getCustomer().getId().equals(customer.getId())));
@@ -178,6 +247,63 @@ class TakeAwayOrderDAOTest {
         assertThat(updated.getId(), is(seed.getId()));
     }
 
+    @Test
+    @DisplayName("Update - cancelling should release portions and record daily stats")
+    void updateCancelRecordsStats()
+    {
+        User gordon = (User) seeded.get("user_gordon");
+        TakeAwayOffer offer = (TakeAwayOffer) seeded.get("offer_active_today");
+        TakeAwayOrder seed = (TakeAwayOrder) seeded.get("order_2");
+
+        seed.cancelOrder(gordon);
+        takeAwayOrderDAO.update(seed);
+        takeAwayOrderDAO.update(seed);
+
+        TakeAwayDailyStats stats = new TakeAwayDailyStatsDAO(emf).findByDate(LocalDate.now()).orElseThrow();
+
+        assertThat(stats.getOrders(), is(2L));
+        assertThat(stats.getCancelledOrders(), is(1L));
+        assertThat(stats.getSoldPortions(), is(4L));
+        assertThat(stats.getCancelledPortions(), is(6L));
+        assertThat(stats.getRevenue(), closeTo(180.0, 0.001));
+
+        try (EntityManager em = emf.createEntityManager())
+        {
+            TakeAwayOffer updatedOffer = em.find(TakeAwayOffer.class, offer.getId());
+            assertThat(updatedOffer.getAvailablePortions(), is(16));
+        }
+    }
+
+    @Test
+    @DisplayName("Backfill - should skip the history scan once daily stats exist")
+    void backfillSkipsWhenStatsExist()
+    {
+        TakeAwayDailyStatsDAO statsDAO = new TakeAwayDailyStatsDAO(emf);
+
+        assertThat(statsDAO.backfillHistoryIfEmpty(), is(0));
+        assertThat(statsDAO.findByDate(LocalDate.now()).orElseThrow().getOrders(), is(2L));
+    }
+
+    @Test
+    @DisplayName("Backfill - should rebuild daily stats from existing orders into an empty table")
+    void backfillRebuildsEmptyTable()
+    {
+        try (EntityManager em = emf.createEntityManager())
+        {
+            em.getTransaction().begin();
+            em.createNativeQuery("DELETE FROM take_away_offer_daily_stats").executeUpdate();
+            em.createNativeQuery("DELETE FROM take_away_daily_stats").executeUpdate();
+            em.getTransaction().commit();
+        }
+        TakeAwayDailyStatsDAO statsDAO = new TakeAwayDailyStatsDAO(emf);
+
+        assertThat(statsDAO.backfillHistoryIfEmpty(), is(1));
+
+        TakeAwayDailyStats stats = statsDAO.findByDate(LocalDate.now()).orElseThrow();
+        assertThat(stats.getOrders(), is(2L));
+        assertThat(statsDAO.findOfferStatsByDate(LocalDate.now()), is(not(empty())));
+    }
+
     @Test
     @DisplayName("Delete - should remove order")
     void delete()
@@ -195,4 +321,27 @@ class TakeAwayOrderDAOTest {
     {
         assertThrows(IllegalArgumentException.class, () -> new TakeAwayOrder(null));
     }
+
+    private List<TakeAwayOrder> findAll(Long customerId, Long offerId, LocalDate date, OrderStatus status)
+    {
+        return findAll(customerId, offerId, date, status, 1);
+    }
+
+    private List<TakeAwayOrder> findAll(Long customerId, Long offerId, LocalDate date, OrderStatus status, int pageSize)
+    {
+        List<TakeAwayOrder> orders = new ArrayList<>();
+        AtomicReference<String> cursor = new AtomicReference<>();
+
+        do
+        {
+            takeAwayOrderDAO.streamPage(customerId, offerId, date, status, cursor.get(), pageSize, (nextCursor, page) ->
+            {
+                cursor.set(nextCursor);
+                page.forEach(orders::add);
+            });
+        }
+        while (cursor.get() != null);
+
+        return orders;
+    }
 }
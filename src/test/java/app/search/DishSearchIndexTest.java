@@ -0,0 +1,153 @@
+package app.search;
+
+import app.config.HibernateTestConfig;
+import app.dtos.dish.DishDTO;
+import app.persistence.daos.impl.AllergenDAO;
+import app.persistence.daos.impl.DishDAO;
+import app.persistence.entities.*;
+import app.testutils.TestCleanDB;
+import app.testutils.TestPopulator;
+import app.utils.AllergenMask;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class DishSearchIndexTest
+{
+    private final EntityManagerFactory emf = HibernateTestConfig.getEntityManagerFactory();
+    private DishDAO dishDAO;
+    private DishSearchIndex dishSearchIndex;
+    private Map<String, IEntity> seeded;
+
+    @BeforeEach
+    void setUp()
+    {
+        TestCleanDB.truncateTables(emf);
+        TestPopulator populator = new TestPopulator(emf);
+        populator.populate();
+        seeded = populator.getSeededData();
+        dishDAO = new DishDAO(emf);
+        dishSearchIndex = new DishSearchIndex(dishDAO, 0);
+    }
+
+    @Test
+    @DisplayName("Search: prefix query - should return matching active dish")
+    void searchByPrefix()
+    {
+        List<DishDTO> results = dishSearchIndex.search("laks", null, AllergenMask.NONE);
+
+        assertThat(results, hasSize(1));
+        assertThat(results.get(0).nameDA(), equalTo("Røget Laks"));
+    }
+
+    @Test
+    @DisplayName("Search: misspelled query - should still find the dish")
+    void searchWithTypo()
+    {
+        List<DishDTO> results = dishSearchIndex.search("kyling", null, AllergenMask.NONE);
+
+        assertThat(results, hasSize(1));
+        assertThat(results.get(0).nameDA(), equalTo("Grillet Kylling"));
+    }
+
+    @Test
+    @DisplayName("Search: english name - should match on nameEN")
+    void searchEnglishName()
+    {
+        List<DishDTO> results = dishSearchIndex.search("fried", null, AllergenMask.NONE);
+
+        assertThat(results, hasSize(1));
+        assertThat(results.get(0).nameDA(), equalTo("Stegt Flæsk"));
+    }
+
+    @Test
+    @DisplayName("Search: inactive dish - should not be returned")
+    void searchSkipsInactive()
+    {
+        assertThat(dishSearchIndex.search("kål", null, AllergenMask.NONE), empty());
+    }
+
+    @Test
+    @DisplayName("Search: station filter - should only return dishes from station")
+    void searchByStation()
+    {
+        Station cold = (Station) seeded.get("station_cold");
+        Station hot = (Station) seeded.get("station_hot");
+
+        assertThat(dishSearchIndex.search("kyll", cold.getId(), AllergenMask.NONE), empty());
+        assertThat(dishSearchIndex.search("kyll", hot.getId(), AllergenMask.NONE), hasSize(1));
+    }
+
+    @Test
+    @DisplayName("Search: excluded allergen - should drop dishes containing it")
+    void searchExcludingAllergen()
+    {
+        Allergen fish = (Allergen) seeded.get("allergen_fish");
+
+        assertThat(dishSearchIndex.search("laks", null, AllergenMask.fromDisplayNumbers(Set.of(fish.getDisplayNumber()))), empty());
+    }
+
+    @Test
+    @DisplayName("Remove: removed dish - should no longer be returned")
+    void removeDish()
+    {
+        Dish salmon = (Dish) seeded.get("dish_salmon");
+
+        dishSearchIndex.search("laks", null, AllergenMask.NONE);
+        dishSearchIndex.remove(salmon.getId());
+
+        assertThat(dishSearchIndex.search("laks", null, AllergenMask.NONE), empty());
+    }
+
+    @Test
+    @DisplayName("Refresh: renumbered allergen - should rebuild masks from the new display number")
+    void picksUpAllergenRenumbering()
+    {
+        Allergen fish = (Allergen) seeded.get("allergen_fish");
+        int oldDisplayNumber = fish.getDisplayNumber();
+        AllergenDAO allergenDAO = new AllergenDAO(emf);
+
+        dishSearchIndex.search("laks", null, AllergenMask.NONE);
+
+        fish.update(fish.getNameDA(), fish.getNameEN(), fish.getDescriptionDA(), fish.getDescriptionEN(), 30);
+        allergenDAO.update(fish);
+        allergenDAO.refreshAllergenMasks();
+
+        assertThat(dishSearchIndex.search("laks", null, AllergenMask.fromDisplayNumbers(Set.of(30))), empty());
+        assertThat(dishSearchIndex.search("laks", null, AllergenMask.fromDisplayNumbers(Set.of(oldDisplayNumber))), hasSize(1));
+    }
+
+    @Test
+    @DisplayName("Refresh: dish created outside the index - should be picked up")
+    void picksUpExternalWrites()
+    {
+        assertThat(dishSearchIndex.search("pandekager", null, AllergenMask.NONE), empty());
+
+        Dish pancakes = new Dish(
+            "Pandekager",
+            "Med sukker og syltetøj",
+            (Station) seeded.get("station_pastry"),
+            new HashSet<>(),
+            (User) seeded.get("user_gordon"),
+            7,
+            2026
+        );
+        dishDAO.create(pancakes);
+
+        List<DishDTO> results = dishSearchIndex.search("pandekager", null, AllergenMask.NONE);
+
+        assertThat(results, hasSize(1));
+        assertThat(results.get(0).nameDA(), equalTo("Pandekager"));
+    }
+}
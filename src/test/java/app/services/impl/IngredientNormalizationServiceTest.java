@@ -0,0 +1,132 @@
+package app.services.impl;
+
+import app.config.HibernateTestConfig;
+import app.dtos.gemini.AiDishSuggestionDTO;
+import app.dtos.menu.RecentMenuDishDTO;
+import app.dtos.shopping.NormalizationResult;
+import app.dtos.shopping.UpdateIngredientNormalizationDTO;
+import app.dtos.station.StationDTO;
+import app.dtos.weather.WeatherForecastDTO;
+import app.enums.NormalizationSource;
+import app.enums.SupportedLanguage;
+import app.exceptions.AIIntegrationException;
+import app.persistence.daos.impl.IngredientNormalizationDAO;
+import app.persistence.entities.IngredientNormalization;
+import app.services.IAiService;
+import app.testutils.TestCleanDB;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class IngredientNormalizationServiceTest
+{
+    private final EntityManagerFactory emf = HibernateTestConfig.getEntityManagerFactory();
+    private IngredientNormalizationDAO normalizationDAO;
+    private RecordingAiService aiService;
+    private IngredientNormalizationService normalizationService;
+
+    @BeforeEach
+    void setUp()
+    {
+        TestCleanDB.truncateTables(emf);
+        normalizationDAO = new IngredientNormalizationDAO(emf);
+        aiService = new RecordingAiService();
+        normalizationService = new IngredientNormalizationService(normalizationDAO, aiService);
+    }
+
+    @Test
+    @DisplayName("Normalize - should only ask AI for names never seen before")
+    void onlyUnseenNamesGoToAi()
+    {
+        normalizationService.normalize(List.of("løg", "Hvidløg"), SupportedLanguage.DK);
+        NormalizationResult result = normalizationService.normalize(List.of("Løg ", "hvidløg", "fløde"), SupportedLanguage.DK);
+
+        assertThat(result.normalized(), is(true));
+        assertThat(result.normalizedNames(), hasEntry("Løg ", "LØG"));
+        assertThat(result.normalizedNames(), hasEntry("hvidløg", "HVIDLØG"));
+        assertThat(aiService.requests, contains(List.of("løg", "Hvidløg"), List.of("fløde")));
+    }
+
+    @Test
+    @DisplayName("Normalize - should use the dictionary when AI is down")
+    void usesDictionaryWhenAiIsDown()
+    {
+        normalizationService.normalize(List.of("løg", "fløde"), SupportedLanguage.DK);
+        aiService.failing = true;
+
+        NormalizationResult known = normalizationService.normalize(List.of("løg", "fløde"), SupportedLanguage.DK);
+        NormalizationResult partlyKnown = normalizationService.normalize(List.of("løg", "persille"), SupportedLanguage.DK);
+
+        assertThat(known.normalized(), is(true));
+        assertThat(known.normalizedNames(), hasEntry("fløde", "FLØDE"));
+        assertThat(partlyKnown.normalized(), is(false));
+        assertThat(partlyKnown.normalizedNames(), hasEntry("løg", "LØG"));
+        assertThat(partlyKnown.normalizedNames(), hasEntry("persille", "persille"));
+    }
+
+    @Test
+    @DisplayName("Normalize - should keep languages apart")
+    void separatesLanguages()
+    {
+        normalizationService.normalize(List.of("løg"), SupportedLanguage.DK);
+        normalizationService.normalize(List.of("løg"), SupportedLanguage.EN);
+
+        assertThat(aiService.requests, hasSize(2));
+    }
+
+    @Test
+    @DisplayName("Correct normalization - manual correction wins over AI")
+    void manualCorrectionWinsOverAi()
+    {
+        normalizationService.normalize(List.of("rødløg"), SupportedLanguage.DK);
+        normalizationService.correctNormalization(new UpdateIngredientNormalizationDTO("Rødløg", SupportedLanguage.DK, "Løg, rød"));
+        normalizationDAO.saveAll(List.of(new IngredientNormalization("rødløg", SupportedLanguage.DK, "RØDLØG", NormalizationSource.AI)));
+
+        NormalizationResult result = normalizationService.normalize(List.of("rødløg"), SupportedLanguage.DK);
+
+        assertThat(result.normalizedNames(), hasEntry("rødløg", "Løg, rød"));
+        assertThat(normalizationService.getNormalizations(SupportedLanguage.DK), hasSize(1));
+        assertThat(normalizationService.getNormalizations(SupportedLanguage.DK).get(0).source(), is(NormalizationSource.MANUAL));
+    }
+
+    private static class RecordingAiService implements IAiService
+    {
+        private final List<List<String>> requests = new ArrayList<>();
+        private boolean failing;
+
+        @Override
+        public Map<String, String> normalizeIngredientList(List<String> ingredients, SupportedLanguage targetLanguage)
+        {
+            if (failing)
+            {
+                throw new AIIntegrationException("Gemini unavailable");
+            }
+            requests.add(List.copyOf(ingredients));
+            return ingredients.stream().collect(Collectors.toMap(name -> name, name -> name.trim().toUpperCase()));
+        }
+
+        @Override
+        public List<AiDishSuggestionDTO> getAiDishSuggestion(WeatherForecastDTO weatherForecast, StationDTO station, List<RecentMenuDishDTO> recentMenuDishDTOS)
+        {
+            return List.of();
+        }
+
+        @Override
+        public void getStreamingDishSuggestions(WeatherForecastDTO weatherForecastDTO, StationDTO station, List<RecentMenuDishDTO> recentMenuDishDTOS, Consumer<AiDishSuggestionDTO> dishConsumer, Runnable onComplete, Consumer<Throwable> errorConsumer)
+        {
+            onComplete.run();
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package app.services.impl;
+
+import app.cache.InspirationCache;
+import app.config.HibernateTestConfig;
+import app.dtos.gemini.AiDishSuggestionDTO;
+import app.dtos.menu.RecentMenuDishDTO;
+import app.dtos.security.AuthenticatedUser;
+import app.dtos.station.StationDTO;
+import app.dtos.weather.WeatherForecastDTO;
+import app.enums.SupportedLanguage;
+import app.enums.UserRole;
+import app.exceptions.WeatherIntegrationException;
+import app.integrations.weather.IWeatherClient;
+import app.persistence.daos.impl.UserDAO;
+import app.persistence.daos.impl.WeeklyMenuDAO;
+import app.persistence.entities.User;
+import app.services.IAiService;
+import app.testutils.TestCleanDB;
+import app.testutils.TestPopulator;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class MenuInspirationServiceTest
+{
+    private static final long WEATHER_DEADLINE_MS = 300;
+
+    private final EntityManagerFactory emf = HibernateTestConfig.getEntityManagerFactory();
+    private RecordingAiService aiService;
+    private SlowWeatherClient weatherClient;
+    private MenuInspirationService menuInspirationService;
+    private AuthenticatedUser claire;
+
+    @BeforeEach
+    void setUp()
+    {
+        TestCleanDB.truncateTables(emf);
+        TestPopulator populator = new TestPopulator(emf);
+        populator.populate();
+        User user = (User) populator.getSeededData().get("user_claire");
+        claire = new AuthenticatedUser(user.getId(), user.getEmail(), UserRole.LINE_COOK);
+
+        aiService = new RecordingAiService();
+        weatherClient = new SlowWeatherClient();
+        menuInspirationService = new MenuInspirationService(aiService, new UserDAO(emf), weatherClient, new WeeklyMenuDAO(emf), new InspirationCache(Clock.systemDefaultZone()), 2, WEATHER_DEADLINE_MS, 2000);
+    }
+
+    @AfterEach
+    void tearDown()
+    {
+        menuInspirationService.close();
+    }
+
+    @Test
+    @DisplayName("Stream - should report each context source and generate once both are ready")
+    void streamReportsEachSource() throws InterruptedException
+    {
+        weatherClient.forecast = new WeatherForecastDTO("Europe/Copenhagen", null, null);
+        List<String> statuses = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(1);
+
+        menuInspirationService.streamDailyInspiration(claire, statuses::add, dish -> {}, done::countDown, e -> done.countDown());
+
+        assertThat(done.await(5, TimeUnit.SECONDS), is(true));
+        assertThat(statuses, hasItems("Vejrdata hentet", "Starter generering af menuforslag..."));
+        assertThat(statuses, hasItem(startsWith("Fandt ")));
+        assertThat(statuses.get(statuses.size() - 1), is("Starter generering af menuforslag..."));
+        assertThat(aiService.forecast, is(weatherClient.forecast));
+        assertThat(aiService.station.name(), is("Hot Kitchen"));
+    }
+
+    @Test
+    @DisplayName("Stream - should continue without weather when it misses its deadline")
+    void streamContinuesWithoutSlowWeather() throws InterruptedException
+    {
+        weatherClient.forecast = new WeatherForecastDTO("Europe/Copenhagen", null, null);
+        weatherClient.delayMs = 3000;
+        List<String> statuses = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(1);
+
+        long start = System.nanoTime();
+        menuInspirationService.streamDailyInspiration(claire, statuses::add, dish -> {}, done::countDown, e -> done.countDown());
+
+        assertThat(done.await(5, TimeUnit.SECONDS), is(true));
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), lessThan(2000L));
+        assertThat(statuses, hasItem("Vejrdata utilgængelig, fortsætter uden"));
+        assertThat(aiService.forecast, is(nullValue()));
+    }
+
+    @Test
+    @DisplayName("Daily inspiration - should degrade to no weather when the weather client fails")
+    void dailyInspirationWithoutWeather()
+    {
+        weatherClient.failing = true;
+
+        menuInspirationService.getDailyInspiration(claire);
+
+        assertThat(aiService.forecast, is(nullValue()));
+        assertThat(aiService.recentDishes, is(notNullValue()));
+    }
+
+    @Test
+    @DisplayName("Daily and stream - should share one Gemini call per station and day")
+    void cachedResultIsReplayed() throws InterruptedException
+    {
+        weatherClient.forecast = new WeatherForecastDTO("Europe/Copenhagen", null, null);
+        aiService.suggestions = List.of(new AiDishSuggestionDTO("Rødspætte", "Med persillesovs"));
+
+        menuInspirationService.getDailyInspiration(claire);
+        List<AiDishSuggestionDTO> replayed = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(1);
+        menuInspirationService.streamDailyInspiration(claire, status -> {}, replayed::add, done::countDown, e -> done.countDown());
+
+        assertThat(done.await(5, TimeUnit.SECONDS), is(true));
+        assertThat(replayed, is(aiService.suggestions));
+        assertThat(aiService.calls.get(), is(1));
+    }
+
+    @Test
+    @DisplayName("Stream - should fall back instead of fetching on the caller thread when the context pool is saturated")
+    void saturatedPoolFallsBack() throws InterruptedException
+    {
+        weatherClient.delayMs = 3000;
+
+        try (MenuInspirationService saturated = new MenuInspirationService(aiService, new UserDAO(emf), weatherClient, new WeeklyMenuDAO(emf), new InspirationCache(Clock.systemDefaultZone()), 1, WEATHER_DEADLINE_MS, 2000))
+        {
+            for (int i = 0; i < 9; i++)
+            {
+                saturated.streamDailyInspiration(claire, status -> {}, dish -> {}, () -> {}, e -> {});
+            }
+
+            List<String> statuses = new CopyOnWriteArrayList<>();
+            CountDownLatch done = new CountDownLatch(1);
+
+            long start = System.nanoTime();
+            saturated.streamDailyInspiration(claire, statuses::add, dish -> {}, done::countDown, e -> done.countDown());
+
+            assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), lessThan(1000L));
+            assertThat(done.await(5, TimeUnit.SECONDS), is(true));
+            assertThat(statuses, hasItem("Vejrdata utilgængelig, fortsætter uden"));
+        }
+    }
+
+    private static class SlowWeatherClient implements IWeatherClient
+    {
+        private volatile WeatherForecastDTO forecast;
+        private volatile long delayMs;
+        private volatile boolean failing;
+
+        @Override
+        public WeatherForecastDTO getWeatherForecast()
+        {
+            try
+            {
+                Thread.sleep(delayMs);
+            }
+            catch (InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+            }
+
+            if (failing)
+            {
+                throw new WeatherIntegrationException("Could not connect to Open-Meteo service");
+            }
+            return forecast;
+        }
+    }
+
+    private static class RecordingAiService implements IAiService
+    {
+        private volatile WeatherForecastDTO forecast;
+        private volatile StationDTO station;
+        private volatile List<RecentMenuDishDTO> recentDishes;
+        private volatile List<AiDishSuggestionDTO> suggestions = List.of();
+        private final AtomicInteger calls = new AtomicInteger();
+
+        @Override
+        public Map<String, String> normalizeIngredientList(List<String> ingredients, SupportedLanguage targetLanguage)
+        {
+            return Map.of();
+        }
+
+        @Override
+        public List<AiDishSuggestionDTO> getAiDishSuggestion(WeatherForecastDTO weatherForecast, StationDTO station, List<RecentMenuDishDTO> recentMenuDishDTOS)
+        {
+            this.forecast = weatherForecast;
+            this.station = station;
+            this.recentDishes = recentMenuDishDTOS;
+            calls.incrementAndGet();
+            return suggestions;
+        }
+
+        @Override
+        public void getStreamingDishSuggestions(WeatherForecastDTO weatherForecastDTO, StationDTO station, List<RecentMenuDishDTO> recentMenuDishDTOS, Consumer<AiDishSuggestionDTO> dishConsumer, Runnable onComplete, Consumer<Throwable> errorConsumer)
+        {
+            this.forecast = weatherForecastDTO;
+            this.station = station;
+            this.recentDishes = recentMenuDishDTOS;
+            calls.incrementAndGet();
+            suggestions.forEach(dishConsumer);
+            onComplete.run();
+        }
+    }
+}
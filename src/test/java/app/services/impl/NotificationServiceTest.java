@@ -0,0 +1,105 @@
+package app.services.impl;
+
+import app.config.ObjectMapperConfig;
+import app.enums.NotificationCategory;
+import app.enums.NotificationType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+class NotificationServiceTest
+{
+    private final NotificationService notificationService = new NotificationService(ObjectMapperConfig.create(), 2, 8);
+
+    @AfterEach
+    void tearDown()
+    {
+        notificationService.close();
+    }
+
+    @Test
+    @DisplayName("Broadcast - a slow admin session should not hold back the others")
+    void slowSessionDoesNotBlockOthers() throws Exception
+    {
+        CountDownLatch slowReleased = new CountDownLatch(1);
+        RecordingChannel slow = new RecordingChannel("slow", slowReleased);
+        RecordingChannel fast = new RecordingChannel("fast");
+        notificationService.registerAdmin(slow);
+        notificationService.registerAdmin(fast);
+
+        notificationService.broadcastPendingUpdate(NotificationType.PENDING_COUNT_UPDATED, NotificationCategory.INGREDIENT_REQUEST, 1);
+        notificationService.broadcastPendingUpdate(NotificationType.PENDING_COUNT_UPDATED, NotificationCategory.DISH_SUGGESTION, 2);
+
+        awaitSent(fast, 2);
+        assertThat(slow.sent, is(empty()));
+
+        slowReleased.countDown();
+
+        awaitSent(slow, 2);
+        assertThat(slow.sent.get(1), containsString("DISH_SUGGESTION"));
+    }
+
+    @Test
+    @DisplayName("Unregister admin - a closed session should receive nothing further")
+    void unregisteredAdminIsSkipped() throws Exception
+    {
+        RecordingChannel leaving = new RecordingChannel("leaving");
+        RecordingChannel probe = new RecordingChannel("probe");
+        notificationService.registerAdmin(leaving);
+        notificationService.registerAdmin(probe);
+
+        notificationService.unregisterAdmin("leaving");
+        notificationService.broadcastPendingUpdate(NotificationType.PENDING_COUNT_UPDATED, NotificationCategory.INGREDIENT_REQUEST, 3);
+
+        awaitSent(probe, 1);
+        assertThat(leaving.sent, is(empty()));
+    }
+
+    @Test
+    @DisplayName("Register staff - a new session should replace and close the previous one for the same user")
+    void replacesStaffSession() throws Exception
+    {
+        RecordingChannel oldTab = new RecordingChannel("old-tab");
+        RecordingChannel newTab = new RecordingChannel("new-tab");
+        notificationService.registerStaff(oldTab, 7L);
+        notificationService.registerStaff(newTab, 7L);
+
+        notificationService.notifyStaff(7L, NotificationType.REQUEST_APPROVED, NotificationCategory.INGREDIENT_REQUEST, 1L, "Saffron", null);
+
+        awaitSent(newTab, 1);
+        assertThat(oldTab.sent, is(empty()));
+    }
+
+    @Test
+    @DisplayName("Unregister staff - should drop the session so later notifications are ignored")
+    void unregisteredStaffIsSkipped() throws Exception
+    {
+        RecordingChannel staff = new RecordingChannel("staff");
+        RecordingChannel probe = new RecordingChannel("probe");
+        notificationService.registerStaff(staff, 7L);
+        notificationService.registerAdmin(probe);
+
+        notificationService.unregisterStaff("staff");
+        notificationService.notifyStaff(7L, NotificationType.REQUEST_APPROVED, NotificationCategory.INGREDIENT_REQUEST, 1L, "Saffron", null);
+        notificationService.broadcastPendingUpdate(NotificationType.PENDING_COUNT_UPDATED, NotificationCategory.INGREDIENT_REQUEST, 0);
+
+        awaitSent(probe, 1);
+        assertThat(staff.sent, is(empty()));
+    }
+
+    private static void awaitSent(RecordingChannel channel, int count) throws InterruptedException
+    {
+        long deadline = System.currentTimeMillis() + 5_000;
+
+        while (channel.sent.size() < count && System.currentTimeMillis() < deadline)
+        {
+            Thread.sleep(5);
+        }
+        assertThat(channel.sent, hasSize(count));
+    }
+}
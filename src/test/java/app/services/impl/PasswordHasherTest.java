@@ -0,0 +1,85 @@
+package app.services.impl;
+
+import app.exceptions.ServiceUnavailableException;
+import app.utils.PasswordUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PasswordHasherTest
+{
+    private PasswordHasher passwordHasher;
+
+    @AfterEach
+    void tearDown()
+    {
+        if (passwordHasher != null)
+        {
+            passwordHasher.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Hash and verify - should round-trip a password on the hashing pool")
+    void hashAndVerify()
+    {
+        passwordHasher = new PasswordHasher(4, 2, 8);
+
+        String hashed = passwordHasher.hash("Secret123!").join();
+
+        assertThat(hashed, startsWith("$2a$04$"));
+        assertThat(passwordHasher.verify("Secret123!", hashed).join(), is(true));
+        assertThat(passwordHasher.verify("wrong", hashed).join(), is(false));
+    }
+
+    @Test
+    @DisplayName("Needs rehash - should flag hashes stored with a lower cost factor")
+    void needsRehash()
+    {
+        passwordHasher = new PasswordHasher(6, 1, 1);
+
+        assertThat(passwordHasher.needsRehash(PasswordUtil.hashPassword("Secret123!", 4)), is(true));
+        assertThat(passwordHasher.needsRehash(PasswordUtil.hashPassword("Secret123!", 6)), is(false));
+        assertThat(passwordHasher.needsRehash(PasswordUtil.hashPassword("Secret123!", 7)), is(false));
+        assertThat(passwordHasher.needsRehash("not-a-bcrypt-hash"), is(false));
+        assertThat(passwordHasher.needsRehash(null), is(false));
+    }
+
+    @Test
+    @DisplayName("Hash - should run dependent stages off the hashing threads")
+    void completesOffHashingPool()
+    {
+        passwordHasher = new PasswordHasher(10, 1, 4);
+
+        String callbackThread = passwordHasher.hash("Secret123!")
+            .thenApply(hashed -> Thread.currentThread().getName())
+            .join();
+
+        assertThat(callbackThread, startsWith("password-hasher-callback"));
+    }
+
+    @Test
+    @DisplayName("Hash - should shed load with 503 when the queue is full")
+    void shedsLoadWhenQueueFull()
+    {
+        passwordHasher = new PasswordHasher(12, 1, 1);
+
+        List<CompletableFuture<String>> futures = new ArrayList<>();
+        for (int i = 0; i < 5; i++)
+        {
+            futures.add(passwordHasher.hash("Secret123!"));
+        }
+
+        CompletionException thrown = assertThrows(CompletionException.class, () -> futures.get(4).join());
+        assertThat(thrown.getCause(), instanceOf(ServiceUnavailableException.class));
+    }
+}
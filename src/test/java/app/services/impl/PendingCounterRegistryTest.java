@@ -0,0 +1,140 @@
+package app.services.impl;
+
+import app.enums.NotificationCategory;
+import app.persistence.daos.interfaces.readers.IDishSuggestionReader;
+import app.persistence.daos.interfaces.readers.IIngredientRequestReader;
+import app.persistence.entities.DishSuggestion;
+import app.persistence.entities.IngredientRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+class PendingCounterRegistryTest
+{
+    private final StubPendingCounts reader = new StubPendingCounts();
+    private final PendingCounterRegistry registry = new PendingCounterRegistry(reader.suggestions(), reader.requests(), 3600);
+
+    @AfterEach
+    void tearDown()
+    {
+        registry.close();
+    }
+
+    @Test
+    @DisplayName("Resync - should seed each category from the database counts")
+    void resyncSeedsCounters()
+    {
+        reader.pendingSuggestions = 4;
+        reader.pendingRequests = 9;
+
+        registry.resync();
+
+        assertThat(registry.getPendingCount(NotificationCategory.DISH_SUGGESTION), is(4));
+        assertThat(registry.getPendingCount(NotificationCategory.INGREDIENT_REQUEST), is(9));
+    }
+
+    @Test
+    @DisplayName("Increment and decrement - should move only the given category")
+    void incrementAndDecrement()
+    {
+        reader.pendingSuggestions = 2;
+        registry.resync();
+
+        assertThat(registry.increment(NotificationCategory.DISH_SUGGESTION), is(3));
+        assertThat(registry.decrement(NotificationCategory.DISH_SUGGESTION), is(2));
+        assertThat(registry.increment(NotificationCategory.INGREDIENT_REQUEST), is(1));
+        assertThat(registry.getPendingCount(NotificationCategory.DISH_SUGGESTION), is(2));
+    }
+
+    @Test
+    @DisplayName("Decrement - should never go below zero")
+    void decrementFloorsAtZero()
+    {
+        assertThat(registry.decrement(NotificationCategory.INGREDIENT_REQUEST), is(0));
+        assertThat(registry.decrement(NotificationCategory.INGREDIENT_REQUEST), is(0));
+        assertThat(registry.increment(NotificationCategory.INGREDIENT_REQUEST), is(1));
+    }
+
+    @Test
+    @DisplayName("Resync quietly - should keep the in-memory values when the database read fails")
+    void resyncQuietlyKeepsValuesOnFailure()
+    {
+        registry.increment(NotificationCategory.DISH_SUGGESTION);
+        registry.increment(NotificationCategory.INGREDIENT_REQUEST);
+        registry.increment(NotificationCategory.INGREDIENT_REQUEST);
+        reader.failing = true;
+
+        registry.resyncQuietly();
+
+        assertThat(registry.getPendingCount(NotificationCategory.DISH_SUGGESTION), is(1));
+        assertThat(registry.getPendingCount(NotificationCategory.INGREDIENT_REQUEST), is(2));
+    }
+
+    @Test
+    @DisplayName("Resync quietly - should correct drifted counters when the database read succeeds")
+    void resyncQuietlyCorrectsDrift()
+    {
+        registry.increment(NotificationCategory.DISH_SUGGESTION);
+        registry.increment(NotificationCategory.DISH_SUGGESTION);
+        reader.pendingSuggestions = 1;
+
+        registry.resyncQuietly();
+
+        assertThat(registry.getPendingCount(NotificationCategory.DISH_SUGGESTION), is(1));
+    }
+
+    private static class StubPendingCounts
+    {
+        private volatile int pendingSuggestions;
+        private volatile int pendingRequests;
+        private volatile boolean failing;
+
+        IDishSuggestionReader suggestions()
+        {
+            return new IDishSuggestionReader()
+            {
+                @Override
+                public int getPendingSuggestionsCount()
+                {
+                    return read(pendingSuggestions);
+                }
+
+                @Override
+                public DishSuggestion getByID(Long id)
+                {
+                    throw new UnsupportedOperationException();
+                }
+            };
+        }
+
+        IIngredientRequestReader requests()
+        {
+            return new IIngredientRequestReader()
+            {
+                @Override
+                public int getPendingRequestCount()
+                {
+                    return read(pendingRequests);
+                }
+
+                @Override
+                public IngredientRequest getByID(Long id)
+                {
+                    throw new UnsupportedOperationException();
+                }
+            };
+        }
+
+        private int read(int count)
+        {
+            if (failing)
+            {
+                throw new IllegalStateException("Database unavailable");
+            }
+            return count;
+        }
+    }
+}
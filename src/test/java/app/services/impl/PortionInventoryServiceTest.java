@@ -0,0 +1,221 @@
+package app.services.impl;
+
+import app.exceptions.ConflictException;
+import app.persistence.daos.interfaces.ITakeAwayOfferDAO;
+import app.persistence.entities.TakeAwayOffer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class PortionInventoryServiceTest
+{
+    private static final Long OFFER_ID = 1L;
+
+    private StubOfferDAO offerDAO;
+    private PortionInventoryService inventory;
+
+    @BeforeEach
+    void setUp()
+    {
+        offerDAO = new StubOfferDAO();
+        offerDAO.portions.put(OFFER_ID, 10);
+        inventory = new PortionInventoryService(offerDAO);
+    }
+
+    @Test
+    @DisplayName("Reserve - concurrent reservations should never exceed the available portions")
+    void concurrentReserveNeverOversells() throws Exception
+    {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> attempts = new ArrayList<>();
+
+        for (int i = 0; i < 40; i++)
+        {
+            attempts.add(executor.submit(() ->
+            {
+                start.await();
+                try
+                {
+                    inventory.reserve(Map.of(OFFER_ID, 1));
+                    return true;
+                }
+                catch (ConflictException e)
+                {
+                    return false;
+                }
+            }));
+        }
+
+        start.countDown();
+
+        long admitted = 0;
+        for (Future<Boolean> attempt : attempts)
+        {
+            if (attempt.get())
+            {
+                admitted++;
+            }
+        }
+        executor.shutdown();
+
+        assertThat(admitted, is(10L));
+        assertThat(inventory.getAvailablePortions(OFFER_ID), is(0));
+    }
+
+    @Test
+    @DisplayName("Reserve - sold out offer should be rejected from memory without reloading")
+    void soldOutRejectsWithoutReload()
+    {
+        inventory.reserve(Map.of(OFFER_ID, 10));
+
+        assertThrows(ConflictException.class, () -> inventory.reserve(Map.of(OFFER_ID, 1)));
+        assertThrows(ConflictException.class, () -> inventory.reserve(Map.of(OFFER_ID, 1)));
+
+        assertThat(offerDAO.loads.get(), is(1));
+    }
+
+    @Test
+    @DisplayName("Reserve - failing line should release the lines already reserved")
+    void failedOrderReleasesEarlierLines()
+    {
+        offerDAO.portions.put(2L, 1);
+
+        Map<Long, Integer> order = new LinkedHashMap<>();
+        order.put(OFFER_ID, 3);
+        order.put(2L, 5);
+
+        assertThrows(ConflictException.class, () -> inventory.reserve(order));
+
+        assertThat(inventory.getAvailablePortions(OFFER_ID), is(10));
+        assertThat(inventory.getAvailablePortions(2L), is(1));
+    }
+
+    @Test
+    @DisplayName("Release - should hand portions of a failed order back to the counter")
+    void releaseRestoresPortions()
+    {
+        inventory.reserve(Map.of(OFFER_ID, 4));
+        inventory.release(Map.of(OFFER_ID, 4));
+
+        assertThat(inventory.getAvailablePortions(OFFER_ID), is(10));
+        assertThat(offerDAO.loads.get(), is(1));
+    }
+
+    @Test
+    @DisplayName("Invalidate - should reload once and subtract reservations still in flight")
+    void invalidateReloadsMinusInFlight()
+    {
+        inventory.reserve(Map.of(OFFER_ID, 3));
+        inventory.reserve(Map.of(OFFER_ID, 2));
+        inventory.confirm(Map.of(OFFER_ID, 2));
+        offerDAO.portions.put(OFFER_ID, 8);
+
+        inventory.invalidate(OFFER_ID);
+
+        assertThat(inventory.getAvailablePortions(OFFER_ID), is(5));
+        assertThat(inventory.getAvailablePortions(OFFER_ID), is(5));
+        assertThat(offerDAO.loads.get(), is(2));
+    }
+
+    @Test
+    @DisplayName("Reconcile - should seed counters for today's offers")
+    void reconcileSeedsCounters()
+    {
+        offerDAO.portions.put(2L, 6);
+
+        inventory.reconcile();
+
+        assertThat(inventory.getAvailablePortions(2L), is(6));
+        assertThat(offerDAO.loads.get(), is(0));
+    }
+
+    private static class StubOfferDAO implements ITakeAwayOfferDAO
+    {
+        private final Map<Long, Integer> portions = new ConcurrentHashMap<>();
+        private final AtomicInteger loads = new AtomicInteger();
+
+        @Override
+        public int getReservablePortions(Long offerId)
+        {
+            loads.incrementAndGet();
+            return portions.getOrDefault(offerId, 0);
+        }
+
+        @Override
+        public Map<Long, Integer> findReservablePortionsByDate(LocalDate date)
+        {
+            return Map.copyOf(portions);
+        }
+
+        @Override
+        public Set<TakeAwayOffer> findByFilter(LocalDate date, Boolean isSoldOut, Boolean isEnabled, Long dishId)
+        {
+            return Set.of();
+        }
+
+        @Override
+        public Set<TakeAwayOffer> findByFilter(LocalDate date, Boolean isSoldOut, Boolean isEnabled, Long dishId, int excludedAllergens)
+        {
+            return Set.of();
+        }
+
+        @Override
+        public boolean existsByDishAndDate(Long dishId, LocalDate date)
+        {
+            return false;
+        }
+
+        @Override
+        public boolean isUsedInAnyOrders(Long offerId)
+        {
+            return false;
+        }
+
+        @Override
+        public void releasePortions(Long offerId, int quantity)
+        {
+        }
+
+        @Override
+        public TakeAwayOffer create(TakeAwayOffer offer)
+        {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public TakeAwayOffer update(TakeAwayOffer offer)
+        {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean delete(Long id)
+        {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public TakeAwayOffer getByID(Long id)
+        {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package app.services.impl;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+class RecordingChannel implements SessionOutbox.Channel
+{
+    final List<String> sent = new CopyOnWriteArrayList<>();
+    private final String sessionId;
+    private final CountDownLatch released;
+    private final Queue<CompletableFuture<Void>> pendingAcks = new ConcurrentLinkedQueue<>();
+    private volatile boolean deferAcks;
+    private volatile boolean open = true;
+    private volatile int closeStatus = -1;
+
+    RecordingChannel(String sessionId)
+    {
+        this(sessionId, new CountDownLatch(0));
+    }
+
+    RecordingChannel(String sessionId, CountDownLatch released)
+    {
+        this.sessionId = sessionId;
+        this.released = released;
+    }
+
+    @Override
+    public String sessionId()
+    {
+        return sessionId;
+    }
+
+    @Override
+    public boolean isOpen()
+    {
+        return open;
+    }
+
+    @Override
+    public CompletableFuture<Void> send(String json)
+    {
+        try
+        {
+            released.await(5, TimeUnit.SECONDS);
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+        }
+        sent.add(json);
+
+        if (!deferAcks)
+        {
+            return CompletableFuture.completedFuture(null);
+        }
+        CompletableFuture<Void> ack = new CompletableFuture<>();
+        pendingAcks.add(ack);
+        return ack;
+    }
+
+    @Override
+    public void close(int statusCode, String reason)
+    {
+        open = false;
+        closeStatus = statusCode;
+    }
+
+    int getCloseStatus()
+    {
+        return closeStatus;
+    }
+
+    void deferAcks()
+    {
+        deferAcks = true;
+    }
+
+    void ackNext()
+    {
+        pendingAcks.remove().complete(null);
+    }
+
+    void failNext()
+    {
+        pendingAcks.remove().completeExceptionally(new IllegalStateException("Connection reset"));
+    }
+
+    void disconnect()
+    {
+        open = false;
+    }
+}
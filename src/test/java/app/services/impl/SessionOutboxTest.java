@@ -0,0 +1,161 @@
+package app.services.impl;
+
+import app.enums.NotificationCategory;
+import app.enums.NotificationType;
+import app.services.impl.SessionOutbox.OutboundMessage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+class SessionOutboxTest
+{
+    private final List<Runnable> scheduled = new ArrayList<>();
+    private final RecordingChannel channel = new RecordingChannel("admin-1");
+
+    @Test
+    @DisplayName("Offer - should keep only the latest queued pending count per category")
+    void coalescesPendingCounts()
+    {
+        SessionOutbox outbox = new SessionOutbox(channel, scheduled::add, 8);
+
+        outbox.offer(pendingCount(NotificationCategory.INGREDIENT_REQUEST, "1"));
+        outbox.offer(pendingCount(NotificationCategory.INGREDIENT_REQUEST, "2"));
+        outbox.offer(pendingCount(NotificationCategory.INGREDIENT_REQUEST, "3"));
+        runScheduled();
+
+        assertThat(channel.sent, contains("3"));
+    }
+
+    @Test
+    @DisplayName("Offer - should not coalesce other categories or notification types")
+    void keepsDistinctMessages()
+    {
+        SessionOutbox outbox = new SessionOutbox(channel, scheduled::add, 8);
+
+        outbox.offer(pendingCount(NotificationCategory.INGREDIENT_REQUEST, "a"));
+        outbox.offer(pendingCount(NotificationCategory.DISH_SUGGESTION, "b"));
+        outbox.offer(new OutboundMessage("c", NotificationType.NEW_DISH_SUGGESTION, NotificationCategory.DISH_SUGGESTION));
+        outbox.offer(new OutboundMessage("d", NotificationType.NEW_DISH_SUGGESTION, NotificationCategory.DISH_SUGGESTION));
+        runScheduled();
+
+        assertThat(channel.sent, contains("a", "b", "c", "d"));
+    }
+
+    @Test
+    @DisplayName("Offer - should drop and close a session whose queue is at capacity")
+    void dropsLaggingSession()
+    {
+        SessionOutbox outbox = new SessionOutbox(channel, scheduled::add, 2);
+
+        assertThat(outbox.offer(new OutboundMessage("a", NotificationType.NEW_DISH_SUGGESTION, NotificationCategory.DISH_SUGGESTION)), is(true));
+        assertThat(outbox.offer(new OutboundMessage("b", NotificationType.NEW_INGREDIENT_REQUEST, NotificationCategory.INGREDIENT_REQUEST)), is(true));
+        assertThat(outbox.offer(new OutboundMessage("c", NotificationType.NEW_DISH_SUGGESTION, NotificationCategory.DISH_SUGGESTION)), is(false));
+
+        assertThat(outbox.isClosed(), is(true));
+        assertThat(channel.getCloseStatus(), is(1013));
+        assertThat(outbox.offer(pendingCount(NotificationCategory.DISH_SUGGESTION, "d")), is(false));
+
+        runScheduled();
+
+        assertThat(channel.sent, is(empty()));
+    }
+
+    @Test
+    @DisplayName("Offer - should not send the next frame until the previous one is acknowledged")
+    void waitsForSendCompletion()
+    {
+        SessionOutbox outbox = new SessionOutbox(channel, scheduled::add, 8);
+        channel.deferAcks();
+
+        outbox.offer(new OutboundMessage("a", NotificationType.NEW_DISH_SUGGESTION, NotificationCategory.DISH_SUGGESTION));
+        outbox.offer(new OutboundMessage("b", NotificationType.NEW_DISH_SUGGESTION, NotificationCategory.DISH_SUGGESTION));
+        runScheduled();
+
+        assertThat(channel.sent, contains("a"));
+
+        channel.ackNext();
+        runScheduled();
+
+        assertThat(channel.sent, contains("a", "b"));
+    }
+
+    @Test
+    @DisplayName("Offer - should count an unacknowledged frame toward capacity and drop the slow session")
+    void dropsSessionWithSlowAcks()
+    {
+        SessionOutbox outbox = new SessionOutbox(channel, scheduled::add, 2);
+        channel.deferAcks();
+
+        outbox.offer(new OutboundMessage("a", NotificationType.NEW_DISH_SUGGESTION, NotificationCategory.DISH_SUGGESTION));
+        runScheduled();
+
+        assertThat(outbox.offer(new OutboundMessage("b", NotificationType.NEW_INGREDIENT_REQUEST, NotificationCategory.INGREDIENT_REQUEST)), is(true));
+        assertThat(outbox.offer(new OutboundMessage("c", NotificationType.NEW_DISH_SUGGESTION, NotificationCategory.DISH_SUGGESTION)), is(false));
+        assertThat(channel.getCloseStatus(), is(1013));
+
+        channel.ackNext();
+        runScheduled();
+
+        assertThat(channel.sent, contains("a"));
+    }
+
+    @Test
+    @DisplayName("Offer - should close the outbox when a frame fails to send")
+    void closesOnFailedSend()
+    {
+        SessionOutbox outbox = new SessionOutbox(channel, scheduled::add, 8);
+        channel.deferAcks();
+
+        outbox.offer(new OutboundMessage("a", NotificationType.NEW_DISH_SUGGESTION, NotificationCategory.DISH_SUGGESTION));
+        outbox.offer(new OutboundMessage("b", NotificationType.NEW_DISH_SUGGESTION, NotificationCategory.DISH_SUGGESTION));
+        runScheduled();
+        channel.failNext();
+        runScheduled();
+
+        assertThat(outbox.isClosed(), is(true));
+        assertThat(channel.sent, contains("a"));
+    }
+
+    @Test
+    @DisplayName("Close - should discard queued messages and refuse new ones")
+    void closeDiscardsQueue()
+    {
+        SessionOutbox outbox = new SessionOutbox(channel, scheduled::add, 8);
+        outbox.offer(pendingCount(NotificationCategory.INGREDIENT_REQUEST, "1"));
+
+        outbox.close();
+        runScheduled();
+
+        assertThat(channel.sent, is(empty()));
+        assertThat(outbox.offer(pendingCount(NotificationCategory.INGREDIENT_REQUEST, "2")), is(false));
+    }
+
+    @Test
+    @DisplayName("Is closed - should report a session the client has disconnected")
+    void reportsDisconnectedSession()
+    {
+        SessionOutbox outbox = new SessionOutbox(channel, scheduled::add, 8);
+
+        channel.disconnect();
+
+        assertThat(outbox.isClosed(), is(true));
+    }
+
+    private void runScheduled()
+    {
+        while (!scheduled.isEmpty())
+        {
+            scheduled.remove(0).run();
+        }
+    }
+
+    private static OutboundMessage pendingCount(NotificationCategory category, String json)
+    {
+        return new OutboundMessage(json, NotificationType.PENDING_COUNT_UPDATED, category);
+    }
+}
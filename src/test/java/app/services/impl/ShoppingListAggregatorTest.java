@@ -1,6 +1,5 @@
 package app.services.impl;
 
-import app.dtos.shopping.AggregationKey;
 import app.enums.RequestType;
 import app.enums.Unit;
 import app.enums.UserRole;
@@ -123,54 +122,101 @@ class ShoppingListAggregatorTest
         assertThat(garlicItem.getIngredientName(), is("Hvidløg"));
     }
 
-    @DisplayName("Should group requests by normalized name and unit")
+    @DisplayName("Should group requests by normalized name and base unit")
     @Test
-    void getIngredientsGrouped()
+    void groupsByNormalizedNameAndUnit()
     {
-        Map<AggregationKey, List<IngredientRequest>> grouped = shoppingListAggregator.getIngredientsGrouped(ingredientRequests, normalizedIngredients);
-
-        assertThat(grouped, notNullValue());
-        assertThat(grouped.keySet(), hasSize(4));
+        List<ShoppingListItem> items = shoppingListAggregator.aggregateAndGetShoppingListItems(ingredientRequests, normalizedIngredients);
 
-        AggregationKey onionKey = new AggregationKey("Løg", Unit.KG);
-        assertTrue(grouped.containsKey(onionKey));
-        assertThat(grouped.get(onionKey), hasSize(2));
+        assertThat(items, hasSize(4));
+        assertThat(items.stream().map(ShoppingListItem::getIngredientName).toList(), contains("Løg", "Hvidløg", "Frisk dild", "Smør"));
     }
 
     @DisplayName("Should format notes correctly joining multiple requests")
     @Test
     void formatNotes()
     {
-        List<IngredientRequest> onionRequests = ingredientRequests.stream()
-            .filter(request -> request.getName().equalsIgnoreCase("Onion"))
-            .toList();
-
-        String notes = shoppingListAggregator.formatNotes(onionRequests);
+        ShoppingListItem onionItem = findItem(shoppingListAggregator.aggregateAndGetShoppingListItems(ingredientRequests, normalizedIngredients), "Løg");
 
         String expectedNote = "Claire (Onion: 5.0 KG) | Claire (Onion: 3.0 KG)";
 
-        assertEquals(expectedNote, notes);
+        assertEquals(expectedNote, onionItem.getNotes());
     }
 
     @DisplayName("Should return total aggregated kg's of onion")
     @Test
     void calculateTotal()
     {
-        List<IngredientRequest> onionRequests = ingredientRequests.stream()
-            .filter(request -> request.getName().equalsIgnoreCase("Onion"))
-            .toList();
+        ShoppingListItem onionItem = findItem(shoppingListAggregator.aggregateAndGetShoppingListItems(ingredientRequests, normalizedIngredients), "Løg");
 
-        Double totalQuantity = shoppingListAggregator.calculateTotal(onionRequests);
-
-        assertEquals(8.0, totalQuantity);
+        assertEquals(8.0, onionItem.getQuantity());
     }
 
-    @DisplayName("Should return Inco as most common supplier in the whole list")
+    @DisplayName("Should choose the most common supplier per line and fall back to the default")
     @Test
     void getMostCommonSupplier()
     {
-        String mostCommonSuplier = shoppingListAggregator.getMostCommonSupplier(ingredientRequests);
+        LocalDate deliveryDate = LocalDate.now().plusDays(3);
+        List<IngredientRequest> requests = List.of(
+            new IngredientRequest("Løg", 1.0, Unit.KG, "Grønttorvet", null, RequestType.GENERAL_STOCK, deliveryDate, null, lineCook),
+            new IngredientRequest("Løg", 1.0, Unit.KG, "Inco", null, RequestType.GENERAL_STOCK, deliveryDate, null, lineCook),
+            new IngredientRequest("Løg", 1.0, Unit.KG, "Inco", null, RequestType.GENERAL_STOCK, deliveryDate, null, headChef),
+            new IngredientRequest("Salt", 1.0, Unit.KG, null, null, RequestType.GENERAL_STOCK, deliveryDate, null, headChef)
+        );
+
+        List<ShoppingListItem> items = shoppingListAggregator.aggregateAndGetShoppingListItems(requests, Map.of());
+
+        assertEquals("Inco", findItem(items, "Løg").getSupplier());
+        assertEquals("AB Catering", findItem(items, "Salt").getSupplier());
+    }
+
+    @DisplayName("Should sum mass and volume across units into one line")
+    @Test
+    void aggregatesAcrossUnits()
+    {
+        LocalDate deliveryDate = LocalDate.now().plusDays(3);
+        List<IngredientRequest> requests = List.of(
+            new IngredientRequest("Løg", 2.0, Unit.KG, "Inco", null, RequestType.GENERAL_STOCK, deliveryDate, null, lineCook),
+            new IngredientRequest("Løg", 500.0, Unit.G, "Inco", null, RequestType.GENERAL_STOCK, deliveryDate, null, lineCook),
+            new IngredientRequest("Fløde", 300.0, Unit.ML, "Arla", null, RequestType.GENERAL_STOCK, deliveryDate, null, headChef),
+            new IngredientRequest("Fløde", 0.2, Unit.L, "Arla", null, RequestType.GENERAL_STOCK, deliveryDate, null, headChef)
+        );
+
+        List<ShoppingListItem> items = shoppingListAggregator.aggregateAndGetShoppingListItems(requests, Map.of());
+
+        assertThat(items, hasSize(2));
+        assertThat(items.get(0).getQuantity(), is(2.5));
+        assertThat(items.get(0).getUnit(), is(Unit.KG));
+        assertThat(items.get(1).getQuantity(), is(500.0));
+        assertThat(items.get(1).getUnit(), is(Unit.ML));
+    }
+
+    @DisplayName("Should convert packs to base units when a pack size is known")
+    @Test
+    void convertsPackSizes()
+    {
+        LocalDate deliveryDate = LocalDate.now().plusDays(3);
+        List<IngredientRequest> requests = List.of(
+            new IngredientRequest("Hakkede tomater", 2.0, Unit.CAN, "Inco", null, RequestType.GENERAL_STOCK, deliveryDate, null, lineCook),
+            new IngredientRequest("Hakkede tomater", 200.0, Unit.G, "Inco", null, RequestType.GENERAL_STOCK, deliveryDate, null, lineCook),
+            new IngredientRequest("Kokosmælk", 3.0, Unit.CAN, "Inco", null, RequestType.GENERAL_STOCK, deliveryDate, null, lineCook)
+        );
+        List<IngredientPackSize> packSizes = List.of(new IngredientPackSize("hakkede tomater", Unit.CAN, 400.0, Unit.G));
 
-        assertEquals("Inco", mostCommonSuplier);
+        List<ShoppingListItem> items = shoppingListAggregator.aggregateAndGetShoppingListItems(requests, Map.of(), packSizes);
+
+        assertThat(items, hasSize(2));
+        assertThat(items.get(0).getQuantity(), is(1.0));
+        assertThat(items.get(0).getUnit(), is(Unit.KG));
+        assertThat(items.get(1).getQuantity(), is(3.0));
+        assertThat(items.get(1).getUnit(), is(Unit.CAN));
+    }
+
+    private static ShoppingListItem findItem(List<ShoppingListItem> items, String ingredientName)
+    {
+        return items.stream()
+            .filter(item -> item.getIngredientName().equals(ingredientName))
+            .findFirst()
+            .orElseThrow(() -> new AssertionError("Could not find " + ingredientName));
     }
 }
@@ -0,0 +1,175 @@
+package app.testutils;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLParameters;
+import javax.net.ssl.SSLSession;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.Authenticator;
+import java.net.CookieHandler;
+import java.net.ProxySelector;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+public class StubHttpClient extends HttpClient
+{
+    private final Function<HttpRequest, ? extends CompletableFuture<? extends HttpResponse<?>>> handler;
+    private final List<HttpRequest> requests = new CopyOnWriteArrayList<>();
+
+    public StubHttpClient(Function<HttpRequest, ? extends CompletableFuture<? extends HttpResponse<?>>> handler)
+    {
+        this.handler = handler;
+    }
+
+    public static CompletableFuture<HttpResponse<String>> respond(HttpRequest request, int statusCode, String body)
+    {
+        return CompletableFuture.completedFuture(new StubResponse<>(request, statusCode, body));
+    }
+
+    public static CompletableFuture<HttpResponse<InputStream>> respondStream(HttpRequest request, int statusCode, InputStream body)
+    {
+        return CompletableFuture.completedFuture(new StubResponse<>(request, statusCode, body));
+    }
+
+    public List<HttpRequest> getRequests()
+    {
+        return requests;
+    }
+
+    public long countRequestsTo(String uriFragment)
+    {
+        return requests.stream()
+            .filter(request -> request.uri().toString().contains(uriFragment))
+            .count();
+    }
+
+    @Override
+    public <T> HttpResponse<T> send(HttpRequest request, HttpResponse.BodyHandler<T> responseBodyHandler) throws IOException, InterruptedException
+    {
+        try
+        {
+            return sendAsync(request, responseBodyHandler).get();
+        }
+        catch (ExecutionException e)
+        {
+            if (e.getCause() instanceof IOException ioException)
+            {
+                throw ioException;
+            }
+            throw new IOException(e.getCause());
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest request, HttpResponse.BodyHandler<T> responseBodyHandler)
+    {
+        requests.add(request);
+        return (CompletableFuture<HttpResponse<T>>) (CompletableFuture<?>) handler.apply(request);
+    }
+
+    @Override
+    public <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest request, HttpResponse.BodyHandler<T> responseBodyHandler, HttpResponse.PushPromiseHandler<T> pushPromiseHandler)
+    {
+        return sendAsync(request, responseBodyHandler);
+    }
+
+    @Override
+    public Optional<CookieHandler> cookieHandler()
+    {
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<Duration> connectTimeout()
+    {
+        return Optional.empty();
+    }
+
+    @Override
+    public Redirect followRedirects()
+    {
+        return Redirect.NEVER;
+    }
+
+    @Override
+    public Optional<ProxySelector> proxy()
+    {
+        return Optional.empty();
+    }
+
+    @Override
+    public SSLContext sslContext()
+    {
+        return null;
+    }
+
+    @Override
+    public SSLParameters sslParameters()
+    {
+        return null;
+    }
+
+    @Override
+    public Optional<Authenticator> authenticator()
+    {
+        return Optional.empty();
+    }
+
+    @Override
+    public Version version()
+    {
+        return Version.HTTP_1_1;
+    }
+
+    @Override
+    public Optional<Executor> executor()
+    {
+        return Optional.empty();
+    }
+
+    private record StubResponse<T>(HttpRequest request, int statusCode, T body) implements HttpResponse<T>
+    {
+        @Override
+        public Optional<HttpResponse<T>> previousResponse()
+        {
+            return Optional.empty();
+        }
+
+        @Override
+        public HttpHeaders headers()
+        {
+            return HttpHeaders.of(Map.of(), (name, value) -> true);
+        }
+
+        @Override
+        public Optional<SSLSession> sslSession()
+        {
+            return Optional.empty();
+        }
+
+        @Override
+        public URI uri()
+        {
+            return request.uri();
+        }
+
+        @Override
+        public HttpClient.Version version()
+        {
+            return HttpClient.Version.HTTP_1_1;
+        }
+    }
+}
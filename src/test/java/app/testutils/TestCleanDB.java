@@ -19,6 +19,8 @@ public class TestCleanDB
             em.createNativeQuery(
                 """
                 TRUNCATE TABLE
+                    take_away_offer_daily_stats,
+                    take_away_daily_stats,
                     take_away_order_line,
                     take_away_order,
                     take_away_offer,
@@ -31,7 +33,10 @@ public class TestCleanDB
                     dish_suggestion,
                     allergen,
                     station,
-                    users
+                    users,
+                    translation_memory,
+                    ingredient_normalization,
+                    ingredient_pack_size
                 RESTART IDENTITY CASCADE
             """).executeUpdate();
 
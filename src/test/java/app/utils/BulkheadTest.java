@@ -0,0 +1,60 @@
+package app.utils;
+
+import app.exceptions.ServiceUnavailableException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BulkheadTest
+{
+    @Test
+    @DisplayName("Execute - should release the permit after the call returns")
+    void executeReleasesPermit() throws Exception
+    {
+        Bulkhead bulkhead = new Bulkhead("Gemini", 2, 10);
+
+        String result = bulkhead.execute(() -> "ok");
+
+        assertThat(result, is("ok"));
+        assertThat(bulkhead.getAvailablePermits(), is(2));
+    }
+
+    @Test
+    @DisplayName("Execute - should release the permit when the call fails")
+    void executeReleasesPermitOnFailure()
+    {
+        Bulkhead bulkhead = new Bulkhead("DeepL", 1, 10);
+
+        assertThrows(IOException.class, () -> bulkhead.execute(() ->
+        {
+            throw new IOException("connection reset");
+        }));
+        assertThat(bulkhead.getAvailablePermits(), is(1));
+    }
+
+    @Test
+    @DisplayName("Acquire - should reject with 503 when no permit frees up in time")
+    void acquireRejectsWhenFull()
+    {
+        Bulkhead bulkhead = new Bulkhead("Database", 1, 10);
+        bulkhead.acquire();
+
+        ServiceUnavailableException thrown = assertThrows(ServiceUnavailableException.class, bulkhead::acquire);
+
+        assertThat(thrown.getMessage(), containsString("Database"));
+        bulkhead.release();
+        assertThat(bulkhead.getAvailablePermits(), is(1));
+    }
+
+    @Test
+    @DisplayName("Constructor - should require at least one permit")
+    void constructorRequiresPermits()
+    {
+        assertThrows(IllegalArgumentException.class, () -> new Bulkhead("Open-Meteo", 0, 10));
+    }
+}
@@ -0,0 +1,138 @@
+package app.utils;
+
+import app.exceptions.ServiceUnavailableException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CircuitBreakerTest
+{
+    private MutableClock clock;
+    private CircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void setUp()
+    {
+        clock = new MutableClock();
+        circuitBreaker = new CircuitBreaker("Gemini", 3, 1000, clock);
+    }
+
+    @Test
+    @DisplayName("Failures - should open the circuit after the threshold and reject calls with 503")
+    void opensAfterThreshold()
+    {
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+        assertThat(circuitBreaker.getState(), is(CircuitBreaker.State.CLOSED));
+
+        circuitBreaker.onFailure();
+
+        assertThat(circuitBreaker.getState(), is(CircuitBreaker.State.OPEN));
+        ServiceUnavailableException thrown = assertThrows(ServiceUnavailableException.class, circuitBreaker::acquirePermission);
+        assertThat(thrown.getMessage(), containsString("Gemini"));
+    }
+
+    @Test
+    @DisplayName("Success - should reset the consecutive failure count")
+    void successResetsFailures()
+    {
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+        circuitBreaker.onSuccess();
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+
+        assertThat(circuitBreaker.getState(), is(CircuitBreaker.State.CLOSED));
+    }
+
+    @Test
+    @DisplayName("Half open - should let exactly one trial call through once the open period has passed")
+    void halfOpenAllowsSingleTrial()
+    {
+        tripCircuit();
+        clock.advance(1000);
+
+        assertThat(circuitBreaker.getState(), is(CircuitBreaker.State.HALF_OPEN));
+        assertThat(circuitBreaker.tryAcquirePermission(), is(true));
+        assertThat(circuitBreaker.tryAcquirePermission(), is(false));
+
+        circuitBreaker.onSuccess();
+
+        assertThat(circuitBreaker.getState(), is(CircuitBreaker.State.CLOSED));
+        assertThat(circuitBreaker.tryAcquirePermission(), is(true));
+    }
+
+    @Test
+    @DisplayName("Half open - a failed trial should open the circuit again")
+    void failedTrialReopens()
+    {
+        tripCircuit();
+        clock.advance(1000);
+        circuitBreaker.acquirePermission();
+
+        circuitBreaker.onFailure();
+
+        assertThat(circuitBreaker.getState(), is(CircuitBreaker.State.OPEN));
+        clock.advance(999);
+        assertThat(circuitBreaker.tryAcquirePermission(), is(false));
+    }
+
+    @Test
+    @DisplayName("Release - an abandoned trial should free the slot without changing state")
+    void releaseFreesTrialSlot()
+    {
+        tripCircuit();
+        clock.advance(1000);
+        circuitBreaker.acquirePermission();
+
+        circuitBreaker.releasePermission();
+
+        assertThat(circuitBreaker.getState(), is(CircuitBreaker.State.HALF_OPEN));
+        assertThat(circuitBreaker.tryAcquirePermission(), is(true));
+    }
+
+    private void tripCircuit()
+    {
+        for (int i = 0; i < 3; i++)
+        {
+            circuitBreaker.onFailure();
+        }
+    }
+
+    private static final class MutableClock extends Clock
+    {
+        private Instant now = Instant.parse("2026-06-01T09:00:00Z");
+
+        void advance(long millis)
+        {
+            now = now.plusMillis(millis);
+        }
+
+        @Override
+        public ZoneId getZone()
+        {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone)
+        {
+            return this;
+        }
+
+        @Override
+        public Instant instant()
+        {
+            return now;
+        }
+    }
+}
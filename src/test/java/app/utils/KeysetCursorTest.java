@@ -0,0 +1,44 @@
+package app.utils;
+
+import app.exceptions.ValidationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeysetCursorTest
+{
+    @DisplayName("Decode - Round trips encoded keys")
+    @Test
+    void roundTripsKeys()
+    {
+        LocalDateTime createdAt = LocalDateTime.of(2026, 3, 14, 9, 30, 15);
+
+        KeysetCursor cursor = KeysetCursor.decode(KeysetCursor.encode(createdAt, 42L), 2);
+
+        assertThat(cursor.nullableDateTimeAt(0), is(createdAt));
+        assertThat(cursor.longAt(1), is(42L));
+    }
+
+    @DisplayName("Decode - Keeps a null sort key as null")
+    @Test
+    void keepsNullSortKey()
+    {
+        KeysetCursor cursor = KeysetCursor.decode(KeysetCursor.encode(null, 7L), 2);
+
+        assertThat(cursor.nullableDateTimeAt(0), is(nullValue()));
+        assertThat(cursor.longAt(1), is(7L));
+    }
+
+    @DisplayName("Decode - Throws on malformed cursor")
+    @Test
+    void throwsOnMalformedCursor()
+    {
+        assertThrows(ValidationException.class, () -> KeysetCursor.decode("not-a-cursor", 2));
+        assertThrows(ValidationException.class, () -> KeysetCursor.decode(KeysetCursor.encode(1L), 2));
+    }
+}
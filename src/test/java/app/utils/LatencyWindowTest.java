@@ -0,0 +1,63 @@
+package app.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LatencyWindowTest
+{
+    @Test
+    @DisplayName("Percentile - should return the default until the minimum sample count is reached")
+    void defaultBelowMinimum()
+    {
+        LatencyWindow window = new LatencyWindow(10, 3);
+        window.record(100);
+        window.record(200);
+
+        assertThat(window.percentile(95, 4000), is(4000L));
+
+        window.record(300);
+
+        assertThat(window.percentile(95, 4000), is(300L));
+    }
+
+    @Test
+    @DisplayName("Percentile - should use the nearest rank of the recorded samples")
+    void nearestRank()
+    {
+        LatencyWindow window = new LatencyWindow(10, 1);
+        for (long latency = 10; latency <= 100; latency += 10)
+        {
+            window.record(latency);
+        }
+
+        assertThat(window.percentile(50, -1), is(50L));
+        assertThat(window.percentile(90, -1), is(90L));
+        assertThat(window.percentile(95, -1), is(100L));
+        assertThat(window.percentile(0, -1), is(10L));
+    }
+
+    @Test
+    @DisplayName("Record - should overwrite the oldest samples once the window is full")
+    void overwritesOldest()
+    {
+        LatencyWindow window = new LatencyWindow(3, 1);
+        window.record(5000);
+        window.record(10);
+        window.record(20);
+        window.record(30);
+
+        assertThat(window.percentile(100, -1), is(30L));
+    }
+
+    @Test
+    @DisplayName("Constructor - should reject a minimum sample count larger than the window")
+    void rejectsInvalidSize()
+    {
+        assertThrows(IllegalArgumentException.class, () -> new LatencyWindow(2, 3));
+        assertThrows(IllegalArgumentException.class, () -> new LatencyWindow(0, 0));
+    }
+}
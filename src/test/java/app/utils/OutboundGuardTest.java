@@ -0,0 +1,133 @@
+package app.utils;
+
+import app.exceptions.ServiceUnavailableException;
+import app.metrics.MetricsRegistry;
+import app.testutils.StubHttpClient;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Clock;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class OutboundGuardTest
+{
+    private static final String DEPENDENCY = "Weather";
+
+    private final MetricsRegistry metrics = new MetricsRegistry();
+    private final CircuitBreaker circuitBreaker = new CircuitBreaker(DEPENDENCY, 5, 30_000, Clock.systemUTC());
+    private final Bulkhead bulkhead = new Bulkhead(DEPENDENCY, 1, 100);
+
+    @Test
+    @DisplayName("Send - should retry a retryable status and return the later success")
+    void retriesRetryableStatus() throws Exception
+    {
+        AtomicInteger calls = new AtomicInteger();
+        StubHttpClient client = new StubHttpClient(request -> StubHttpClient.respond(request, calls.incrementAndGet() == 1 ? 503 : 200, "ok"));
+        OutboundGuard guard = guard(client, 5_000, 3, 1);
+
+        HttpResponse<String> response = guard.send(request(), HttpResponse.BodyHandlers.ofString());
+
+        assertThat(response.statusCode(), is(200));
+        assertThat(client.getRequests(), hasSize(2));
+        assertThat(retries().sum(), is(1L));
+    }
+
+    @Test
+    @DisplayName("Send - should stop after the maximum number of attempts and return the last response")
+    void stopsAfterMaxAttempts() throws Exception
+    {
+        StubHttpClient client = new StubHttpClient(request -> StubHttpClient.respond(request, 503, "busy"));
+        OutboundGuard guard = guard(client, 5_000, 3, 1);
+
+        HttpResponse<String> response = guard.send(request(), HttpResponse.BodyHandlers.ofString());
+
+        assertThat(response.statusCode(), is(503));
+        assertThat(client.getRequests(), hasSize(3));
+    }
+
+    @Test
+    @DisplayName("Send - should rethrow the IO failure once attempts are exhausted")
+    void rethrowsIoFailure()
+    {
+        StubHttpClient client = new StubHttpClient(request -> CompletableFuture.failedFuture(new IOException("connection reset")));
+        OutboundGuard guard = guard(client, 5_000, 3, 1);
+
+        assertThrows(IOException.class, () -> guard.send(request(), HttpResponse.BodyHandlers.ofString()));
+        assertThat(client.getRequests(), hasSize(3));
+    }
+
+    @Test
+    @DisplayName("Send - should not retry when the deadline has expired before the pause")
+    void noRetryPastDeadline() throws Exception
+    {
+        StubHttpClient client = new StubHttpClient(request -> CompletableFuture.supplyAsync(
+            () -> StubHttpClient.respond(request, 503, "slow").join(),
+            CompletableFuture.delayedExecutor(80, TimeUnit.MILLISECONDS)
+        ));
+        OutboundGuard guard = guard(client, 50, 3, 1);
+
+        HttpResponse<String> response = guard.send(request(), HttpResponse.BodyHandlers.ofString());
+
+        assertThat(response.statusCode(), is(503));
+        assertThat(client.getRequests(), hasSize(1));
+        assertThat(retries().sum(), is(0L));
+    }
+
+    @Test
+    @DisplayName("Send - should reject with 503 without calling the client when the circuit is open")
+    void openCircuitRejects()
+    {
+        StubHttpClient client = new StubHttpClient(request -> StubHttpClient.respond(request, 200, "ok"));
+        OutboundGuard guard = guard(client, 5_000, 3, 1);
+        for (int i = 0; i < 5; i++)
+        {
+            circuitBreaker.onFailure();
+        }
+
+        assertThrows(ServiceUnavailableException.class, () -> guard.send(request(), HttpResponse.BodyHandlers.ofString()));
+        assertThat(guard.isCallPermitted(), is(false));
+        assertThat(client.getRequests(), is(empty()));
+    }
+
+    @Test
+    @DisplayName("Execute async - a cancelled call should free its bulkhead permit without counting as a failure")
+    void cancelReleasesPermit()
+    {
+        StubHttpClient client = new StubHttpClient(request -> new CompletableFuture<>());
+        OutboundGuard guard = guard(client, 5_000, 3, 1);
+
+        CompletableFuture<HttpResponse<String>> call = guard.sendAsync(request(), HttpResponse.BodyHandlers.ofString());
+        assertThat(bulkhead.getAvailablePermits(), is(0));
+
+        call.cancel(true);
+
+        assertThat(bulkhead.getAvailablePermits(), is(1));
+        assertThat(circuitBreaker.getState(), is(CircuitBreaker.State.CLOSED));
+    }
+
+    private OutboundGuard guard(StubHttpClient client, long deadlineMs, int maxAttempts, long retryBaseMs)
+    {
+        return new OutboundGuard(client, bulkhead, circuitBreaker, deadlineMs, maxAttempts, retryBaseMs, metrics);
+    }
+
+    private LongAdder retries()
+    {
+        return metrics.counter("miseos_outbound_retries_total", "Outbound calls retried after a failure", "dependency", DEPENDENCY);
+    }
+
+    private static HttpRequest.Builder request()
+    {
+        return HttpRequest.newBuilder().uri(URI.create("http://weather.test/forecast")).GET();
+    }
+}